@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -138,23 +138,23 @@ public void testResultSetFetchSizeReset(Session session) {
         query.setSQLString(sql);
         query.setFetchSize(fetchSize);
 
-        // The statement cache is protected - need to obtain the internal hashtable from the accessor
+        // The statement cache is protected - need to obtain the internal cache from the accessor
         org.eclipse.persistence.internal.sessions.DatabaseSessionImpl impl =
             (org.eclipse.persistence.internal.sessions.DatabaseSessionImpl) session;
         DatabaseAccessor accessor = (DatabaseAccessor) impl.getAccessor();
-        Map statementCache = null;
+        StatementCache statementCache = null;
         try {
             Method method = PrivilegedAccessHelper.getDeclaredMethod(DatabaseAccessor.class,
                 "getStatementCache", new Class<?>[]{});
             method.setAccessible(true);
-            statementCache = (Map) method.invoke(accessor, new Object[] {});
+            statementCache = (StatementCache) method.invoke(accessor, new Object[] {});
         } catch (Exception nsme) {
             throwError("Could not invoke DatabaseAccessor>>getStatementCache()", nsme);
         }
 
         // now cache the statement's previous fetch size
         int previousFetchSize = 0;
-        Statement statement = (Statement) statementCache.get(sql);
+        Statement statement = (Statement) statementCache.getStatements().get(sql);
         if (statement != null) {
             try {
                 previousFetchSize = statement.getFetchSize();
@@ -173,7 +173,7 @@ public void testResultSetFetchSizeReset(Session session) {
 
         // now check the statement
         int postQueryFetchSize = 0;
-        statement = (Statement) statementCache.get(sql);
+        statement = (Statement) statementCache.getStatements().get(sql);
         if (statement != null) {
             try {
                 postQueryFetchSize = statement.getFetchSize();
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.AggregateObjectMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the propagation of changes serialized by the {@link BinaryChangeSetSerializer},
+ * between two sessions connected by the {@link LocalTransportManager}.
+ */
+public class BinaryChangeSetSerializerTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 10;
+
+    private static int channelCount;
+
+    public static class Item {
+        public long id;
+        public String name;
+        public int quantity;
+        public Price price;
+        public Item parent;
+    }
+
+    public static class Price {
+        public BigDecimal amount;
+        public String currency;
+    }
+
+    private DatabaseSession sender;
+
+    private DatabaseSession receiver;
+
+    private static Project createProject() {
+        RelationalDescriptor descriptor = createDescriptor(Item.class, "ITEM", "id", "name", "quantity");
+        AggregateObjectMapping priceMapping = new AggregateObjectMapping();
+        priceMapping.setAttributeName("price");
+        priceMapping.setReferenceClass(Price.class);
+        descriptor.addMapping(priceMapping);
+        OneToOneMapping parentMapping = new OneToOneMapping();
+        parentMapping.setAttributeName("parent");
+        parentMapping.setReferenceClass(Item.class);
+        parentMapping.addForeignKeyFieldName("ITEM.PARENT_ID", "ITEM.ID");
+        parentMapping.dontUseIndirection();
+        descriptor.addMapping(parentMapping);
+        RelationalDescriptor priceDescriptor = new RelationalDescriptor();
+        priceDescriptor.setJavaClass(Price.class);
+        priceDescriptor.descriptorIsAggregate();
+        priceDescriptor.addDirectMapping("amount", "AMOUNT");
+        priceDescriptor.addDirectMapping("currency", "CURRENCY");
+        Project project = new Project(createLogin());
+        project.addDescriptor(descriptor);
+        project.addDescriptor(priceDescriptor);
+        return project;
+    }
+
+    private DatabaseSession createSession(String channel, Serializer serializer) {
+        DatabaseSession session = createDatabaseSession(createProject());
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor) session);
+        rcm.setTransportManager(new LocalTransportManager(rcm));
+        rcm.setChannel(channel);
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setSerializer(serializer);
+        session.setCommandManager(rcm);
+        session.setShouldPropagateChanges(true);
+        login(session);
+        for (long id = 1; id <= SIZE; id++) {
+            Item item = new Item();
+            item.id = id;
+            item.name = "Item " + id;
+            item.price = new Price();
+            item.price.amount = BigDecimal.valueOf(id);
+            item.price.currency = "EUR";
+            session.getIdentityMapAccessor().putInIdentityMap(item);
+        }
+        return session;
+    }
+
+    private void connect(Serializer serializer) {
+        String channel = "BinaryChangeSetSerializerTest" + channelCount++;
+        receiver = createSession(channel, serializer);
+        sender = createSession(channel, serializer);
+    }
+
+    private LocalTransportManager getTransportManager() {
+        return (LocalTransportManager) sender.getCommandManager().getTransportManager();
+    }
+
+    private Item register(UnitOfWork unitOfWork, long id) {
+        return (Item) unitOfWork.registerObject(sender.getIdentityMapAccessor().getFromIdentityMap(id, Item.class));
+    }
+
+    private Item getReceived(long id) {
+        return (Item) receiver.getIdentityMapAccessor().getFromIdentityMap(id, Item.class);
+    }
+
+    private void changeAll() {
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        for (long id = 1; id <= SIZE; id++) {
+            Item item = register(unitOfWork, id);
+            item.name = "Changed " + id;
+            item.quantity = (int) -id;
+        }
+        unitOfWork.commit();
+    }
+
+    @Test
+    public void testChangesAreMerged() {
+        connect(new BinaryChangeSetSerializer());
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        Item item = register(unitOfWork, 1);
+        item.name = "Changed";
+        item.quantity = -5;
+        item.price.amount = new BigDecimal("12.345");
+        item.parent = register(unitOfWork, 2);
+        unitOfWork.commit();
+
+        // The Java serialized changes are over a thousand bytes.
+        Assert.assertTrue(getTransportManager().getByteCount() < 256);
+        Item received = getReceived(1);
+        Assert.assertEquals("Changed", received.name);
+        Assert.assertEquals(-5, received.quantity);
+        Assert.assertEquals(new BigDecimal("12.345"), received.price.amount);
+        Assert.assertEquals("EUR", received.price.currency);
+        Assert.assertSame(getReceived(2), received.parent);
+        Assert.assertEquals("Item 2", received.parent.name);
+    }
+
+    @Test
+    public void testDeleteIsMerged() {
+        connect(new BinaryChangeSetSerializer());
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        unitOfWork.deleteObject(register(unitOfWork, 3));
+        unitOfWork.commit();
+        Assert.assertNull(getReceived(3));
+        Assert.assertNotNull(getReceived(4));
+    }
+
+    @Test
+    public void testChangesAreSmallerThanJavaSerialization() {
+        connect(JavaSerializer.instance);
+        changeAll();
+        long javaSize = getTransportManager().getByteCount();
+        logout();
+
+        connect(new BinaryChangeSetSerializer());
+        changeAll();
+        long binarySize = getTransportManager().getByteCount();
+        Assert.assertEquals("Changed 10", getReceived(10).name);
+        Assert.assertEquals(-10, getReceived(10).quantity);
+        Assert.assertTrue("Binary: " + binarySize + " Java: " + javaSize, binarySize * 4 < javaSize);
+    }
+
+    @Test
+    public void testUnknownClassIsSerialized() {
+        connect(new BinaryChangeSetSerializer());
+        ObjectChangeSet objectChanges = new ObjectChangeSet();
+        objectChanges.setClassName("Unknown");
+        objectChanges.setId(1L);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+
+        Serializer serializer = ((RemoteCommandManager) sender.getCommandManager()).getSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, sender);
+        Assert.assertEquals(0, bytes[0]);
+        MergeChangeSetCommand received = (MergeChangeSetCommand) serializer.deserialize(bytes, receiver);
+        ObjectChangeSet receivedChanges = received.getChangeSet(null).getAllChangeSets().keySet().iterator().next();
+        Assert.assertEquals("Unknown", receivedChanges.getClassName());
+        Assert.assertEquals(1L, receivedChanges.getId());
+    }
+
+    @Test
+    public void testOtherDescriptorsAreRejected() {
+        connect(new BinaryChangeSetSerializer());
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        byte[] bytes = (byte[]) new BinaryChangeSetSerializer().serialize(command, sender);
+
+        Project otherProject = createProject();
+        otherProject.getDescriptor(Item.class).addDirectMapping("code", "CODE");
+        DatabaseSession otherSession = otherProject.createDatabaseSession();
+        try {
+            new BinaryChangeSetSerializer().deserialize(bytes, otherSession);
+            Assert.fail("The changes of other descriptors were read.");
+        } catch (RemoteCommandManagerException exception) {
+            // Expected.
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the propagation of changes in batches by {@link CommandBatcher},
+ * between two sessions connected by the {@link LocalTransportManager}.
+ */
+public class CommandBatchingTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 10;
+
+    private static int channelCount;
+
+    public static class Item {
+        public long id;
+        public String name;
+        public int quantity;
+    }
+
+    public static class VersionedItem {
+        public long id;
+        public String name;
+        public long version;
+    }
+
+    private DatabaseSession sender;
+
+    private DatabaseSession receiver;
+
+    private DatabaseSession createSession(String channel, long batchWindow) {
+        Project project = new Project(createLogin());
+        project.addDescriptor(createDescriptor(Item.class, "ITEM", "id", "name", "quantity"));
+        RelationalDescriptor versionedDescriptor = createDescriptor(VersionedItem.class, "VERSIONED_ITEM", "id", "name", "version");
+        versionedDescriptor.useVersionLocking("VERSION", false);
+        project.addDescriptor(versionedDescriptor);
+        DatabaseSession session = createDatabaseSession(project);
+
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor) session);
+        rcm.setTransportManager(new LocalTransportManager(rcm));
+        rcm.setChannel(channel);
+        rcm.setBatchWindow(batchWindow);
+        session.setCommandManager(rcm);
+        session.setShouldPropagateChanges(true);
+        login(session);
+        for (long id = 1; id <= SIZE; id++) {
+            Item item = new Item();
+            item.id = id;
+            item.name = "Item " + id;
+            session.getIdentityMapAccessor().putInIdentityMap(item);
+            VersionedItem versionedItem = new VersionedItem();
+            versionedItem.id = id;
+            versionedItem.name = "Item " + id;
+            versionedItem.version = 1;
+            session.getIdentityMapAccessor().putInIdentityMap(versionedItem);
+        }
+        return session;
+    }
+
+    private void connect(long batchWindow) {
+        String channel = "CommandBatchingTest" + channelCount++;
+        receiver = createSession(channel, 0);
+        sender = createSession(channel, batchWindow);
+    }
+
+    private RemoteCommandManager getCommandManager() {
+        return (RemoteCommandManager) sender.getCommandManager();
+    }
+
+    private int getMessageCount() {
+        return ((LocalTransportManager) getCommandManager().getTransportManager()).getMessageCount();
+    }
+
+    private Item register(UnitOfWork unitOfWork, long id) {
+        return (Item) unitOfWork.registerObject(sender.getIdentityMapAccessor().getFromIdentityMap(id, Item.class));
+    }
+
+    private void changeName(long id, String name) {
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        register(unitOfWork, id).name = name;
+        unitOfWork.commit();
+    }
+
+    private Item getReceived(long id) {
+        return (Item) receiver.getIdentityMapAccessor().getFromIdentityMap(id, Item.class);
+    }
+
+    @Test
+    public void testChangesAreCoalesced() {
+        connect(60000);
+        CommandBatcher batcher = getCommandManager().getBatcher();
+        int messages = getMessageCount();
+        for (int count = 0; count < 20; count++) {
+            changeName(1, "Name " + count);
+        }
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        register(unitOfWork, 2).quantity = 5;
+        unitOfWork.commit();
+        Assert.assertEquals("Item 1", getReceived(1).name);
+        Assert.assertEquals(21, batcher.getPendingCount());
+
+        batcher.flush();
+        Assert.assertEquals(0, batcher.getPendingCount());
+        Assert.assertEquals(1, getMessageCount() - messages);
+        Assert.assertEquals(1, batcher.getBatchCount());
+        Assert.assertEquals(19, batcher.getCoalescedCount());
+        Assert.assertTrue(batcher.getCompressedSize() < batcher.getSerializedSize());
+        Assert.assertEquals("Name 19", getReceived(1).name);
+        Assert.assertEquals(5, getReceived(2).quantity);
+        Assert.assertEquals("Item 2", getReceived(2).name);
+    }
+
+    @Test
+    public void testChangesOfOtherAttributesAreKept() {
+        connect(60000);
+        changeName(1, "Changed");
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        register(unitOfWork, 1).quantity = 7;
+        unitOfWork.commit();
+        getCommandManager().getBatcher().flush();
+        Assert.assertEquals(0, getCommandManager().getBatcher().getCoalescedCount());
+        Assert.assertEquals("Changed", getReceived(1).name);
+        Assert.assertEquals(7, getReceived(1).quantity);
+    }
+
+    @Test
+    public void testVersionedChangesAreNotCoalesced() {
+        connect(60000);
+        for (int count = 0; count < 3; count++) {
+            UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+            VersionedItem item = (VersionedItem) unitOfWork.registerObject(sender.getIdentityMapAccessor().getFromIdentityMap(1L, VersionedItem.class));
+            item.name = "Name " + count;
+            unitOfWork.commit();
+        }
+        getCommandManager().getBatcher().flush();
+        Assert.assertEquals(0, getCommandManager().getBatcher().getCoalescedCount());
+        // A version gap would invalidate the object instead of merging the changes.
+        VersionedItem received = (VersionedItem) receiver.getIdentityMapAccessor().getFromIdentityMap(1L, VersionedItem.class);
+        Assert.assertTrue(receiver.getIdentityMapAccessor().isValid(received));
+        Assert.assertEquals("Name 2", received.name);
+        Assert.assertEquals(4, received.version);
+    }
+
+    @Test
+    public void testPropagatedChangesAreNotModified() {
+        connect(60000);
+        MergeChangeSetCommand first = buildNameCommand(1, "First");
+        MergeChangeSetCommand second = buildNameCommand(1, "Second");
+        getCommandManager().propagateCommand(first);
+        getCommandManager().propagateCommand(second);
+        getCommandManager().getBatcher().flush();
+        Assert.assertEquals(1, getCommandManager().getBatcher().getCoalescedCount());
+        Assert.assertEquals(1, first.getChangeSet(null).getAllChangeSets().size());
+        Assert.assertEquals("Second", getReceived(1).name);
+    }
+
+    private MergeChangeSetCommand buildNameCommand(long id, String name) {
+        UnitOfWork unitOfWork = sender.acquireUnitOfWork();
+        register(unitOfWork, id).name = name;
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) unitOfWork.getCurrentChanges();
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession) unitOfWork));
+        unitOfWork.release();
+        return command;
+    }
+
+    @Test
+    public void testFullBatchIsSent() {
+        connect(60000);
+        getCommandManager().setMaxBatchSize(5);
+        CommandBatcher batcher = getCommandManager().getBatcher();
+        for (int id = 1; id <= SIZE; id++) {
+            changeName(id, "Changed " + id);
+        }
+        Assert.assertEquals(2, batcher.getBatchCount());
+        Assert.assertEquals(0, batcher.getPendingCount());
+        for (int id = 1; id <= SIZE; id++) {
+            Assert.assertEquals("Changed " + id, getReceived(id).name);
+        }
+    }
+
+    @Test
+    public void testBatchIsSentAfterWindow() throws InterruptedException {
+        connect(10);
+        changeName(3, "Changed");
+        long end = System.currentTimeMillis() + 10000;
+        while (!"Changed".equals(getReceived(3).name)) {
+            if (System.currentTimeMillis() > end) {
+                Assert.fail("The batch was not sent after the batch window.");
+            }
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(1, getCommandManager().getBatcher().getBatchCount());
+    }
+
+    @Test
+    public void testPendingCommandsAreSentOnShutdown() {
+        connect(60000);
+        changeName(4, "Changed");
+        CommandBatcher batcher = getCommandManager().getBatcher();
+        getCommandManager().shutdown();
+        Assert.assertEquals(1, batcher.getBatchCount());
+        Assert.assertEquals("Changed", getReceived(4).name);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+
+/**
+ * In JVM transport, connecting the command managers of the same channel without a broker.
+ * Commands are serialized and deserialized, as they would be sent over the network,
+ * and processed by the receiving command manager in the sending thread.
+ * Each connection counts the messages, and bytes, sent through it.
+ */
+public class LocalTransportManager extends TransportManager {
+
+    /** The command managers of each channel, by service id. */
+    protected static final Map<String, Map<String, RemoteCommandManager>> channels = new ConcurrentHashMap<>();
+
+    public LocalTransportManager(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        initialize();
+    }
+
+    /**
+     * Connections are created when the command manager is initialized, no discovery is required.
+     */
+    @Override
+    public DiscoveryManager createDiscoveryManager() {
+        return null;
+    }
+
+    /**
+     * Join the channel and connect to the command managers already in the channel, which connect back.
+     */
+    @Override
+    public void createConnections() {
+        createLocalConnection();
+        Map<String, RemoteCommandManager> channel = channels.computeIfAbsent(this.rcm.getChannel(), key -> new ConcurrentHashMap<>());
+        for (RemoteCommandManager remoteManager : channel.values()) {
+            addConnectionToExternalService(createConnection(remoteManager.getServiceId()));
+        }
+        channel.put(this.rcm.getServiceId().getId(), this.rcm);
+    }
+
+    @Override
+    public RemoteConnection createConnection(ServiceId serviceId) {
+        Map<String, RemoteCommandManager> channel = channels.get(serviceId.getChannel());
+        RemoteCommandManager remoteManager = (channel == null) ? null : channel.get(serviceId.getId());
+        if (remoteManager == null) {
+            return null;
+        }
+        return new LocalConnection(remoteManager);
+    }
+
+    @Override
+    public void createLocalConnection() {
+        this.localConnection = new LocalConnection(this.rcm);
+    }
+
+    @Override
+    public void removeLocalConnection() {
+        Map<String, RemoteCommandManager> channel = channels.get(this.rcm.getChannel());
+        if (channel != null) {
+            channel.remove(this.rcm.getServiceId().getId());
+        }
+        this.localConnection = null;
+    }
+
+    /**
+     * Return the number of messages sent to the other command managers.
+     */
+    public int getMessageCount() {
+        int count = 0;
+        for (RemoteConnection connection : getConnectionsToExternalServices().values()) {
+            count += ((LocalConnection) connection).getMessageCount();
+        }
+        return count;
+    }
+
+    /**
+     * Return the number of bytes of the serialized commands sent to the other command managers.
+     */
+    public long getByteCount() {
+        long count = 0;
+        for (RemoteConnection connection : getConnectionsToExternalServices().values()) {
+            count += ((LocalConnection) connection).getByteCount();
+        }
+        return count;
+    }
+
+    /**
+     * Connection to a command manager of the JVM.
+     */
+    public static class LocalConnection extends RemoteConnection {
+
+        protected transient RemoteCommandManager remoteManager;
+
+        protected final AtomicInteger messageCount = new AtomicInteger();
+
+        protected final AtomicLong byteCount = new AtomicLong();
+
+        public LocalConnection(RemoteCommandManager remoteManager) {
+            this.remoteManager = remoteManager;
+            this.serviceId = remoteManager.getServiceId();
+        }
+
+        public int getMessageCount() {
+            return this.messageCount.get();
+        }
+
+        public long getByteCount() {
+            return this.byteCount.get();
+        }
+
+        @Override
+        public Object executeCommand(Command command) {
+            this.messageCount.incrementAndGet();
+            byte[] bytes = (byte[]) JavaSerializer.instance.serialize(command, null);
+            try {
+                this.remoteManager.processCommandFromRemoteConnection((Command) JavaSerializer.instance.deserialize(bytes, null));
+            } catch (RuntimeException exception) {
+                return exception.toString();
+            }
+            return null;
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) {
+            this.messageCount.incrementAndGet();
+            this.byteCount.addAndGet(command.length);
+            try {
+                this.remoteManager.processCommandFromRemoteConnection(command);
+            } catch (RuntimeException exception) {
+                return exception.toString();
+            }
+            return null;
+        }
+    }
+}
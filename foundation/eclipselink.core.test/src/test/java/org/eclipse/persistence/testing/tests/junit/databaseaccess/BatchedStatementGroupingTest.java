@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedStatement;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that the statements batched in a commit are grouped by SQL across classes and tables
+ * when {@link DatabasePlatform#shouldGroupBatchedStatements()}, in the commit order.
+ */
+public class BatchedStatementGroupingTest extends EmulatedDriverBase {
+
+    private static final int EMPLOYEES = 4;
+
+    public static class Employee {
+        public long id;
+        public String name;
+        public int salary;
+        public Employee manager;
+    }
+
+    /**
+     * Records the SQL and size of the executed batches.
+     */
+    public static class RecordingPlatform extends DatabasePlatform {
+        public final List<String> batches = new ArrayList<>();
+        private int size;
+
+        @Override
+        public int addBatch(PreparedStatement statement) throws SQLException {
+            this.size++;
+            return super.addBatch(statement);
+        }
+
+        @Override
+        public int executeBatch(Statement statement, boolean isStatementPrepared) {
+            String[] words = ((EmulatedStatement) statement).getSQL().split(" ");
+            this.batches.add(words[0] + " " + (words[0].equals("UPDATE") ? words[1] : words[2]) + " " + this.size);
+            int rowCount = this.size;
+            this.size = 0;
+            setExecuteBatchRowCounts(new int[0]);
+            return rowCount;
+        }
+    }
+
+    private DatabaseSession session;
+
+    private RecordingPlatform platform;
+
+    private void login(boolean shouldGroupBatchedStatements) {
+        platform = new RecordingPlatform();
+        platform.setShouldGroupBatchedStatements(shouldGroupBatchedStatements);
+        DatabaseLogin login = createLogin(platform);
+        login.useBatchWriting();
+        login.bindAllParameters();
+
+        RelationalDescriptor employee = new RelationalDescriptor();
+        employee.setJavaClass(Employee.class);
+        employee.addTableName("EMPLOYEE");
+        employee.addTableName("SALARY");
+        employee.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        employee.addDirectMapping("id", "EMPLOYEE.ID");
+        employee.addDirectMapping("name", "EMPLOYEE.NAME");
+        employee.addDirectMapping("salary", "SALARY.SALARY");
+        OneToOneMapping managerMapping = new OneToOneMapping();
+        managerMapping.setAttributeName("manager");
+        managerMapping.setReferenceClass(Employee.class);
+        managerMapping.addForeignKeyFieldName("EMPLOYEE.MGR_ID", "EMPLOYEE.ID");
+        managerMapping.dontUseIndirection();
+        employee.addMapping(managerMapping);
+
+        Project project = new Project(login);
+        project.addDescriptor(employee);
+        session = createDatabaseSession(project);
+        profile(session);
+        login(session);
+    }
+
+    /** Strong references to the cached employees, the identity map only holds weak references to most of them. */
+    private Employee[] employees;
+
+    private UnitOfWork cacheEmployees() {
+        employees = new Employee[EMPLOYEES];
+        for (int index = 0; index < EMPLOYEES; index++) {
+            employees[index] = newEmployee(index + 1);
+            session.getIdentityMapAccessor().putInIdentityMap(employees[index]);
+        }
+        return session.acquireUnitOfWork();
+    }
+
+    private void commitNewManagers() {
+        UnitOfWork unitOfWork = cacheEmployees();
+        for (int index = 0; index < EMPLOYEES; index++) {
+            // The new manager is inserted before the update of the employee referencing it.
+            Employee employee = (Employee) unitOfWork.registerObject(employees[index]);
+            employee.manager = newEmployee(EMPLOYEES + index + 1);
+        }
+        unitOfWork.commit();
+    }
+
+    private Employee newEmployee(int index) {
+        Employee employee = new Employee();
+        employee.id = index;
+        employee.name = "Employee " + index;
+        employee.salary = index * 1000;
+        return employee;
+    }
+
+    @Test
+    public void testConsecutiveStatementsAreBatched() {
+        login(false);
+        commitNewManagers();
+        // The inserts of the SALARY rows are deferred to the end of the commit.
+        Assert.assertEquals(List.of("INSERT SALARY " + EMPLOYEES), platform.batches);
+        Assert.assertEquals(EMPLOYEES * 3, getCount(SessionProfiler.BatchedStatements));
+        Assert.assertEquals(EMPLOYEES * 2 + 1, getCount(SessionProfiler.StatementBatches));
+    }
+
+    @Test
+    public void testUpdatesAreGroupedAfterTheInsertsTheyReference() {
+        login(true);
+        commitNewManagers();
+        Assert.assertEquals(List.of("INSERT EMPLOYEE " + EMPLOYEES, "UPDATE EMPLOYEE " + EMPLOYEES, "INSERT SALARY " + EMPLOYEES), platform.batches);
+        Assert.assertEquals(EMPLOYEES * 3, getCount(SessionProfiler.BatchedStatements));
+        Assert.assertEquals(3, getCount(SessionProfiler.StatementBatches));
+    }
+
+    @Test
+    public void testUpdatesOfDifferentTablesAreGrouped() {
+        login(true);
+        UnitOfWork unitOfWork = cacheEmployees();
+        for (int index = 0; index < EMPLOYEES; index++) {
+            Employee employee = (Employee) unitOfWork.registerObject(employees[index]);
+            if (index % 2 == 0) {
+                employee.name = employee.name + " Jr";
+            } else {
+                employee.salary++;
+            }
+        }
+        unitOfWork.commit();
+        List<String> batches = new ArrayList<>(platform.batches);
+        batches.sort(null);
+        Assert.assertEquals(List.of("UPDATE EMPLOYEE " + EMPLOYEES / 2, "UPDATE SALARY " + EMPLOYEES / 2), batches);
+        Assert.assertEquals(2, getCount(SessionProfiler.StatementBatches));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedStatement;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that the batched inserts are executed as multi-row inserts, split by the parameter limit of the platform,
+ * when the platform uses and supports multi-row inserts, and that the other statements are executed as a JDBC batch.
+ */
+public class MultiRowInsertBatchWritingTest extends EmulatedDriverBase {
+
+    private static final int ORDERS = 12;
+
+    private static final String INSERT = "INSERT INTO ORDERS (ID, STATUS) VALUES ";
+
+    public static class Order {
+        public long id;
+        public String status;
+    }
+
+    /**
+     * Records the SQL of the executed statements, and the size of the executed JDBC batches.
+     */
+    public static class RecordingPlatform extends DatabasePlatform {
+        public final List<String> statements = new ArrayList<>();
+        public final List<Integer> batches = new ArrayList<>();
+        private final boolean supportsMultiRowInsert;
+        private int size;
+
+        public RecordingPlatform(boolean supportsMultiRowInsert) {
+            this.supportsMultiRowInsert = supportsMultiRowInsert;
+        }
+
+        @Override
+        public boolean supportsMultiRowInsert() {
+            return this.supportsMultiRowInsert;
+        }
+
+        @Override
+        public int getMaxMultiRowInsertParameters() {
+            return 10;
+        }
+
+        @Override
+        public void setParameterValueInDatabaseCall(Object parameter, PreparedStatement statement, int index, AbstractSession session) throws SQLException {
+            if (index == 1) {
+                this.statements.add(((EmulatedStatement) statement).getSQL());
+            }
+            super.setParameterValueInDatabaseCall(parameter, statement, index, session);
+        }
+
+        @Override
+        public int addBatch(PreparedStatement statement) throws SQLException {
+            this.size++;
+            return super.addBatch(statement);
+        }
+
+        @Override
+        public int executeBatch(Statement statement, boolean isStatementPrepared) {
+            this.batches.add(this.size);
+            int rowCount = this.size;
+            this.size = 0;
+            setExecuteBatchRowCounts(new int[0]);
+            return rowCount;
+        }
+    }
+
+    private DatabaseSession session;
+
+    private RecordingPlatform platform;
+
+    private void login(boolean supportsMultiRowInsert) {
+        platform = new RecordingPlatform(supportsMultiRowInsert);
+        platform.setUsesMultiRowInsertBatchWriting(true);
+        DatabaseLogin login = createLogin(platform);
+        login.useBatchWriting();
+        login.bindAllParameters();
+        Project project = new Project(login);
+        project.addDescriptor(createDescriptor(Order.class, "ORDERS", "id", "status"));
+        session = createDatabaseSession(project);
+        profile(session);
+        login(session);
+    }
+
+    private List<Order> insertOrders() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        List<Order> orders = new ArrayList<>();
+        for (int index = 1; index <= ORDERS; index++) {
+            Order order = new Order();
+            order.id = index;
+            order.status = "NEW";
+            unitOfWork.registerNewObject(order);
+            orders.add(order);
+        }
+        unitOfWork.commit();
+        return orders;
+    }
+
+    private static String values(int rows) {
+        StringBuilder values = new StringBuilder(INSERT);
+        for (int row = 0; row < rows; row++) {
+            values.append((row == 0) ? "(?, ?)" : ", (?, ?)");
+        }
+        return values.toString();
+    }
+
+    @Test
+    public void testInsertsAreExecutedAsMultiRowInserts() {
+        login(true);
+        insertOrders();
+        // The 10 parameters of a statement are 5 rows of 2 fields.
+        Assert.assertEquals(List.of(values(5), values(5), values(2)), platform.statements);
+        Assert.assertEquals(List.of(), platform.batches);
+        Assert.assertEquals(ORDERS, getCount(SessionProfiler.BatchedStatements));
+        Assert.assertEquals(3, getCount(SessionProfiler.StatementBatches));
+    }
+
+    @Test
+    public void testUpdatesAreExecutedAsJDBCBatch() {
+        login(true);
+        List<Order> orders = insertOrders();
+        platform.statements.clear();
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        for (Order order : orders) {
+            ((Order) unitOfWork.registerObject(order)).status = "SHIPPED";
+        }
+        unitOfWork.commit();
+        Assert.assertEquals(List.of(ORDERS), platform.batches);
+        Assert.assertEquals(ORDERS, platform.statements.size());
+        Assert.assertTrue(platform.statements.get(0).startsWith("UPDATE ORDERS"));
+    }
+
+    @Test
+    public void testInsertsAreExecutedAsJDBCBatchIfNotSupported() {
+        login(false);
+        insertOrders();
+        Assert.assertEquals(List.of(ORDERS), platform.batches);
+        Assert.assertEquals(values(1), platform.statements.get(0));
+        Assert.assertEquals(1, getCount(SessionProfiler.StatementBatches));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
+import org.junit.Test;
+
+/**
+ * Test the LRU eviction and statistics of {@link StatementCache}.
+ */
+public class StatementCacheTest {
+
+    @Test
+    public void testCheckOutAndCheckIn() {
+        StatementCache cache = new StatementCache(10, new StatementCache.Statistics());
+        Statement statement = newStatement();
+        assertNull(cache.checkOut("SELECT 1"));
+        assertNull(cache.checkIn("SELECT 1", statement));
+        assertSame(statement, cache.checkOut("SELECT 1"));
+        // A checked out statement is not in the cache, so it is never used concurrently.
+        assertFalse(cache.contains("SELECT 1"));
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        StatementCache cache = new StatementCache(3, new StatementCache.Statistics());
+        Statement first = newStatement();
+        cache.checkIn("1", first);
+        cache.checkIn("2", newStatement());
+        cache.checkIn("3", newStatement());
+        // Use the first statement, the second is now the least recently used.
+        cache.checkIn("1", cache.checkOut("1"));
+        Statement second = cache.getStatements().get("2");
+        assertSame(second, cache.checkIn("4", newStatement()));
+        assertTrue(cache.contains("1"));
+        assertFalse(cache.contains("2"));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testDuplicateIsReturnedToClose() {
+        StatementCache cache = new StatementCache(3, new StatementCache.Statistics());
+        cache.checkIn("1", newStatement());
+        Statement duplicate = newStatement();
+        assertSame(duplicate, cache.checkIn("1", duplicate));
+        StatementCache disabled = new StatementCache(0, new StatementCache.Statistics());
+        assertSame(duplicate, disabled.checkIn("1", duplicate));
+        assertTrue(disabled.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        StatementCache.Statistics statistics = new StatementCache.Statistics();
+        StatementCache cache = new StatementCache(3, statistics);
+        cache.checkIn("1", newStatement());
+        cache.checkIn("2", newStatement());
+        assertEquals(2, cache.clear().size());
+        assertTrue(cache.isEmpty());
+        // Statistics are shared by the caches of all connections.
+        new StatementCache(3, statistics).checkOut("1");
+        assertEquals(1, statistics.getMissCount());
+        statistics.reset();
+        assertEquals(0, statistics.getMissCount());
+    }
+
+    private static Statement newStatement() {
+        return (Statement) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(), new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the acquire, release, FIFO hand-off and fail-over of {@link ConcurrentConnectionPool}.
+ */
+public class ConcurrentConnectionPoolTest extends FailoverBase<ServerSession> {
+
+    private static final int MAX_CONNECTIONS = 4;
+
+    private static final String FAILOVER_POOL = "failover";
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        ConcurrentConnectionPool pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, session.getDatasourceLogin(), 1, MAX_CONNECTIONS, MAX_CONNECTIONS, session);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        session.addConnectionPool(new ConnectionPool(FAILOVER_POOL, session.getDatasourceLogin(), 1, 1, 1, session));
+        return session;
+    }
+
+    private ConcurrentConnectionPool getPool() {
+        return (ConcurrentConnectionPool) getEmulatedSession().getDefaultConnectionPool();
+    }
+
+    @Test
+    public void testAcquireAndRelease() {
+        ConcurrentConnectionPool pool = getPool();
+        long acquires = pool.getAcquireWaitHistogram()[0];
+        Accessor accessor = pool.acquireConnection();
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        Assert.assertTrue(pool.getConnectionsAvailable().isEmpty());
+        pool.releaseConnection(accessor);
+        Assert.assertEquals(1, pool.getConnectionsAvailable().size());
+        // The thread gets back the connection it last used.
+        Assert.assertSame(accessor, pool.acquireConnection());
+        pool.releaseConnection(accessor);
+        Assert.assertEquals(acquires + 2, pool.getAcquireWaitHistogram()[0]);
+    }
+
+    @Test
+    public void testWaitersAreServedInOrder() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        List<Accessor> connections = new ArrayList<>();
+        for (int index = 0; index < MAX_CONNECTIONS; index++) {
+            connections.add(pool.acquireConnection());
+        }
+        Assert.assertFalse(pool.hasConnectionAvailable());
+        Accessor[] acquired = new Accessor[3];
+        Thread[] waiters = new Thread[acquired.length];
+        for (int index = 0; index < waiters.length; index++) {
+            int waiter = index;
+            waiters[index] = new Thread(() -> acquired[waiter] = pool.acquireConnection());
+            waiters[index].start();
+            awaitWaiting(waiters[index]);
+        }
+        for (int index = 0; index < waiters.length; index++) {
+            pool.releaseConnection(connections.get(index));
+        }
+        for (int index = 0; index < waiters.length; index++) {
+            waiters[index].join(10000);
+            // A released connection is handed to the longest waiting thread.
+            Assert.assertSame(connections.get(index), acquired[index]);
+        }
+        long waited = 0;
+        long[] histogram = pool.getAcquireWaitHistogram();
+        for (int index = 1; index < histogram.length; index++) {
+            waited += histogram[index];
+        }
+        Assert.assertEquals(waiters.length, waited);
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getTotalNumberOfConnections());
+    }
+
+    @Test
+    public void testMaxConnectionsUnderContention() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        for (int thread = 0; thread < 16; thread++) {
+            executorService.execute(() -> {
+                for (int count = 0; count < 1000; count++) {
+                    Accessor accessor = pool.acquireConnection();
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    inUse.decrementAndGet();
+                    pool.releaseConnection(accessor);
+                }
+            });
+        }
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        Assert.assertTrue("Connections in use exceeded the max: " + maxInUse.get(), maxInUse.get() <= MAX_CONNECTIONS);
+        Assert.assertTrue(pool.getTotalNumberOfConnections() <= MAX_CONNECTIONS);
+        Assert.assertEquals(pool.getTotalNumberOfConnections(), pool.getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void testFailedConnectionsAreReplaced() {
+        ConcurrentConnectionPool pool = getPool();
+        List<Accessor> connections = new ArrayList<>();
+        for (int index = 0; index < MAX_CONNECTIONS; index++) {
+            connections.add(pool.acquireConnection());
+        }
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        for (Accessor accessor : pool.getConnectionsAvailable()) {
+            ((EmulatedConnection) accessor.getConnection()).causeCommError();
+        }
+        for (int index = 0; index < 4; index++) {
+            try {
+                getEmulatedSession().acquireClientSession().readObject(Address.class);
+            } catch (DatabaseException exception) {
+                Assert.fail("Should have reconnected and not thrown exception.");
+            }
+        }
+        Assert.assertTrue(pool.getTotalNumberOfConnections() <= MAX_CONNECTIONS);
+    }
+
+    @Test
+    public void testFailoverWithoutWaiting() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        pool.addFailoverConnectionPool(FAILOVER_POOL);
+        Accessor failoverAccessor = getEmulatedSession().getConnectionPool(FAILOVER_POOL).getConnectionsAvailable().get(0);
+        // The idle connection is in use, the next acquire must build a connection.
+        Accessor accessor = pool.acquireConnection();
+        Accessor[] acquired = new Accessor[1];
+        Thread thread = new Thread(() -> acquired[0] = pool.acquireConnection());
+        EmulatedDriver.fullFailure = true;
+        try {
+            thread.start();
+            // The wait timeout is 180 seconds, the acquire must fail-over without waiting for it.
+            thread.join(10000);
+        } finally {
+            EmulatedDriver.fullFailure = false;
+        }
+        Assert.assertFalse("Acquire waited instead of failing over.", thread.isAlive());
+        Assert.assertTrue(pool.isDead());
+        Assert.assertSame(failoverAccessor, acquired[0]);
+        getEmulatedSession().getConnectionPool(FAILOVER_POOL).releaseConnection(acquired[0]);
+        pool.releaseConnection(accessor);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while ((thread.getState() != Thread.State.WAITING) && (thread.getState() != Thread.State.TIMED_WAITING)) {
+            if (System.currentTimeMillis() > end) {
+                Assert.fail("Thread did not wait for a connection.");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
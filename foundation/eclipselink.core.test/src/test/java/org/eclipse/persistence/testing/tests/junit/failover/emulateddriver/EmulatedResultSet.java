@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -29,6 +29,7 @@
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Vector;
 
@@ -37,6 +38,9 @@
 public class EmulatedResultSet implements ResultSet {
     protected Vector rows;
     protected int index;
+    protected boolean wasNull;
+    /** The columns of the current row already read, as a forward-only result set reads each column once. */
+    protected BitSet readColumns = new BitSet();
 
     public EmulatedResultSet(Vector rows) {
         this.rows = rows;
@@ -50,6 +54,7 @@ public Vector getRows() {
     @Override
     public boolean next() {
         this.index++;
+        this.readColumns.clear();
         return this.index <= this.rows.size();
     }
 
@@ -59,7 +64,7 @@ public void close() {
 
     @Override
     public boolean wasNull() {
-        return false;
+        return this.wasNull;
     }
 
     @Override
@@ -84,7 +89,12 @@ public short getShort(int columnIndex) {
 
     @Override
     public int getInt(int columnIndex) {
-        return ((Number) getObject(columnIndex)).intValue();
+        Number value = (Number) getObject(columnIndex);
+        if (value == null) {
+            return 0;
+        } else {
+            return value.intValue();
+        }
     }
 
     @Override
@@ -104,7 +114,12 @@ public float getFloat(int columnIndex) {
 
     @Override
     public double getDouble(int columnIndex) {
-        return ((Number) getObject(columnIndex)).doubleValue();
+        Number value = (Number) getObject(columnIndex);
+        if (value == null) {
+            return 0;
+        } else {
+            return value.doubleValue();
+        }
     }
 
     @Override
@@ -262,7 +277,13 @@ public ResultSetMetaData getMetaData() {
 
     @Override
     public Object getObject(int columnIndex) {
-        return ((DatabaseRecord) this.rows.get(this.index - 1)).getValues().get(columnIndex - 1);
+        if (this.readColumns.get(columnIndex)) {
+            throw new IllegalStateException("Column " + columnIndex + " of row " + this.index + " was already read");
+        }
+        this.readColumns.set(columnIndex);
+        Object value = ((DatabaseRecord) this.rows.get(this.index - 1)).getValues().get(columnIndex - 1);
+        this.wasNull = value == null;
+        return value;
     }
 
     @Override
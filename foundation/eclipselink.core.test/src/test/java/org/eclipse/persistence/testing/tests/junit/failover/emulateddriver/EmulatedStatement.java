@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -47,6 +47,10 @@ public EmulatedStatement(String sql, EmulatedConnection connection) {
         this.sql = sql;
     }
 
+    public String getSQL() {
+        return sql;
+    }
+
 
     public void checkForError() throws SQLException{
         if ((connection).isInFailureState()){
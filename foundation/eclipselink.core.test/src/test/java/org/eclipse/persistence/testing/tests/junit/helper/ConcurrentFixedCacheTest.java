@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.junit.Test;
+
+/**
+ * Test the fixed size and frequency aware eviction of {@link ConcurrentFixedCache}.
+ */
+public class ConcurrentFixedCacheTest {
+
+    @Test
+    public void testFixedSize() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        for (int index = 0; index < 100; index++) {
+            cache.put("key" + index, "value" + index);
+        }
+        assertEquals(10, cache.getCache().size());
+        assertTrue(cache.getEvictionCount() >= 90);
+    }
+
+    @Test
+    public void testZeroSizeCachesNothing() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(0);
+        cache.put("key", "value");
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testFrequentlyUsedKeysAreKept() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(20);
+        for (int index = 0; index < 10; index++) {
+            cache.put("hot" + index, "value" + index);
+        }
+        for (int count = 0; count < 5; count++) {
+            for (int index = 0; index < 10; index++) {
+                assertNotNull(cache.get("hot" + index));
+            }
+        }
+        // A scan of once used keys, mixed with uses of the hot keys, must not flush the hot keys.
+        for (int index = 0; index < 1000; index++) {
+            if (cache.get("cold" + index) == null) {
+                cache.put("cold" + index, "value" + index);
+            }
+            assertNotNull("Frequently used key was evicted: hot" + (index % 10), cache.get("hot" + (index % 10)));
+        }
+        for (int index = 0; index < 10; index++) {
+            assertNotNull("Frequently used key was evicted: hot" + index, cache.get("hot" + index));
+        }
+        assertEquals(20, cache.getCache().size());
+    }
+
+    @Test
+    public void testCounters() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("missing");
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testSetMaxSize() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        for (int index = 0; index < 10; index++) {
+            cache.put("key" + index, "value" + index);
+        }
+        cache.setMaxSize(5);
+        assertEquals(5, cache.getCache().size());
+        cache.remove("key9");
+        cache.clear();
+        assertEquals(0, cache.getCache().size());
+    }
+}
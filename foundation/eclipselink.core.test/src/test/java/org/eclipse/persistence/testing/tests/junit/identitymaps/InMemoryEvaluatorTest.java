@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the selection criteria compiled for in-memory querying conform the same objects as the expressions.
+ */
+public class InMemoryEvaluatorTest extends EmulatedDriverBase {
+
+    static final int ORDERS = 60;
+
+    public static class Order {
+        public BigDecimal id;
+        public BigDecimal amount;
+        public String name;
+        public String status;
+    }
+
+    private DatabaseSessionImpl session;
+
+    private List<Order> orders;
+
+    @Before
+    public void login() {
+        DatabaseLogin login = createLogin();
+        login.bindAllParameters();
+        RelationalDescriptor descriptor = createDescriptor(Order.class, "ORDERS", "id", "amount", "name", "status");
+        descriptor.useFullIdentityMap();
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = login(project);
+
+        ClassDescriptor orderDescriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseRecord> rows = new Vector<>(ORDERS);
+        for (int id = 0; id < ORDERS; id++) {
+            int index = id;
+            rows.add(row(orderDescriptor, name -> switch (name) {
+                case "ID" -> BigDecimal.valueOf(index);
+                case "AMOUNT" -> (index % 7 == 0) ? null : BigDecimal.valueOf(index % 20);
+                case "NAME" -> (char) ('a' + (index % 5)) + "order" + index;
+                default -> (index % 3 == 0) ? "SHIPPED" : "NEW";
+            }));
+        }
+        ReadAllQuery query = new ReadAllQuery(Order.class);
+        putRows(session, query, rows);
+        orders = (List<Order>) session.executeQuery(query);
+    }
+
+    private static Set<BigDecimal> ids(List<?> orders) {
+        Set<BigDecimal> ids = new TreeSet<>();
+        for (Object order : orders) {
+            ids.add(((Order) order).id);
+        }
+        return ids;
+    }
+
+    /**
+     * Query the cache with the compiled and the interpreted criteria, and assert the results are the same,
+     * and if the criteria were compiled.
+     */
+    private void assertConforms(boolean isCompiled, Expression criteria, Object... arguments) {
+        ReadAllQuery query = new ReadAllQuery(Order.class, criteria.getBuilder());
+        query.setSelectionCriteria(criteria);
+        for (int index = 0; index < arguments.length; index++) {
+            query.addArgument("arg" + index);
+        }
+        query.checkCacheOnly();
+        List<?> results = (List<?>) session.executeQuery(query, Arrays.asList(arguments));
+
+        InMemoryEvaluator evaluator = query.getInMemoryEvaluator(query.getSelectionCriteria(), session);
+        Assert.assertEquals("compiled " + criteria, isCompiled, evaluator != null);
+        Assert.assertSame(evaluator, query.getInMemoryEvaluator(query.getSelectionCriteria(), session));
+        AbstractRecord row = query.rowFromArguments(Arrays.asList(arguments), session);
+        List<?> interpreted = session.getIdentityMapAccessorInstance().getAllFromIdentityMap(query.getSelectionCriteria(), Order.class, row,
+                InMemoryQueryIndirectionPolicy.SHOULD_THROW_INDIRECTION_EXCEPTION, false, null);
+        Assert.assertEquals(criteria.toString(), ids(interpreted), ids(results));
+    }
+
+    @Test
+    public void testComparisons() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertConforms(true, builder.get("status").equal("NEW"));
+        assertConforms(true, builder.get("amount").greaterThan(10).and(builder.get("status").notEqual("NEW")));
+        assertConforms(true, builder.get("amount").lessThan(3).or(builder.get("amount").greaterThanEqual(new BigDecimal("17.5"))));
+        assertConforms(true, builder.get("amount").between(5, 8).not());
+        assertConforms(true, builder.get("amount").isNull().or(builder.get("amount").lessThanEqual(1L)));
+        assertConforms(true, builder.get("amount").notNull().and(builder.get("amount").notBetween(2, 18)));
+        assertConforms(true, builder.get("amount").in(List.of(1, 2, 3)));
+        assertConforms(true, builder.get("amount").notIn(new int[] {1, 2, 3}));
+        assertConforms(true, builder.get("name").like("border%"));
+        assertConforms(true, builder.get("name").notLike("%1_"));
+    }
+
+    @Test
+    public void testValueFirst() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertConforms(true, builder.value(10).lessThan(builder.get("amount")));
+        assertConforms(true, builder.value("NEW").equal(builder.get("status")).and(builder.value(5).greaterThanEqual(builder.get("amount"))));
+    }
+
+    @Test
+    public void testParameters() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertConforms(true, builder.get("amount").greaterThan(builder.getParameter("arg0")).and(builder.get("status").equal(builder.getParameter("arg1"))), 12, "SHIPPED");
+        assertConforms(true, builder.get("amount").between(builder.getParameter("arg0"), builder.getParameter("arg1")), 4, 9);
+        assertConforms(true, builder.get("amount").in(builder.getParameter("arg0")), List.of(4, 9));
+        assertConforms(true, builder.get("amount").equal(builder.getParameter("arg0")), (Object) null);
+    }
+
+    @Test
+    public void testPartiallyCompiled() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertConforms(true, builder.get("status").equal("NEW").and(builder.get("name").toUpperCase().like("AORDER%")));
+        assertConforms(true, builder.get("name").toUpperCase().equal("CORDER2").or(builder.get("amount").equal(4)));
+        assertConforms(false, builder.get("name").toUpperCase().like("D%"));
+        assertConforms(false, builder.get("amount").equal(builder.get("id")));
+    }
+
+    @Test
+    public void testConformInUnitOfWork() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (Order order : orders) {
+            ((Order) unitOfWork.registerObject(order)).status = order.id.intValue() % 2 == 0 ? "SHIPPED" : "NEW";
+        }
+        ExpressionBuilder builder = new ExpressionBuilder();
+        ReadAllQuery query = new ReadAllQuery(Order.class, builder.get("status").equal("SHIPPED").and(builder.get("amount").notNull()));
+        query.setDescriptor(session.getDescriptor(Order.class));
+        Set<BigDecimal> expected = new TreeSet<>();
+        for (Order order : orders) {
+            if ((order.id.intValue() % 2 == 0) && (order.amount != null)) {
+                expected.add(order.id);
+            }
+        }
+        Map<Object, Object> conforming = unitOfWork.scanForConformingInstances(query.getSelectionCriteria(), Order.class, new DatabaseRecord(), query);
+        Assert.assertEquals(expected, ids(new ArrayList<>(conforming.keySet())));
+        Assert.assertNotNull(query.getInMemoryEvaluator(query.getSelectionCriteria(), unitOfWork));
+        unitOfWork.release();
+    }
+}
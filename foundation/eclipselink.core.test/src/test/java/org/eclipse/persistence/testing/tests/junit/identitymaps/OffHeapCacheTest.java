@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapCacheTest {
+
+    private static final int SLAB_SIZE = 1024;
+
+    @Test
+    public void testPutAndGet() {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 4, SLAB_SIZE);
+        cache.put(String.class, newKey(1), "state", new byte[] {1, 2, 3});
+        assertArrayEquals(new byte[] {1, 2, 3}, cache.get(String.class, newKey(1)));
+        OffHeapCache.Value value = cache.getValue(String.class, newKey(1));
+        assertArrayEquals(new byte[] {1, 2, 3}, value.getBytes());
+        assertEquals("state", value.getState());
+        assertNull(cache.get(Integer.class, newKey(1)));
+        assertNull(cache.get(String.class, newKey(2)));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(3, cache.getBytes());
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 4, SLAB_SIZE);
+        cache.put(String.class, newKey(1), null, new byte[] {1, 2, 3});
+        cache.put(String.class, newKey(1), null, new byte[] {4, 5});
+        assertArrayEquals(new byte[] {4, 5}, cache.get(String.class, newKey(1)));
+        assertEquals(2, cache.getBytes());
+        cache.remove(String.class, newKey(1));
+        assertFalse(cache.containsKey(String.class, newKey(1)));
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void testByteBudget() {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 4, SLAB_SIZE);
+        byte[] value = new byte[100];
+        for (int index = 0; index < 1000; index++) {
+            cache.put(String.class, newKey(index), null, value);
+        }
+        assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        assertTrue(cache.getEvictionCount() > 0);
+        // The oldest entries are evicted first, the newest are kept.
+        assertNull(cache.get(String.class, newKey(0)));
+        assertArrayEquals(value, cache.get(String.class, newKey(999)));
+        // Values larger than a slab are not stored.
+        cache.put(String.class, newKey(1000), null, new byte[SLAB_SIZE + 1]);
+        assertFalse(cache.containsKey(String.class, newKey(1000)));
+    }
+
+    @Test
+    public void testClear() {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 4, SLAB_SIZE);
+        cache.put(String.class, newKey(1), null, new byte[] {1});
+        cache.put(Integer.class, newKey(1), null, new byte[] {2});
+        cache.clear(String.class);
+        assertFalse(cache.containsKey(String.class, newKey(1)));
+        assertTrue(cache.containsKey(Integer.class, newKey(1)));
+        cache.clear();
+        assertFalse(cache.containsKey(Integer.class, newKey(1)));
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void testConcurrentReadersNeverSeeOverwrittenBytes() throws Exception {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 2, SLAB_SIZE);
+        AtomicInteger corruptReads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executorService.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int count = 0; count < 10000; count++) {
+                    int index = random.nextInt(200);
+                    byte[] value = cache.get(String.class, newKey(index));
+                    if (value == null) {
+                        byte[] newValue = new byte[64];
+                        Arrays.fill(newValue, (byte) index);
+                        cache.put(String.class, newKey(index), null, newValue);
+                    } else {
+                        for (byte element : value) {
+                            if (element != (byte) index) {
+                                corruptReads.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        assertEquals(0, corruptReads.get());
+    }
+
+    @Test
+    public void testConcurrentReadersSeeBytesWithTheirState() throws Exception {
+        OffHeapCache cache = new OffHeapCache(SLAB_SIZE * 2, SLAB_SIZE);
+        AtomicInteger mismatchedReads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executorService.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int count = 0; count < 10000; count++) {
+                    int version = random.nextInt(100);
+                    if (random.nextBoolean()) {
+                        byte[] newValue = new byte[16];
+                        Arrays.fill(newValue, (byte) version);
+                        cache.put(String.class, newKey(1), version, newValue);
+                    } else {
+                        OffHeapCache.Value value = cache.getValue(String.class, newKey(1));
+                        if ((value != null) && (value.getBytes()[0] != ((Integer) value.getState()).byteValue())) {
+                            mismatchedReads.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        assertEquals(0, mismatchedReads.get());
+    }
+
+    private static Object newKey(int index) {
+        return new CacheId(new Object[] {index});
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.function.Predicate;
+
+import org.eclipse.persistence.descriptors.CacheIndex;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that in-memory queries on a range or prefix of the first field of an ordered cache index
+ * return the same objects as a scan of the cache, and only conform the objects in the range.
+ */
+public class OrderedCacheIndexTest extends EmulatedDriverBase {
+
+    static final int ORDERS = 100;
+
+    public static class Order {
+        public BigDecimal id;
+        public BigDecimal amount;
+        public String name;
+        public String status;
+    }
+
+    private DatabaseSession session;
+
+    private List<Order> orders;
+
+    @Before
+    public void login() {
+        DatabaseLogin login = createLogin();
+        login.bindAllParameters();
+        RelationalDescriptor descriptor = createDescriptor(Order.class, "ORDERS", "id", "amount", "name", "status");
+        descriptor.useFullIdentityMap();
+        CacheIndex amountIndex = new CacheIndex("AMOUNT");
+        amountIndex.setIsOrdered(true);
+        descriptor.getCachePolicy().addCacheIndex(amountIndex);
+        CacheIndex nameIndex = new CacheIndex("NAME");
+        nameIndex.setIsOrdered(true);
+        descriptor.getCachePolicy().addCacheIndex(nameIndex);
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = createDatabaseSession(project);
+        profile(session);
+        login(session);
+
+        ClassDescriptor orderDescriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseRecord> rows = new Vector<>(ORDERS);
+        for (int id = 0; id < ORDERS; id++) {
+            int index = id;
+            rows.add(row(orderDescriptor, name -> switch (name) {
+                case "ID" -> BigDecimal.valueOf(index);
+                case "AMOUNT" -> BigDecimal.valueOf(index % 50);
+                case "NAME" -> (char) ('a' + (index % 26)) + "order" + index;
+                default -> "NEW";
+            }));
+        }
+        ReadAllQuery query = new ReadAllQuery(Order.class);
+        putRows(session, query, rows);
+        orders = (List<Order>) session.executeQuery(query);
+    }
+
+    /**
+     * Query the cache, and assert the results are the orders matching the predicate, and if the ordered index was used.
+     */
+    private void assertQuery(boolean isIndexed, Expression criteria, Predicate<Order> predicate, Object... arguments) {
+        ReadAllQuery query = new ReadAllQuery(Order.class, criteria.getBuilder());
+        query.setSelectionCriteria(criteria);
+        for (int index = 0; index < arguments.length; index++) {
+            query.addArgument("arg" + index);
+        }
+        query.checkCacheOnly();
+        long lookups = getCount(SessionProfiler.CacheIndexRangeLookups);
+        List<Order> results = (List<Order>) session.executeQuery(query, List.of(arguments));
+        Set<BigDecimal> expected = new TreeSet<>();
+        for (Order order : orders) {
+            if (predicate.test(order)) {
+                expected.add(order.id);
+            }
+        }
+        Set<BigDecimal> ids = new TreeSet<>();
+        for (Order order : results) {
+            ids.add(order.id);
+        }
+        Assert.assertEquals(criteria.toString(), expected, ids);
+        Assert.assertEquals("ordered index used by " + criteria, isIndexed, getCount(SessionProfiler.CacheIndexRangeLookups) > lookups);
+    }
+
+    private static int amount(Order order) {
+        return order.amount.intValue();
+    }
+
+    @Test
+    public void testRangeLookups() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertQuery(true, builder.get("amount").between(10, 20), order -> amount(order) >= 10 && amount(order) <= 20);
+        assertQuery(true, builder.get("amount").lessThan(5), order -> amount(order) < 5);
+        assertQuery(true, builder.get("amount").greaterThanEqual(new BigDecimal("45.5")), order -> amount(order) >= 45.5);
+        assertQuery(true, builder.get("amount").greaterThan(30).and(builder.get("amount").lessThanEqual(32)), order -> amount(order) > 30 && amount(order) <= 32);
+        assertQuery(true, builder.get("amount").equal(7L), order -> amount(order) == 7);
+        assertQuery(true, builder.get("amount").greaterThan(40).and(builder.get("amount").lessThan(10)), order -> false);
+        assertQuery(true, builder.get("amount").greaterThan(20).and(builder.get("status").equal("NEW")), order -> amount(order) > 20);
+        assertQuery(true, builder.get("amount").lessThan(builder.getParameter("arg0")), order -> amount(order) < 3, 3);
+    }
+
+    @Test
+    public void testPrefixLookups() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertQuery(true, builder.get("name").like("corder%"), order -> order.name.startsWith("corder"));
+        assertQuery(true, builder.get("name").like("zorder1_"), order -> order.name.matches("zorder1."));
+        assertQuery(true, builder.get("name").greaterThan("x"), order -> order.name.compareTo("x") > 0);
+    }
+
+    @Test
+    public void testUnboundedCriteriaScansCache() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertQuery(false, builder.get("status").equal("NEW"), order -> true);
+        assertQuery(false, builder.get("amount").lessThan(5).or(builder.get("amount").greaterThan(45)), order -> amount(order) < 5 || amount(order) > 45);
+        assertQuery(false, builder.get("name").like("%order1"), order -> order.name.endsWith("order1"));
+        assertQuery(false, builder.get("amount").notEqual(5).and(builder.get("id").lessThan(3)), order -> amount(order) != 5 && order.id.intValue() < 3);
+    }
+
+    @Test
+    public void testChangesAreIndexed() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        ((Order) unitOfWork.registerObject(orders.get(1))).amount = BigDecimal.valueOf(1000);
+        Order newOrder = new Order();
+        newOrder.id = BigDecimal.valueOf(ORDERS);
+        newOrder.amount = BigDecimal.valueOf(1001);
+        newOrder.name = "new";
+        newOrder.status = "NEW";
+        unitOfWork.registerNewObject(newOrder);
+        unitOfWork.deleteObject(orders.get(2));
+        unitOfWork.commit();
+        orders.remove(2);
+        orders.add((Order) session.readObject(newOrder));
+
+        ExpressionBuilder builder = new ExpressionBuilder();
+        assertQuery(true, builder.get("amount").greaterThanEqual(1000), order -> amount(order) >= 1000);
+        assertQuery(true, builder.get("amount").between(0, 2), order -> amount(order) >= 0 && amount(order) <= 2);
+        Assert.assertEquals(2, ((List<?>) session.executeQuery(checkCacheOnly(builder.get("amount").greaterThan(999)))).size());
+    }
+
+    private static ReadAllQuery checkCacheOnly(Expression criteria) {
+        ReadAllQuery query = new ReadAllQuery(Order.class, criteria);
+        query.checkCacheOnly();
+        return query;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+import java.util.function.Consumer;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the query results cache invalidated by row only invalidates the results
+ * containing the changed objects, or selecting the new values of the changed objects.
+ */
+public class QueryResultsDependenciesTest extends EmulatedDriverBase {
+
+    public static class Order {
+        public BigDecimal id;
+        public String status;
+        public String customer;
+    }
+
+    private DatabaseSession session;
+
+    private ReadAllQuery query;
+
+    @Before
+    public void login() {
+        DatabaseLogin login = createLogin();
+        login.bindAllParameters();
+        Project project = new Project(login);
+        project.addDescriptor(createDescriptor(Order.class, "ORDERS", "id", "status", "customer"));
+        session = createDatabaseSession(project);
+        profile(session);
+        login(session);
+
+        query = new ReadAllQuery(Order.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("customer").equal(builder.getParameter("customer")));
+        query.addArgument("customer");
+        query.cacheQueryResults();
+        query.getQueryResultsCachePolicy().setInvalidateOnRowChange(true);
+    }
+
+    /**
+     * Read the orders of the customer, the database returning the orders of the ids.
+     */
+    private List<Order> read(String customer, int... ids) {
+        ClassDescriptor descriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseRecord> rows = new Vector<>(ids.length);
+        for (int id : ids) {
+            rows.add(row(descriptor, name -> name.equals("ID") ? BigDecimal.valueOf(id) : (name.equals("CUSTOMER") ? customer : "NEW")));
+        }
+        putRows(session, query, rows);
+        return (List<Order>) session.executeQuery(query, List.of(customer));
+    }
+
+    /**
+     * Read the orders of the customer, and assert if the results were cached.
+     */
+    private List<Order> assertRead(boolean isCached, String customer, int... ids) {
+        long hits = getCount(SessionProfiler.QueryCacheHits);
+        List<Order> orders = read(customer, ids);
+        Assert.assertEquals("cached results of " + customer, isCached, getCount(SessionProfiler.QueryCacheHits) > hits);
+        return orders;
+    }
+
+    private void commit(Consumer<UnitOfWork> changes) {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        changes.accept(unitOfWork);
+        unitOfWork.commit();
+    }
+
+    @Test
+    public void testUpdateOnlyInvalidatesResultsContainingObject() {
+        read("A", 1, 2);
+        List<Order> orders = read("B", 3);
+        assertRead(true, "A", 1, 2);
+        assertRead(true, "B", 3);
+        commit(unitOfWork -> ((Order) unitOfWork.registerObject(orders.get(0))).status = "SHIPPED");
+        assertRead(true, "A", 1, 2);
+        assertRead(false, "B", 3);
+        Assert.assertEquals(1, getCount(SessionProfiler.QueryCacheInvalidations));
+    }
+
+    @Test
+    public void testInsertOnlyInvalidatesMatchingResults() {
+        read("A", 1, 2);
+        read("B", 3);
+        commit(unitOfWork -> {
+            Order order = new Order();
+            order.id = BigDecimal.valueOf(4);
+            order.customer = "B";
+            unitOfWork.registerNewObject(order);
+        });
+        assertRead(true, "A", 1, 2);
+        assertRead(false, "B", 3, 4);
+    }
+
+    @Test
+    public void testCriteriaUpdateInvalidatesNewMatchingResults() {
+        List<Order> orders = read("A", 1, 2);
+        read("B", 3);
+        read("C", 5);
+        commit(unitOfWork -> ((Order) unitOfWork.registerObject(orders.get(0))).customer = "B");
+        assertRead(false, "A", 2);
+        assertRead(false, "B", 1, 3);
+        assertRead(true, "C", 5);
+    }
+
+    @Test
+    public void testDeleteOnlyInvalidatesResultsContainingObject() {
+        List<Order> orders = read("A", 1, 2);
+        read("B", 3);
+        commit(unitOfWork -> unitOfWork.deleteObject(orders.get(1)));
+        assertRead(false, "A", 1);
+        assertRead(true, "B", 3);
+    }
+
+    @Test
+    public void testUpdateInvalidatesAllResultsByDefault() {
+        query.getQueryResultsCachePolicy().setInvalidateOnRowChange(false);
+        read("A", 1, 2);
+        List<Order> orders = read("B", 3);
+        commit(unitOfWork -> ((Order) unitOfWork.registerObject(orders.get(0))).status = "SHIPPED");
+        assertRead(false, "A", 1, 2);
+        assertRead(false, "B", 3);
+    }
+
+    @Test
+    public void testNonAnalyzableCriteriaInvalidatesAllResultsOnInsert() {
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("customer").equal(builder.getParameter("customer")).or(builder.get("status").equal("URGENT")));
+        read("A", 1, 2);
+        commit(unitOfWork -> {
+            Order order = new Order();
+            order.id = BigDecimal.valueOf(4);
+            order.customer = "C";
+            unitOfWork.registerNewObject(order);
+        });
+        assertRead(false, "A", 1, 2);
+    }
+
+    @Test
+    public void testReportQueryResultsAreInvalidatedOnChange() {
+        ReportQuery reportQuery = new ReportQuery(Order.class, query.getExpressionBuilder());
+        reportQuery.setSelectionCriteria(query.getSelectionCriteria());
+        reportQuery.addArgument("customer");
+        reportQuery.addAttribute("status");
+        reportQuery.cacheQueryResults();
+        reportQuery.getQueryResultsCachePolicy().setInvalidateOnRowChange(true);
+        List<Order> orders = read("B", 3);
+        ReportQuery sqlQuery = (ReportQuery) reportQuery.clone();
+        sqlQuery.prepareCall(session, new DatabaseRecord());
+        Vector<DatabaseField> fields = ((DatabaseCall) sqlQuery.getCall()).getFields();
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new DatabaseRecord(fields, new Vector<>(List.of("NEW"))));
+        ((EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection()).putRows(sqlQuery.getSQLString(), rows);
+
+        // The results are projections, not orders, so their dependencies are unknown.
+        List<ReportQueryResult> results = (List<ReportQueryResult>) session.executeQuery(reportQuery, List.of("A"));
+        Assert.assertEquals("NEW", results.get(0).get("status"));
+        long hits = getCount(SessionProfiler.QueryCacheHits);
+        session.executeQuery(reportQuery, List.of("A"));
+        Assert.assertTrue(getCount(SessionProfiler.QueryCacheHits) > hits);
+        commit(unitOfWork -> ((Order) unitOfWork.registerObject(orders.get(0))).status = "SHIPPED");
+        hits = getCount(SessionProfiler.QueryCacheHits);
+        session.executeQuery(reportQuery, List.of("A"));
+        Assert.assertEquals(hits, getCount(SessionProfiler.QueryCacheHits));
+    }
+}
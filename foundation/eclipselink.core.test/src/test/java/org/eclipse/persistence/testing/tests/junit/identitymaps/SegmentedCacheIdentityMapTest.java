@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentedCacheIdentityMapTest {
+
+    private static final int MAX_SIZE = 100;
+
+    @Test
+    public void testFixedSize() {
+        IdentityMap map = new SegmentedCacheIdentityMap(MAX_SIZE, null, null, false);
+        for (int index = 0; index < MAX_SIZE * 3; index++) {
+            map.put(newKey(index), "Object " + index, null, 0);
+        }
+        assertEquals(MAX_SIZE, map.getSize());
+    }
+
+    @Test
+    public void testFrequentlyReadObjectsAreKept() {
+        IdentityMap map = new SegmentedCacheIdentityMap(MAX_SIZE, null, null, false);
+        for (int index = 0; index < MAX_SIZE; index++) {
+            map.put(newKey(index), "Object " + index, null, 0);
+        }
+        // Read the first 10 objects enough times to drain the read buffers.
+        for (int count = 0; count < 100; count++) {
+            for (int index = 0; index < 10; index++) {
+                assertNotNull(map.getCacheKey(newKey(index), false));
+            }
+        }
+        // A scan of new objects should only evict the objects read once.
+        for (int index = MAX_SIZE; index < MAX_SIZE * 3; index++) {
+            map.put(newKey(index), "Object " + index, null, 0);
+        }
+        for (int index = 0; index < 10; index++) {
+            assertNotNull("Frequently read object was evicted: " + index, map.getCacheKey(newKey(index), false));
+        }
+        assertEquals(MAX_SIZE, map.getSize());
+    }
+
+    @Test
+    public void testRemove() {
+        IdentityMap map = new SegmentedCacheIdentityMap(MAX_SIZE, null, null, false);
+        map.put(newKey(1), "Object 1", null, 0);
+        CacheKey cacheKey = map.getCacheKey(newKey(1), false);
+        assertEquals("Object 1", map.remove(cacheKey));
+        assertNull(map.getCacheKey(newKey(1), false));
+        assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void testUpdateMaxSize() {
+        IdentityMap map = new SegmentedCacheIdentityMap(MAX_SIZE, null, null, false);
+        for (int index = 0; index < MAX_SIZE; index++) {
+            map.put(newKey(index), "Object " + index, null, 0);
+        }
+        map.updateMaxSize(MAX_SIZE / 2);
+        assertEquals(MAX_SIZE / 2, map.getSize());
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        IdentityMap map = new SegmentedCacheIdentityMap(MAX_SIZE, null, null, false);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        for (int thread = 0; thread < 16; thread++) {
+            executorService.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int count = 0; count < 10000; count++) {
+                    int index = random.nextInt(MAX_SIZE * 2);
+                    if (map.getCacheKey(newKey(index), false) == null) {
+                        map.put(newKey(index), "Object " + index, null, 0);
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        // Any overflow left by a racing drain is evicted on the next write.
+        map.put(newKey(MAX_SIZE * 3), "Object", null, 0);
+        assertEquals(MAX_SIZE, map.getSize());
+    }
+
+    private static Object newKey(int index) {
+        return new CacheId(new Object[] {index});
+    }
+}
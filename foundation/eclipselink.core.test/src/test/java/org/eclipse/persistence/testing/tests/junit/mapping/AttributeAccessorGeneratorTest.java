@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
+import org.eclipse.persistence.mappings.AttributeAccessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that the attributes accessed through generated classes behave as through reflection.
+ */
+public class AttributeAccessorGeneratorTest {
+
+    public static class Base {
+        private String name;
+    }
+
+    public static class Entity extends Base {
+        private int count;
+        private final String code = "code";
+        private Object value;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        private Object getValue() {
+            if ("error".equals(value)) {
+                throw new IllegalStateException();
+            }
+            return value;
+        }
+
+        public Entity setValue(Object value) {
+            this.value = value;
+            return this;
+        }
+    }
+
+    private static AttributeAccessor fieldAccessor(String name) {
+        AttributeAccessor accessor = new InstanceVariableAttributeAccessor();
+        accessor.setAttributeName(name);
+        accessor.initializeAttributes(Entity.class);
+        return accessor;
+    }
+
+    private static AttributeAccessor methodAccessor(String name, String getMethodName, String setMethodName) {
+        MethodAttributeAccessor accessor = new MethodAttributeAccessor();
+        accessor.setAttributeName(name);
+        accessor.setGetMethodName(getMethodName);
+        accessor.setSetMethodName(setMethodName);
+        accessor.initializeAttributes(Entity.class);
+        return accessor;
+    }
+
+    @Test
+    public void testGeneratedFieldAccess() throws Exception {
+        Function<Object, Object> getter = AttributeAccessorGenerator.generateFieldAccessor(Base.class.getDeclaredField("name"));
+        Assert.assertNotNull(getter);
+        Entity entity = new Entity();
+        ((BiConsumer<Object, Object>) getter).accept(entity, "name");
+        Assert.assertEquals("name", getter.apply(entity));
+
+        Function<Object, Object> finalGetter = AttributeAccessorGenerator.generateFieldAccessor(Entity.class.getDeclaredField("code"));
+        Assert.assertEquals("code", finalGetter.apply(entity));
+        Assert.assertFalse(finalGetter instanceof BiConsumer);
+        Assert.assertNull(AttributeAccessorGenerator.generateFieldAccessor(String.class.getDeclaredField("CASE_INSENSITIVE_ORDER")));
+    }
+
+    @Test
+    public void testFieldAccessor() {
+        Entity entity = new Entity();
+        AttributeAccessor name = fieldAccessor("name");
+        name.setAttributeValueInObject(entity, "name");
+        Assert.assertEquals("name", name.getAttributeValueFromObject(entity));
+
+        AttributeAccessor count = fieldAccessor("count");
+        count.setAttributeValueInObject(entity, 5);
+        Assert.assertEquals(5, count.getAttributeValueFromObject(entity));
+        // Converted reflectively, null is ignored for a primitive.
+        count.setAttributeValueInObject(entity, null);
+        Assert.assertEquals(5, count.getAttributeValueFromObject(entity));
+        count.setAttributeValueInObject(entity, "7");
+        Assert.assertEquals(7, entity.count);
+        try {
+            count.setAttributeValueInObject(entity, new Object());
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException exception) {
+            Assert.assertEquals(DescriptorException.ILLEGAL_ARGUMENT_WHILE_SETTING_VALUE_THRU_INSTANCE_VARIABLE_ACCESSOR, exception.getErrorCode());
+        }
+        try {
+            count.getAttributeValueFromObject("entity");
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException exception) {
+            Assert.assertEquals(DescriptorException.ILLEGAL_ARGUMENT_WHILE_GETTING_VALUE_THRU_INSTANCE_VARIABLE_ACCESSOR, exception.getErrorCode());
+        }
+
+        AttributeAccessor code = fieldAccessor("code");
+        Assert.assertEquals("code", code.getAttributeValueFromObject(entity));
+    }
+
+    @Test
+    public void testMethodAccessor() {
+        Entity entity = new Entity();
+        AttributeAccessor count = methodAccessor("count", "getCount", "setCount");
+        count.setAttributeValueInObject(entity, 5);
+        Assert.assertEquals(5, count.getAttributeValueFromObject(entity));
+        count.setAttributeValueInObject(entity, "7");
+        Assert.assertEquals(7, entity.count);
+        try {
+            count.setAttributeValueInObject(entity, null);
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException exception) {
+            Assert.assertEquals(DescriptorException.ILLEGAL_ARGUMENT_WHILE_SETTING_VALUE_THRU_METHOD_ACCESSOR, exception.getErrorCode());
+        }
+
+        AttributeAccessor value = methodAccessor("value", "getValue", "setValue");
+        value.setAttributeValueInObject(entity, "value");
+        Assert.assertEquals("value", value.getAttributeValueFromObject(entity));
+        value.setAttributeValueInObject(entity, "error");
+        try {
+            value.getAttributeValueFromObject(entity);
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException exception) {
+            Assert.assertEquals(DescriptorException.TARGET_INVOCATION_WHILE_GETTING_VALUE_THRU_METHOD_ACCESSOR, exception.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testGenerationDisabled() throws Exception {
+        System.setProperty(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS, "false");
+        try {
+            Assert.assertNull(AttributeAccessorGenerator.generateFieldAccessor(Entity.class.getDeclaredField("count")));
+            Assert.assertNull(AttributeAccessorGenerator.generateGetMethodAccessor(Entity.class.getDeclaredMethod("getCount")));
+            Entity entity = new Entity();
+            AttributeAccessor count = fieldAccessor("count");
+            count.setAttributeValueInObject(entity, 3);
+            Assert.assertEquals(3, count.getAttributeValueFromObject(entity));
+        } finally {
+            System.clearProperty(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS);
+        }
+    }
+}
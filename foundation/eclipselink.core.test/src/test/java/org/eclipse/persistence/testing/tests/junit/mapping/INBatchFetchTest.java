@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedStatement;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the number of keys bound by IN batch fetching, padded to a power of two,
+ * and growing up to the max batch size.
+ */
+public class INBatchFetchTest extends EmulatedDriverBase {
+
+    private static final int ORDERS = 13;
+
+    public static class Customer {
+        public BigDecimal id;
+        public String name;
+    }
+
+    public static class Order {
+        public BigDecimal id;
+        public ValueHolderInterface<Customer> customer = new ValueHolder<>();
+    }
+
+    /**
+     * Records the number of parameters of the executed customer queries,
+     * and returns the customer of the first key of each query.
+     */
+    public class RecordingPlatform extends DatabasePlatform {
+        public final List<Integer> batches = new ArrayList<>();
+
+        @Override
+        public void setParameterValueInDatabaseCall(Object parameter, PreparedStatement statement, int index, AbstractSession session) throws SQLException {
+            String sql = ((EmulatedStatement) statement).getSQL();
+            if ((index == 1) && sql.contains("CUSTOMER")) {
+                this.batches.add((int) sql.chars().filter(character -> character == '?').count());
+                ((EmulatedConnection) statement.getConnection()).putRows(sql, customerRows(parameter));
+            }
+            super.setParameterValueInDatabaseCall(parameter, statement, index, session);
+        }
+    }
+
+    private DatabaseSession session;
+
+    private RecordingPlatform platform;
+
+    @Before
+    public void login() {
+        platform = new RecordingPlatform();
+        DatabaseLogin login = createLogin(platform);
+        login.bindAllParameters();
+
+        RelationalDescriptor customer = createDescriptor(Customer.class, "CUSTOMER", "id", "name");
+
+        RelationalDescriptor order = createDescriptor(Order.class, "ORDERS", "id");
+        OneToOneMapping customerMapping = new OneToOneMapping();
+        customerMapping.setAttributeName("customer");
+        customerMapping.setReferenceClass(Customer.class);
+        customerMapping.addForeignKeyFieldName("ORDERS.CUST_ID", "CUSTOMER.ID");
+        customerMapping.useBasicIndirection();
+        order.addMapping(customerMapping);
+
+        Project project = new Project(login);
+        project.addDescriptor(customer);
+        project.addDescriptor(order);
+        session = login(project);
+    }
+
+    private Vector<DatabaseRecord> rows(Class<?> javaClass, Object id, Object value) {
+        Vector<DatabaseRecord> rows = new Vector<>(1);
+        rows.add(row(session.getDescriptor(javaClass), name -> name.equals("ID") ? id : value));
+        return rows;
+    }
+
+    private Vector<DatabaseRecord> customerRows(Object id) {
+        return rows(Customer.class, id, "Customer " + id);
+    }
+
+    private ReadAllQuery ordersQuery(int size, int maxSize, boolean padding) {
+        ReadAllQuery query = new ReadAllQuery(Order.class);
+        query.addBatchReadAttribute("customer");
+        query.setBatchFetchType(BatchFetchType.IN);
+        query.setBatchFetchSize(size);
+        query.setBatchFetchMaxSize(maxSize);
+        query.setShouldPadBatchFetchSize(padding);
+        return query;
+    }
+
+    /**
+     * Read the orders, each of a different customer, and trigger the batch fetch of their customers.
+     */
+    private void readCustomers(ReadAllQuery query) {
+        Vector<DatabaseRecord> rows = new Vector<>(ORDERS);
+        for (int index = 1; index <= ORDERS; index++) {
+            rows.addAll(rows(Order.class, index, index * 10));
+        }
+        putRows(session, query, rows);
+
+        List<Order> orders = (List<Order>) session.executeQuery(query);
+        Assert.assertEquals(ORDERS, orders.size());
+        for (Order order : orders) {
+            Customer customer = order.customer.getValue();
+            if (customer != null) {
+                Assert.assertEquals(order.id.intValue() * 10, customer.id.intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testKeysAreNotPaddedByDefault() {
+        readCustomers(ordersQuery(8, 0, false));
+        Assert.assertEquals(List.of(8, 5), platform.batches);
+    }
+
+    @Test
+    public void testKeysArePaddedToPowerOfTwo() {
+        readCustomers(ordersQuery(8, 0, true));
+        Assert.assertEquals(List.of(8, 8), platform.batches);
+    }
+
+    @Test
+    public void testKeysArePaddedUpToBatchSize() {
+        readCustomers(ordersQuery(6, 0, true));
+        // The remaining keys 6 and 1 are not padded over the batch size.
+        Assert.assertEquals(List.of(6, 6, 1), platform.batches);
+    }
+
+    @Test
+    public void testBatchSizeGrowsToMaxSize() {
+        readCustomers(ordersQuery(4, 16, false));
+        // 4 rows batched, then 4, then up to 8, the 5 remaining rows.
+        Assert.assertEquals(List.of(4, 4, 5), platform.batches);
+        platform.batches.clear();
+        session.getIdentityMapAccessor().initializeAllIdentityMaps();
+        readCustomers(ordersQuery(4, 16, true));
+        Assert.assertEquals(List.of(4, 4, 8), platform.batches);
+    }
+}
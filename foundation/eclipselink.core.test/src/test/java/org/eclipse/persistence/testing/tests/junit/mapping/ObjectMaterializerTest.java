@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.descriptors.ObjectMaterializer;
+import org.eclipse.persistence.internal.descriptors.PersistenceObject;
+import org.eclipse.persistence.internal.descriptors.PersistenceObjectAttributeAccessor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.converters.ObjectTypeConverter;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that the objects built by the generated materializers are the same as built by the mappings.
+ */
+public class ObjectMaterializerTest extends EmulatedDriverBase {
+
+    public static class Base {
+        private BigDecimal id;
+        private String name;
+    }
+
+    public static class Item extends Base {
+        private int quantity;
+        private long total;
+        private Integer count;
+        private String status;
+        private Object code;
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+    }
+
+    /**
+     * Woven like an entity using attribute change tracking, its set methods fire change events.
+     */
+    public static class TrackedItem implements PersistenceObject, ChangeTracker {
+        private BigDecimal id;
+        private String name;
+        private PropertyChangeListener listener;
+
+        public void _persistence_set_id(BigDecimal id) {
+            _persistence_propertyChange("id", this.id, id);
+            this.id = id;
+        }
+
+        public void _persistence_set_name(String name) {
+            _persistence_propertyChange("name", this.name, name);
+            this.name = name;
+        }
+
+        private void _persistence_propertyChange(String attribute, Object oldValue, Object newValue) {
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, attribute, oldValue, newValue));
+            }
+        }
+
+        @Override
+        public Object _persistence_get(String attribute) {
+            return "id".equals(attribute) ? id : name;
+        }
+
+        @Override
+        public void _persistence_set(String attribute, Object value) {
+            if ("id".equals(attribute)) {
+                id = (BigDecimal) value;
+            } else {
+                name = (String) value;
+            }
+        }
+
+        @Override
+        public Object _persistence_shallow_clone() {
+            TrackedItem clone = new TrackedItem();
+            clone.id = id;
+            clone.name = name;
+            return clone;
+        }
+
+        @Override
+        public Object _persistence_new(PersistenceObject object) {
+            return new TrackedItem();
+        }
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    /** The columns of the rows of the items. */
+    static final List<String> COLUMNS = List.of("ID", "NAME", "QUANTITY", "TOTAL", "COUNT", "STATUS", "CODE");
+
+    private DatabaseSessionImpl session;
+
+    private DatabaseSessionImpl login(Object[][] data) {
+        RelationalDescriptor descriptor = createDescriptor(Item.class, "ITEM", "id", "name", "quantity", "total");
+        descriptor.addDirectMapping("count", "getCount", "setCount", "COUNT");
+        DirectToFieldMapping status = (DirectToFieldMapping) descriptor.addDirectMapping("status", "STATUS");
+        ObjectTypeConverter converter = new ObjectTypeConverter(status);
+        converter.addConversionValue("N", "NEW");
+        converter.addConversionValue("S", "SHIPPED");
+        // Not of the type of the attribute.
+        converter.addConversionValue("X", 7);
+        status.setConverter(converter);
+        descriptor.addDirectMapping("code", "CODE");
+        Project project = new Project(createLogin());
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = login(project);
+
+        ClassDescriptor itemDescriptor = session.getDescriptor(Item.class);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        for (Object[] columns : data) {
+            rows.add(row(itemDescriptor, name -> columns[COLUMNS.indexOf(name)]));
+        }
+        putRows(session, new ReadAllQuery(Item.class), rows);
+        return session;
+    }
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS);
+    }
+
+    private List<Item> readItems(Object[][] data) {
+        session = login(data);
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.dontMaintainCache();
+        List<Item> items = (List<Item>) session.executeQuery(query);
+        session.logout();
+        session = null;
+        return items;
+    }
+
+    private static void assertSameItems(List<Item> expected, List<Item> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            Item expectedItem = expected.get(index);
+            Item actualItem = actual.get(index);
+            Assert.assertEquals(((Base) expectedItem).id, ((Base) actualItem).id);
+            Assert.assertEquals(((Base) expectedItem).name, ((Base) actualItem).name);
+            Assert.assertEquals(expectedItem.quantity, actualItem.quantity);
+            Assert.assertEquals(expectedItem.total, actualItem.total);
+            Assert.assertEquals(expectedItem.count, actualItem.count);
+            Assert.assertEquals(expectedItem.status, actualItem.status);
+            Assert.assertEquals(expectedItem.code, actualItem.code);
+        }
+    }
+
+    @Test
+    public void testMaterializedObjects() {
+        Object[][] data = {
+                {BigDecimal.ONE, "one", 1, 10L, 100, "N", "A"},
+                // Converted values.
+                {BigDecimal.valueOf(2), "two", new BigDecimal("2"), 20, 200L, "S", 2},
+                // Null values, ignored for primitive attributes.
+                {BigDecimal.valueOf(3), null, null, null, null, null, null}};
+        List<Item> materialized = readItems(data);
+        System.setProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS, "false");
+        List<Item> built = readItems(data);
+        assertSameItems(built, materialized);
+        Assert.assertEquals(2, materialized.get(1).quantity);
+        Assert.assertEquals(20L, materialized.get(1).total);
+        Assert.assertEquals(Integer.valueOf(200), materialized.get(1).count);
+        Assert.assertEquals("SHIPPED", materialized.get(1).status);
+        Assert.assertEquals(0, materialized.get(2).quantity);
+    }
+
+    @Test
+    public void testMaterializer() {
+        session = login(new Object[0][]);
+        ClassDescriptor descriptor = session.getDescriptor(Item.class);
+        ObjectMaterializer materializer = descriptor.getObjectBuilder().getMaterializer(null, true);
+        Assert.assertNotNull(materializer);
+        Assert.assertSame(materializer, descriptor.getObjectBuilder().getMaterializer(null, true));
+        Assert.assertNull(descriptor.getObjectBuilder().getMaterializer(null, false));
+
+        FetchGroup fetchGroup = new FetchGroup();
+        fetchGroup.addAttribute("name");
+        fetchGroup.addAttribute("quantity");
+        ObjectMaterializer fetchGroupMaterializer = descriptor.getObjectBuilder().getMaterializer(fetchGroup, false);
+        Assert.assertSame(fetchGroup, fetchGroupMaterializer.getFetchGroup());
+        Assert.assertSame(fetchGroupMaterializer, descriptor.getObjectBuilder().getMaterializer(fetchGroup, false));
+
+        DatabaseRecord row = new DatabaseRecord();
+        for (DatabaseField field : descriptor.getAllFields()) {
+            row.put(field, field.getName().equals("QUANTITY") ? 5 : field.getName());
+        }
+        Item item = new Item();
+        fetchGroupMaterializer.buildAttributesIntoObject(item, null, row, new ReadAllQuery(Item.class), null, session, false);
+        Assert.assertEquals("NAME", ((Base) item).name);
+        Assert.assertEquals(5, item.quantity);
+        Assert.assertNull(((Base) item).id);
+        Assert.assertNull(item.code);
+    }
+
+    @Test
+    public void testMaterializerFiresNoChangeEvents() {
+        RelationalDescriptor trackedDescriptor = createDescriptor(TrackedItem.class, "TRACKED_ITEM", "id", "name");
+        for (DatabaseMapping mapping : trackedDescriptor.getMappings()) {
+            mapping.setAttributeAccessor(new PersistenceObjectAttributeAccessor(mapping.getAttributeName()));
+        }
+        trackedDescriptor.setObjectChangePolicy(new AttributeChangeTrackingPolicy());
+        Project project = new Project(createLogin());
+        project.addDescriptor(trackedDescriptor);
+        session = login(project);
+
+        ClassDescriptor descriptor = session.getDescriptor(TrackedItem.class);
+        ObjectMaterializer materializer = descriptor.getObjectBuilder().getMaterializer(null, true);
+        Assert.assertNotNull(materializer);
+        DatabaseRecord row = new DatabaseRecord();
+        for (DatabaseField field : descriptor.getAllFields()) {
+            row.put(field, field.getName().equals("ID") ? BigDecimal.ONE : field.getName());
+        }
+        TrackedItem item = new TrackedItem();
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        item._persistence_setPropertyChangeListener(events::add);
+        materializer.buildAttributesIntoObject(item, null, row, new ReadAllQuery(TrackedItem.class), null, session, false);
+        Assert.assertEquals(BigDecimal.ONE, item.id);
+        Assert.assertEquals("NAME", item.name);
+        Assert.assertEquals(List.of(), events);
+    }
+
+    @Test
+    public void testConversionError() {
+        Object[][] data = {{BigDecimal.ONE, "one", 1, 10L, 100, "X", "A"}};
+        DescriptorException materializedException = null;
+        try {
+            readItems(data);
+        } catch (DescriptorException exception) {
+            materializedException = exception;
+        }
+        System.setProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS, "false");
+        try {
+            readItems(data);
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException exception) {
+            Assert.assertNotNull(materializedException);
+            Assert.assertEquals(exception.getErrorCode(), materializedException.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testGenerationDisabled() {
+        System.setProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS, "false");
+        session = login(new Object[0][]);
+        Assert.assertNull(session.getDescriptor(Item.class).getObjectBuilder().getMaterializer(null, true));
+    }
+}
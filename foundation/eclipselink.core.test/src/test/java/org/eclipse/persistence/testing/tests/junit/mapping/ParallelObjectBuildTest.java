@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that a {@link ReadAllQuery} building its objects in parallel returns the objects in the order of the rows, cached,
+ * and only builds them in parallel when reading through the connection pool of the server session.
+ */
+public class ParallelObjectBuildTest extends EmulatedDriverBase {
+
+    private static final int SIZE = ObjectBuilder.PARALLEL_BUILD_CHUNK_SIZE * 8 + 1;
+
+    public static class Address {
+        public BigDecimal id;
+        public String city;
+    }
+
+    private ServerSession session;
+
+    @Before
+    public void login() {
+        Project project = new Project(createLogin());
+        project.addDescriptor(createDescriptor(Address.class, "ADDRESS", "id", "city"));
+        session = (ServerSession) project.createServerSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.setObjectBuildThreadPoolSize(4);
+        profile(session);
+        login(session);
+        putRows();
+    }
+
+    private void putRows() {
+        ClassDescriptor descriptor = session.getDescriptor(Address.class);
+        Vector<DatabaseRecord> rows = new Vector<>(SIZE);
+        for (int index = 0; index < SIZE; index++) {
+            int id = index;
+            rows.add(row(descriptor, name -> name.equals("ID") ? id : "City " + id));
+        }
+        putRows(session, parallelQuery(), rows);
+    }
+
+    private static ReadAllQuery parallelQuery() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setShouldBuildObjectsInParallel(true);
+        return query;
+    }
+
+    private void assertRowOrder(List<Address> addresses) {
+        Assert.assertEquals(SIZE, addresses.size());
+        for (int index = 0; index < SIZE; index++) {
+            Address address = addresses.get(index);
+            Assert.assertEquals(index, address.id.intValue());
+            Assert.assertEquals("City " + index, address.city);
+        }
+    }
+
+    @Test
+    public void testResultOrderIsKept() {
+        List<Address> addresses = (List<Address>) session.executeQuery(parallelQuery());
+        Assert.assertEquals(1, getCount(SessionProfiler.ParallelObjectBuilds));
+        assertRowOrder(addresses);
+        for (Address address : addresses) {
+            Assert.assertTrue(session.getIdentityMapAccessor().containsObjectInIdentityMap(address));
+        }
+        // The second read finds the cached objects.
+        List<Address> cachedAddresses = (List<Address>) session.executeQuery(parallelQuery());
+        for (int index = 0; index < SIZE; index++) {
+            Assert.assertSame(addresses.get(index), cachedAddresses.get(index));
+        }
+    }
+
+    @Test
+    public void testClientSessionBuildsInParallel() {
+        ClientSession clientSession = session.acquireClientSession();
+        try {
+            // Outside of a transaction the client session reads through the read connection pool.
+            List<Address> addresses = (List<Address>) clientSession.executeQuery(parallelQuery());
+            Assert.assertEquals(1, getCount(SessionProfiler.ParallelObjectBuilds));
+            assertRowOrder(addresses);
+            for (Address address : addresses) {
+                Assert.assertTrue(session.getIdentityMapAccessor().containsObjectInIdentityMap(address));
+            }
+        } finally {
+            clientSession.release();
+        }
+    }
+
+    @Test
+    public void testReadOnlyUnitOfWorkQueryBuildsInParallel() {
+        ClientSession clientSession = session.acquireClientSession();
+        UnitOfWork unitOfWork = clientSession.acquireUnitOfWork();
+        try {
+            // As JPA read-only queries, the query is executed on the client session, the parent of the unit of work.
+            ReadAllQuery query = parallelQuery();
+            query.setIsReadOnly(true);
+            List<Address> addresses = (List<Address>) unitOfWork.executeQuery(query);
+            Assert.assertEquals(1, getCount(SessionProfiler.ParallelObjectBuilds));
+            assertRowOrder(addresses);
+            for (Address address : addresses) {
+                Assert.assertTrue(session.getIdentityMapAccessor().containsObjectInIdentityMap(address));
+            }
+        } finally {
+            unitOfWork.release();
+            clientSession.release();
+        }
+    }
+
+    @Test
+    public void testSingleConnectionSessionBuildsSequentially() {
+        ClientSession clientSession = session.acquireClientSession();
+        clientSession.beginTransaction();
+        try {
+            // In transaction the client session reads on its single write connection.
+            List<Address> addresses = (List<Address>) clientSession.executeQuery(parallelQuery());
+            Assert.assertEquals(SIZE, addresses.size());
+            Assert.assertEquals(0, getCount(SessionProfiler.ParallelObjectBuilds));
+        } finally {
+            clientSession.rollbackTransaction();
+            clientSession.release();
+        }
+    }
+
+    @Test
+    public void testBuildExceptionIsRethrown() {
+        session.getDescriptor(Address.class).getEventManager().addListener(new DescriptorEventAdapter() {
+            @Override
+            public void postBuild(DescriptorEvent event) {
+                if (((Address) event.getObject()).id.intValue() == SIZE - 1) {
+                    throw new IllegalStateException("postBuild");
+                }
+            }
+        });
+        try {
+            session.executeQuery(parallelQuery());
+            Assert.fail("The exception of the build was not thrown.");
+        } catch (IllegalStateException exception) {
+            Assert.assertEquals("postBuild", exception.getMessage());
+        }
+    }
+}
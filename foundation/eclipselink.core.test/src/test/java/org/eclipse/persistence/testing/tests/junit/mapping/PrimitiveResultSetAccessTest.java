@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the primitive attributes of objects built with ResultSet access optimization,
+ * which are set directly from the result set, have the same values as when built from fetched rows, null values included,
+ * and that the values are kept in the row for the lock value, as the emulated result set only allows to read each column once.
+ */
+public class PrimitiveResultSetAccessTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 10;
+
+    public static class Measurement implements FetchGroupTracker {
+        public long id;
+        public long version;
+        public int count;
+        public double amount;
+        public Long total;
+        public String name;
+
+        private FetchGroup fetchGroup;
+        private boolean shouldRefreshFetchGroup;
+        private Session session;
+
+        @Override
+        public FetchGroup _persistence_getFetchGroup() {
+            return fetchGroup;
+        }
+
+        @Override
+        public void _persistence_setFetchGroup(FetchGroup group) {
+            this.fetchGroup = group;
+        }
+
+        @Override
+        public boolean _persistence_isAttributeFetched(String attribute) {
+            return (fetchGroup == null) || fetchGroup.containsAttributeInternal(attribute);
+        }
+
+        @Override
+        public void _persistence_resetFetchGroup() {
+        }
+
+        @Override
+        public boolean _persistence_shouldRefreshFetchGroup() {
+            return shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public void _persistence_setShouldRefreshFetchGroup(boolean shouldRefreshFetchGroup) {
+            this.shouldRefreshFetchGroup = shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public Session _persistence_getSession() {
+            return session;
+        }
+
+        @Override
+        public void _persistence_setSession(Session session) {
+            this.session = session;
+        }
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void login() {
+        RelationalDescriptor descriptor = createDescriptor(Measurement.class, "MEASUREMENT", "id", "version", "count", "amount", "total", "name");
+        // The version is stored in the cache, and read into the (read-only) version attribute.
+        descriptor.useVersionLocking("MEASUREMENT.VERSION", true);
+        descriptor.getMappingForAttributeName("version").readOnly();
+        descriptor.setFetchGroupManager(new FetchGroupManager());
+        Project project = new Project(createLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+    }
+
+    private ReadAllQuery query(boolean resultSetAccess) {
+        ReadAllQuery query = new ReadAllQuery(Measurement.class);
+        query.dontMaintainCache();
+        query.setIsResultSetAccessOptimizedQuery(resultSetAccess);
+        return query;
+    }
+
+    /**
+     * Put the rows of the query, with the fields it selects, every third row has null values.
+     */
+    private void putRows(ReadAllQuery query, long version) {
+        query.checkPrepare((DatabaseSessionImpl) session, new DatabaseRecord());
+        Vector<DatabaseField> fields = ((DatabaseCall) query.getCall()).getFields();
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>(SIZE);
+        for (long id = 0; id < SIZE; id++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int index = 0; index < values.length; index++) {
+                boolean isNull = (id % 3) == 2;
+                switch (fieldsArray[index].getName()) {
+                    case "ID" -> values[index] = id;
+                    case "VERSION" -> values[index] = version;
+                    case "COUNT" -> values[index] = isNull ? null : (int) id * 10;
+                    case "AMOUNT" -> values[index] = isNull ? null : id * 1.5;
+                    case "TOTAL" -> values[index] = isNull ? null : id * 100;
+                    default -> values[index] = "Name " + id;
+                }
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        ((EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection()).putRows(query.getSQLString(), rows);
+    }
+
+    @Test
+    public void testPrimitiveValuesAreRead() {
+        ReadAllQuery query = query(true);
+        putRows(query, 1);
+        List<Measurement> measurements = (List<Measurement>) session.executeQuery(query);
+        Assert.assertEquals(SIZE, measurements.size());
+        for (int id = 0; id < SIZE; id++) {
+            Measurement measurement = measurements.get(id);
+            Assert.assertEquals(id, measurement.id);
+            Assert.assertEquals(1, measurement.version);
+            Assert.assertEquals("Name " + id, measurement.name);
+            if ((id % 3) == 2) {
+                Assert.assertEquals(0, measurement.count);
+                Assert.assertEquals(0, measurement.amount, 0);
+                Assert.assertNull(measurement.total);
+            } else {
+                Assert.assertEquals(id * 10, measurement.count);
+                Assert.assertEquals(id * 1.5, measurement.amount, 0);
+                Assert.assertEquals(Long.valueOf(id * 100), measurement.total);
+            }
+        }
+    }
+
+    @Test
+    public void testSameValuesAsFetchedRows() {
+        ReadAllQuery query = query(true);
+        putRows(query, 1);
+        List<Measurement> measurements = (List<Measurement>) session.executeQuery(query);
+        ReadAllQuery fetchedQuery = query(false);
+        putRows(fetchedQuery, 1);
+        List<Measurement> fetchedMeasurements = (List<Measurement>) session.executeQuery(fetchedQuery);
+        Assert.assertEquals(fetchedMeasurements.size(), measurements.size());
+        for (int index = 0; index < measurements.size(); index++) {
+            Measurement measurement = measurements.get(index);
+            Measurement fetchedMeasurement = fetchedMeasurements.get(index);
+            Assert.assertEquals(fetchedMeasurement.id, measurement.id);
+            Assert.assertEquals(fetchedMeasurement.version, measurement.version);
+            Assert.assertEquals(fetchedMeasurement.count, measurement.count);
+            Assert.assertEquals(fetchedMeasurement.amount, measurement.amount, 0);
+            Assert.assertEquals(fetchedMeasurement.total, measurement.total);
+            Assert.assertEquals(fetchedMeasurement.name, measurement.name);
+        }
+    }
+
+    /**
+     * The cached partial objects are refreshed from the row, the version read into the (fetched) attribute
+     * is then obtained again from the row for the cache key, without reading its column again.
+     */
+    @Test
+    public void testRefreshVersionedObjectWithFetchGroup() {
+        FetchGroup fetchGroup = new FetchGroup();
+        fetchGroup.addAttribute("count");
+        fetchGroup.addAttribute("version");
+        ReadAllQuery partialQuery = new ReadAllQuery(Measurement.class);
+        partialQuery.setFetchGroup(fetchGroup);
+        partialQuery.setIsResultSetAccessOptimizedQuery(true);
+        putRows(partialQuery, 1);
+        List<Measurement> measurements = (List<Measurement>) session.executeQuery(partialQuery);
+        Assert.assertEquals(SIZE, measurements.size());
+
+        ReadAllQuery refreshQuery = new ReadAllQuery(Measurement.class);
+        refreshQuery.setFetchGroup(fetchGroup);
+        refreshQuery.refreshIdentityMapResult();
+        refreshQuery.setIsResultSetAccessOptimizedQuery(true);
+        putRows(refreshQuery, 2);
+        List<Measurement> refreshedMeasurements = (List<Measurement>) session.executeQuery(refreshQuery);
+        Assert.assertEquals(SIZE, refreshedMeasurements.size());
+        for (int index = 0; index < SIZE; index++) {
+            Measurement measurement = refreshedMeasurements.get(index);
+            Assert.assertSame(measurements.get(index), measurement);
+            Assert.assertEquals(2, measurement.version);
+            Assert.assertNull(measurement.name);
+            CacheKey cacheKey = ((AbstractSession) session).getIdentityMapAccessorInstance().getCacheKeyForObject(measurement);
+            Assert.assertEquals(2L, ((Number) cacheKey.getWriteLockValue()).longValue());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the preallocated values of a sequence with a refill threshold are allocated in the background
+ * when the threshold is reached, and that the values stay sequential.
+ */
+public class SequencePreallocationRefillTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 10;
+
+    private static final int THRESHOLD = 5;
+
+    public static class Order {
+        public long id;
+    }
+
+    /**
+     * Non transactional sequence, as a sequence object, recording the threads allocating its values.
+     */
+    public static class ThreadRecordingSequence extends Sequence {
+        private long nextValue = 1;
+        public final List<Thread> allocatingThreads = new CopyOnWriteArrayList<>();
+
+        public ThreadRecordingSequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return getGeneratedVector(accessor, writeSession, seqName, 1).get(0);
+        }
+
+        @Override
+        public synchronized Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            allocatingThreads.add(Thread.currentThread());
+            Vector<Object> values = new Vector<>(size);
+            for (int index = 0; index < size; index++) {
+                values.add(nextValue++);
+            }
+            return values;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+
+    private ServerSession session;
+
+    private ThreadRecordingSequence sequence;
+
+    @Before
+    public void login() {
+        DatabaseLogin login = createLogin();
+        sequence = new ThreadRecordingSequence("ORDER_SEQ", SIZE);
+        login.addSequence(sequence);
+        RelationalDescriptor descriptor = createDescriptor(Order.class, "ORDERS", "id");
+        descriptor.setSequenceNumberFieldName("ORDERS.ID");
+        descriptor.setSequenceNumberName("ORDER_SEQ");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = (ServerSession) project.createServerSession();
+        session.setLogLevel(SessionLog.WARNING);
+        profile(session);
+        login(session);
+    }
+
+    private long nextValue(Session clientSession) {
+        return ((Number) ((AbstractSession) clientSession).getSequencing().getNextValue(Order.class)).longValue();
+    }
+
+    private void awaitAllocations(int allocations) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        while (sequence.allocatingThreads.size() < allocations) {
+            Assert.assertTrue("No background allocation", System.currentTimeMillis() < timeout);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testValuesAreAllocatedWhenEmptyWithoutThreshold() {
+        Session clientSession = session.acquireClientSession();
+        try {
+            for (long value = 1; value <= SIZE * 3; value++) {
+                Assert.assertEquals(value, nextValue(clientSession));
+            }
+        } finally {
+            clientSession.release();
+        }
+        Assert.assertEquals(3, sequence.allocatingThreads.size());
+        for (Thread thread : sequence.allocatingThreads) {
+            Assert.assertSame(Thread.currentThread(), thread);
+        }
+        Assert.assertEquals(3, getCount(SessionProfiler.SequencePreallocationStalls));
+        Assert.assertEquals(0, getCount(SessionProfiler.SequencePreallocationRefills));
+    }
+
+    @Test
+    public void testValuesAreRefilledInBackground() throws InterruptedException {
+        sequence.setPreallocationRefillThreshold(THRESHOLD);
+        Session clientSession = session.acquireClientSession();
+        try {
+            long value = 1;
+            for (int allocation = 1; allocation <= 3; allocation++) {
+                // Use the values down to the threshold, then wait for the next values to be allocated.
+                for (int index = 0; index < SIZE; index++, value++) {
+                    Assert.assertEquals(value, nextValue(clientSession));
+                    if (index == SIZE - THRESHOLD - 1) {
+                        awaitAllocations(allocation + 1);
+                    }
+                }
+            }
+        } finally {
+            clientSession.release();
+        }
+        Assert.assertEquals(4, sequence.allocatingThreads.size());
+        Assert.assertSame(Thread.currentThread(), sequence.allocatingThreads.get(0));
+        for (Thread thread : sequence.allocatingThreads.subList(1, 4)) {
+            Assert.assertNotSame(Thread.currentThread(), thread);
+        }
+        Assert.assertEquals(1, getCount(SessionProfiler.SequencePreallocationStalls));
+        long refills = 0;
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((refills = getCount(SessionProfiler.SequencePreallocationRefills)) < 3 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(3, refills);
+    }
+}
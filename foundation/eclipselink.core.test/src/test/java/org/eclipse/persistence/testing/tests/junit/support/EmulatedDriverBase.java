@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.function.Function;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.After;
+
+/**
+ * Base of the tests run on sessions connected to the {@link EmulatedDriver},
+ * the rows returned by a query are put on the {@link EmulatedConnection} by the test.
+ * The sessions logged in by the test are logged out after each test.
+ */
+public abstract class EmulatedDriverBase {
+
+    private final List<DatabaseSession> sessions = new ArrayList<>();
+
+    private PerformanceMonitor monitor;
+
+    /**
+     * Return a login to the emulated driver.
+     */
+    protected static DatabaseLogin createLogin() {
+        return createLogin(new DatabasePlatform());
+    }
+
+    /**
+     * Return a login to the emulated driver, with the platform.
+     */
+    protected static DatabaseLogin createLogin(DatabasePlatform platform) {
+        DatabaseLogin login = new DatabaseLogin(platform);
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        return login;
+    }
+
+    /**
+     * Return a descriptor of the class on the table, with its ID primary key,
+     * and a direct mapping of each attribute to the field of the upper case attribute name.
+     */
+    protected static RelationalDescriptor createDescriptor(Class<?> javaClass, String tableName, String... attributeNames) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName(tableName);
+        descriptor.addPrimaryKeyFieldName(tableName + ".ID");
+        for (String attributeName : attributeNames) {
+            descriptor.addDirectMapping(attributeName, attributeName.toUpperCase());
+        }
+        return descriptor;
+    }
+
+    /**
+     * Return a database session of the project, logging warnings only.
+     */
+    protected static <T extends DatabaseSession> T createDatabaseSession(Project project) {
+        @SuppressWarnings("unchecked")
+        T session = (T) project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        return session;
+    }
+
+    /**
+     * Log in the session, it is logged out after the test.
+     */
+    protected <T extends DatabaseSession> T login(T session) {
+        session.login();
+        this.sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Log in a database session of the project, it is logged out after the test.
+     */
+    protected <T extends DatabaseSession> T login(Project project) {
+        return login(EmulatedDriverBase.<T>createDatabaseSession(project));
+    }
+
+    @After
+    public void logout() {
+        for (DatabaseSession session : this.sessions) {
+            if (session.isConnected()) {
+                session.logout();
+            }
+        }
+        this.sessions.clear();
+    }
+
+    /**
+     * Profile the session with a {@link PerformanceMonitor}, counting the operations returned by {@link #getCount(String)}.
+     */
+    protected void profile(DatabaseSession session) {
+        this.monitor = new PerformanceMonitor();
+        session.setProfiler(this.monitor);
+    }
+
+    /**
+     * Return the count of the operation of the profiled session.
+     */
+    protected long getCount(String counter) {
+        Object count = this.monitor.getOperationTime(counter);
+        return (count == null) ? 0 : ((Number) count).longValue();
+    }
+
+    /**
+     * Return a row of the fields of the descriptor, with the value of each field name.
+     */
+    protected static DatabaseRecord row(ClassDescriptor descriptor, Function<String, Object> values) {
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Object[] row = new Object[fieldsArray.length];
+        for (int index = 0; index < fieldsArray.length; index++) {
+            row[index] = values.apply(fieldsArray[index].getName());
+        }
+        return new ArrayRecord(fields, fieldsArray, row);
+    }
+
+    /**
+     * Put the rows returned by the SQL of the query on the connection of the session.
+     */
+    protected static void putRows(DatabaseSession session, DatabaseQuery query, Vector<DatabaseRecord> rows) {
+        DatabaseQuery sqlQuery = (DatabaseQuery) query.clone();
+        sqlQuery.prepareCall(session, new DatabaseRecord());
+        ((EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection()).putRows(sqlQuery.getSQLString(), rows);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.unitofwork;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitOrderCalculator;
+import org.eclipse.persistence.internal.sessions.CommitOrderDependencyNode;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the lookup of the nodes of the {@link CommitOrderCalculator} by class and by descriptor,
+ * and the commit order calculated with it.
+ */
+public class CommitOrderCalculatorTest extends EmulatedDriverBase {
+
+    public static class Customer {
+        public BigDecimal id;
+    }
+
+    public static class Order {
+        public BigDecimal id;
+        public Customer customer;
+    }
+
+    public static class Item {
+        public BigDecimal id;
+        public Order order;
+    }
+
+    public static class Unmapped {
+    }
+
+    private DatabaseSession session;
+
+    private static OneToOneMapping reference(String attributeName, Class<?> referenceClass, String foreignKey, String targetKey) {
+        OneToOneMapping mapping = new OneToOneMapping();
+        mapping.setAttributeName(attributeName);
+        mapping.setReferenceClass(referenceClass);
+        mapping.addForeignKeyFieldName(foreignKey, targetKey);
+        mapping.dontUseIndirection();
+        return mapping;
+    }
+
+    @Before
+    public void login() {
+        RelationalDescriptor item = createDescriptor(Item.class, "ITEM", "id");
+        item.addMapping(reference("order", Order.class, "ITEM.ORDER_ID", "ORDERS.ID"));
+        RelationalDescriptor order = createDescriptor(Order.class, "ORDERS", "id");
+        order.addMapping(reference("customer", Customer.class, "ORDERS.CUST_ID", "CUSTOMER.ID"));
+        RelationalDescriptor customer = createDescriptor(Customer.class, "CUSTOMER", "id");
+
+        Project project = new Project(createLogin());
+        // Added in the reverse of the commit order.
+        project.addDescriptor(item);
+        project.addDescriptor(order);
+        project.addDescriptor(customer);
+        session = login(project);
+    }
+
+    private Vector<ClassDescriptor> descriptors(Class<?>... classes) {
+        Vector<ClassDescriptor> descriptors = new Vector<>(classes.length);
+        for (Class<?> javaClass : classes) {
+            descriptors.add(session.getDescriptor(javaClass));
+        }
+        return descriptors;
+    }
+
+    @Test
+    public void testNodeLookup() {
+        CommitOrderCalculator calculator = new CommitOrderCalculator((AbstractSession) session);
+        calculator.addNodes(descriptors(Item.class, Order.class, Customer.class));
+        Assert.assertEquals(3, calculator.getNodes().size());
+        for (CommitOrderDependencyNode node : calculator.getNodes()) {
+            ClassDescriptor descriptor = node.getDescriptor();
+            Assert.assertSame(node, calculator.nodeFor(descriptor));
+            Assert.assertSame(node, calculator.nodeFor(descriptor.getJavaClass()));
+        }
+        Assert.assertNull(calculator.nodeFor(Unmapped.class));
+        Assert.assertNull(calculator.nodeFor(createDescriptor(Customer.class, "CUSTOMER", "id")));
+    }
+
+    @Test
+    public void testNodeLookupOfClassWithSeveralDescriptors() {
+        ClassDescriptor customer = session.getDescriptor(Customer.class);
+        ClassDescriptor otherCustomer = createDescriptor(Customer.class, "OTHER_CUSTOMER", "id");
+        Vector<ClassDescriptor> descriptors = new Vector<>(2);
+        descriptors.add(customer);
+        descriptors.add(otherCustomer);
+        CommitOrderCalculator calculator = new CommitOrderCalculator((AbstractSession) session);
+        calculator.addNodes(descriptors);
+        // The class finds its first node, each descriptor its own node.
+        Assert.assertSame(calculator.getNodes().get(0), calculator.nodeFor(Customer.class));
+        Assert.assertSame(calculator.getNodes().get(0), calculator.nodeFor(customer));
+        Assert.assertSame(calculator.getNodes().get(1), calculator.nodeFor(otherCustomer));
+    }
+
+    @Test
+    public void testCommitOrder() {
+        CommitOrderCalculator calculator = new CommitOrderCalculator((AbstractSession) session);
+        calculator.addNodes(descriptors(Item.class, Order.class, Customer.class));
+        calculator.calculateMappingDependencies();
+        calculator.orderCommits();
+        List<Class<?>> orderedClasses = calculator.getOrderedClasses();
+        Assert.assertEquals(List.of(Customer.class, Order.class, Item.class), orderedClasses);
+        Assert.assertEquals(orderedClasses, ((AbstractSession) session).getCommitManager().getCommitOrder());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.unitofwork;
+
+import java.util.Arrays;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that {@link DirtyAttributeTrackingPolicy} only compares the attributes flagged
+ * by the setters of a {@link DirtyAttributeTracker}, and ignores the objects without flagged attributes.
+ */
+public class DirtyAttributeTrackingTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 10;
+
+    /**
+     * Flags its attributes as a woven class does, sorted by name.
+     */
+    public static class Order implements DirtyAttributeTracker {
+        private static final String[] NAMES = {"id", "quantity", "status", "version"};
+
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+        public transient long[] dirtyAttributes;
+
+        public void setStatus(String status) {
+            flag(2);
+            this.status = status;
+        }
+
+        public void setQuantity(int quantity) {
+            flag(1);
+            this.quantity = quantity;
+        }
+
+        private void flag(int index) {
+            if (dirtyAttributes != null) {
+                dirtyAttributes[index >> 6] |= 1L << index;
+            }
+        }
+
+        @Override
+        public long[] _persistence_getDirtyAttributes() {
+            return dirtyAttributes;
+        }
+
+        @Override
+        public void _persistence_setDirtyAttributes(long[] dirtyAttributes) {
+            this.dirtyAttributes = dirtyAttributes;
+        }
+
+        @Override
+        public String[] _persistence_getDirtyAttributeNames() {
+            return NAMES.clone();
+        }
+    }
+
+    private DatabaseSession session;
+
+    /** Strong references to the cached orders, the identity map only holds weak references to most of them. */
+    private Order[] orders;
+
+    @Before
+    public void login() {
+        RelationalDescriptor descriptor = createDescriptor(Order.class, "ORDERS", "id", "version", "status", "quantity");
+        descriptor.useVersionLocking("VERSION", false);
+        descriptor.setObjectChangePolicy(new DirtyAttributeTrackingPolicy());
+        Project project = new Project(createLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+        orders = new Order[SIZE];
+        for (long id = 1; id <= SIZE; id++) {
+            Order order = new Order();
+            order.id = id;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = (int) id;
+            orders[(int) id - 1] = order;
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+        }
+    }
+
+    private ClassDescriptor getDescriptor() {
+        return session.getDescriptor(Order.class);
+    }
+
+    private DirtyAttributeTrackingPolicy getPolicy() {
+        return (DirtyAttributeTrackingPolicy) getDescriptor().getObjectChangePolicy();
+    }
+
+    @Test
+    public void testRegisteredObjectsAreTracked() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        try {
+            Order order = (Order) unitOfWork.registerObject(orders[0]);
+            Assert.assertArrayEquals(new long[1], order.dirtyAttributes);
+            Assert.assertNull(orders[0].dirtyAttributes);
+            Assert.assertFalse(getPolicy().shouldCompareExistingObjectForChange(order, unitOfWork, getDescriptor()));
+            order.setStatus("SHIPPED");
+            Assert.assertArrayEquals(new long[] {1L << 2}, order.dirtyAttributes);
+            Assert.assertTrue(getPolicy().shouldCompareExistingObjectForChange(order, unitOfWork, getDescriptor()));
+        } finally {
+            unitOfWork.release();
+        }
+    }
+
+    @Test
+    public void testOnlyFlaggedAttributesAreCompared() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        try {
+            for (Order order : orders) {
+                Order clone = (Order) unitOfWork.registerObject(order);
+                if (clone.id % 2 == 0) {
+                    clone.setStatus("SHIPPED");
+                    // Changed without its setter, so not flagged, and not compared.
+                    clone.quantity++;
+                }
+            }
+            UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) unitOfWork.getCurrentChanges();
+            Assert.assertEquals(SIZE / 2, changeSet.getAllChangeSets().size());
+            for (ObjectChangeSet changes : changeSet.getAllChangeSets().keySet()) {
+                Assert.assertEquals(0, ((Order) changes.getUnitOfWorkClone()).id % 2);
+                Assert.assertEquals(1, changes.getChanges().size());
+                Assert.assertEquals("SHIPPED", ((DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("status")).getNewValue());
+            }
+        } finally {
+            unitOfWork.release();
+        }
+    }
+
+    @Test
+    public void testCommitClearsFlaggedAttributes() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        Order order = (Order) unitOfWork.registerObject(orders[1]);
+        order.setStatus("SHIPPED");
+        order.setQuantity(3);
+        unitOfWork.commitAndResume();
+        Assert.assertEquals("SHIPPED", orders[1].status);
+        Assert.assertEquals(3, orders[1].quantity);
+        Assert.assertEquals(2L, orders[1].version);
+        Assert.assertArrayEquals(new long[1], order.dirtyAttributes);
+        Assert.assertFalse(((UnitOfWorkChangeSet) unitOfWork.getCurrentChanges()).hasChanges());
+        unitOfWork.release();
+    }
+
+    @Test
+    public void testMergedObjectIsFlagged() {
+        Order detached = new Order();
+        detached.id = 3;
+        detached.version = 1;
+        detached.status = "CANCELLED";
+        detached.quantity = 3;
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        try {
+            Order order = (Order) unitOfWork.mergeClone(detached);
+            Assert.assertEquals("CANCELLED", order.status);
+            Assert.assertTrue(Arrays.stream(order.dirtyAttributes).allMatch(bits -> bits == -1L));
+            ObjectChangeSet changes = (ObjectChangeSet) ((UnitOfWorkChangeSet) unitOfWork.getCurrentChanges()).getObjectChangeSetForClone(order);
+            Assert.assertEquals(1, changes.getChanges().size());
+            Assert.assertEquals("CANCELLED", ((DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("status")).getNewValue());
+        } finally {
+            unitOfWork.release();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.unitofwork;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.support.EmulatedDriverBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the changes calculated concurrently by {@link DeferredChangeDetectionPolicy}
+ * are those calculated by the unit of work's thread, and that a unit of work
+ * with a parallel change calculation threshold commits the same changes.
+ */
+public class ParallelChangeCalculationTest extends EmulatedDriverBase {
+
+    private static final int SIZE = UnitOfWorkImpl.PARALLEL_CHANGE_CALCULATION_CHUNK_SIZE * 2 + 1;
+
+    public static class Order {
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+    }
+
+    private DatabaseSession session;
+
+    /** Strong references to the cached orders, the identity map only holds weak references to most of them. */
+    private Order[] orders;
+
+    @Before
+    public void login() {
+        RelationalDescriptor descriptor = createDescriptor(Order.class, "ORDERS", "id", "version", "status", "quantity");
+        descriptor.useVersionLocking("VERSION", false);
+        Project project = new Project(createLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+        orders = new Order[SIZE];
+        for (long id = 1; id <= SIZE; id++) {
+            Order order = new Order();
+            order.id = id;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = (int) id;
+            orders[(int) id - 1] = order;
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+        }
+    }
+
+    private ClassDescriptor getDescriptor() {
+        return session.getDescriptor(Order.class);
+    }
+
+    private DeferredChangeDetectionPolicy getPolicy() {
+        return (DeferredChangeDetectionPolicy) getDescriptor().getObjectChangePolicy();
+    }
+
+    /**
+     * Register all the orders, and ship the even ones.
+     */
+    private UnitOfWorkImpl shipEvenOrders() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (long id = 1; id <= SIZE; id++) {
+            Order order = (Order) unitOfWork.registerObject(orders[(int) id - 1]);
+            if (id % 2 == 0) {
+                order.status = "SHIPPED";
+                order.quantity++;
+            }
+        }
+        return unitOfWork;
+    }
+
+    private static void assertShipped(UnitOfWorkChangeSet changeSet) {
+        Assert.assertEquals(SIZE / 2, changeSet.getAllChangeSets().size());
+        for (ObjectChangeSet changes : changeSet.getAllChangeSets().keySet()) {
+            long id = ((Order) changes.getUnitOfWorkClone()).id;
+            Assert.assertEquals(0, id % 2);
+            Assert.assertEquals(2, changes.getChanges().size());
+            Assert.assertEquals("SHIPPED", ((DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("status")).getNewValue());
+            Assert.assertEquals((int) id + 1, ((DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("quantity")).getNewValue());
+            Assert.assertEquals(1L, changes.getInitialWriteLockValue());
+        }
+    }
+
+    @Test
+    public void testCanCalculateChangesConcurrently() {
+        Assert.assertTrue(getPolicy().canCalculateChangesConcurrently(getDescriptor()));
+        // Listeners may change the objects, or other objects, while their changes are calculated.
+        getDescriptor().getEventManager().addListener(new DescriptorEventAdapter());
+        Assert.assertFalse(getPolicy().canCalculateChangesConcurrently(getDescriptor()));
+    }
+
+    @Test
+    public void testConcurrentChangesAreSequentialChanges() {
+        UnitOfWorkImpl unitOfWork = shipEvenOrders();
+        try {
+            UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet(unitOfWork);
+            for (Object clone : unitOfWork.getCloneMapping().keySet()) {
+                ObjectChangeSet changes = getPolicy().calculateChangesConcurrently(clone, unitOfWork.getBackupClone(clone, getDescriptor()), changeSet, unitOfWork, getDescriptor());
+                Assert.assertNull(changeSet.getObjectChangeSetForClone(clone));
+                changes = getPolicy().mergeConcurrentChanges(changes, changeSet, unitOfWork, getDescriptor());
+                if (changes != null) {
+                    changeSet.addObjectChangeSet(changes, unitOfWork, true);
+                }
+            }
+            assertShipped(changeSet);
+            assertShipped((UnitOfWorkChangeSet) unitOfWork.getCurrentChanges());
+        } finally {
+            unitOfWork.release();
+        }
+    }
+
+    @Test
+    public void testCommitWithThreshold() {
+        ((AbstractSession) session).setParallelChangeCalculationThreshold(SIZE / 2);
+        UnitOfWorkImpl unitOfWork = shipEvenOrders();
+        Assert.assertEquals(SIZE / 2, unitOfWork.getParallelChangeCalculationThreshold());
+        assertShipped((UnitOfWorkChangeSet) unitOfWork.getCurrentChanges());
+        unitOfWork.commit();
+        for (long id = 1; id <= SIZE; id++) {
+            Order order = orders[(int) id - 1];
+            Assert.assertSame(order, session.getIdentityMapAccessor().getFromIdentityMap(id, Order.class));
+            Assert.assertEquals((id % 2 == 0) ? "SHIPPED" : "NEW", order.status);
+            Assert.assertEquals((id % 2 == 0) ? 2L : 1L, order.version);
+        }
+    }
+}
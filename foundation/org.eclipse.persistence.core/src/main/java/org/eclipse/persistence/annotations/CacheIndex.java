@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -57,4 +57,14 @@
      * If updateable the object will be re-indexed on each update/refresh.
      */
     boolean updateable() default true;
+
+    /**
+     * Specify if the index is ordered on its first column.
+     * <p>
+     * An ordered index also allows in-memory resultList queries (using the cache usage query hint)
+     * on a range (BETWEEN, &lt;, &gt;=) or prefix (LIKE 'abc%') of the column
+     * to only conform the objects in the range, instead of every object in the cache.
+     * It is only used with a FULL cache type.
+     */
+    boolean ordered() default false;
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -78,6 +78,19 @@ public enum CacheType {
      */
     CACHE,
 
+    /**
+     * Similar to the {@linkplain #CACHE} identity map, a segmented cache identity map
+     * maintains a fixed number of objects specified by the application, removed on a
+     * least-recently-used basis. Cache hits do not lock the cache, the LRU order is updated
+     * asynchronously in batches, so this cache type scales with many concurrent readers.
+     * Objects read only once are removed before objects that have been read repeatedly.
+     * <p>
+     * <strong>WARNING:</strong> Furnishes caching and identity, but does not guarantee
+     * identity.  This cache type should normally only be used for objects
+     * that have no relationships to them.
+     */
+    SEGMENTED_CACHE,
+
     /**
      * <strong>WARNING:</strong> Does not preserve object identity and does not cache
      * objects. This cache type is not recommend and should normally not be used.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -49,6 +49,16 @@ public enum ChangeTrackingType {
      */
     DEFERRED,
 
+    /**
+     * Flags the changed attributes of an object in a bitmask, set by its woven setters,
+     * and only compares the flagged attributes in the commit process.
+     * Setting an attribute does not create any event.
+     * <p>
+     * Unchanged objects will be ignored.
+     * @see org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy
+     */
+    DIRTY,
+
     /**
      * Will not set any change tracking policy, and the change tracking will be
      * determined at runtime.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -29,6 +29,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 public class ASMFactory {
@@ -39,6 +40,8 @@ public class ASMFactory {
     private final static String ASM_OW2_CLASS_VISITOR = "org.objectweb.asm.ClassVisitor";
     private final static String ASM_ECLIPSELINK_CLASS_VISITOR = "org.eclipse.persistence.internal.libraries.asm.ClassVisitor";
     private final static SessionLog LOG = AbstractSessionLog.getLog();
+    // PERF: The availability of the ASM implementations, looked up once.
+    private final static Map<String, Boolean> AVAILABLE_IMPLEMENTATIONS = new ConcurrentHashMap<>(4);
     // This block must be first - end
 
     // Should be changed in case of ASM upgrade
@@ -290,12 +293,14 @@ public static String getAsmService() {
     }
 
     private static boolean isASMImplementationAvailable(String className) {
-        try {
-            PrivilegedAccessHelper.getClassForName(className);
-            return true;
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
+        return AVAILABLE_IMPLEMENTATIONS.computeIfAbsent(className, name -> {
+            try {
+                PrivilegedAccessHelper.getClassForName(name);
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        });
     }
 
     static int getLatestOPCodeVersion() {
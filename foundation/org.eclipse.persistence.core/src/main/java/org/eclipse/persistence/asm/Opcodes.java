@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -33,6 +33,7 @@ public class Opcodes {
     }
     //This block must be first - end
 
+    public static final int AALOAD = valueInt("AALOAD");
     public static final int AASTORE = valueInt("AASTORE");
     public static final int ACC_ENUM = valueInt("ACC_ENUM");
     public static final int ACC_FINAL = valueInt("ACC_FINAL");
@@ -54,6 +55,7 @@ public class Opcodes {
     public static final int BIPUSH = valueInt("BIPUSH");
     public static final int CHECKCAST = valueInt("CHECKCAST");
     public static final int DUP = valueInt("DUP");
+    public static final int DUP2 = valueInt("DUP2");
     public static final int F_APPEND = valueInt("F_APPEND");
     public static final int F_SAME = valueInt("F_SAME");
     public static final int F_SAME1 = valueInt("F_SAME1");
@@ -78,6 +80,9 @@ public class Opcodes {
     public static final int INVOKESTATIC = valueInt("INVOKESTATIC");
     public static final int INVOKEVIRTUAL = valueInt("INVOKEVIRTUAL");
     public static final int IRETURN = valueInt("IRETURN");
+    public static final int LALOAD = valueInt("LALOAD");
+    public static final int LASTORE = valueInt("LASTORE");
+    public static final int LOR = valueInt("LOR");
     public static final int NEW = valueInt("NEW");
     public static final int POP = valueInt("POP");
     public static final int PUTFIELD = valueInt("PUTFIELD");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -83,6 +83,15 @@ public final class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A SegmentedCache cache holds a fixed size number of the most recently used objects,
+     * objects read repeatedly are kept in preference to objects read only once.
+     * Cache hits do not lock the cache, so it scales with many threads reading the same entity class.
+     * This does not guarantee object identity for objects removed from the cache.
+     * <p>WARNING: This cache type should normally only be used for objects that have no relationships to them.
+     */
+    public static final String  SegmentedCache = "SegmentedCache";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -366,6 +366,26 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_SHARED = "shared";
 
+    /**
+     * The {@code concurrent} property.<br>
+     * This can be appended to a connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.concurrent}.<br>
+     * Configures whether the connection pool is a
+     * {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool}, which does not lock the pool to
+     * acquire or release a connection, serves waiting threads in FIFO order and does not pin virtual threads while waiting.
+     * <p>
+     * This property is ignored in case external connection pools are used, or the read pool is shared.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - the connection pool is a {@link org.eclipse.persistence.sessions.server.ConnectionPool}
+     * <li>{@code true} - the connection pool is a {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool}
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     */
+    public static final String CONNECTION_POOL_CONCURRENT = "concurrent";
+
     /**
      * The {@code url} property.<br>
      * This can be appended to a connection pool property,
@@ -451,6 +471,7 @@ public final class PersistenceUnitProperties {
      * <li> {@code wait} - amount of time to wait for a connection from the pool.
      * <li> {@code url} - JDBC URL for the connection.
      * <li> {@code shared} - only for the read connection pool, shares read connections across threads.
+     * <li> {@code concurrent} - use a connection pool that does not lock on acquire and release.
      * <li> {@code jtaDataSource} - JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code nonJtaDataSource} - non JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code user} - user to use for the connection, if different from the default.
@@ -476,6 +497,7 @@ public final class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_CONCURRENT
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1085,6 +1107,22 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_STATEMENTS_SIZE = "eclipselink.jdbc.cache-statements.size";
 
+    /**
+     * The {@code eclipselink.jdbc.cache-statements.driver} property
+     * specifies whether statement caching is left to the JDBC driver
+     * when the database platform supports the driver statement cache.
+     * EclipseLink then closes statements instead of caching them.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - statements are cached by EclipseLink if {@link #CACHE_STATEMENTS} is enabled.
+     * <li>{@code true} - statements are cached by the JDBC driver, if the platform supports it.
+     * </ul>
+     *
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#supportsDriverStatementCache()
+     */
+    public static final String CACHE_STATEMENTS_DRIVER = "eclipselink.jdbc.cache-statements.driver";
+
     /**
      * The {@code eclipselink.jdbc.cache-statements} property specifies
      * whether JDBC statements should be cached. This is recommended when using
@@ -1303,6 +1341,23 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_EXTENDED_LOGGING = "eclipselink.cache.extended.logging";
 
+    /**
+     * The {@code eclipselink.cache.off-heap.size} property configures the byte budget
+     * of the off-heap tier of the shared cache.
+     * When set, the rows of objects read into the shared cache are also stored serialized
+     * (using {@link #SERIALIZER}) outside the Java heap, a find by id of an object that is
+     * no longer held by its identity map is then built from the stored row without accessing the database.
+     * Objects with a serialized object policy, protected or isolated cache isolation are not stored.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 0} (DEFAULT) - the off-heap tier is not used
+     * <li>a positive number of bytes
+     * </ul>
+     * @see org.eclipse.persistence.sessions.SessionProfiler#OffHeapCacheHits
+     */
+    public static final String CACHE_OFF_HEAP_SIZE = "eclipselink.cache.off-heap.size";
+
     /**
      * The {@code eclipselink.thread.extended.logging} property control (enable/disable)
      * some additional logging messages like print error message if cached Entity is picked by different thread,
@@ -2442,6 +2497,22 @@ public final class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The {@code eclipselink.sequencing.preallocation-refill-threshold} property
+     * sets the number of preallocated sequence values left at which the next values
+     * are preallocated in the background, so the threads persisting objects do not wait
+     * for the sequence to be selected from the database.
+     * This applies to the sequences using a sequence connection pool, and to the native sequences.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code 0} - (DEFAULT) values are preallocated when no value is left, by the thread requiring a value
+     * <li>a positive integer less than the allocationSize, such as a quarter of the allocationSize
+     * </ul>
+     * @see org.eclipse.persistence.sequencing.Sequence#setPreallocationRefillThreshold(int)
+     */
+    public static final String SEQUENCING_PREALLOCATION_REFILL_THRESHOLD = "eclipselink.sequencing.preallocation-refill-threshold";
+
     /**
      * The {@code eclipselink.session.customizer} property configures a
      * {@link org.eclipse.persistence.sessions.SessionCustomizer} used to alter the runtime configuration through
@@ -2531,6 +2602,8 @@ public final class PersistenceUnitProperties {
      * batch writing.
      * <li>{@code Oracle-JDBC} - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>{@code Multi-Row-Insert} - use JDBC batch writing, and execute the batched
+     * inserts as multi-row inserts on the platforms supporting them.
      * <li>{@code None} (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism} abstract class
      * </ul>
@@ -2551,6 +2624,25 @@ public final class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.grouping} property
+     * configures if the parameterized statements batched in a commit are grouped by SQL across classes.
+     * By default only consecutive statements with the same SQL are batched, so a commit interleaving
+     * the statements of several tables, such as the secondary tables of a class, or the collection tables
+     * of its objects, executes many small batches.
+     * When grouped, a statement is batched with the previous statements with the same SQL,
+     * as long as the commit order of the classes allows it.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT) - only batch consecutive statements
+     * <li>"{@code true}" - group the statements by SQL
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_GROUPING = "eclipselink.jdbc.batch-writing.grouping";
+
     /**
      * The {@code jakarta.persistence.bean.manager} property is used to set
      * CDI BeanManager when available
@@ -2648,6 +2740,8 @@ public final class PersistenceUnitProperties {
      * <b>Allowed Values:</b>
      * <ul>
      * <li>{@code java-serialization} - use {@code org.eclipse.persistence.jpa.metadata.FileBasedProjectCache}
+     * <li>{@code binary} - use {@code org.eclipse.persistence.jpa.metadata.BinaryProjectCache}, a versioned file
+     * detecting changed classes, from which the descriptors are deserialized in parallel
      * <li>the fully qualified name for a class that implements {@code org.eclipse.persistence.jpa.metadata.ProjectCache} interface
      * </ul>
      *
@@ -2661,12 +2755,29 @@ public final class PersistenceUnitProperties {
      * <p>Specifies the name of the metadata repository xml file to read from using classloader to find the resource</p>
      *
      * <p>This property should be used in conjunction with
-     * {@code eclipselink.project-cache} when a project is serialized to a file for caching.</p>
+     * {@code eclipselink.project-cache} when a project is serialized to a file for caching,
+     * with the {@code java-serialization} or {@code binary} project cache.</p>
      *
      * @see #PROJECT_CACHE
      */
     public static final String PROJECT_CACHE_FILE = "eclipselink.project-cache.java-serialization.file-location";
 
+    /**
+     * The {@code eclipselink.archive.scan-index.file} property specifies the file of the index
+     * of the jar files scanned for the classes of the persistence unit.
+     * <p>
+     * The index holds the size, the last modified time, and the classes having class annotations
+     * of each jar file, so the other classes of the jar files unchanged since they were indexed
+     * are not read again on deployment. The jar files that changed are scanned and indexed again,
+     * the directories are always scanned. By default, no index is used.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>the path of the index file, created if it does not exist
+     * </ul>
+     */
+    public static final String ARCHIVE_SCAN_INDEX_FILE = "eclipselink.archive.scan-index.file";
+
     /**
      * The {@code eclipselink.temporal.mutable} property configures the
      * default for detecting changes to temporal field (Date, Calendar). Default
@@ -3409,6 +3520,48 @@ public final class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_FLUSH_MODE = "eclipselink.persistence-context.flush-mode";
 
+    /**
+     * The {@code eclipselink.persistence-context.parallel-change-calculation-threshold} property configures
+     * the number of registered objects from which the changes of a persistence context are calculated in parallel,
+     * on commit or flush.
+     * <p>
+     * The existing objects of entities that only have basic mappings, no event listeners, and no optimistic locking
+     * other than a version attribute, are compared to their backup copies by several threads of the fork-join common pool.
+     * The changes are then added to the change set in the same order as when calculated by a single thread.
+     * Other objects are always compared by the committing thread.
+     * Parallel calculation is only used if the common pool has more than one thread.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 0} (DEFAULT) - changes are always calculated by a single thread
+     * <li>a positive integer - the minimum number of registered objects to calculate the changes in parallel
+     * </ul>
+     * <p>
+     * The property set in persistence.xml or passed to
+     * createEntityManagerFactory affects all EntityManagers created by the factory.
+     *
+     * @see org.eclipse.persistence.internal.sessions.AbstractSession#setParallelChangeCalculationThreshold(int)
+     */
+    public static final String PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD = "eclipselink.persistence-context.parallel-change-calculation-threshold";
+
+    /**
+     * The {@code eclipselink.read.parallel-build.thread-pool-size} property configures the number of threads
+     * of the server session that build the objects of read queries using the
+     * {@link QueryHints#PARALLEL_BUILD eclipselink.read.parallel-build} query hint.
+     * The threads are created on first use, the calling thread of a query also builds objects.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a positive integer - the number of threads, by default the number of available processors
+     * </ul>
+     * <p>
+     * A managed executor can be used instead by a session customizer.
+     *
+     * @see org.eclipse.persistence.sessions.server.ServerSession#setObjectBuildThreadPoolSize(int)
+     * @see org.eclipse.persistence.sessions.server.ServerSession#setObjectBuildExecutor(java.util.concurrent.ExecutorService)
+     */
+    public static final String PARALLEL_BUILD_THREAD_POOL_SIZE = "eclipselink.read.parallel-build.thread-pool-size";
+
     /**
      * The {@code eclipselink.oracle.proxy-type} property is used to
      * specify proxy type that should be passed to
@@ -3704,6 +3857,33 @@ public final class PersistenceUnitProperties {
      */
     public static final String COORDINATION_ASYNCH = "eclipselink.cache.coordination.propagate-asynchronously";
 
+    /**
+     * The {@code eclipselink.cache.coordination.batch-window}
+     * property configures cache coordination for a clustered environment.
+     * <p>
+     * Set the time in milliseconds the changes propagated asynchronously are buffered,
+     * to be sent to the cluster in a single compressed message.
+     * The changes of an object replaced by later changes of the batch are not sent.
+     * By default, 0, the changes of each transaction are sent on commit.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setBatchWindow(long)
+     */
+    public static final String COORDINATION_BATCH_WINDOW = "eclipselink.cache.coordination.batch-window";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-size}
+     * property configures cache coordination for a clustered environment.
+     * <p>
+     * Set the maximum number of transactions of which the changes are buffered in a batch,
+     * when reached the batch is sent by the committing thread. The default is 100.
+     *
+     * @see #COORDINATION_BATCH_WINDOW
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch-size";
+
     /**
      * The {@code eclipselink.cache.coordination.thread.pool.size}
      * property configures thread pool size for cache coordination threads.
@@ -3729,11 +3909,14 @@ public final class PersistenceUnitProperties {
      * <p>
      * By default, Java serialization is used. Other serializer can be used for improved performance
      * or integration with other systems.
+     * The {@code org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer}
+     * writes the changes in a compact binary format, the nodes must have the same persistence unit.
      * <p>
      * The full class name of the serializer class should be provided.
      *
      * @see #COORDINATION_PROTOCOL
      * @see org.eclipse.persistence.sessions.serializers.Serializer
+     * @see org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer
      * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(org.eclipse.persistence.sessions.serializers.Serializer)
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -164,6 +164,16 @@ public final class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.invalidate-on-row-change"
+     * <p>Configures if a change to an object of the query class should only invalidate the query cache results affected by the change,
+     * i.e. the results containing the object, or that the object may now be selected by.
+     * <p>
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setInvalidateOnRowChange(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_INVALIDATE_ON_ROW_CHANGE = "eclipselink.query-results-cache.invalidate-on-row-change";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
@@ -334,6 +344,33 @@ public final class QueryHints {
      */
     public static final String BATCH_SIZE = "eclipselink.batch.size";
 
+    /**
+     * "eclipselink.batch.max-size"
+     * <p>Configures the max size the batch size can grow to for batch fetching using the IN batch type.
+     * When the parent rows do not fit in a batch, each subsequent batch grows to the number of rows
+     * already batched, doubling up to the max size, so iterating over many parent rows takes fewer round trips.
+     * Valid values are integer values {@literal >} 0.
+     * By default the batch size is fixed.
+     * @see #BATCH_SIZE
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setBatchFetchMaxSize(int)
+     */
+    public static final String BATCH_MAX_SIZE = "eclipselink.batch.max-size";
+
+    /**
+     * "eclipselink.batch.padding"
+     * <p>Configures the keys of batch fetching using the IN batch type to be padded to a power of two,
+     * capped by the batch size, so partial batches share a bounded number of SQL statements,
+     * reused from the statement cache and the database plan cache.
+     * Valid values are:
+     * <ul>
+     * <li>"false" (DEFAULT) - the IN clause has one parameter per key
+     * <li>"true" - the IN clause keys are padded by repeating the last key
+     * </ul>
+     * @see #BATCH_SIZE
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setShouldPadBatchFetchSize(boolean)
+     */
+    public static final String BATCH_PADDING = "eclipselink.batch.padding";
+
     /**
      * "eclipselink.join-fetch"
      * <p>Configures the query to optimize the retrieval of the related objects,
@@ -608,6 +645,23 @@ public final class QueryHints {
      */
     public static final String CURSOR_SIZE = "eclipselink.cursor.size-sql";
 
+    /**
+     * "eclipselink.cursor.release-size"
+     * <p>Configures the stream returned by getResultStream() to release the objects it returned
+     * from the persistence context, every release size objects.
+     * The released objects are detached, as by EntityManager.detach(), so the persistence context does
+     * not grow with the size of the result, and any changes made to them are not committed.
+     * The objects are still put in the shared cache, unless the READ_ONLY and MAINTAIN_CACHE hints are used
+     * to neither register nor cache them, in which case releasing them is not required.
+     * Valid values are Integer or Strings that can be parsed to int values,
+     * by default the objects are not released.
+     * @see #READ_ONLY
+     * @see #MAINTAIN_CACHE
+     * @see #JDBC_FETCH_SIZE
+     * @see "jakarta.persistence.Query#getResultStream()"
+     */
+    public static final String CURSOR_RELEASE_SIZE = "eclipselink.cursor.release-size";
+
     /**
      * "eclipselink.cursor.scrollable"
      * <p>Configures the query to return a ScrollableCursor.
@@ -922,6 +976,20 @@ public final class QueryHints {
      */
     public static final String RESULT_SET_ACCESS = "eclipselink.result-set-access";
 
+    /**
+     * "eclipselink.read.parallel-build"
+     * <p>Configures if this read all query builds the objects of a large result on concurrent threads.
+     * The rows are fetched first, then the objects are built in chunks by the calling thread and the threads
+     * of the server session's object build executor, the result keeps the order of the rows.
+     * Only used if the query reads through the connection pool of the server session (i.e. is read-only, or executed
+     * outside of a transaction, and the persistence unit is not exclusive isolated), and does not use join fetching or batch fetching.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     * @see org.eclipse.persistence.config.PersistenceUnitProperties#PARALLEL_BUILD_THREAD_POOL_SIZE
+     */
+    public static final String PARALLEL_BUILD = "eclipselink.read.parallel-build";
+
     /**
      * "eclipselink.serialized-object"
      * <p>Configures if this read object(s) query use SerializedObjectPolicy if it's set on the descriptor.
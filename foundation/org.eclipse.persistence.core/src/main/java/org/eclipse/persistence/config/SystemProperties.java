@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -271,6 +271,36 @@ public final class SystemProperties {
      */
     public static final String ASM_SERVICE = "eclipselink.asm.service";
 
+    /**
+     * <p>
+     * This property controls if the attributes of the classes that are not woven are accessed
+     * through generated classes, instead of reflection.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"{@code true}" (DEFAULT) - access the fields and methods through generated hidden classes,
+     * when the classes are opened to EclipseLink.</li>
+     * <li>"{@code false}" - access the fields and methods through reflection.</li>
+     * </ul>
+     */
+    public static final String GENERATE_ATTRIBUTE_ACCESSORS = "eclipselink.accessors.generate";
+
+    /**
+     * <p>
+     * This property controls if the objects read are built by materializers specialized for their descriptor
+     * and the mappings read, setting their direct attributes through generated classes.
+     * The attribute accessors must also be generated, see {@link #GENERATE_ATTRIBUTE_ACCESSORS}.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"{@code true}" (DEFAULT) - build the direct attributes of the objects through generated materializers.</li>
+     * <li>"{@code false}" - build each attribute of the objects through its mapping.</li>
+     * </ul>
+     */
+    public static final String GENERATE_OBJECT_MATERIALIZERS = "eclipselink.materializers.generate";
+
     private SystemProperties() {
         // no instance please
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -32,6 +32,8 @@
 public class CacheIndex implements Cloneable, Serializable {
     protected boolean isUpdateable = true;
     protected boolean isInsertable = true;
+    /** Allows range and prefix lookups on the first indexed field. */
+    protected boolean isOrdered;
 
     protected List<DatabaseField> fields;
     /** Allows the cache size to be set. */
@@ -95,6 +97,23 @@ public void setIsInsertable(boolean isInsertable) {
         this.isInsertable = isInsertable;
     }
 
+    /**
+     * Return if the index is ordered.
+     */
+    public boolean isOrdered() {
+        return isOrdered;
+    }
+
+    /**
+     * Set if the index is ordered.
+     * An ordered index also keeps the indexed objects sorted on the value of the first indexed field,
+     * so in-memory queries on a range (BETWEEN, &lt;, &gt;=) or prefix (LIKE 'abc%') of the field
+     * only conform the objects in the range, instead of every object in the cache.
+     */
+    public void setIsOrdered(boolean isOrdered) {
+        this.isOrdered = isOrdered;
+    }
+
     /**
      * ADVANCED:
      * Return the type of the cache used for the index.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -1028,6 +1028,18 @@ public void useHardCacheWeakIdentityMap() {
         setIdentityMapClass(ClassConstants.HardCacheWeakIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the segmented cache identity map.
+     * This map caches the LRU instances read from the database,
+     * without locking on cache hits.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useSegmentedCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.SegmentedCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the soft identity map.
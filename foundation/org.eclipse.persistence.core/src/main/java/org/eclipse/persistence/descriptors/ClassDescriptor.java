@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -49,6 +49,8 @@
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.descriptors.copying.CloneCopyPolicy;
 import org.eclipse.persistence.descriptors.copying.CopyPolicy;
@@ -3275,6 +3277,11 @@ public void initialize(AbstractSession session) throws DescriptorException {
                 }
             }
         }
+        // Or to dirty attribute tracking if weaved to flag the changed attributes.
+        if ((getObjectChangePolicyInternal() == null) && (DirtyAttributeTracker.class.isAssignableFrom(getJavaClass()))
+                && Arrays.asList(getJavaClass().getInterfaces()).contains(PersistenceWeavedChangeTracking.class)) {
+            setObjectChangePolicy(new DirtyAttributeTrackingPolicy());
+        }
         // 3934266 move validation to the policy allowing for this to be done in the sub policies.
         getObjectChangePolicy().initialize(session, this);
 
@@ -5516,6 +5523,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using SegmentedCacheIdentityMap
+     */
+    public boolean shouldUseSegmentedCacheIdentityMap() {
+        return ClassConstants.SegmentedCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5692,6 +5707,18 @@ public void useCacheIdentityMap() {
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the segmented cache identity map.
+     * This map caches the LRU instances read from the database like the cache identity map,
+     * but does not lock on cache hits, so should be used for concurrently read classes.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useSegmentedCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.SegmentedCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
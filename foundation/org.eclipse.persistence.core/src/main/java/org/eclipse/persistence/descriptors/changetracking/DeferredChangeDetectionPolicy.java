@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,6 +17,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
@@ -111,6 +112,16 @@ public ObjectChangeSet calculateChanges(Object clone, Object backUp, boolean isN
                 }
             }
         }
+        return completeChanges(changes, clone, isNew, unitOfWork, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Validate the changes of the object, once its mappings have been compared,
+     * and flag the changes forced by its locking.
+     * @return the changes, or null if the object has no changes
+     */
+    protected ObjectChangeSet completeChanges(ObjectChangeSet changes, Object clone, boolean isNew, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
         //Check if the user set the PK to null and throw an exception (bug# 4569755)
         if (changes.getId() == null && !isNew && !changes.isAggregate()) {
             if(!(unitOfWork.isNestedUnitOfWork()) || (unitOfWork.isNestedUnitOfWork() && !(unitOfWork.isNewObjectInParent(clone)|| unitOfWork.isUnregisteredNewObjectInParent(unitOfWork.getCloneToOriginals().get(clone))))) {
@@ -185,23 +196,94 @@ public ObjectChangeSet createObjectChangeSetThroughComparison(Object clone, Obje
 
         // PERF: Do not create change records for new objects.
         if (!isNew || descriptor.shouldUseFullChangeSetsForNewObjects() || descriptor.isDescriptorTypeAggregate()) {
-            // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
-            List<DatabaseMapping> mappings = descriptor.getMappings();
-            int mappingsSize = mappings.size();
             if(shouldGetFetchGroup && descriptor.hasFetchGroupManager()) {
                 fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
             }
-            for (int index = 0; index < mappingsSize; index++) {
-                DatabaseMapping mapping = mappings.get(index);
-                if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
-                    changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
-                }
+            compareMappingsForChange(changes, clone, backUp, fetchGroup, session, descriptor);
+        }
+
+        return changes;
+    }
+
+    /**
+     * INTERNAL:
+     * Compare the mappings of the object to its backup clone, and add their changes to the object change set.
+     * Only the attributes of the fetch group are compared, if the object was partially fetched.
+     */
+    protected void compareMappingsForChange(ObjectChangeSet changes, Object clone, Object backUp, FetchGroup fetchGroup, AbstractSession session, ClassDescriptor descriptor) {
+        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        int mappingsSize = mappings.size();
+        for (int index = 0; index < mappingsSize; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the changes of the existing objects of the descriptor can be compared concurrently,
+     * by {@link #calculateChangesConcurrently}.
+     * Comparing the objects must only read them, so the descriptor must have no event listeners,
+     * and only direct mappings, with its version stored in the object.
+     */
+    public boolean canCalculateChangesConcurrently(ClassDescriptor descriptor) {
+        if (!isDeferredChangeDetectionPolicy() || descriptor.isDescriptorTypeAggregate() || descriptor.getEventManager().hasAnyEventListeners()
+                || descriptor.hasDerivedId() || descriptor.hasCascadeLockingPolicies() || descriptor.hasMappingsPostCalculateChanges()) {
+            return false;
+        }
+        if (descriptor.usesOptimisticLocking() && !((descriptor.getOptimisticLockingPolicy() instanceof VersionLockingPolicy)
+                && ((VersionLockingPolicy) descriptor.getOptimisticLockingPolicy()).isStoredInObject())) {
+            return false;
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (!mapping.isDirectToFieldMapping() || mapping.isDirectToXMLTypeMapping()) {
+                return false;
             }
         }
+        return true;
+    }
 
+    /**
+     * INTERNAL:
+     * Compare the existing object to its backup clone, into changes that are not yet part of the change set.
+     * This only reads the objects, so can be called concurrently for objects of a descriptor that
+     * {@link #canCalculateChangesConcurrently}, the changes are then added to the change set by {@link #mergeConcurrentChanges}.
+     */
+    public ObjectChangeSet calculateChangesConcurrently(Object clone, Object backUp, UnitOfWorkChangeSet changeSet, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        ObjectChangeSet changes = new ObjectChangeSet(descriptor.getObjectBuilder().extractPrimaryKeyFromObject(clone, unitOfWork, true), descriptor, clone, changeSet, false);
+        FetchGroup fetchGroup = null;
+        if (descriptor.hasFetchGroupManager()) {
+            fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
+        }
+        if (descriptor.usesOptimisticLocking() && (changes.getId() != null)
+                && ((fetchGroup == null) || (fetchGroup != descriptor.getFetchGroupManager().getIdEntityFetchGroup()))) {
+            changes.setOptimisticLockingPolicyAndInitialWriteLockValue(descriptor.getOptimisticLockingPolicy(), unitOfWork);
+        }
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        int mappingsSize = mappings.size();
+        for (int index = 0; index < mappingsSize; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                changes.addChange(mapping.compareForChange(clone, backUp, changes, unitOfWork));
+            }
+        }
         return changes;
     }
 
+    /**
+     * INTERNAL:
+     * Add the changes calculated by {@link #calculateChangesConcurrently} to the change set, on the unit of work's thread.
+     * @return the changes, or null if the object has no changes
+     */
+    public ObjectChangeSet mergeConcurrentChanges(ObjectChangeSet changes, UnitOfWorkChangeSet changeSet, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        Object clone = changes.getUnitOfWorkClone();
+        changeSet.addObjectChangeSetForIdentity(changes, clone);
+        return completeChanges(changes, clone, false, unitOfWork, descriptor);
+    }
+
     /**
      * INTERNAL:
      * This method is used to disable changetracking temporarily
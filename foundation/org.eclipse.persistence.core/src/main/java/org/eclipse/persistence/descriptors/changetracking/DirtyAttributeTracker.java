@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.changetracking;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Define an interface for any object that wishes to use dirty attribute tracking.
+ * <p>
+ * <b>Description</b>: The object flags its changed attributes in a bitmask, one bit per attribute,
+ * that its setters update when the bitmask is set, without creating any event.
+ * Attribute <code>i</code> is flagged by <code>dirtyAttributes[i / 64] |= 1L &lt;&lt; (i % 64)</code>.
+ * This interface is implemented by weaving when the {@link DirtyAttributeTrackingPolicy} is used.
+ *
+ * @see DirtyAttributeTrackingPolicy
+ */
+public interface DirtyAttributeTracker {
+
+    /**
+     * PUBLIC:
+     * Return the bitmask of the attributes changed since the object was registered,
+     * or null if the changes of the object are not tracked.
+     */
+    long[] _persistence_getDirtyAttributes();
+
+    /**
+     * PUBLIC:
+     * Set the bitmask of the changed attributes of the object, null stops tracking its changes.
+     */
+    void _persistence_setDirtyAttributes(long[] dirtyAttributes);
+
+    /**
+     * PUBLIC:
+     * Return the names of the attributes by bit index.
+     * The index of an attribute which changes are not flagged by the object is null.
+     */
+    String[] _persistence_getDirtyAttributeNames();
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.changetracking;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PUBLIC:
+ * A DirtyAttributeTrackingPolicy compares only the changed attributes of an object
+ * implementing {@link DirtyAttributeTracker} to its backup clone.
+ * The setters of the object flag its changed attributes in a bitmask, without creating any event or change record,
+ * so setting an attribute does not allocate, and the changes are only calculated in the UnitOfWork commit process,
+ * for the flagged attributes.
+ * Objects without flagged attributes are ignored.
+ * <p>
+ * Only the immutable direct attributes are flagged, the other mappings,
+ * such as relationships, whose values can be changed without calling a setter, are always compared.
+ * As with {@link AttributeChangeTrackingPolicy}, the direct attributes changed without calling their setters,
+ * such as through reflection, are not detected.
+ * If the object does not implement {@link DirtyAttributeTracker}, all the mappings are compared, as in {@link DeferredChangeDetectionPolicy}.
+ * @see DeferredChangeDetectionPolicy
+ * @see AttributeChangeTrackingPolicy
+ * @see DirtyAttributeTracker
+ */
+public class DirtyAttributeTrackingPolicy extends DeferredChangeDetectionPolicy {
+
+    /** The mappings flagged, and always compared, by the class of the objects. */
+    protected transient Map<Class<?>, DirtyAttributeMappings> dirtyAttributeMappings;
+
+    public DirtyAttributeTrackingPolicy() {
+        super();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the mappings of the object's attributes by bit index, and the mappings always compared.
+     */
+    protected DirtyAttributeMappings getDirtyAttributeMappings(DirtyAttributeTracker tracker, ClassDescriptor descriptor) {
+        Map<Class<?>, DirtyAttributeMappings> mappingsByClass = this.dirtyAttributeMappings;
+        if (mappingsByClass == null) {
+            mappingsByClass = new ConcurrentHashMap<>();
+            this.dirtyAttributeMappings = mappingsByClass;
+        }
+        DirtyAttributeMappings mappings = mappingsByClass.get(tracker.getClass());
+        if (mappings == null) {
+            mappings = new DirtyAttributeMappings(tracker._persistence_getDirtyAttributeNames(), descriptor);
+            mappingsByClass.put(tracker.getClass(), mappings);
+        }
+        return mappings;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the bitmask of the changed attributes of the object, or null if its changes are not tracked.
+     */
+    protected long[] getDirtyAttributes(Object object) {
+        if (object instanceof DirtyAttributeTracker) {
+            return ((DirtyAttributeTracker)object)._persistence_getDirtyAttributes();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Flag all the attributes of the object as changed.
+     * This is used when the object is changed without its setters, such as when an object is merged into it.
+     */
+    public void setAllAttributesDirty(Object object) {
+        long[] dirtyAttributes = getDirtyAttributes(object);
+        if (dirtyAttributes != null) {
+            Arrays.fill(dirtyAttributes, -1L);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Compare only the flagged, and always compared, mappings of an existing tracked object.
+     */
+    @Override
+    protected void compareMappingsForChange(ObjectChangeSet changes, Object clone, Object backUp, FetchGroup fetchGroup, AbstractSession session, ClassDescriptor descriptor) {
+        long[] dirtyAttributes = getDirtyAttributes(clone);
+        if ((dirtyAttributes == null) || changes.isNew() || descriptor.isDescriptorTypeAggregate()) {
+            super.compareMappingsForChange(changes, clone, backUp, fetchGroup, session, descriptor);
+            return;
+        }
+        DirtyAttributeMappings mappings = getDirtyAttributeMappings((DirtyAttributeTracker)clone, descriptor);
+        for (DatabaseMapping mapping : mappings.comparedMappings) {
+            if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
+            }
+        }
+        DatabaseMapping[] flaggedMappings = mappings.flaggedMappings;
+        for (int word = 0; word < dirtyAttributes.length; word++) {
+            long bits = dirtyAttributes[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                DatabaseMapping mapping = (index < flaggedMappings.length) ? flaggedMappings[index] : null;
+                if ((mapping != null) && ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName()))) {
+                    changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Only the flagged attributes are compared, on the unit of work's thread.
+     */
+    @Override
+    public boolean canCalculateChangesConcurrently(ClassDescriptor descriptor) {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the flagged attributes of the object, it is now the same as its backup clone.
+     */
+    @Override
+    public void clearChanges(Object object, UnitOfWorkImpl uow, ClassDescriptor descriptor, boolean forRefresh) {
+        long[] dirtyAttributes = getDirtyAttributes(object);
+        if (dirtyAttributes != null) {
+            Arrays.fill(dirtyAttributes, 0L);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Build the backup clone, and start tracking the changes of the clone from it.
+     */
+    @Override
+    public Object buildBackupClone(Object clone, ObjectBuilder builder, UnitOfWorkImpl uow) {
+        Object backupClone = super.buildBackupClone(clone, builder, uow);
+        if (clone instanceof DirtyAttributeTracker) {
+            DirtyAttributeTracker tracker = (DirtyAttributeTracker)clone;
+            long[] dirtyAttributes = tracker._persistence_getDirtyAttributes();
+            if (dirtyAttributes == null) {
+                tracker._persistence_setDirtyAttributes(getDirtyAttributeMappings(tracker, builder.getDescriptor()).newDirtyAttributes());
+            } else {
+                Arrays.fill(dirtyAttributes, 0L);
+            }
+        }
+        return backupClone;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the bitmask of the clone, the listener of this policy.
+     */
+    @Override
+    public PropertyChangeListener setChangeListener(Object clone, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        if (clone instanceof DirtyAttributeTracker) {
+            DirtyAttributeTracker tracker = (DirtyAttributeTracker)clone;
+            tracker._persistence_setDirtyAttributes(getDirtyAttributeMappings(tracker, descriptor).newDirtyAttributes());
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Flag the attribute changed.
+     */
+    @Override
+    public void raiseInternalPropertyChangeEvent(Object source, String propertyName, Object oldValue, Object newValue) {
+        long[] dirtyAttributes = getDirtyAttributes(source);
+        if (dirtyAttributes != null) {
+            DirtyAttributeMappings mappings = (this.dirtyAttributeMappings == null) ? null : this.dirtyAttributeMappings.get(source.getClass());
+            String[] names = (mappings == null) ? ((DirtyAttributeTracker)source)._persistence_getDirtyAttributeNames() : mappings.names;
+            for (int index = 0; index < names.length; index++) {
+                if (propertyName.equals(names[index])) {
+                    dirtyAttributes[index >> 6] |= 1L << index;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if the object has flagged attributes, or mappings that are always compared,
+     * or its update is forced.
+     */
+    @Override
+    public boolean shouldCompareExistingObjectForChange(Object object, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        long[] dirtyAttributes = getDirtyAttributes(object);
+        if (dirtyAttributes == null) {
+            return true;
+        }
+        for (long bits : dirtyAttributes) {
+            if (bits != 0) {
+                return true;
+            }
+        }
+        if (getDirtyAttributeMappings((DirtyAttributeTracker)object, descriptor).comparedMappings.length > 0) {
+            return true;
+        }
+        // Need to always build change set for those that are being forced to updated (opt. read lock and forceUpdate).
+        if (unitOfWork.hasOptimisticReadLockObjects() && unitOfWork.getOptimisticReadLockObjects().containsKey(object)) {
+            return true;
+        }
+        return (descriptor.getCMPPolicy() != null) && descriptor.getCMPPolicy().getForceUpdate();
+    }
+
+    /**
+     * INTERNAL:
+     * The mappings of the attributes flagged by the objects of a class, by bit index,
+     * and the mappings of the attributes that are not flagged, so always compared.
+     */
+    protected static class DirtyAttributeMappings {
+
+        /** The name of the attribute of each bit index. */
+        protected final String[] names;
+
+        /** The mapping of each bit index, null if the changes of its attribute are not flagged. */
+        protected final DatabaseMapping[] flaggedMappings;
+
+        /** The mappings always compared. */
+        protected final DatabaseMapping[] comparedMappings;
+
+        protected DirtyAttributeMappings(String[] names, ClassDescriptor descriptor) {
+            this.names = names;
+            this.flaggedMappings = new DatabaseMapping[names.length];
+            List<DatabaseMapping> compared = new ArrayList<>(descriptor.getMappings());
+            for (int index = 0; index < names.length; index++) {
+                DatabaseMapping mapping = (names[index] == null) ? null : descriptor.getObjectBuilder().getMappingForAttributeName(names[index]);
+                // Only immutable direct values are always changed through the setters.
+                if ((mapping != null) && mapping.isDirectToFieldMapping() && !mapping.isDirectToXMLTypeMapping() && !((AbstractDirectMapping)mapping).isMutable()) {
+                    this.flaggedMappings[index] = mapping;
+                    compared.remove(mapping);
+                }
+            }
+            this.comparedMappings = compared.toArray(new DatabaseMapping[0]);
+        }
+
+        /**
+         * Return an empty bitmask for the attributes.
+         */
+        protected long[] newDirtyAttributes() {
+            return new long[(this.flaggedMappings.length + 63) >> 6];
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -69,11 +69,8 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Vector;
 
 import static org.eclipse.persistence.internal.helper.DatabaseField.NULL_SQL_TYPE;
@@ -106,7 +103,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public static boolean shouldUseDynamicStatements = true;
 
     /** Stores statement handles for common used prepared statements. */
-    protected Map<String, Statement> statementCache;
+    protected StatementCache statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
@@ -158,7 +155,12 @@ protected DynamicSQLBatchWritingMechanism getDynamicSQLMechanism() {
      */
     protected ParameterizedSQLBatchWritingMechanism getParameterizedMechanism() {
         if (this.parameterizedMechanism == null) {
-            this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            DatabasePlatform platform = getPlatform();
+            if (platform.usesMultiRowInsertBatchWriting() && platform.supportsMultiRowInsert()) {
+                this.parameterizedMechanism = new MultiRowInsertBatchWritingMechanism(this);
+            } else {
+                this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            }
         }
         return this.parameterizedMechanism;
     }
@@ -350,7 +352,7 @@ protected void checkTransactionIsolation(AbstractSession session) throws Databas
      */
     public void clearStatementCache(AbstractSession session) {
         if (hasStatementCache()) {
-            for (Statement statement : getStatementCache().values()) {
+            for (Statement statement : this.statementCache.clear()) {
                 try {
                     statement.close();
                 } catch (SQLException exception) {
@@ -1561,11 +1563,15 @@ protected boolean hasStatementCache() {
     }
 
     /**
-     * The statement cache stores a fixed sized number of prepared statements.
+     * The statement cache stores a fixed sized number of prepared statements, evicting the least recently used.
+     * It is sized for the connection by the platform.
      */
-    protected synchronized Map<String, Statement> getStatementCache() {
+    protected synchronized StatementCache getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            DatabasePlatform platform = getPlatform();
+            Connection connection = getConnection();
+            int size = (connection == null) ? platform.getStatementCacheSize() : platform.getStatementCacheSize(connection);
+            statementCache = new StatementCache(size, platform.getStatementCacheStatistics());
         }
         return statementCache;
     }
@@ -1707,15 +1713,9 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session) th
     public Statement prepareStatement(DatabaseCall call, AbstractSession session, boolean unwrapConnection) throws SQLException {
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
-            // Check the cache by sql string, must synchronize check and removal.
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
-            }
+            // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
+            statement = getStatementCache().checkOut(call.getSQLString());
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1761,16 +1761,10 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
      */
     public PreparedStatement prepareStatement(String sql, AbstractSession session, boolean callable) throws SQLException {
         PreparedStatement statement = null;
-        // Check the cache by sql string, must synchronize check and removal.
-        if (getPlatform().shouldCacheAllStatements()) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
-            }
+        // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
+        if (getPlatform().shouldCacheAllStatements() && !getPlatform().usesDriverStatementCache()) {
+            statement = (PreparedStatement)getStatementCache().checkOut(sql);
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1825,29 +1819,27 @@ protected void reconnect(AbstractSession session) {
      * Release the statement through closing it or putting it back in the statement cache.
      */
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
-        if (((call == null) && getPlatform().shouldCacheAllStatements())
+        if (((call == null) && getPlatform().shouldCacheAllStatements() && !getPlatform().usesDriverStatementCache())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
-                    preparedStatement.clearParameters();
-                    // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
-                    if (call != null) {
-                        resetStatementFromCall(preparedStatement, call);
-                    }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
-                        closeStatement(removedStatement, session, call);
-                    } else {
-                        decrementCallCount();
-                    }
-                    statementCache.put(sqlString, preparedStatement);
-                } else {
-                    // CR... Must close the statement if not cached.
-                    closeStatement(statement, session, call);
-                }
+            StatementCache statementCache = getStatementCache();
+            PreparedStatement preparedStatement = (PreparedStatement)statement;
+            preparedStatement.clearParameters();
+            // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
+            if (call != null) {
+                resetStatementFromCall(preparedStatement, call);
+            }
+            Statement removedStatement = statementCache.checkIn(sqlString, preparedStatement);
+            if (removedStatement == null) {
+                decrementCallCount();
+            } else if (removedStatement == preparedStatement) {
+                // CR... Must close the statement if not cached, it may already be there by other thread.
+                closeStatement(statement, session, call);
+            } else {
+                // The least recently used statement was evicted.
+                long start = System.nanoTime();
+                closeStatement(removedStatement, session, call);
+                statementCache.getStatistics().recordEvictionClose(System.nanoTime() - start);
+                session.incrementProfile(SessionProfiler.StatementCacheEvictions);
             }
         } else if (statement == this.dynamicStatement) {
             // The dynamic statement is cached and only closed on disconnect.
@@ -1943,7 +1935,7 @@ public void setActiveBatchWritingMechanism(BatchWritingMechanism mechanism) {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected void setStatementCache(Hashtable<String, Statement> statementCache) {
+    protected void setStatementCache(StatementCache statementCache) {
         this.statementCache = statementCache;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -1027,6 +1027,10 @@ public boolean shouldCacheStatement(DatabasePlatform databasePlatform) {
         if (isResultSetScrollable()) {
             return false;
         }
+        // Statements are cached by the driver.
+        if (databasePlatform.usesDriverStatementCache()) {
+            return false;
+        }
         if (this.shouldCacheStatement == null) {
             return databasePlatform.shouldCacheAllStatements();
         } else {
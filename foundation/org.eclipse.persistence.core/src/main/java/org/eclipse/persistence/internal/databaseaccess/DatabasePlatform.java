@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -93,6 +93,7 @@
 import java.sql.Array;
 import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.Ref;
 import java.sql.ResultSet;
@@ -156,6 +157,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** The statement cache size for prepare parameterized statements. */
     protected int statementCacheSize;
 
+    /** Defer statement caching to the JDBC driver, if the platform supports it. */
+    protected boolean shouldUseDriverStatementCache;
+
+    /** Statistics of the statement caches of all connections using this platform. */
+    protected transient volatile StatementCache.Statistics statementCacheStatistics;
+
     /** Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases. */
     protected boolean shouldForceFieldNamesToUpperCase;
 
@@ -183,6 +190,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** bug 4241441: Allow custom batch writing to enable batching with optimistic locking. **/
     protected boolean usesNativeBatchWriting;
 
+    /** Allow the batched inserts to be executed as multi-row inserts, if supported by the platform. **/
+    protected boolean usesMultiRowInsertBatchWriting;
+
+    /** Allow the statements batched in a commit to be grouped by SQL across classes. **/
+    protected boolean shouldGroupBatchedStatements;
+
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
@@ -297,6 +310,7 @@ public DatabasePlatform() {
         this.shouldCacheAllStatements = false;
         this.shouldOptimizeDataConversion = true;
         this.statementCacheSize = 50;
+        this.shouldUseDriverStatementCache = false;
         this.shouldForceFieldNamesToUpperCase = false;
         this.maxBatchWritingSize = 0;
         this.usesJDBCBatchWriting = true;
@@ -304,6 +318,8 @@ public DatabasePlatform() {
         this.cursorCode = -10;
         this.supportsAutoCommit = true;
         this.usesNativeBatchWriting = false;
+        this.shouldGroupBatchedStatements = false;
+        this.usesMultiRowInsertBatchWriting = false;
         this.castSizeForVarcharParameter = 32672;
         this.startDelimiter = "\"";
         this.endDelimiter = "\"";
@@ -791,6 +807,7 @@ public void copyInto(Platform platform) {
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
+        databasePlatform.setShouldUseDriverStatementCache(shouldUseDriverStatementCache());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
@@ -800,6 +817,8 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setShouldGroupBatchedStatements(shouldGroupBatchedStatements());
+        databasePlatform.setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1406,6 +1425,41 @@ public int getStatementCacheSize() {
         return statementCacheSize;
     }
 
+    /**
+     * INTERNAL:
+     * Return the size of the statement cache of the connection.
+     * This is the statement cache size, bounded by the maximum number of statements the driver allows to be open
+     * on a connection, leaving one for statements that are not cached.
+     */
+    public int getStatementCacheSize(Connection connection) {
+        int size = getStatementCacheSize();
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            int maxStatements = (metaData == null) ? 0 : metaData.getMaxStatements();
+            if (maxStatements > 0) {
+                size = Math.min(size, maxStatements - 1);
+            }
+        } catch (SQLException exception) {
+            // The limit is unknown, use the configured size.
+        }
+        return size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the statistics of the statement caches of all connections using this platform.
+     */
+    public StatementCache.Statistics getStatementCacheStatistics() {
+        if (this.statementCacheStatistics == null) {
+            synchronized (this) {
+                if (this.statementCacheStatistics == null) {
+                    this.statementCacheStatistics = new StatementCache.Statistics();
+                }
+            }
+        }
+        return this.statementCacheStatistics;
+    }
+
     public String getStoredProcedureParameterPrefix() {
         return "";
     }
@@ -1853,6 +1907,41 @@ public void setStatementCacheSize(int statementCacheSize) {
         this.statementCacheSize = statementCacheSize;
     }
 
+    /**
+     * PUBLIC:
+     * Set if statement caching should be left to the JDBC driver.
+     * If the platform supports the driver statement cache, EclipseLink will close statements
+     * instead of caching them, so the driver can cache them.
+     * @see #supportsDriverStatementCache()
+     */
+    public void setShouldUseDriverStatementCache(boolean shouldUseDriverStatementCache) {
+        this.shouldUseDriverStatementCache = shouldUseDriverStatementCache;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if statement caching should be left to the JDBC driver.
+     */
+    public boolean shouldUseDriverStatementCache() {
+        return shouldUseDriverStatementCache;
+    }
+
+    /**
+     * Return if the JDBC driver of the platform caches prepared statements of a connection itself,
+     * so closing a statement does not discard the prepared statement.
+     */
+    public boolean supportsDriverStatementCache() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if statements are cached by the JDBC driver instead of EclipseLink.
+     */
+    public boolean usesDriverStatementCache() {
+        return this.shouldUseDriverStatementCache && supportsDriverStatementCache();
+    }
+
     public void setStringBindingSize(int aSize) {
         stringBindingSize = aSize;
     }
@@ -1920,6 +2009,76 @@ public void setUsesNativeBatchWriting(boolean usesNativeBatchWriting){
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * PUBLIC:
+     * Set if the parameterized statements batched in a unit of work commit should be grouped by SQL across classes.
+     * By default only consecutive statements with the same SQL are batched.
+     * When grouped, a statement is added to the batch of a previous statement with the same SQL,
+     * as long as the commit order allows it to be executed before the statements batched after it,
+     * so a commit of objects of several related classes is executed in fewer, larger batches.
+     * This requires parameterized batch writing.
+     */
+    public void setShouldGroupBatchedStatements(boolean shouldGroupBatchedStatements) {
+        this.shouldGroupBatchedStatements = shouldGroupBatchedStatements;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the parameterized statements batched in a unit of work commit are grouped by SQL across classes.
+     */
+    public boolean shouldGroupBatchedStatements() {
+        return shouldGroupBatchedStatements;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the batched parameterized inserts should be executed as multi-row inserts,
+     * a single {@code INSERT ... VALUES (...), (...)} statement binding the values of all the rows,
+     * instead of a JDBC batch of one statement per row.
+     * This is only used if the platform {@link #supportsMultiRowInsert()},
+     * and requires parameterized batch writing.
+     * The rows are split in several statements by the limits of the platform on the bound parameters and rows.
+     * @see #getMaxMultiRowInsertParameters()
+     * @see #getMaxMultiRowInsertRows()
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        this.usesMultiRowInsertBatchWriting = usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the batched parameterized inserts are executed as multi-row inserts.
+     */
+    public boolean usesMultiRowInsertBatchWriting() {
+        return usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * INTERNAL:
+     * Indicates whether the platform supports inserting several rows with a single
+     * {@code INSERT ... VALUES (...), (...)} statement.
+     * Override this method if the platform supports multi-row inserts.
+     */
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of parameters bound to a multi-row insert.
+     */
+    public int getMaxMultiRowInsertParameters() {
+        return 2000;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows of a multi-row insert.
+     */
+    public int getMaxMultiRowInsertRows() {
+        return 1000;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * INTERNAL:
+ * <p>MultiRowInsertBatchWritingMechanism is a private class, used by the DatabaseAccessor when the platform
+ * uses and supports multi-row inserts. It batches the statements as {@link ParameterizedSQLBatchWritingMechanism},
+ * but executes a batch of inserts as multi-row inserts, {@code INSERT INTO T (A, B) VALUES (?, ?), (?, ?)},
+ * binding the values of all the rows, instead of a JDBC batch of one statement per row,
+ * as many drivers send each statement of a JDBC batch to the database.</p>
+ * <p>The rows are split in several statements by the limits of the platform on the bound parameters and rows.
+ * The inserts returning values, or whose values are not only a list of parameters,
+ * and the other statements, are executed as a JDBC batch.</p>
+ *
+ * @see DatabasePlatform#setUsesMultiRowInsertBatchWriting(boolean)
+ */
+public class MultiRowInsertBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    public MultiRowInsertBatchWritingMechanism() {
+        super();
+    }
+
+    public MultiRowInsertBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batched inserts as multi-row inserts, and the other batches as a JDBC batch.
+     */
+    @Override
+    protected void executeBatch(AbstractSession session) {
+        int valuesIndex = (this.parameters.size() > 1) ? getValuesIndex(this.previousCall) : -1;
+        if (valuesIndex < 0) {
+            super.executeBatch(session);
+            return;
+        }
+        try {
+            DatabasePlatform platform = this.databaseAccessor.getPlatform();
+            String sql = this.previousCall.getSQLString();
+            String insert = sql.substring(0, valuesIndex);
+            String values = sql.substring(valuesIndex);
+            int parameterCount = this.parameters.get(0).size();
+            int rowsPerStatement = Math.max(1, Math.min(platform.getMaxMultiRowInsertRows(), platform.getMaxMultiRowInsertParameters() / parameterCount));
+            int size = this.parameters.size();
+            String multiRowSQL = null;
+            for (int start = 0; start < size; start += rowsPerStatement) {
+                int rows = Math.min(rowsPerStatement, size - start);
+                // The full statements share the same SQL, so the same cached statement.
+                if ((multiRowSQL == null) || (rows < rowsPerStatement)) {
+                    multiRowSQL = buildMultiRowSQL(insert, values, rows);
+                }
+                List<Object> rowParameters = new ArrayList<>(rows * parameterCount);
+                for (int index = start; index < start + rows; index++) {
+                    rowParameters.addAll(this.parameters.get(index));
+                }
+                DatabaseCall call = (DatabaseCall)this.previousCall.clone();
+                call.setSQLStringInternal(multiRowSQL);
+                call.setParameters(rowParameters);
+                session.incrementProfile(SessionProfiler.StatementBatches);
+                Object rowCount = this.databaseAccessor.basicExecuteCall(call, null, session, false);
+                if (this.previousCall.hasOptimisticLock() && (rowCount instanceof Integer) && ((Integer)rowCount != rows)) {
+                    throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(null, this.parameters.subList(start, start + rows), sql);
+                }
+            }
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the values of the insert, or -1 if the statement cannot be executed as a multi-row insert.
+     * The values must only be the parameters of the call, at the end of the statement.
+     */
+    protected int getValuesIndex(DatabaseCall call) {
+        if (call.shouldReturnGeneratedKeys() || call.isCallableStatementRequired() || call.isResultSetScrollable()) {
+            return -1;
+        }
+        String sql = call.getSQLString();
+        if ((sql == null) || !sql.regionMatches(true, 0, "INSERT", 0, 6) || !sql.endsWith(")")) {
+            return -1;
+        }
+        int index = sql.lastIndexOf("VALUES (");
+        if (index < 0) {
+            return -1;
+        }
+        int valuesIndex = index + 7;
+        int parameterCount = 0;
+        for (int position = valuesIndex + 1; position < sql.length() - 1; position++) {
+            char character = sql.charAt(position);
+            if (character == '?') {
+                parameterCount++;
+            } else if ((character != ',') && (character != ' ')) {
+                return -1;
+            }
+        }
+        if ((parameterCount == 0) || (parameterCount != this.parameters.get(0).size())) {
+            return -1;
+        }
+        return valuesIndex;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the insert with the values repeated for each row.
+     */
+    protected String buildMultiRowSQL(String insert, String values, int rows) {
+        StringBuilder sql = new StringBuilder(insert.length() + (values.length() + 2) * rows);
+        sql.append(insert);
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(values);
+        }
+        return sql.toString();
+    }
+}
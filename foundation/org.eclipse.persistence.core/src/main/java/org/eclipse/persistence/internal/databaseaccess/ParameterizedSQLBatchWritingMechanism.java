@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2022 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,6 +23,7 @@
 import org.eclipse.persistence.queries.ModifyQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.DeleteObjectQuery;
+import org.eclipse.persistence.queries.ObjectLevelModifyQuery;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 import org.eclipse.persistence.sessions.SessionProfiler;
 
@@ -30,7 +31,10 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * INTERNAL:
@@ -54,6 +58,15 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     protected List<List> parameters;
     protected DatabaseCall lastCallAppended;
 
+    /** Allow the statements of a commit to be grouped by SQL across classes. */
+    protected boolean shouldGroupStatements;
+
+    /** The groups of the statements batched by SQL in a commit, in execution order. */
+    protected List<StatementGroup> groups;
+
+    /** The last group of each SQL, the group the statements with this SQL can be added to. */
+    protected Map<String, StatementGroup> groupsBySQL;
+
     public ParameterizedSQLBatchWritingMechanism() {
         super();
     }
@@ -66,6 +79,7 @@ public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor)
             // the max size was not set on the platform - use default
             this.maxBatchSize = DatabasePlatform.DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE;
         }
+        this.shouldGroupStatements = this.databaseAccessor.getLogin().getPlatform().shouldGroupBatchedStatements();
     }
 
     /**
@@ -77,6 +91,13 @@ public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor)
     @Override
     public void appendCall(AbstractSession session, DatabaseCall dbCall) {
         if (dbCall.hasParameters()) {
+            session.incrementProfile(SessionProfiler.BatchedStatements);
+            if (this.shouldGroupStatements && appendGroupedCall(session, dbCall)) {
+                return;
+            }
+            if (this.groups != null) {
+                executeBatchedStatements(session);
+            }
             //make an equality check on the String, because if we are caching statements then
             //we will not have to perform the string comparison multiple times.
             if (this.previousCall == null) {
@@ -123,6 +144,8 @@ public void clear() {
         this.queryTimeoutCache = DescriptorQueryManager.NoTimeout;
         // bug 229831 : BATCH WRITING CAUSES MEMORY LEAKS WITH UOW
         this.lastCallAppended = null;
+        this.groups = null;
+        this.groupsBySQL = null;
     }
 
     /**
@@ -132,6 +155,15 @@ public void clear() {
      */
     @Override
     public void executeBatchedStatements(AbstractSession session) {
+        if (this.groups != null) {
+            // The groups are cleared first, as for the current batch, so they are not visible to recursive calls.
+            List<StatementGroup> currentGroups = this.groups;
+            this.groups = null;
+            this.groupsBySQL = null;
+            for (StatementGroup group : currentGroups) {
+                group.batch.executeBatch(session);
+            }
+        }
         if (this.parameters.isEmpty()) {
             return;
         }
@@ -150,7 +182,8 @@ public void executeBatchedStatements(AbstractSession session) {
      * <p>
      * Introduced in fix for bug#419326.
      */
-    private void executeBatch(AbstractSession session) {
+    protected void executeBatch(AbstractSession session) {
+        session.incrementProfile(SessionProfiler.StatementBatches);
 
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
@@ -219,6 +252,88 @@ private void executeBatch(AbstractSession session) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Add the statement of a unit of work commit to the batch of its SQL, if the commit order allows it,
+     * otherwise start a new batch for its SQL after the others.
+     * The batches are executed in the order they are started.
+     * Return false if the statement is not executed in a commit, so cannot be grouped.
+     */
+    protected boolean appendGroupedCall(AbstractSession session, DatabaseCall dbCall) {
+        DatabaseQuery query = dbCall.getQuery();
+        AbstractSession querySession = (query == null) ? null : query.getSession();
+        if ((querySession == null) || !querySession.hasCommitManager() || !querySession.getCommitManager().isActive()) {
+            return false;
+        }
+        if (!this.parameters.isEmpty()) {
+            executeBatchedStatements(session);
+        }
+        String sql = dbCall.getSQLString();
+        int kind = StatementGroup.OTHER;
+        int rank = StatementGroup.UNRANKED;
+        Object object = null;
+        if (query.isObjectLevelModifyQuery()) {
+            if (query.getDescriptor() != null) {
+                rank = querySession.getCommitManager().getCommitOrderIndex(query.getDescriptor().getJavaClass());
+            }
+            object = ((ObjectLevelModifyQuery)query).getObject();
+            // An object outside of the commit order could depend on any other.
+            if (rank != StatementGroup.UNRANKED) {
+                if (query.isInsertObjectQuery()) {
+                    kind = StatementGroup.INSERT;
+                } else if (query.isUpdateObjectQuery()) {
+                    kind = StatementGroup.UPDATE;
+                } else if (query.isDeleteObjectQuery()) {
+                    kind = StatementGroup.DELETE;
+                }
+            }
+        } else if (sql.regionMatches(true, 0, "INSERT", 0, 6)) {
+            kind = StatementGroup.INSERT;
+        } else if (sql.regionMatches(true, 0, "UPDATE", 0, 6)) {
+            kind = StatementGroup.UPDATE;
+        } else if (sql.regionMatches(true, 0, "DELETE", 0, 6)) {
+            kind = StatementGroup.DELETE;
+        }
+        if (this.groups == null) {
+            this.groups = new ArrayList<>();
+            this.groupsBySQL = new HashMap<>();
+        }
+        StatementGroup group = this.groupsBySQL.get(sql);
+        if ((group == null) || !canJoinGroup(group, sql, kind, rank, object)) {
+            group = new StatementGroup(this, sql, kind);
+            this.groups.add(group);
+            this.groupsBySQL.put(sql, group);
+        }
+        group.add(session, dbCall, rank, object);
+        // feature for bug 4104613, allows users to force statements to flush on execution
+        if ((group.batch.parameters.size() >= this.maxBatchSize) || ((ModifyQuery)query).forceBatchStatementExecution()) {
+            executeBatchedStatements(session);
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the statement can be executed in the group, so before all the groups after it.
+     */
+    protected boolean canJoinGroup(StatementGroup group, String sql, int kind, int rank, Object object) {
+        int last = this.groups.size() - 1;
+        // Deletes and unknown statements are never moved.
+        if ((kind == StatementGroup.DELETE) || (kind == StatementGroup.OTHER)) {
+            return this.groups.get(last) == group;
+        }
+        for (int index = last; index >= 0; index--) {
+            StatementGroup laterGroup = this.groups.get(index);
+            if (laterGroup == group) {
+                return true;
+            }
+            if (laterGroup.mustPrecede(sql, kind, rank, object)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Swaps out the Mechanism for the other Mechanism
@@ -310,4 +425,93 @@ public DatabaseCall getLastCallAppended() {
     public void setLastCallAppended(DatabaseCall lastCallAppended) {
         this.lastCallAppended = lastCallAppended;
     }
+
+    /**
+     * INTERNAL:
+     * The statements of a commit batched with the same SQL, and what they write,
+     * to decide if a later statement can be executed before the groups batched after this group.
+     * The inserted objects of a class only reference the objects of the classes before it in the commit order,
+     * the updated objects may reference any inserted object,
+     * and no object references the rows written by other queries, such as the rows of relation tables.
+     */
+    protected static class StatementGroup {
+        protected static final int INSERT = 1;
+        protected static final int UPDATE = 2;
+        protected static final int DELETE = 3;
+        protected static final int OTHER = 4;
+        protected static final int UNRANKED = -1;
+
+        /** The batch of the statements of the group. */
+        protected final ParameterizedSQLBatchWritingMechanism batch;
+
+        /** The kind of the statements. */
+        protected final int kind;
+
+        /** The SQL up to the inserted fields, to compare the inserted tables. */
+        protected final String insertTable;
+
+        /** The lowest commit order index of the objects written, if any. */
+        protected int minRank = Integer.MAX_VALUE;
+
+        /** If the group has statements of other queries than object queries. */
+        protected boolean hasUnrankedStatements;
+
+        /** The objects written by the statements. */
+        protected final Map<Object, Object> objects = new IdentityHashMap<>();
+
+        protected StatementGroup(ParameterizedSQLBatchWritingMechanism mechanism, String sql, int kind) {
+            // A clone of the mechanism executes the batch as the mechanism.
+            this.batch = (ParameterizedSQLBatchWritingMechanism)mechanism.clone();
+            this.batch.clear();
+            this.kind = kind;
+            this.insertTable = (kind == INSERT) ? getInsertTable(sql) : null;
+        }
+
+        protected static String getInsertTable(String sql) {
+            int index = sql.indexOf('(');
+            return (index < 0) ? sql : sql.substring(0, index);
+        }
+
+        protected void add(AbstractSession session, DatabaseCall dbCall, int rank, Object object) {
+            if (this.batch.previousCall == null) {
+                this.batch.previousCall = dbCall;
+            }
+            this.batch.parameters.add(dbCall.getParameters());
+            this.batch.cacheQueryTimeout(session, dbCall);
+            this.batch.lastCallAppended = dbCall;
+            if (rank == UNRANKED) {
+                this.hasUnrankedStatements = true;
+            } else if (rank < this.minRank) {
+                this.minRank = rank;
+            }
+            if (object != null) {
+                this.objects.put(object, object);
+            }
+        }
+
+        /**
+         * Return if the group must be executed before the insert or update statement.
+         */
+        protected boolean mustPrecede(String sql, int kind, int rank, Object object) {
+            if ((this.kind == DELETE) || (this.kind == OTHER)) {
+                return true;
+            }
+            if ((object != null) && this.objects.containsKey(object)) {
+                return true;
+            }
+            if (this.kind == UPDATE) {
+                // The rows updated by other queries are not known.
+                return this.hasUnrankedStatements;
+            }
+            if (this.minRank == Integer.MAX_VALUE) {
+                // Only inserts into relation tables.
+                return false;
+            }
+            if ((rank == UNRANKED) || (kind == UPDATE) || (this.minRank < rank)) {
+                return true;
+            }
+            // Objects of the same class may reference each other, in the same table.
+            return (this.minRank == rank) && this.insertTable.equals(getInsertTable(sql));
+        }
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: LRU cache of the prepared statements of a single connection, keyed by SQL string.
+ * <p>
+ * A statement is removed from the cache while in use ({@link #checkOut(String)}), so it is never used concurrently,
+ * and returned to the cache once released ({@link #checkIn(String, Statement)}), which makes it the most recently used.
+ * When the cache is full the least recently used statement is evicted, and must be closed by the caller.
+ * <p>
+ * Statements are bound to their connection, so each {@link DatabaseAccessor} has its own cache,
+ * sized by {@link DatabasePlatform#getStatementCacheSize(java.sql.Connection)}.
+ * The {@link Statistics} are shared by all the caches of a platform.
+ *
+ * @see DatabaseAccessor#prepareStatement(DatabaseCall, org.eclipse.persistence.internal.sessions.AbstractSession)
+ * @see DatabaseAccessor#releaseStatement(Statement, String, DatabaseCall, org.eclipse.persistence.internal.sessions.AbstractSession)
+ */
+public class StatementCache {
+
+    /**
+     * Hit, miss, eviction and close cost counters of statement caches.
+     */
+    public static class Statistics {
+        protected final AtomicLong hits = new AtomicLong();
+        protected final AtomicLong misses = new AtomicLong();
+        protected final AtomicLong evictions = new AtomicLong();
+        protected final AtomicLong closeTime = new AtomicLong();
+
+        /**
+         * Return the number of statements found in a cache.
+         */
+        public long getHitCount() {
+            return this.hits.get();
+        }
+
+        /**
+         * Return the number of statements that had to be prepared as they were not in the cache.
+         */
+        public long getMissCount() {
+            return this.misses.get();
+        }
+
+        /**
+         * Return the number of least recently used statements removed from a full cache.
+         */
+        public long getEvictionCount() {
+            return this.evictions.get();
+        }
+
+        /**
+         * Return the time, in nanoseconds, spent closing evicted statements.
+         */
+        public long getEvictionCloseTime() {
+            return this.closeTime.get();
+        }
+
+        /**
+         * Record the time, in nanoseconds, spent closing an evicted statement.
+         */
+        public void recordEvictionClose(long nanos) {
+            this.closeTime.addAndGet(nanos);
+        }
+
+        /**
+         * Reset all counters.
+         */
+        public void reset() {
+            this.hits.set(0);
+            this.misses.set(0);
+            this.evictions.set(0);
+            this.closeTime.set(0);
+        }
+    }
+
+    /** Idle statements in least recently used order. */
+    protected final LinkedHashMap<String, Statement> statements;
+
+    protected final int maxSize;
+
+    protected final Statistics statistics;
+
+    /**
+     * Create a cache holding at most the number of statements, recording into the statistics.
+     */
+    public StatementCache(int maxSize, Statistics statistics) {
+        this.maxSize = maxSize;
+        this.statistics = statistics;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Remove and return the cached statement for the SQL, or null if not cached.
+     */
+    public synchronized Statement checkOut(String sql) {
+        Statement statement = this.statements.remove(sql);
+        if (statement == null) {
+            this.statistics.misses.incrementAndGet();
+        } else {
+            this.statistics.hits.incrementAndGet();
+        }
+        return statement;
+    }
+
+    /**
+     * Return the released statement to the cache as the most recently used one.
+     * Return the statement the caller must close: the least recently used statement if the cache was full,
+     * the statement itself if the SQL is already cached (by a concurrent use), or null.
+     */
+    public synchronized Statement checkIn(String sql, Statement statement) {
+        if (this.statements.containsKey(sql) || (this.maxSize <= 0)) {
+            return statement;
+        }
+        Statement evicted = null;
+        if (this.statements.size() >= this.maxSize) {
+            Iterator<Statement> iterator = this.statements.values().iterator();
+            evicted = iterator.next();
+            iterator.remove();
+            this.statistics.evictions.incrementAndGet();
+        }
+        this.statements.put(sql, statement);
+        return evicted;
+    }
+
+    /**
+     * Return if the SQL is cached.
+     */
+    public synchronized boolean contains(String sql) {
+        return this.statements.containsKey(sql);
+    }
+
+    /**
+     * Remove all statements, return them to be closed.
+     */
+    public synchronized List<Statement> clear() {
+        List<Statement> removed = new ArrayList<>(this.statements.values());
+        this.statements.clear();
+        return removed;
+    }
+
+    /**
+     * Return the idle statements by SQL, in least recently used order.
+     */
+    public synchronized Map<String, Statement> getStatements() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.statements));
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.statements.isEmpty();
+    }
+
+    public synchronized int size() {
+        return this.statements.size();
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public Statistics getStatistics() {
+        return this.statistics;
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.persistence.asm.ASMFactory;
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.Label;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.mappings.AttributeAccessor;
+
+/**
+ * <p><b>Purpose</b>: Generate the classes accessing an attribute of a class that is not woven,
+ * to avoid the cost of reflection on each get and set of the attribute.
+ * <p>
+ * The generated class is a hidden class, nestmate of the class declaring the field or method,
+ * so it can access its private members, and implements {@link Function} to get the attribute
+ * and {@link BiConsumer} to set it, so it only refers to the declaring class and JDK classes.
+ * The generated class does no conversion, so the attribute accessors must fall back to reflection
+ * for the values that are not of the type of the attribute.
+ * <p>
+ * The attributes writers set all the attributes of an object declared by its class in a straight-line
+ * sequence, for the {@link ObjectMaterializer} building the objects from the rows.
+ * <p>
+ * Nothing is generated (null is returned) if the attribute cannot be accessed directly,
+ * if privileged access is used, or if the {@link SystemProperties#GENERATE_ATTRIBUTE_ACCESSORS}
+ * system property is set to false.
+ * <p>
+ * The accessors are stateless, so they are generated once for each field or method,
+ * and shared by the sessions and by the threads initializing the descriptors concurrently.
+ *
+ * @see InstanceVariableAttributeAccessor
+ * @see MethodAttributeAccessor
+ */
+@SuppressWarnings("unchecked")
+public final class AttributeAccessorGenerator {
+
+    /** The suffix of the name of the generated classes. */
+    public static final String ACCESSOR_SUFFIX = "$EclipseLinkAccessor";
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String BI_CONSUMER = "java/util/function/BiConsumer";
+
+    /** The accessors generated for the fields and methods of each class, released with the class. */
+    private static final ClassValue<Map<Member, Object>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<Member, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private AttributeAccessorGenerator() {
+        // no instance please
+    }
+
+    /**
+     * Return if the attribute accessors should be generated.
+     */
+    public static boolean shouldGenerateAccessors() {
+        return !PrivilegedAccessHelper.shouldUsePrivilegedAccess()
+                && PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS, true);
+    }
+
+    /**
+     * Generate the accessors the attribute accessor will use once initialized for the class,
+     * so its initialization finds them already generated.
+     * The attribute accessor is not changed, its errors are raised by its initialization.
+     */
+    public static void generateAccessors(Class<?> javaClass, AttributeAccessor accessor) {
+        if ((accessor == null) || (accessor.getAttributeName() == null)) {
+            return;
+        }
+        try {
+            if (accessor.isInstanceVariableAttributeAccessor()) {
+                generateFieldAccessor(Helper.getField(javaClass, accessor.getAttributeName()));
+            } else if (accessor.isMethodAttributeAccessor() && !accessor.isVirtualAttributeAccessor()) {
+                MethodAttributeAccessor methodAccessor = (MethodAttributeAccessor) accessor;
+                Method getMethod = Helper.getDeclaredMethod(javaClass, methodAccessor.getGetMethodName(), null);
+                generateGetMethodAccessor(getMethod);
+                if (!methodAccessor.isWriteOnly()) {
+                    generateSetMethodAccessor(Helper.getDeclaredMethod(javaClass, methodAccessor.getSetMethodName(), new Class<?>[] {getMethod.getReturnType()}));
+                }
+            }
+        } catch (Exception exception) {
+            // Raised again by the initialization of the attribute accessor.
+        }
+    }
+
+    /**
+     * Return a generated accessor getting the value of the field, and also setting it if the field is not final,
+     * or null if the field cannot be accessed directly.
+     */
+    public static Function<Object, Object> generateFieldAccessor(Field field) {
+        if ((field == null) || !isAccessible(field)) {
+            return null;
+        }
+        return (Function<Object, Object>) ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field, member -> buildFieldAccessor(field));
+    }
+
+    private static Object buildFieldAccessor(Field field) {
+        Class<?> owner = field.getDeclaringClass();
+        String ownerName = Type.getInternalName(owner);
+        String descriptor = Type.getDescriptor(field.getType());
+        boolean isFinal = Modifier.isFinal(field.getModifiers());
+        ClassWriter classWriter = startClass(ownerName, isFinal ? new String[] {FUNCTION} : new String[] {FUNCTION, BI_CONSUMER});
+
+        // public Object apply(Object object) { return ((Owner) object).field; }
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+        method.visitFieldInsn(Opcodes.GETFIELD, ownerName, field.getName(), descriptor);
+        box(method, field.getType());
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        // A final field can only be set reflectively.
+        if (!isFinal) {
+            // public void accept(Object object, Object value) { ((Owner) object).field = (Type) value; }
+            method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+            method.visitCode();
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+            method.visitVarInsn(Opcodes.ALOAD, 2);
+            unbox(method, field.getType());
+            method.visitFieldInsn(Opcodes.PUTFIELD, ownerName, field.getName(), descriptor);
+            method.visitInsn(Opcodes.RETURN);
+            method.visitMaxs(0, 0);
+            method.visitEnd();
+        }
+        return defineAccessor(owner, classWriter);
+    }
+
+    /**
+     * Return a generated accessor invoking the get method, or null if the method cannot be invoked directly.
+     */
+    public static Function<Object, Object> generateGetMethodAccessor(Method getMethod) {
+        if ((getMethod == null) || (getMethod.getParameterCount() != 0) || (getMethod.getReturnType() == void.class) || !isAccessible(getMethod)) {
+            return null;
+        }
+        return (Function<Object, Object>) ACCESSORS.get(getMethod.getDeclaringClass()).computeIfAbsent(getMethod, member -> buildGetMethodAccessor(getMethod));
+    }
+
+    private static Object buildGetMethodAccessor(Method getMethod) {
+        Class<?> owner = getMethod.getDeclaringClass();
+        String ownerName = Type.getInternalName(owner);
+        ClassWriter classWriter = startClass(ownerName, new String[] {FUNCTION});
+
+        // public Object apply(Object object) { return ((Owner) object).getAttribute(); }
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+        method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerName, getMethod.getName(), Type.getMethodDescriptor(getMethod), false);
+        box(method, getMethod.getReturnType());
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        return defineAccessor(owner, classWriter);
+    }
+
+    /**
+     * Return a generated accessor invoking the set method, or null if the method cannot be invoked directly.
+     */
+    public static BiConsumer<Object, Object> generateSetMethodAccessor(Method setMethod) {
+        if ((setMethod == null) || (setMethod.getParameterCount() != 1) || !isAccessible(setMethod)) {
+            return null;
+        }
+        Class<?> returnType = setMethod.getReturnType();
+        // The result of a fluent set method is ignored, only if it takes a single slot.
+        if ((returnType == long.class) || (returnType == double.class)) {
+            return null;
+        }
+        return (BiConsumer<Object, Object>) ACCESSORS.get(setMethod.getDeclaringClass()).computeIfAbsent(setMethod, member -> buildSetMethodAccessor(setMethod));
+    }
+
+    private static Object buildSetMethodAccessor(Method setMethod) {
+        Class<?> returnType = setMethod.getReturnType();
+        Class<?> owner = setMethod.getDeclaringClass();
+        String ownerName = Type.getInternalName(owner);
+        ClassWriter classWriter = startClass(ownerName, new String[] {BI_CONSUMER});
+
+        // public void accept(Object object, Object value) { ((Owner) object).setAttribute((Type) value); }
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+        method.visitVarInsn(Opcodes.ALOAD, 2);
+        unbox(method, setMethod.getParameterTypes()[0]);
+        method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerName, setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+        if (returnType != void.class) {
+            method.visitInsn(Opcodes.POP);
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        return defineAccessor(owner, classWriter);
+    }
+
+    /**
+     * Return a generated writer setting the attributes of an object of the class, in a straight-line sequence,
+     * from the values at the indexes of the array, or null if an attribute cannot be set directly.
+     * Each attribute is set either through a non final field, not set if its value is null and the field is primitive,
+     * or through a set method, both declared by the class.
+     */
+    public static BiConsumer<Object, Object[]> generateAttributesWriter(Class<?> owner, Member[] members, int[] indexes) {
+        for (Member member : members) {
+            if ((member.getDeclaringClass() != owner) || !isAccessible(member)) {
+                return null;
+            } else if ((member instanceof Field field) && Modifier.isFinal(field.getModifiers())) {
+                return null;
+            } else if ((member instanceof Method setMethod) && ((setMethod.getParameterCount() != 1)
+                    || (setMethod.getReturnType() == long.class) || (setMethod.getReturnType() == double.class))) {
+                return null;
+            }
+        }
+        String ownerName = Type.getInternalName(owner);
+        ClassWriter classWriter = startClass(ownerName, new String[] {BI_CONSUMER});
+
+        // public void accept(Object object, Object values) { Owner owner = (Owner) object; Object[] array = (Object[]) values; ... }
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+        method.visitVarInsn(Opcodes.ASTORE, 3);
+        method.visitVarInsn(Opcodes.ALOAD, 2);
+        method.visitTypeInsn(Opcodes.CHECKCAST, "[Ljava/lang/Object;");
+        method.visitVarInsn(Opcodes.ASTORE, 4);
+        for (int index = 0; index < members.length; index++) {
+            // Object value = array[index];
+            method.visitVarInsn(Opcodes.ALOAD, 4);
+            pushInt(method, indexes[index]);
+            method.visitInsn(Opcodes.AALOAD);
+            method.visitVarInsn(Opcodes.ASTORE, 5);
+            if (members[index] instanceof Field field) {
+                // if (value != null) owner.field = (Type) value; as null is ignored for a primitive field
+                Label skip = null;
+                if (field.getType().isPrimitive()) {
+                    skip = ASMFactory.createLabel();
+                    method.visitVarInsn(Opcodes.ALOAD, 5);
+                    method.visitJumpInsn(Opcodes.IFNULL, skip);
+                }
+                method.visitVarInsn(Opcodes.ALOAD, 3);
+                method.visitVarInsn(Opcodes.ALOAD, 5);
+                unbox(method, field.getType());
+                method.visitFieldInsn(Opcodes.PUTFIELD, ownerName, field.getName(), Type.getDescriptor(field.getType()));
+                if (skip != null) {
+                    method.visitLabel(skip);
+                }
+            } else {
+                // owner.setAttribute((Type) value);
+                Method setMethod = (Method) members[index];
+                method.visitVarInsn(Opcodes.ALOAD, 3);
+                method.visitVarInsn(Opcodes.ALOAD, 5);
+                unbox(method, setMethod.getParameterTypes()[0]);
+                method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerName, setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+                if (setMethod.getReturnType() != void.class) {
+                    method.visitInsn(Opcodes.POP);
+                }
+            }
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        return (BiConsumer<Object, Object[]>) defineAccessor(owner, classWriter);
+    }
+
+    /**
+     * Push the int constant on the stack.
+     */
+    private static void pushInt(MethodVisitor method, int value) {
+        if (value <= 5) {
+            method.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            method.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            method.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            method.visitLdcInsn(value);
+        }
+    }
+
+    /**
+     * Return if the member can be accessed by a class generated in its declaring class.
+     */
+    private static boolean isAccessible(Member member) {
+        Class<?> owner = member.getDeclaringClass();
+        return !Modifier.isStatic(member.getModifiers()) && !owner.isInterface() && !owner.isHidden()
+                && !owner.isPrimitive() && !owner.isArray() && shouldGenerateAccessors();
+    }
+
+    /**
+     * Start the accessor class for the declaring class, with its default constructor.
+     */
+    private static ClassWriter startClass(String ownerName, String[] interfaces) {
+        ClassWriter classWriter = new EclipseLinkASMClassWriter();
+        classWriter.visit(Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER + Opcodes.ACC_SYNTHETIC, ownerName + ACCESSOR_SUFFIX, null, OBJECT, interfaces);
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        return classWriter;
+    }
+
+    /**
+     * Define the accessor class as a hidden nestmate of the declaring class, and return its instance,
+     * or null if the declaring class cannot be accessed.
+     */
+    private static Object defineAccessor(Class<?> owner, ClassWriter classWriter) {
+        classWriter.visitEnd();
+        try {
+            // The declaring class must be opened to EclipseLink, as for reflection.
+            AttributeAccessorGenerator.class.getModule().addReads(owner.getModule());
+            MethodHandles.Lookup ownerLookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandles.Lookup accessorLookup = ownerLookup.defineHiddenClass(classWriter.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return accessorLookup.findConstructor(accessorLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable exception) {
+            // Fall back to reflection.
+            return null;
+        }
+    }
+
+    /**
+     * Box the primitive value on top of the stack.
+     */
+    private static void box(MethodVisitor method, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = Type.getInternalName(wrapperClass(type));
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + Type.getDescriptor(type) + ")L" + wrapper + ";", false);
+        }
+    }
+
+    /**
+     * Cast the value on top of the stack to the type, and unbox it if the type is primitive.
+     */
+    private static void unbox(MethodVisitor method, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = Type.getInternalName(wrapperClass(type));
+            method.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+        } else if (type != Object.class) {
+            method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+        }
+    }
+
+    /**
+     * Return the wrapper class of the primitive class, or the class.
+     */
+    public static Class<?> wrapperClass(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+}
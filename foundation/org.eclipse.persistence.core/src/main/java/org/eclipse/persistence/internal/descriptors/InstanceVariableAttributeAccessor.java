@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -21,6 +21,8 @@
 import org.eclipse.persistence.mappings.AttributeAccessor;
 
 import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p><b>Purpose</b>: A wrapper class for handling cases when the domain object has instance variable
@@ -34,6 +36,12 @@ public class InstanceVariableAttributeAccessor extends AttributeAccessor {
     /** The attribute name of an object is converted to Field type to access it reflectively */
     protected transient Field attributeField;
 
+    /** PERF: The generated class getting the field directly, null if the field is accessed reflectively. */
+    protected transient Function<Object, Object> fieldGetter;
+
+    /** PERF: The generated class setting the field directly, null if the field is set reflectively. */
+    protected transient BiConsumer<Object, Object> fieldSetter;
+
     /**
      * Returns the class type of the attribute.
      */
@@ -66,6 +74,15 @@ public Class<?> getAttributeType() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        Function<Object, Object> getter = this.fieldGetter;
+        if (getter != null) {
+            try {
+                // PERF: Direct variable access.
+                return getter.apply(anObject);
+            } catch (ClassCastException | NullPointerException exception) {
+                // Let reflection raise the error.
+            }
+        }
         return PrivilegedAccessHelper.callDoPrivilegedWithException(
                 () -> attributeField.get(anObject),
                 (ex) -> {
@@ -118,8 +135,13 @@ public boolean isInstanceVariableAttributeAccessor() {
     /**
      * Sets the value of the attributeField.
      */
+    @SuppressWarnings("unchecked")
     protected void setAttributeField(Field field) {
         attributeField = field;
+        // PERF: Access the field through a generated class instead of reflection.
+        Function<Object, Object> getter = AttributeAccessorGenerator.generateFieldAccessor(field);
+        this.fieldGetter = getter;
+        this.fieldSetter = (getter instanceof BiConsumer) ? (BiConsumer<Object, Object>) getter : null;
     }
 
     /**
@@ -127,6 +149,16 @@ protected void setAttributeField(Field field) {
      */
     @Override
     public void setAttributeValueInObject(final Object anObject, final Object value) throws DescriptorException {
+        BiConsumer<Object, Object> setter = this.fieldSetter;
+        if (setter != null) {
+            try {
+                // PERF: Direct variable access.
+                setter.accept(anObject, value);
+                return;
+            } catch (ClassCastException | NullPointerException exception) {
+                // Let reflection convert the value, or raise the error.
+            }
+        }
         try {
             // PERF: Direct variable access.
             PrivilegedAccessHelper.callDoPrivilegedWithException(
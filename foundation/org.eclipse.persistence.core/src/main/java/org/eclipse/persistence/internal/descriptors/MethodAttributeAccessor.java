@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -30,6 +30,8 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p><b>Purpose</b>: A wrapper class for handling cases when the domain object attributes are
@@ -45,6 +47,24 @@ public class MethodAttributeAccessor extends AttributeAccessor {
     protected transient Method setMethod;
     protected transient Method getMethod;
 
+    /** PERF: The generated class invoking the get method directly, null if the method is invoked reflectively. */
+    protected transient Function<Object, Object> methodGetter;
+
+    /** PERF: The generated class invoking the set method directly, null if the method is invoked reflectively. */
+    protected transient BiConsumer<Object, Object> methodSetter;
+
+    /** The class declaring the get method, the other objects are accessed reflectively. */
+    protected transient Class<?> getMethodClass;
+
+    /** The class declaring the set method, the other objects are accessed reflectively. */
+    protected transient Class<?> setMethodClass;
+
+    /** The class of the values set directly, the other values are converted reflectively. */
+    protected transient Class<?> setMethodValueClass;
+
+    /** If null is set directly, or converted reflectively for a primitive. */
+    protected transient boolean isSetMethodValueNullable;
+
     /**
      * Return the return type of the method accessor.
      */
@@ -62,6 +82,15 @@ public Class<?> getAttributeClass() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        Function<Object, Object> getter = this.methodGetter;
+        if ((getter != null) && this.getMethodClass.isInstance(anObject)) {
+            try {
+                // PERF: Direct method invocation.
+                return getter.apply(anObject);
+            } catch (Exception exception) {
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), new InvocationTargetException(exception));
+            }
+        }
         return getAttributeValueFromObject(anObject, null);
     }
 
@@ -209,6 +238,17 @@ public boolean isMethodAttributeAccessor() {
      */
     @Override
     public void setAttributeValueInObject(Object domainObject, Object attributeValue) throws DescriptorException {
+        BiConsumer<Object, Object> setter = this.methodSetter;
+        if ((setter != null) && this.setMethodClass.isInstance(domainObject)
+                && ((attributeValue == null) ? this.isSetMethodValueNullable : this.setMethodValueClass.isInstance(attributeValue))) {
+            try {
+                // PERF: Direct method invocation.
+                setter.accept(domainObject, attributeValue);
+                return;
+            } catch (Exception exception) {
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, new InvocationTargetException(exception));
+            }
+        }
         setAttributeValueInObject(domainObject, attributeValue, new Object[] {attributeValue});
     }
 
@@ -269,6 +309,9 @@ protected void setAttributeValueInObject(final Object domainObject, final Object
      */
     protected void setGetMethod(Method getMethod) {
         this.getMethod = getMethod;
+        // PERF: Invoke the method through a generated class instead of reflection.
+        this.methodGetter = AttributeAccessorGenerator.generateGetMethodAccessor(getMethod);
+        this.getMethodClass = (this.methodGetter == null) ? null : getMethod.getDeclaringClass();
     }
 
     /**
@@ -283,6 +326,17 @@ public void setGetMethodName(String getMethodName) {
      */
     protected void setSetMethod(Method setMethod) {
         this.setMethod = setMethod;
+        // PERF: Invoke the method through a generated class instead of reflection.
+        this.methodSetter = AttributeAccessorGenerator.generateSetMethodAccessor(setMethod);
+        if (this.methodSetter == null) {
+            this.setMethodClass = null;
+            this.setMethodValueClass = null;
+        } else {
+            this.setMethodClass = setMethod.getDeclaringClass();
+            Class<?> valueClass = setMethod.getParameterTypes()[0];
+            this.setMethodValueClass = AttributeAccessorGenerator.wrapperClass(valueClass);
+            this.isSetMethodValueNullable = !valueClass.isPrimitive();
+        }
     }
 
     /**
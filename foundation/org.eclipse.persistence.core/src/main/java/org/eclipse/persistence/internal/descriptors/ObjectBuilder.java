@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -40,6 +40,7 @@
 import org.eclipse.persistence.descriptors.InheritancePolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
+import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.exceptions.QueryException;
@@ -65,6 +66,7 @@
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.internal.indirection.ProxyIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.AttributeItem;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
@@ -114,6 +116,8 @@
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
 
 import java.io.Serializable;
 import java.lang.reflect.RecordComponent;
@@ -121,6 +125,7 @@
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -131,7 +136,13 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -194,6 +205,14 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     private static final Semaphore SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING = new Semaphore(SEMAPHORE_MAX_NUMBER_THREADS);
     private transient ConcurrencySemaphore objectBuilderSemaphore = new ConcurrencySemaphore(SEMAPHORE_THREAD_LOCAL_VAR, SEMAPHORE_MAX_NUMBER_THREADS, SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING, this, "object_builder_semaphore_acquired_01");
     private final Lock instanceLock  = new ReentrantLock();
+    /** Number of rows built by each task when a query builds its objects in parallel. */
+    public static final int PARALLEL_BUILD_CHUNK_SIZE = 512;
+    /** Maximum number of fetch groups with a materializer, the objects are built by the mappings for the other fetch groups. */
+    public static final int MAX_FETCH_GROUP_MATERIALIZERS = 16;
+    /** PERF: Materializer building the attributes of the objects when all the mappings are read, built on first use. */
+    protected transient ObjectMaterializer materializer;
+    /** PERF: Materializers building the attributes of the objects for the fetch groups, built on first use. */
+    protected transient volatile ObjectMaterializer[] fetchGroupMaterializers;
 
     public ObjectBuilder(ClassDescriptor descriptor) {
         this.descriptor = descriptor;
@@ -540,17 +559,28 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
                 return;
             }
         }
-        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
-        List<DatabaseMapping> mappings = this.descriptor.getMappings();
-
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
         boolean isTargetProtected = targetSession.isProtectedSession();
-        int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        // PERF: Primitive attributes are set directly from the result set of a reused row, avoid boxing their values.
+        SimpleResultSetRecord resultSetRow = (databaseRow instanceof SimpleResultSetRecord) ? (SimpleResultSetRecord) databaseRow : null;
+        // PERF: Build the attributes through the materializer specialized for the mappings read.
+        ObjectMaterializer materializer = ((resultSetRow == null) && !databaseRow.hasSopObject()) ? getMaterializer(executionFetchGroup, readAllMappings) : null;
+        if (materializer != null) {
+            materializer.buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, targetSession, isTargetProtected);
+        } else {
+            // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+            List<DatabaseMapping> mappings = this.descriptor.getMappings();
+            int size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    if ((resultSetRow != null) && mapping.isAbstractDirectMapping()
+                            && ((AbstractDirectMapping) mapping).readPrimitiveFromRowIntoObject(resultSetRow, domainObject, targetSession)) {
+                        continue;
+                    }
+                    mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+                }
             }
         }
 
@@ -560,6 +590,43 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the materializer building the attributes of the objects, for all the mappings or the mappings of the fetch group,
+     * or null if the attributes must be built by the mappings.
+     * The materializers are built on first use, for a limited number of fetch groups.
+     */
+    public ObjectMaterializer getMaterializer(FetchGroup executionFetchGroup, boolean readAllMappings) {
+        if (readAllMappings) {
+            ObjectMaterializer materializer = this.materializer;
+            if (materializer == null) {
+                materializer = new ObjectMaterializer(this.descriptor, null);
+                this.materializer = materializer;
+            }
+            return materializer.isGenerated() ? materializer : null;
+        }
+        // The mappings are read by partial attributes.
+        if (executionFetchGroup == null) {
+            return null;
+        }
+        ObjectMaterializer[] materializers = this.fetchGroupMaterializers;
+        int size = (materializers == null) ? 0 : materializers.length;
+        for (int index = 0; index < size; index++) {
+            if (materializers[index].getFetchGroup() == executionFetchGroup) {
+                return materializers[index].isGenerated() ? materializers[index] : null;
+            }
+        }
+        if (size >= MAX_FETCH_GROUP_MATERIALIZERS) {
+            return null;
+        }
+        ObjectMaterializer materializer = new ObjectMaterializer(this.descriptor, executionFetchGroup);
+        // Concurrent additions may be lost, the fetch group materializer is then built again.
+        materializers = (materializers == null) ? new ObjectMaterializer[1] : Arrays.copyOf(materializers, size + 1);
+        materializers[size] = materializer;
+        this.fetchGroupMaterializers = materializers;
+        return materializer.isGenerated() ? materializer : null;
+    }
+
     /**
      * Each mapping is recursed to assign values from the Record to the attributes in the domain object.
      * Should not be called unless (this.descriptor.hasSerializedObjectPolicy() &amp;&amp; query.shouldUseSerializedObjectPolicy())
@@ -1183,6 +1250,13 @@ protected Object buildObject(boolean returnCacheKey, ObjectBuildingQuery query,
                 if (domainObject instanceof PersistenceEntity) {
                     updateCachedAttributes((PersistenceEntity) domainObject, cacheKey, primaryKey);
                 }
+                // Store the row of the complete object into the off-heap tier of the shared cache, while still locked.
+                if (domainWasMissing && shouldMaintainCache && !shouldStoreBypassCache && !isSopQuery && (fetchGroup == null)) {
+                    IdentityMapManager identityMapManager = session.getIdentityMapAccessorInstance().getIdentityMapManager();
+                    if (identityMapManager.shouldUseOffHeapCache(concreteDescriptor)) {
+                        identityMapManager.putInOffHeapCache(primaryKey, domainObject, concreteDescriptor);
+                    }
+                }
             } else {
                 if (query.isReadObjectQuery() && ((ReadObjectQuery)query).shouldLoadResultIntoSelectionObject()) {
                     copyInto(domainObject, ((ReadObjectQuery)query).getSelectionObject());
@@ -1202,6 +1276,9 @@ protected Object buildObject(boolean returnCacheKey, ObjectBuildingQuery query,
                 // fight to overwrite the object ( this also will avoid potential deadlock situations
                 if ((cacheKey.getActiveThread() == Thread.currentThread()) && ((query.shouldRefreshIdentityMapResult() || concreteDescriptor.shouldAlwaysRefreshCache() || isInvalidated ) && ((cacheKey.getLastUpdatedQueryId() != query.getQueryId()) && !cacheKey.isLockedByMergeManager()))) {
                     cacheHit = refreshObjectIfRequired(concreteDescriptor, cacheKey, cacheKey.getObject(), query, joinManager, databaseRow, session, false);
+                    if (!cacheHit) {
+                        session.getIdentityMapAccessorInstance().getIdentityMapManager().removeFromOffHeapCache(primaryKey, concreteDescriptor);
+                    }
                 } else if ((concreteFetchGroupManager != null) && (concreteFetchGroupManager.isPartialObject(domainObject) && (!concreteFetchGroupManager.isObjectValidForFetchGroup(domainObject, concreteFetchGroupManager.getEntityFetchGroup(fetchGroup))))) {
                     cacheHit = false;
                     // The fetched object is not sufficient for the fetch group of the query
@@ -1486,6 +1563,11 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                     }
                     query.setPrefetchedCacheKeys(session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor));
                 }
+                // The objects are either built in parallel up front, or each built when added.
+                Object[] builtObjects = null;
+                if (shouldBuildObjectsInParallel(query, session, size)) {
+                    builtObjects = buildObjectsInParallel(query, databaseRows, session, inheritancePolicy, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                }
                 ContainerPolicy policy = query.getContainerPolicy();
                 if (policy.shouldAddAll()) {
                     List domainObjectsIn = new ArrayList(size);
@@ -1494,7 +1576,7 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                            domainObjectsIn.add((builtObjects != null) ? builtObjects[index] : buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
                                     isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
                             databaseRowsIn.add(databaseRow);
                         }
@@ -1506,7 +1588,7 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                            Object domainObject = (builtObjects != null) ? builtObjects[index] : buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
                                     isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
                             if (quickAdd) {
                                 ((Collection)domainObjects).add(domainObject);
@@ -1524,6 +1606,89 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
         return domainObjects;
     }
 
+    /**
+     * Return if the objects of the rows should be built in parallel.
+     * Building is only thread safe on a server session, or on a client session reading through the
+     * pool of its server session (not in transaction and not exclusive), such as a read-only query of a unit of work.
+     * The queries of eager relationships then each use a connection of the pool, where a database session
+     * or a client session in transaction has a single connection. Joining and batch reading collect the rows
+     * of the query's objects in the query, so are not thread safe.
+     * @see ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    protected boolean shouldBuildObjectsInParallel(ReadAllQuery query, AbstractSession session, int size) {
+        return query.shouldBuildObjectsInParallel()
+                && (session.isServerSession() || (session.isClientSession() && !session.isInTransaction() && !session.isExclusiveIsolatedClientSession()))
+                && !query.hasJoining() && !query.hasBatchReadAttributes()
+                && (size > PARALLEL_BUILD_CHUNK_SIZE);
+    }
+
+    /**
+     * Build the objects of the rows in chunks, on the calling thread and on the threads of the (parent) server session's
+     * object build executor. Return the objects in the order of the rows, null for null rows.
+     * Each object is built as by a concurrent query, so locks its cache key on the building thread.
+     * The calling thread takes chunks as well, so the build completes even if no executor thread is free,
+     * such as for the eager relationships of the objects built by the executor threads.
+     * The first exception thrown by the build is rethrown once all chunks are done.
+     */
+    protected Object[] buildObjectsInParallel(final ReadAllQuery query, final List databaseRows, final AbstractSession session,
+            final InheritancePolicy inheritancePolicy, final boolean shouldCacheQueryResults, final boolean shouldUseWrapperPolicy) {
+        final int size = databaseRows.size();
+        final Object[] builtObjects = new Object[size];
+        final int chunks = ((size - 1) / PARALLEL_BUILD_CHUNK_SIZE) + 1;
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final CountDownLatch builtChunks = new CountDownLatch(chunks);
+        final AtomicReference<Throwable> exception = new AtomicReference<>();
+        Runnable builder = () -> {
+            for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    int chunkEnd = Math.min((chunk + 1) * PARALLEL_BUILD_CHUNK_SIZE, size);
+                    for (int index = chunk * PARALLEL_BUILD_CHUNK_SIZE; index < chunkEnd; index++) {
+                        AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
+                        if (databaseRow != null) {
+                            builtObjects[index] = buildObject(query, databaseRow, null, session, this.descriptor, inheritancePolicy,
+                                    false, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                        }
+                    }
+                } catch (RuntimeException | Error error) {
+                    exception.compareAndSet(null, error);
+                } finally {
+                    builtChunks.countDown();
+                }
+            }
+        };
+        ServerSession serverSession = session.isServerSession() ? (ServerSession)session : ((ClientSession)session).getParent();
+        ExecutorService executor = serverSession.getObjectBuildExecutor();
+        int threads = Math.min(chunks - 1, serverSession.getObjectBuildThreadPoolSize());
+        List<Future<?>> helpers = new ArrayList<>(threads);
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                helpers.add(executor.submit(builder));
+            }
+        } catch (RejectedExecutionException rejected) {
+            // The executor is shut down or saturated, the calling thread builds the remaining chunks.
+        }
+        session.incrementProfile(SessionProfiler.ParallelObjectBuilds, query);
+        builder.run();
+        try {
+            builtChunks.await();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(interrupted.getMessage());
+        } finally {
+            // Helpers not yet started have no chunk left to build.
+            for (Future<?> helper : helpers) {
+                helper.cancel(false);
+            }
+        }
+        Throwable error = exception.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException)error;
+        } else if (error != null) {
+            throw (Error)error;
+        }
+        return builtObjects;
+    }
+
     /**
      * Version of buildObjectsInto method that takes call instead of rows.
      * Return a container which contains the instances of the receivers javaClass.
@@ -2613,6 +2778,9 @@ public Object clone() {
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
+        // The materializers are built for the mappings of the descriptor.
+        objectBuilder.materializer = null;
+        objectBuilder.fetchGroupMaterializers = null;
 
         return objectBuilder;
     }
@@ -3818,6 +3986,8 @@ public void initialize(AbstractSession session) throws DescriptorException {
         if (nonPrimaryKeyMappings == null) {
             nonPrimaryKeyMappings = new ArrayList(10);
         }
+        this.materializer = null;
+        this.fetchGroupMaterializers = null;
 
         for (DatabaseMapping mapping: this.descriptor.getMappings()) {
             // Add attribute to mapping association
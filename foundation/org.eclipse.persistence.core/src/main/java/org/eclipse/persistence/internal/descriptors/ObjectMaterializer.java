@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+
+/**
+ * <p><b>Purpose</b>: Build the attributes of the objects of a descriptor from the rows, specialized
+ * for the mappings read by the queries: all the mappings, or the mappings of a fetch group.
+ * <p>
+ * The values of the direct to field mappings are read from the row and converted into an array,
+ * then set into the object by the writers generated for the classes declaring the attributes,
+ * in a straight-line sequence (see {@link AttributeAccessorGenerator#generateAttributesWriter}).
+ * The other mappings read their values from the row, as for {@link ObjectBuilder#buildAttributesIntoObject}.
+ * <p>
+ * As the mappings are sorted by weight, the direct mappings are read first. Only the direct mappings
+ * preceding any other mapping are materialized, and only if their attribute is set through a field, woven or not,
+ * and their values are not read from the cache (protected isolation).
+ * As for {@link PersistenceObjectAttributeAccessor}, the fields of woven classes are set directly, not through
+ * their woven set methods, which would fire the change tracking events and check the fetch group.
+ * <p>
+ * The materializers are not used if the {@link SystemProperties#GENERATE_OBJECT_MATERIALIZERS}
+ * system property is set to false, or if no writer could be generated.
+ *
+ * @see ObjectBuilder#getMaterializer(FetchGroup, boolean)
+ */
+public class ObjectMaterializer {
+
+    /** The fetch group of the mappings read, null if all the mappings are read. */
+    protected final FetchGroup fetchGroup;
+
+    /** The direct mappings materialized, their values in the same order. */
+    protected final DirectToFieldMapping[] directMappings;
+
+    /** The fields of the direct mappings. */
+    protected final DatabaseField[] directFields;
+
+    /** The writers setting the values of the direct mappings, one for each class declaring their attributes. */
+    protected final BiConsumer<Object, Object[]>[] writers;
+
+    /** The other mappings, reading their values from the row. */
+    protected final DatabaseMapping[] mappings;
+
+    /**
+     * Build the materializer of the descriptor for the mappings of the fetch group,
+     * or for all the mappings if the fetch group is null.
+     */
+    @SuppressWarnings("unchecked")
+    public ObjectMaterializer(ClassDescriptor descriptor, FetchGroup fetchGroup) {
+        this.fetchGroup = fetchGroup;
+        List<DirectToFieldMapping> candidates = new ArrayList<>();
+        List<DatabaseMapping> otherMappings = new ArrayList<>();
+        // The indexes of the candidates, by class declaring their attributes.
+        Map<Class<?>, List<Integer>> candidatesByClass = new LinkedHashMap<>();
+        List<Member> members = new ArrayList<>();
+        // Only the direct mappings preceding the other mappings are materialized, their values do not depend on the object.
+        boolean isDirect = shouldGenerateMaterializers();
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if ((fetchGroup != null) && !fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                continue;
+            }
+            isDirect = isDirect && (mapping.getClass() == DirectToFieldMapping.class);
+            Member member = isDirect ? getWriterMember(mapping) : null;
+            if (member == null) {
+                otherMappings.add(mapping);
+            } else {
+                candidatesByClass.computeIfAbsent(member.getDeclaringClass(), owner -> new ArrayList<>()).add(candidates.size());
+                candidates.add((DirectToFieldMapping) mapping);
+                members.add(member);
+            }
+        }
+        // The values are ordered by declaring class, each writer sets a range of the array.
+        List<DirectToFieldMapping> directMappings = new ArrayList<>(candidates.size());
+        List<BiConsumer<Object, Object[]>> writers = new ArrayList<>(candidatesByClass.size());
+        List<DatabaseMapping> mappings = new ArrayList<>(otherMappings.size());
+        for (Map.Entry<Class<?>, List<Integer>> entry : candidatesByClass.entrySet()) {
+            List<Integer> group = entry.getValue();
+            Member[] groupMembers = new Member[group.size()];
+            int[] indexes = new int[group.size()];
+            for (int index = 0; index < groupMembers.length; index++) {
+                groupMembers[index] = members.get(group.get(index));
+                indexes[index] = directMappings.size() + index;
+            }
+            BiConsumer<Object, Object[]> writer = AttributeAccessorGenerator.generateAttributesWriter(entry.getKey(), groupMembers, indexes);
+            if (writer != null) {
+                writers.add(writer);
+                for (Integer index : group) {
+                    directMappings.add(candidates.get(index));
+                }
+            }
+        }
+        // The direct mappings without writer read their values first, as they preceded the other mappings.
+        for (DirectToFieldMapping candidate : candidates) {
+            if (!directMappings.contains(candidate)) {
+                mappings.add(candidate);
+            }
+        }
+        mappings.addAll(otherMappings);
+        this.directMappings = directMappings.toArray(new DirectToFieldMapping[0]);
+        this.directFields = new DatabaseField[this.directMappings.length];
+        for (int index = 0; index < this.directMappings.length; index++) {
+            this.directFields[index] = this.directMappings[index].getField();
+        }
+        this.writers = writers.toArray(new BiConsumer[0]);
+        this.mappings = mappings.toArray(new DatabaseMapping[0]);
+    }
+
+    /**
+     * Return if the materializers should be generated.
+     */
+    public static boolean shouldGenerateMaterializers() {
+        return PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.GENERATE_OBJECT_MATERIALIZERS, true);
+    }
+
+    /**
+     * Return the field setting the attribute of the direct mapping,
+     * or null if the mapping must read its value from the row.
+     */
+    protected static Member getWriterMember(DatabaseMapping mapping) {
+        // Subclasses of direct to field mappings may read their values differently.
+        if ((mapping.getClass() != DirectToFieldMapping.class) || mapping.getDescriptor().getCachePolicy().isProtectedIsolation()) {
+            return null;
+        }
+        Class<?> accessorClass = mapping.getAttributeAccessor().getClass();
+        if ((accessorClass != InstanceVariableAttributeAccessor.class) && (accessorClass != PersistenceObjectAttributeAccessor.class)) {
+            return null;
+        }
+        Field field = ((InstanceVariableAttributeAccessor) mapping.getAttributeAccessor()).getAttributeField();
+        if ((field == null) || Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        return field;
+    }
+
+    /**
+     * Return the fetch group of the mappings read, null if all the mappings are read.
+     */
+    public FetchGroup getFetchGroup() {
+        return fetchGroup;
+    }
+
+    /**
+     * Return if the values of direct mappings are set by generated writers.
+     * The materializer is not used otherwise.
+     */
+    public boolean isGenerated() {
+        return this.writers.length > 0;
+    }
+
+    /**
+     * Build the attributes of the object from the row, as {@link ObjectBuilder#buildAttributesIntoObject}.
+     * The row must not hold a serialized object.
+     */
+    public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, AbstractRecord databaseRow, ObjectBuildingQuery query, JoinedAttributeManager joinManager, AbstractSession targetSession, boolean isTargetProtected) {
+        DirectToFieldMapping[] directMappings = this.directMappings;
+        DatabaseField[] directFields = this.directFields;
+        int size = directMappings.length;
+        Object[] values = new Object[size];
+        for (int index = 0; index < size; index++) {
+            values[index] = directMappings[index].getObjectValue(databaseRow.get(directFields[index]), targetSession);
+        }
+        try {
+            for (BiConsumer<Object, Object[]> writer : this.writers) {
+                writer.accept(domainObject, values);
+            }
+        } catch (ClassCastException exception) {
+            // A value is not of the type of its attribute, set the values through the mappings, converting or raising the same exception.
+            for (int index = 0; index < size; index++) {
+                directMappings[index].setAttributeValueInObject(domainObject, values[index]);
+            }
+        }
+        for (DatabaseMapping mapping : this.mappings) {
+            mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        }
+    }
+}
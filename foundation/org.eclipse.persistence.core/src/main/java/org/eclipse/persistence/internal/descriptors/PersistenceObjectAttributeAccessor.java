@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,8 @@
 
 import org.eclipse.persistence.exceptions.DescriptorException;
 
+import java.lang.reflect.Field;
+
 /**
  * Used with weaving to access attributes without using reflection.
  */
@@ -43,6 +45,14 @@ public void initializeAttributes(Class<?> descriptorClass) throws DescriptorExce
     }
 
 
+    /**
+     * The attribute is accessed through the woven methods, no accessor is generated.
+     */
+    @Override
+    protected void setAttributeField(Field field) {
+        this.attributeField = field;
+    }
+
     /**
      * Sets the value of the instance variable in the object to the value.
      */
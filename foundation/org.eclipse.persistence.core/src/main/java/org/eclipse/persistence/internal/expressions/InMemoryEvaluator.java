@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.expressions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * <p><b>Purpose</b>: Conform objects in-memory to a selection criteria compiled once for a query,
+ * instead of interpreting the expression tree for each object.
+ * <p>
+ * The conjunctions, disjunctions and negations of comparisons of a direct attribute of the query class
+ * to constants or parameters are compiled: the mapping of the attribute is resolved once,
+ * and the constants and parameters are evaluated once per execution, by {@link #getValues}.
+ * Any other part of the selection criteria is conformed by the expression,
+ * as are the objects of a subclass of the query class, so the results are the same as {@link Expression#doesConform}.
+ * Nothing is compiled for a class using fetch groups.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Compile the selection criteria for the query class.
+ *    <li> Evaluate the constants and parameters of an execution.
+ *    <li> Conform an object to the compiled selection criteria.
+ * </ul>
+ * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#getInMemoryEvaluator(Expression, AbstractSession)
+ */
+public class InMemoryEvaluator {
+
+    /** The selection criteria compiled. */
+    protected final Expression criteria;
+
+    /** The query class, the objects of other classes are conformed by the selection criteria. */
+    protected final Class<?> javaClass;
+
+    /** The compiled selection criteria, null if nothing could be compiled. */
+    protected final Node root;
+
+    /** The constants and parameters compared to the attributes, evaluated once per execution. */
+    protected final List<Value> values;
+
+    protected InMemoryEvaluator(Expression criteria, ClassDescriptor descriptor) {
+        this.criteria = criteria;
+        this.javaClass = descriptor.getJavaClass();
+        this.values = new ArrayList<>();
+        // The attributes of partial objects must be checked as fetched by the expression.
+        Node node = descriptor.hasFetchGroupManager() ? null : compile(criteria, criteria.getBuilder(), descriptor);
+        this.root = (node instanceof ExpressionNode) ? null : node;
+    }
+
+    /**
+     * Compile the selection criteria for the query class of the descriptor.
+     */
+    public static InMemoryEvaluator compile(Expression criteria, ClassDescriptor descriptor) {
+        return new InMemoryEvaluator(criteria, descriptor);
+    }
+
+    /**
+     * Return if this evaluates the selection criteria.
+     */
+    public boolean isFor(Expression criteria) {
+        return this.criteria == criteria;
+    }
+
+    /**
+     * Return if any part of the selection criteria was compiled.
+     */
+    public boolean isCompiled() {
+        return this.root != null;
+    }
+
+    /**
+     * Return the values of the constants and parameters of the execution,
+     * or null if the objects must be conformed by the selection criteria (as the values are not comparable as compiled).
+     */
+    public Object[] getValues(AbstractRecord translationRow, AbstractSession session, int valueHolderPolicy) {
+        if (this.root == null) {
+            return null;
+        }
+        Object[] executionValues = new Object[this.values.size()];
+        try {
+            for (int index = 0; index < executionValues.length; index++) {
+                Value value = this.values.get(index);
+                if (value.arguments == null) {
+                    Object argument = value.expression.valueFromObject(null, session, translationRow, valueHolderPolicy, false);
+                    // A collection compared to an attribute is an any of, other than for an IN.
+                    if ((argument instanceof Collection) && !value.isIn) {
+                        return null;
+                    }
+                    executionValues[index] = argument;
+                } else {
+                    // The arguments of a function, or its single list argument.
+                    List<Object> arguments = new ArrayList<>(value.arguments.size());
+                    for (Expression expression : value.arguments) {
+                        Object argument = expression.valueFromObject(null, session, translationRow, valueHolderPolicy, false);
+                        if (argument instanceof List<?> list) {
+                            arguments = new ArrayList<>(list);
+                        } else {
+                            arguments.add(argument);
+                        }
+                    }
+                    executionValues[index] = arguments;
+                }
+            }
+        } catch (QueryException exception) {
+            // Let the selection criteria raise the error, only if there are objects to conform.
+            return null;
+        }
+        return executionValues;
+    }
+
+    /**
+     * Return if the object conforms to the selection criteria, with the values of the execution.
+     */
+    public boolean doesConform(Object object, Object[] executionValues, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+        if (object.getClass() != this.javaClass) {
+            return this.criteria.doesConform(object, session, translationRow, valueHolderPolicy);
+        }
+        return this.root.doesConform(object, executionValues, session, translationRow, valueHolderPolicy);
+    }
+
+    /**
+     * Compile the expression, or return a node conforming with the expression if it cannot be compiled.
+     */
+    protected Node compile(Expression expression, Expression builder, ClassDescriptor descriptor) {
+        if (expression.isLogicalExpression()) {
+            LogicalExpression logical = (LogicalExpression) expression;
+            int selector = logical.getOperator().getSelector();
+            if ((selector == ExpressionOperator.And) || (selector == ExpressionOperator.Or)) {
+                Node first = compile(logical.getFirstChild(), builder, descriptor);
+                Node second = compile(logical.getSecondChild(), builder, descriptor);
+                if (!(first instanceof ExpressionNode) || !(second instanceof ExpressionNode)) {
+                    return (selector == ExpressionOperator.And) ? new AndNode(first, second) : new OrNode(first, second);
+                }
+            }
+        } else if (expression.isRelationExpression()) {
+            RelationExpression relation = (RelationExpression) expression;
+            int selector = relation.getOperator().getSelector();
+            boolean isIn = (selector == ExpressionOperator.In) || (selector == ExpressionOperator.NotIn);
+            DatabaseMapping mapping = getDirectMapping(relation.getFirstChild(), builder, descriptor);
+            if ((mapping != null) && isValue(relation.getSecondChild())) {
+                return new RelationNode(relation, mapping, true, addValue(new Value(relation.getSecondChild(), isIn)));
+            }
+            mapping = getDirectMapping(relation.getSecondChild(), builder, descriptor);
+            if ((mapping != null) && isValue(relation.getFirstChild()) && !isIn) {
+                return new RelationNode(relation, mapping, false, addValue(new Value(relation.getFirstChild(), false)));
+            }
+        } else if (expression.isFunctionExpression()) {
+            FunctionExpression function = (FunctionExpression) expression;
+            int selector = function.getOperator().getSelector();
+            List<Expression> children = function.getChildren();
+            if (selector == ExpressionOperator.Not) {
+                Node base = compile(function.getBaseExpression(), builder, descriptor);
+                if (!(base instanceof ExpressionNode)) {
+                    return new NotNode(base);
+                }
+            } else if ((selector == ExpressionOperator.IsNull) || (selector == ExpressionOperator.NotNull)) {
+                DatabaseMapping mapping = getDirectMapping(function.getBaseExpression(), builder, descriptor);
+                if ((mapping != null) && (children.size() == 1)) {
+                    return new FunctionNode(function, mapping, -1);
+                }
+            } else if ((selector == ExpressionOperator.Between) || (selector == ExpressionOperator.NotBetween)
+                    || (selector == ExpressionOperator.In) || (selector == ExpressionOperator.NotIn)
+                    || (selector == ExpressionOperator.Like) || (selector == ExpressionOperator.NotLike)
+                    || (selector == ExpressionOperator.Regexp)) {
+                DatabaseMapping mapping = getDirectMapping(function.getBaseExpression(), builder, descriptor);
+                if (mapping != null) {
+                    List<Expression> arguments = new ArrayList<>(children.subList(1, children.size()));
+                    boolean isValues = true;
+                    for (Expression argument : arguments) {
+                        isValues = isValues && isValue(argument);
+                    }
+                    if (isValues) {
+                        return new FunctionNode(function, mapping, addValue(new Value(arguments)));
+                    }
+                }
+            }
+        }
+        return new ExpressionNode(expression);
+    }
+
+    protected int addValue(Value value) {
+        this.values.add(value);
+        return this.values.size() - 1;
+    }
+
+    /**
+     * Return the mapping if the expression is a direct attribute of the query class, or null.
+     */
+    protected DatabaseMapping getDirectMapping(Expression expression, Expression builder, ClassDescriptor descriptor) {
+        if ((expression.getClass() != QueryKeyExpression.class) || (((QueryKeyExpression) expression).getBaseExpression() != builder)) {
+            return null;
+        }
+        DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(((QueryKeyExpression) expression).getName());
+        if ((mapping == null) || !mapping.isAbstractColumnMapping()) {
+            return null;
+        }
+        return mapping;
+    }
+
+    /**
+     * Return if the expression is a constant or a parameter, not depending on the object conformed.
+     */
+    protected boolean isValue(Expression expression) {
+        return expression.isConstantExpression() || expression.isParameterExpression();
+    }
+
+    /**
+     * A constant or parameter compared to an attribute, or the arguments of a function.
+     */
+    protected static class Value {
+        protected final Expression expression;
+        protected final boolean isIn;
+        protected final List<Expression> arguments;
+
+        protected Value(Expression expression, boolean isIn) {
+            this.expression = expression;
+            this.isIn = isIn;
+            this.arguments = null;
+        }
+
+        protected Value(List<Expression> arguments) {
+            this.expression = null;
+            this.isIn = false;
+            this.arguments = arguments;
+        }
+    }
+
+    /**
+     * A compiled part of the selection criteria.
+     */
+    protected abstract static class Node {
+        protected abstract boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy);
+    }
+
+    protected static class AndNode extends Node {
+        protected final Node first;
+        protected final Node second;
+
+        protected AndNode(Node first, Node second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            return this.first.doesConform(object, values, session, translationRow, valueHolderPolicy)
+                    && this.second.doesConform(object, values, session, translationRow, valueHolderPolicy);
+        }
+    }
+
+    protected static class OrNode extends Node {
+        protected final Node first;
+        protected final Node second;
+
+        protected OrNode(Node first, Node second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            return this.first.doesConform(object, values, session, translationRow, valueHolderPolicy)
+                    || this.second.doesConform(object, values, session, translationRow, valueHolderPolicy);
+        }
+    }
+
+    protected static class NotNode extends Node {
+        protected final Node base;
+
+        protected NotNode(Node base) {
+            this.base = base;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            return !this.base.doesConform(object, values, session, translationRow, valueHolderPolicy);
+        }
+    }
+
+    /**
+     * A comparison of a direct attribute to a constant or parameter.
+     */
+    protected static class RelationNode extends Node {
+        protected final RelationExpression relation;
+        protected final DatabaseMapping mapping;
+        protected final DatabaseField field;
+        protected final ExpressionOperator operator;
+        protected final boolean isAttributeFirst;
+        protected final int valueIndex;
+
+        protected RelationNode(RelationExpression relation, DatabaseMapping mapping, boolean isAttributeFirst, int valueIndex) {
+            this.relation = relation;
+            this.mapping = mapping;
+            this.field = mapping.getField();
+            this.operator = relation.getOperator();
+            this.isAttributeFirst = isAttributeFirst;
+            this.valueIndex = valueIndex;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            Object attributeValue = this.mapping.valueFromObject(object, this.field, session);
+            if (attributeValue instanceof List) {
+                return this.relation.doesConform(object, session, translationRow, valueHolderPolicy);
+            }
+            if (this.isAttributeFirst) {
+                return this.operator.doesRelationConform(attributeValue, values[this.valueIndex]);
+            }
+            return this.operator.doesRelationConform(values[this.valueIndex], attributeValue);
+        }
+    }
+
+    /**
+     * A function (between, in, like, null) of a direct attribute and constants or parameters.
+     */
+    protected static class FunctionNode extends Node {
+        protected final FunctionExpression function;
+        protected final DatabaseMapping mapping;
+        protected final DatabaseField field;
+        protected final ExpressionOperator operator;
+        protected final int valueIndex;
+
+        protected FunctionNode(FunctionExpression function, DatabaseMapping mapping, int valueIndex) {
+            this.function = function;
+            this.mapping = mapping;
+            this.field = mapping.getField();
+            this.operator = function.getOperator();
+            this.valueIndex = valueIndex;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            Object attributeValue = this.mapping.valueFromObject(object, this.field, session);
+            if (attributeValue instanceof List) {
+                return this.function.doesConform(object, session, translationRow, valueHolderPolicy);
+            }
+            return this.operator.doesRelationConform(attributeValue, (this.valueIndex < 0) ? null : values[this.valueIndex]);
+        }
+    }
+
+    /**
+     * A part of the selection criteria that is not compiled, conformed by the expression.
+     */
+    protected static class ExpressionNode extends Node {
+        protected final Expression expression;
+
+        protected ExpressionNode(Expression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        protected boolean doesConform(Object object, Object[] values, AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            return this.expression.doesConform(object, session, translationRow, valueHolderPolicy);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,20 +15,44 @@
 package org.eclipse.persistence.internal.helper;
 
 import java.io.Serializable;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * Eviction is frequency aware (TinyLFU): the access frequency of every key read or written
+ * is estimated by a small count-min sketch that is periodically aged.
+ * When the cache is full the oldest key is compared with the key being added,
+ * the least frequently used of the two is removed, and a kept old key is moved to the back of the eviction order.
+ * So a burst of once used keys cannot flush the frequently used keys from the cache.
+ * <p>
+ * Gets do not lock, puts that require an eviction lock the eviction order.
  */
 public class ConcurrentFixedCache<K, V> implements Serializable {
     protected int maxSize;
     protected Map<K, V> cache;
 
+    /** Keys in the order they were added, the head is the next eviction candidate. */
+    protected Queue<K> order;
+
+    /** Estimated access frequency of keys. */
+    protected FrequencySketch sketch;
+
+    /** Guards the eviction order during eviction. */
+    protected ReentrantLock evictionLock;
+
+    protected AtomicLong hits;
+    protected AtomicLong misses;
+    protected AtomicLong evictions;
+
     /**
      * Create a new concurrent cache, with a fixed size of 100.
      */
@@ -43,6 +67,12 @@ public ConcurrentFixedCache(int maxSize) {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap<>(maxSize);
         this.maxSize = maxSize;
+        this.order = new ConcurrentLinkedQueue<>();
+        this.sketch = new FrequencySketch(maxSize);
+        this.evictionLock = new ReentrantLock();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
     }
 
     /**
@@ -54,11 +84,13 @@ public int getMaxSize() {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, the least frequently used entries are removed.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
+        this.sketch = new FrequencySketch(maxSize);
+        evict(null);
     }
 
     /**
@@ -66,37 +98,73 @@ public void setMaxSize(int maxSize) {
      * If the EJBQL has not been cached, null is returned.
      */
     public V get(Object key) {
-        return this.cache.get(key);
+        V value = this.cache.get(key);
+        if (value == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        this.sketch.increment(key);
+        return value;
     }
 
     public void clear(){
         this.cache.clear();
+        this.order.clear();
     }
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * If the cache is full either the oldest entry, or the added entry is removed,
+     * whichever was used less frequently.
      */
     public void put(K key, V value) {
         if (this.maxSize == 0) {
             return;
         }
-        this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
+        this.sketch.increment(key);
+        if (this.cache.put(key, value) == null) {
+            this.order.offer(key);
+        }
         if (this.cache.size() > this.maxSize) {
-            Iterator<K> iterator = this.cache.keySet().iterator();
-            try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    K next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
+            evict(key);
+        }
+    }
+
+    /**
+     * Remove entries until the cache fits in the max size.
+     * The oldest key is removed if it is used less frequently than the candidate,
+     * otherwise the candidate is removed and the oldest key moved to the back of the order.
+     * @param candidate the key just added, or null.
+     */
+    protected void evict(K candidate) {
+        this.evictionLock.lock();
+        try {
+            while (this.cache.size() > this.maxSize) {
+                K victim = this.order.poll();
+                if (victim == null) {
+                    return;
+                }
+                if (!this.cache.containsKey(victim)) {
+                    // Already removed.
+                    continue;
+                }
+                if ((candidate == null) || victim.equals(candidate)
+                        || (this.sketch.frequency(candidate) > this.sketch.frequency(victim))) {
+                    this.cache.remove(victim);
+                    this.evictions.incrementAndGet();
+                } else {
+                    // The old key is used more often, keep it and reject the candidate.
+                    this.order.offer(victim);
+                    if (this.cache.remove(candidate) != null) {
+                        this.order.remove(candidate);
+                        this.evictions.incrementAndGet();
                     }
+                    candidate = null;
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
             }
+        } finally {
+            this.evictionLock.unlock();
         }
     }
 
@@ -104,13 +172,126 @@ public void put(K key, V value) {
      * Remove from cache.
      */
     public void remove(Object key) {
-        this.cache.remove(key);
+        if (this.cache.remove(key) != null) {
+            this.order.remove(key);
+        }
     }
 
     /**
      * Return the cache.
+     * Keys removed directly from the map are skipped by the eviction order.
      */
     public Map<K, V> getCache() {
         return cache;
     }
+
+    /**
+     * Return the number of gets that found a value.
+     */
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * Return the number of gets that did not find a value.
+     */
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    /**
+     * Return the number of entries removed to keep the cache in its max size.
+     */
+    public long getEvictionCount() {
+        return this.evictions.get();
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters estimating the access frequency of keys.
+     * Each key increments one counter in each of 4 rows (the rows are interleaved in a single table),
+     * and the estimate is the minimum of its counters.
+     * After a sample of 10 times the table size all counters are halved, so old frequencies age out.
+     * Updates are not synchronized, a lost update only reduces the accuracy of the estimate.
+     */
+    protected static class FrequencySketch implements Serializable {
+        protected static final long[] SEEDS = {0x97cb3127L, 0xb2c4b6c9L, 0xca5a8267L, 0xd1bbcf79L};
+        protected static final long RESET_MASK = 0x7777777777777777L;
+
+        /** Each long holds 16 counters of 4 bits. */
+        protected final long[] table;
+        protected final int tableMask;
+        protected final int sampleSize;
+        protected int additions;
+
+        protected FrequencySketch(int maxSize) {
+            int size = Integer.highestOneBit(Math.max(8, Math.min(maxSize, 1 << 24) - 1) << 1);
+            this.table = new long[size];
+            this.tableMask = size - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        /**
+         * Return the estimated number of times the key was used, up to 15.
+         */
+        protected int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int row = 0; row < 4; row++) {
+                int index = indexOf(hash, row);
+                int shift = shiftOf(hash, row);
+                frequency = Math.min(frequency, (int) ((this.table[index] >>> shift) & 15L));
+            }
+            return frequency;
+        }
+
+        /**
+         * Record a use of the key, halving all counters once the sample size is reached.
+         */
+        protected void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean incremented = false;
+            for (int row = 0; row < 4; row++) {
+                int index = indexOf(hash, row);
+                int shift = shiftOf(hash, row);
+                long value = this.table[index];
+                if (((value >>> shift) & 15L) != 15L) {
+                    this.table[index] = value + (1L << shift);
+                    incremented = true;
+                }
+            }
+            if (incremented && (++this.additions >= this.sampleSize)) {
+                reset();
+            }
+        }
+
+        /**
+         * Halve all counters.
+         */
+        protected void reset() {
+            for (int index = 0; index < this.table.length; index++) {
+                this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+            }
+            this.additions = this.additions >>> 1;
+        }
+
+        protected int indexOf(int hash, int row) {
+            long rowHash = (hash + SEEDS[row]) * SEEDS[row];
+            rowHash += (rowHash >>> 32);
+            return ((int) rowHash) & this.tableMask;
+        }
+
+        /**
+         * Return the bit offset of the counter of the row within its long,
+         * each row uses a distinct group of 4 of the 16 counters.
+         */
+        protected int shiftOf(int hash, int row) {
+            return (((row << 2) + ((hash >>> (row << 3)) & 3)) << 2);
+        }
+
+        protected static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,8 +31,10 @@
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DeferredLockManager;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
@@ -41,20 +43,28 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.interceptors.CacheInterceptor;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
 
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -88,9 +98,15 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set<Object>> queryResultsInvalidationsByClass;
 
+    /** A map of query to the dependencies of its results, for the queries invalidated by row. */
+    protected Map<Object, QueryResultsDependencies> queryResultsDependencies;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
+    /** A map of the ordered indexes on the cache, for range lookups. */
+    protected Map<CacheIndex, OrderedCacheIndex> orderedCacheIndexes;
+
     /** A reference to the session owning this manager. */
     protected AbstractSession session;
 
@@ -106,6 +122,9 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** PERF: Used to avoid readLock and profiler checks to improve performance. */
     protected boolean isCacheAccessPreCheckRequired;
 
+    /** Off-heap tier of the shared cache, built lazily if the project has an off-heap cache size. */
+    protected transient volatile OffHeapCache offHeapCache;
+
     protected IdentityMapManager() {
     }
 
@@ -119,12 +138,16 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap<>();
             this.queryResults = new HashMap<>();
             this.queryResultsInvalidationsByClass = new HashMap<>();
+            this.queryResultsDependencies = new HashMap<>();
             this.cacheIndexes = new HashMap<>();
+            this.orderedCacheIndexes = new HashMap<>();
         } else {
             this.identityMaps = new ConcurrentHashMap<>();
             this.queryResults = new ConcurrentHashMap<>();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+            this.queryResultsDependencies = new ConcurrentHashMap<>();
             this.cacheIndexes = new ConcurrentHashMap<>();
+            this.orderedCacheIndexes = new ConcurrentHashMap<>();
         }
         checkIsCacheAccessPreCheckRequired();
     }
@@ -181,6 +204,11 @@ public CacheKey acquireLock(Object primaryKey, Class<?> domainClass, boolean for
         } else {
             cacheKey = getIdentityMap(descriptor, false).acquireLock(primaryKey, forMerge, isCacheCheckComplete);
         }
+        if (forMerge) {
+            // The object is about to change, its off-heap row is stale. The row is removed once the
+            // lock is held, as objects being built put their row while holding the lock.
+            removeFromOffHeapCache(primaryKey, descriptor);
+        }
 
         return cacheKey;
     }
@@ -212,6 +240,11 @@ public CacheKey acquireLockNoWait(Object primaryKey, Class<?> domainClass, boole
         } else {
             cacheKey = getIdentityMap(descriptor, false).acquireLockNoWait(primaryKey, forMerge);
         }
+        if (forMerge) {
+            // The object is about to change, its off-heap row is stale. The row is removed once the
+            // lock is held, as objects being built put their row while holding the lock.
+            removeFromOffHeapCache(primaryKey, descriptor);
+        }
 
         return cacheKey;
     }
@@ -243,6 +276,11 @@ public CacheKey acquireLockWithWait(Object primaryKey, Class<?> domainClass, boo
         } else {
             cacheKey = getIdentityMap(descriptor, false).acquireLockWithWait(primaryKey, forMerge, wait);
         }
+        if (forMerge) {
+            // The object is about to change, its off-heap row is stale. The row is removed once the
+            // lock is held, as objects being built put their row while holding the lock.
+            removeFromOffHeapCache(primaryKey, descriptor);
+        }
 
         return cacheKey;
     }
@@ -385,6 +423,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.SegmentedCacheIdentityMap_Class) {
+                return new SegmentedCacheIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -443,6 +483,7 @@ public IdentityMapManager clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap<>();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+        this.queryResultsDependencies = new ConcurrentHashMap<>();
     }
 
     /**
@@ -450,6 +491,120 @@ public void clearQueryCache() {
      */
     public void clearCacheIndexes() {
         this.cacheIndexes = new ConcurrentHashMap<>();
+        this.orderedCacheIndexes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the off-heap tier of the shared cache, or null if not used.
+     * The tier is only used by the shared (server or database session) cache,
+     * when the project defines an off-heap cache size.
+     */
+    public OffHeapCache getOffHeapCache() {
+        OffHeapCache cache = this.offHeapCache;
+        if (cache == null) {
+            long size = this.session.getProject().getOffHeapCacheSize();
+            if ((size <= 0) || this.session.isUnitOfWork() || this.session.isIsolatedClientSession() || this.session.isRemoteSession()) {
+                return null;
+            }
+            synchronized (this) {
+                cache = this.offHeapCache;
+                if (cache == null) {
+                    cache = new OffHeapCache(size);
+                    this.offHeapCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the rows of the descriptor's objects can be stored in the off-heap tier.
+     * Objects with a cache interceptor, serialized object policy or non shared isolation are not stored.
+     */
+    public boolean shouldUseOffHeapCache(ClassDescriptor descriptor) {
+        return (getOffHeapCache() != null) && descriptor.isSharedIsolation() && !descriptor.isDescriptorTypeAggregate()
+                && !descriptor.hasSerializedObjectPolicy() && (descriptor.getCachePolicy().getCacheInterceptorClass() == null);
+    }
+
+    /**
+     * INTERNAL:
+     * Store the row of the object into the off-heap tier.
+     * The row is built from the object and stored serialized by the session's serializer,
+     * the object is not stored if any of the fields of its descriptor is not in the row.
+     */
+    public void putInOffHeapCache(Object primaryKey, Object object, ClassDescriptor concreteDescriptor) {
+        OffHeapCache cache = getOffHeapCache();
+        Class<?> rootClass = concreteDescriptor.getRootDescriptor().getJavaClass();
+        if ((cache == null) || (primaryKey == null) || cache.containsKey(rootClass, primaryKey)) {
+            return;
+        }
+        AbstractRecord row = concreteDescriptor.getObjectBuilder().buildRow(object, this.session, WriteType.UNDEFINED);
+        List<DatabaseField> fields = concreteDescriptor.getFields();
+        int size = fields.size();
+        Object[] values = new Object[size];
+        for (int index = 0; index < size; index++) {
+            Object value = row.getIndicatingNoEntry(fields.get(index));
+            if (value == AbstractRecord.noEntry) {
+                return;
+            }
+            values[index] = value;
+        }
+        byte[] bytes;
+        try {
+            bytes = (byte[])getOffHeapCacheSerializer().serialize(values, this.session);
+        } catch (RuntimeException notSerializable) {
+            // Values that cannot be serialized are only kept in the identity map.
+            return;
+        }
+        cache.put(rootClass, primaryKey, concreteDescriptor, bytes);
+        this.session.updateProfile(SessionProfiler.OffHeapCacheSize, cache.getBytes());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the row stored for the primary key in the off-heap tier, or null if not stored.
+     */
+    public AbstractRecord getFromOffHeapCache(Object primaryKey, ClassDescriptor descriptor) {
+        OffHeapCache cache = getOffHeapCache();
+        if ((cache == null) || (primaryKey == null)) {
+            return null;
+        }
+        Class<?> rootClass = descriptor.getRootDescriptor().getJavaClass();
+        OffHeapCache.Value value = cache.getValue(rootClass, primaryKey);
+        ClassDescriptor concreteDescriptor = (value == null) ? null : (ClassDescriptor)value.getState();
+        if ((concreteDescriptor == null) || !descriptor.getJavaClass().isAssignableFrom(concreteDescriptor.getJavaClass())) {
+            this.session.incrementProfile(SessionProfiler.OffHeapCacheMisses);
+            return null;
+        }
+        Object[] values = (Object[])getOffHeapCacheSerializer().deserialize(value.getBytes(), this.session);
+        List<DatabaseField> fields = concreteDescriptor.getFields();
+        this.session.incrementProfile(SessionProfiler.OffHeapCacheHits);
+        return new ArrayRecord(new Vector<>(fields), fields.toArray(new DatabaseField[values.length]), values);
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the row stored for the primary key from the off-heap tier.
+     * This must be called whenever the cached object changes.
+     */
+    public void removeFromOffHeapCache(Object primaryKey, ClassDescriptor descriptor) {
+        OffHeapCache cache = this.offHeapCache;
+        if ((cache != null) && (primaryKey != null) && (descriptor != null)) {
+            cache.remove(descriptor.getRootDescriptor().getJavaClass(), primaryKey);
+        }
+    }
+
+    /**
+     * Return the serializer used for the off-heap tier, the session's serializer if it serializes to bytes.
+     */
+    protected Serializer getOffHeapCacheSerializer() {
+        Serializer serializer = this.session.getSerializer();
+        if ((serializer != null) && (serializer.getType() == ClassConstants.APBYTE)) {
+            return serializer;
+        }
+        return JavaSerializer.instance;
     }
 
     /**
@@ -465,6 +620,7 @@ public void clearQueryCache(ReadQuery query) {
                 queryKey = query;
             }
             this.queryResults.remove(queryKey);
+            this.queryResultsDependencies.remove(queryKey);
         }
     }
 
@@ -479,7 +635,7 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
-                this.queryResults.remove(queryKey);
+                removeQueryResults(queryKey);
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
@@ -488,6 +644,68 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove the results for the class affected by the changes from the query cache.
+     * The queries invalidated by row only invalidate the results the changed objects of their class
+     * are in or may be selected by, the other queries invalidate all their results.
+     * This is used to invalidate the query cache on commit and on merge of a remote change set.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        if ((this.queryResultsDependencies == null) || this.queryResultsDependencies.isEmpty() || (changeSet == null)) {
+            invalidateQueryCache(classThatChanged);
+            return;
+        }
+        List<ObjectChangeSet> changes = null;
+        List<ObjectChangeSet> deletions = null;
+        Class<?> javaClass = classThatChanged;
+        while ((javaClass != null) && (javaClass != ClassConstants.OBJECT)) {
+            Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(javaClass);
+            if (invalidations != null) {
+                for (Object queryKey : invalidations) {
+                    QueryResultsDependencies dependencies = this.queryResultsDependencies.get(queryKey);
+                    if ((dependencies != null) && dependencies.appliesTo(classThatChanged)) {
+                        if (changes == null) {
+                            changes = new ArrayList<>();
+                            for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().values()) {
+                                if (objectChanges.getClassType(this.session) == classThatChanged) {
+                                    changes.add(objectChanges);
+                                }
+                            }
+                            deletions = new ArrayList<>();
+                            for (ObjectChangeSet objectChanges : changeSet.getDeletedObjects().values()) {
+                                if (objectChanges.getClassType(this.session) == classThatChanged) {
+                                    deletions.add(objectChanges);
+                                }
+                            }
+                        }
+                        if (dependencies.invalidate(changes, false) || dependencies.invalidate(deletions, true)) {
+                            removeQueryResults(queryKey);
+                        }
+                    } else {
+                        removeQueryResults(queryKey);
+                    }
+                }
+            }
+            javaClass = javaClass.getSuperclass();
+        }
+    }
+
+    /**
+     * Remove all the results of the query from the query cache.
+     */
+    protected void removeQueryResults(Object queryKey) {
+        if (this.queryResults.remove(queryKey) != null) {
+            QueryResultsDependencies dependencies = this.queryResultsDependencies.remove(queryKey);
+            if (dependencies != null) {
+                this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations, dependencies.getQuery());
+            } else if (queryKey instanceof DatabaseQuery) {
+                this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations, (DatabaseQuery) queryKey);
+            } else {
+                this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations);
+            }
+        }
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -519,6 +737,14 @@ public boolean containsKey(Object key, Class<?> theClass, ClassDescriptor descri
      * Query the cache in-memory.
      */
     public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects) {
+        return getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects, null);
+    }
+
+    /**
+     * Query the cache in-memory.
+     * PERF: If not null, conform the objects with the compiled selection criteria instead of interpreting the expression.
+     */
+    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects, InMemoryEvaluator evaluator) {
         ClassDescriptor descriptor = this.session.getDescriptor(theClass);
         this.session.startOperationProfile(SessionProfiler.Caching);
         Vector<Object> objects = null;
@@ -534,13 +760,29 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
             objects = new Vector<>();
             IdentityMap map = getIdentityMap(descriptor, false);
 
+            // PERF: Only conform the objects in the range of an ordered index, if the criteria bound an ordered index.
+            List<CacheKey> indexedCacheKeys = null;
+            if ((selectionCriteria != null) && (this.orderedCacheIndexes != null) && !this.orderedCacheIndexes.isEmpty()) {
+                indexedCacheKeys = getCacheKeysByOrderedIndex(selectionCriteria, (AbstractRecord)translationRow, descriptor, map);
+            }
             // Bug #522635 - if policy is set to trigger indirection, then iterate over a copy of the cache keys collection
             //               to avoid a ConcurrentModificationException
-            final Enumeration<CacheKey> cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            final Enumeration<CacheKey> cacheEnum;
+            if (indexedCacheKeys != null) {
+                cacheEnum = Collections.enumeration(indexedCacheKeys);
+            } else {
+                cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            }
 
             // bug 327900 - If don't read subclasses is set on the descriptor heed it.
             boolean readSubclassesOrNoInheritance = (!descriptor.hasInheritance() || descriptor.getInheritancePolicy().shouldReadSubclasses());
 
+            // The values of the constants and parameters of the compiled selection criteria.
+            Object[] values = null;
+            if ((evaluator != null) && (selectionCriteria != null)) {
+                values = evaluator.getValues((AbstractRecord)translationRow, this.session, valueHolderPolicy);
+            }
+
             // cache the current time to avoid calculating it every time through the loop
             long currentTimeInMillis = System.currentTimeMillis();
             while (cacheEnum.hasMoreElements()) {
@@ -562,7 +804,10 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
                         objects.add(object);
                     } else {
                         try {
-                            if (selectionCriteria.doesConform(object, this.session, (AbstractRecord)translationRow, valueHolderPolicy)) {
+                            boolean conforms = (values != null)
+                                    ? evaluator.doesConform(object, values, this.session, (AbstractRecord)translationRow, valueHolderPolicy)
+                                    : selectionCriteria.doesConform(object, this.session, (AbstractRecord)translationRow, valueHolderPolicy);
+                            if (conforms) {
                                 objects.add(object);
                             }
                         } catch (QueryException queryException) {
@@ -585,6 +830,31 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
         return objects;
     }
 
+    /**
+     * Return the cache keys of the objects in the range of the first ordered index bounded by the selection criteria,
+     * or null if no ordered index can be used.
+     * An ordered index is only used with a full identity map, if it indexes all the objects of the cache,
+     * as the objects put in the cache without being indexed, or garbage collected, are not in the index.
+     */
+    protected List<CacheKey> getCacheKeysByOrderedIndex(Expression selectionCriteria, AbstractRecord translationRow, ClassDescriptor descriptor, IdentityMap map) {
+        if (!descriptor.getCachePolicy().hasCacheIndexes() || (map.getClass() != ClassConstants.FullIdentityMap_Class)) {
+            return null;
+        }
+        for (CacheIndex index : descriptor.getCachePolicy().getCacheIndexes().values()) {
+            OrderedCacheIndex orderedIndex = index.isOrdered() ? this.orderedCacheIndexes.get(index) : null;
+            if ((orderedIndex != null) && (orderedIndex.getSize() >= map.getSize())) {
+                List<CacheKey> cacheKeys = orderedIndex.getCacheKeys(selectionCriteria, translationRow, descriptor, this.session);
+                if (cacheKeys != null) {
+                    this.session.incrementProfile(SessionProfiler.CacheIndexRangeLookups);
+                    // Ignore the cache keys no longer in the cache.
+                    cacheKeys.removeIf(cacheKey -> map.getCacheKey(cacheKey.getKey(), false) != cacheKey);
+                    return cacheKeys;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * ADVANCED:
      * Using a list of Entity PK this method will attempt to bulk load the entire list from the cache.
@@ -734,6 +1004,9 @@ public CacheKey getCacheKeyForObject(Object primaryKey, Class<?> theClass, Class
         if (primaryKey == null) {
             return null;
         }
+        if (forMerge) {
+            removeFromOffHeapCache(primaryKey, descriptor);
+        }
         IdentityMap map = getIdentityMap(descriptor, true);
         if (map == null) {
             return null;
@@ -1095,6 +1368,36 @@ public void putCacheKeyByIndex(CacheIndex index, CacheId indexValues, CacheKey c
             }
         }
         map.put(indexValues, cacheKey, null, 0);
+        // Ordered indexes are only maintained for full identity maps, as the objects of the other caches are removed without notice.
+        if (index.isOrdered() && (cacheKey != null) && (this.orderedCacheIndexes != null)
+                && ClassConstants.FullIdentityMap_Class.equals(descriptor.getCachePolicy().getIdentityMapClass())) {
+            OrderedCacheIndex orderedIndex = this.orderedCacheIndexes.get(index);
+            if (orderedIndex == null) {
+                synchronized (this.orderedCacheIndexes) {
+                    orderedIndex = this.orderedCacheIndexes.get(index);
+                    if (orderedIndex == null) {
+                        orderedIndex = new OrderedCacheIndex(index);
+                        this.orderedCacheIndexes.put(index, orderedIndex);
+                    }
+                }
+            }
+            orderedIndex.put(indexValues.getPrimaryKey()[0], cacheKey);
+        }
+    }
+
+    /**
+     * Remove the object of the primary key from the ordered indexes of the descriptor.
+     */
+    protected void removeFromOrderedCacheIndexes(Object key, ClassDescriptor descriptor) {
+        if ((this.orderedCacheIndexes == null) || this.orderedCacheIndexes.isEmpty() || !descriptor.getCachePolicy().hasCacheIndexes()) {
+            return;
+        }
+        for (CacheIndex index : descriptor.getCachePolicy().getCacheIndexes().values()) {
+            OrderedCacheIndex orderedIndex = index.isOrdered() ? this.orderedCacheIndexes.get(index) : null;
+            if (orderedIndex != null) {
+                orderedIndex.remove(key);
+            }
+        }
     }
 
     protected AbstractSession getSession() {
@@ -1181,6 +1484,14 @@ public void initializeIdentityMap(Class<?> theClass) throws EclipseLinkException
         getIdentityMaps().put(javaClass, identityMap);
         clearLastAccessedIdentityMap();
         invalidateQueryCache(theClass);
+        if ((this.orderedCacheIndexes != null) && descriptor.getCachePolicy().hasCacheIndexes()) {
+            for (CacheIndex index : descriptor.getCachePolicy().getCacheIndexes().values()) {
+                this.orderedCacheIndexes.remove(index);
+            }
+        }
+        if (this.offHeapCache != null) {
+            this.offHeapCache.clear(javaClass);
+        }
     }
 
     public void initializeIdentityMaps() {
@@ -1188,6 +1499,9 @@ public void initializeIdentityMaps() {
         setIdentityMaps(new ConcurrentHashMap<>());
         clearQueryCache();
         clearCacheIndexes();
+        if (this.offHeapCache != null) {
+            this.offHeapCache.clear();
+        }
     }
 
     /**
@@ -1397,6 +1711,27 @@ public CacheKey putInIdentityMap(Object domainObject, Object keys, Object writeL
      * different parameter values access different caches.
      */
     public void putQueryResult(ReadQuery query, List parameters, Object results) {
+        putQueryResult(query, null, parameters, results);
+    }
+
+    /**
+     * Set the results for a query, for the arguments of the query.
+     * Query results are cached based on the parameter values provided to the query
+     * different parameter values access different caches.
+     */
+    public void putQueryResult(ReadQuery query, AbstractRecord arguments, Object results) {
+        List parameters = null;
+        if (arguments != null) {
+            parameters = arguments.getValues();
+        }
+        putQueryResult(query, arguments, parameters, results);
+    }
+
+    /**
+     * Set the results for a query.
+     * The arguments are used to record the dependencies of the results of the queries invalidated by row.
+     */
+    protected void putQueryResult(ReadQuery query, AbstractRecord arguments, List parameters, Object results) {
         if ((results == null) || (results == InvalidObject.instance())) {
             if (query.getQueryResultsCachePolicy().isNullIgnored()) {
                 return;
@@ -1418,6 +1753,16 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
                         size = 1;
                     }
                     map = buildNewIdentityMap(query.getQueryResultsCachePolicy().getCacheType(), size, null, false);
+                    // Record the dependencies of the results to only invalidate the results affected by a change.
+                    if (query.getQueryResultsCachePolicy().getInvalidateOnChange() && query.getQueryResultsCachePolicy().getInvalidateOnRowChange()
+                            && (query.isReadAllQuery() || query.isReadObjectQuery()) && !query.isReportQuery()) {
+                        QueryResultsDependencies dependencies = new QueryResultsDependencies((ObjectLevelReadQuery) query, map, this.session);
+                        if (dependencies.isSupported()) {
+                            this.queryResultsDependencies.put(queryKey, dependencies);
+                        } else {
+                            this.queryResultsDependencies.remove(queryKey);
+                        }
+                    }
                     this.queryResults.put(queryKey, map);
                     // Mark the query to be invalidated for the query classes.
                     if (query.getQueryResultsCachePolicy().getInvalidateOnChange()) {
@@ -1446,7 +1791,12 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         if (results == null) {
             results = InvalidObject.instance();
         }
-        map.put(lookupParameters, results, null, queryTime);
+        QueryResultsDependencies dependencies = this.queryResultsDependencies.get(queryKey);
+        if (dependencies != null) {
+            dependencies.put(lookupParameters, arguments, results, queryTime);
+        } else {
+            map.put(lookupParameters, results, null, queryTime);
+        }
     }
 
     /**
@@ -1476,6 +1826,8 @@ public Object removeFromIdentityMap(Object key, Class<?> domainClass, ClassDescr
         if (key == null) {
             return null;
         }
+        removeFromOffHeapCache(key, descriptor);
+        removeFromOrderedCacheIndexes(key, descriptor);
         IdentityMap map = getIdentityMap(descriptor, false);
         Object value;
 
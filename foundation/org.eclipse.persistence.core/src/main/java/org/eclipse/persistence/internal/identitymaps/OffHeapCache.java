@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p><b>Purpose</b>: A byte budgeted store of serialized entity state held outside the Java heap.
+ * <p>
+ * Entries are keyed by the root class of the identity map and the primary key ({@link CacheId}),
+ * and are appended to direct {@link ByteBuffer} slabs allocated on demand up to the byte budget.
+ * Slabs are used as a ring: when the slab after the current one must be reused, every entry
+ * written into it is evicted (FIFO eviction of the oldest slab).
+ * <p>
+ * Writes are serialized by a lock, reads take no lock. Each slab has a generation that is
+ * incremented before the slab is overwritten, a read copies the bytes and then validates the
+ * generation, a read that raced with an overwrite is treated as a miss.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Store and return serialized bytes by class and primary key.
+ *    <li> Bound the off-heap memory used to the configured byte budget.
+ *    <li> Count hits, misses, evictions and the bytes held by live entries.
+ * </ul>
+ * @see IdentityMapManager#getOffHeapCache()
+ */
+public class OffHeapCache {
+
+    /** Default size of a slab, the budget is split into slabs of this size. */
+    public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+    /** Location of the bytes of an entry. */
+    protected static final class Entry {
+        protected final Object primaryKey;
+        protected final Object state;
+        protected final int slab;
+        protected final int generation;
+        protected final int offset;
+        protected final int length;
+
+        protected Entry(Object primaryKey, Object state, int slab, int generation, int offset, int length) {
+            this.primaryKey = primaryKey;
+            this.state = state;
+            this.slab = slab;
+            this.generation = generation;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /** Bytes and state object read from an entry. */
+    public static final class Value {
+        private final byte[] bytes;
+        private final Object state;
+
+        Value(byte[] bytes, Object state) {
+            this.bytes = bytes;
+            this.state = state;
+        }
+
+        /**
+         * Return the bytes read from the entry.
+         */
+        public byte[] getBytes() {
+            return this.bytes;
+        }
+
+        /**
+         * Return the on heap state object stored with the bytes, such as the descriptor the bytes were built for.
+         */
+        public Object getState() {
+            return this.state;
+        }
+    }
+
+    /** Entries stored by root class and primary key. */
+    protected final Map<Class<?>, Map<Object, Entry>> entries;
+
+    /** Slabs, allocated on first use. */
+    protected final ByteBuffer[] slabs;
+
+    /** Entries written to each slab, used to evict the slab. Guarded by the write lock. */
+    protected final List<Object[]>[] slabEntries;
+
+    /** Generation of each slab, incremented before the slab is reused. */
+    protected final AtomicIntegerArray generations;
+
+    protected final int slabSize;
+
+    /** Guards the write position and slab reuse. */
+    protected final ReentrantLock writeLock;
+
+    /** Slab currently written to. Guarded by the write lock. */
+    protected int currentSlab;
+
+    /** Position in the current slab of the next write. Guarded by the write lock. */
+    protected int writePosition;
+
+    protected final AtomicLong hits;
+    protected final AtomicLong misses;
+    protected final AtomicLong evictions;
+    protected final AtomicLong bytes;
+
+    /**
+     * Create a cache bounded by the byte budget, using the default slab size.
+     */
+    public OffHeapCache(long maxBytes) {
+        this(maxBytes, DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * Create a cache bounded by the byte budget, split into slabs of the size.
+     * At least two slabs are used, so the slab being evicted is never the only one.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public OffHeapCache(long maxBytes, int slabSize) {
+        int slabCount = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxBytes / slabSize));
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabEntries = new List[slabCount];
+        for (int index = 0; index < slabCount; index++) {
+            this.slabEntries[index] = new ArrayList<>();
+        }
+        this.generations = new AtomicIntegerArray(slabCount);
+        this.entries = new ConcurrentHashMap<>();
+        this.writeLock = new ReentrantLock();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.bytes = new AtomicLong();
+    }
+
+    /**
+     * Return the bytes stored for the primary key, or null if not stored, evicted or overwritten.
+     */
+    public byte[] get(Class<?> rootClass, Object primaryKey) {
+        Value value = getValue(rootClass, primaryKey);
+        return (value == null) ? null : value.getBytes();
+    }
+
+    /**
+     * Return the bytes and the on heap state object stored for the primary key,
+     * or null if not stored, evicted or overwritten.
+     * Both are read from the same entry, so the state is always the one stored with the bytes.
+     */
+    public Value getValue(Class<?> rootClass, Object primaryKey) {
+        Map<Object, Entry> classEntries = this.entries.get(rootClass);
+        Entry entry = (classEntries == null) ? null : classEntries.get(primaryKey);
+        if (entry == null) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        byte[] bytes = new byte[entry.length];
+        ByteBuffer slab = this.slabs[entry.slab].duplicate();
+        slab.position(entry.offset);
+        slab.get(bytes);
+        // Order the reads of the slab before the read of the generation, as StampedLock.validate.
+        VarHandle.acquireFence();
+        if (this.generations.get(entry.slab) != entry.generation) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        this.hits.incrementAndGet();
+        return new Value(bytes, entry.state);
+    }
+
+    /**
+     * Return if bytes are stored for the primary key.
+     */
+    public boolean containsKey(Class<?> rootClass, Object primaryKey) {
+        Map<Object, Entry> classEntries = this.entries.get(rootClass);
+        return (classEntries != null) && classEntries.containsKey(primaryKey);
+    }
+
+    /**
+     * Store the bytes for the primary key, replacing any previous value.
+     * The oldest slab is evicted if the current slab is full.
+     * Values larger than a slab are not stored.
+     * @param state an on heap object kept with the entry, returned by {@link #getValue(Class, Object)}.
+     */
+    public void put(Class<?> rootClass, Object primaryKey, Object state, byte[] value) {
+        int length = value.length;
+        if (length > this.slabSize) {
+            return;
+        }
+        Map<Object, Entry> classEntries = this.entries.computeIfAbsent(rootClass, key -> new ConcurrentHashMap<>());
+        this.writeLock.lock();
+        try {
+            if ((this.writePosition + length) > this.slabSize) {
+                nextSlab();
+            }
+            int slabIndex = this.currentSlab;
+            ByteBuffer slab = this.slabs[slabIndex];
+            if (slab == null) {
+                slab = ByteBuffer.allocateDirect(this.slabSize);
+                this.slabs[slabIndex] = slab;
+            }
+            ByteBuffer target = slab.duplicate();
+            target.position(this.writePosition);
+            target.put(value);
+            Entry entry = new Entry(primaryKey, state, slabIndex, this.generations.get(slabIndex), this.writePosition, length);
+            this.writePosition += length;
+            this.slabEntries[slabIndex].add(new Object[] {rootClass, entry});
+            Entry previous = classEntries.put(primaryKey, entry);
+            this.bytes.addAndGet(length);
+            if (previous != null) {
+                this.bytes.addAndGet(-previous.length);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Move to the next slab, evicting all entries previously written to it.
+     * Callers of this method must hold the write lock.
+     */
+    protected void nextSlab() {
+        this.currentSlab = (this.currentSlab + 1) % this.slabs.length;
+        this.writePosition = 0;
+        // Invalidate concurrent readers before any bytes are overwritten.
+        this.generations.incrementAndGet(this.currentSlab);
+        List<Object[]> evicted = this.slabEntries[this.currentSlab];
+        for (Object[] written : evicted) {
+            Entry entry = (Entry)written[1];
+            Map<Object, Entry> classEntries = this.entries.get(written[0]);
+            if ((classEntries != null) && classEntries.remove(entry.primaryKey, entry)) {
+                this.bytes.addAndGet(-entry.length);
+                this.evictions.incrementAndGet();
+            }
+        }
+        evicted.clear();
+    }
+
+    /**
+     * Remove the entry for the primary key, if any.
+     * The slab space is reclaimed when the slab is next reused.
+     */
+    public void remove(Class<?> rootClass, Object primaryKey) {
+        Map<Object, Entry> classEntries = this.entries.get(rootClass);
+        if (classEntries != null) {
+            Entry entry = classEntries.remove(primaryKey);
+            if (entry != null) {
+                this.bytes.addAndGet(-entry.length);
+            }
+        }
+    }
+
+    /**
+     * Remove all entries of the class.
+     */
+    public void clear(Class<?> rootClass) {
+        Map<Object, Entry> classEntries = this.entries.remove(rootClass);
+        if (classEntries != null) {
+            for (Entry entry : classEntries.values()) {
+                this.bytes.addAndGet(-entry.length);
+            }
+        }
+    }
+
+    /**
+     * Remove all entries, the slabs are kept and reused.
+     */
+    public void clear() {
+        this.writeLock.lock();
+        try {
+            this.entries.clear();
+            for (int index = 0; index < this.slabs.length; index++) {
+                this.generations.incrementAndGet(index);
+                this.slabEntries[index].clear();
+            }
+            this.currentSlab = 0;
+            this.writePosition = 0;
+            this.bytes.set(0);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of reads that returned bytes.
+     */
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * Return the number of reads that did not return bytes.
+     */
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    /**
+     * Return the number of entries removed to reuse their slab.
+     */
+    public long getEvictionCount() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Return the number of bytes held by live entries.
+     */
+    public long getBytes() {
+        return this.bytes.get();
+    }
+
+    /**
+     * Return the maximum number of bytes the cache can allocate.
+     */
+    public long getMaxBytes() {
+        return (long) this.slabSize * this.slabs.length;
+    }
+}
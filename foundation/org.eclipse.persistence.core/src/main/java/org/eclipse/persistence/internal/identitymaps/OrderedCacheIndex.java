@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.eclipse.persistence.descriptors.CacheIndex;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.expressions.CompoundExpression;
+import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.expressions.ParameterExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+
+/**
+ * <p><b>Purpose</b>: Keep the cache keys of an ordered cache index sorted on the value of the first indexed field,
+ * so an in-memory query on a range or a prefix of the field only conforms the objects in the range.
+ * <p>
+ * Numbers are ordered by their double value, and dates by their time in milliseconds,
+ * the same as the in-memory comparisons, strings by their natural order.
+ * Each lookup returns a superset of the objects matching the range (the bounds are inclusive),
+ * so the objects must still be conformed to the selection criteria.
+ * The index is not used if it contains values of different types,
+ * or values of a different type than the values of the selection criteria.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Index the cache keys by the value of the first indexed field, and re-index them on update.
+ *    <li> Extract the range of the first indexed field from the conjunctions of the selection criteria.
+ *    <li> Return the cache keys in the range.
+ * </ul>
+ * @see CacheIndex#setIsOrdered(boolean)
+ * @see IdentityMapManager#getAllFromIdentityMap
+ */
+public class OrderedCacheIndex {
+
+    /** Marks a null, or not comparable value, never in a range. */
+    protected static final Object NO_VALUE = new Object();
+
+    /** The first indexed field. */
+    protected final DatabaseField field;
+
+    /** The cache keys by primary key, by value. */
+    protected final ConcurrentSkipListMap<Object, Map<Object, CacheKey>> cacheKeysByValue;
+
+    /** The value of each indexed primary key. */
+    protected final Map<Object, Object> valuesByKey;
+
+    /** The class of the indexed values, null until a value is indexed. */
+    protected volatile Class<?> valueClass;
+
+    /** Set if values of different classes were indexed, the index can then no longer be used. */
+    protected volatile boolean isMixed;
+
+    public OrderedCacheIndex(CacheIndex index) {
+        this.field = index.getFields().get(0);
+        this.cacheKeysByValue = new ConcurrentSkipListMap<>();
+        this.valuesByKey = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Return the number of indexed objects.
+     */
+    public int getSize() {
+        return this.valuesByKey.size();
+    }
+
+    /**
+     * Index the cache key by the value of the first indexed field, moving it if it was indexed by another value.
+     */
+    public synchronized void put(Object value, CacheKey cacheKey) {
+        Object primaryKey = cacheKey.getKey();
+        if (primaryKey == null) {
+            return;
+        }
+        Object orderedValue = getOrderedValue(value);
+        if (orderedValue != NO_VALUE) {
+            if (this.valueClass == null) {
+                this.valueClass = orderedValue.getClass();
+            } else if (this.valueClass != orderedValue.getClass()) {
+                this.isMixed = true;
+            }
+        }
+        Object previousValue = this.valuesByKey.put(primaryKey, orderedValue);
+        if ((previousValue != null) && (previousValue != NO_VALUE) && !previousValue.equals(orderedValue)) {
+            removeFromValue(previousValue, primaryKey);
+        }
+        if (orderedValue != NO_VALUE) {
+            this.cacheKeysByValue.computeIfAbsent(orderedValue, key -> new ConcurrentHashMap<>()).put(primaryKey, cacheKey);
+        }
+    }
+
+    /**
+     * Remove the object of the primary key from the index.
+     */
+    public synchronized void remove(Object primaryKey) {
+        Object value = this.valuesByKey.remove(primaryKey);
+        if ((value != null) && (value != NO_VALUE)) {
+            removeFromValue(value, primaryKey);
+        }
+    }
+
+    protected void removeFromValue(Object value, Object primaryKey) {
+        Map<Object, CacheKey> cacheKeys = this.cacheKeysByValue.get(value);
+        if (cacheKeys != null) {
+            cacheKeys.remove(primaryKey);
+            if (cacheKeys.isEmpty()) {
+                this.cacheKeysByValue.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Return the cache keys in the range of the first indexed field selected by the selection criteria,
+     * or null if the selection criteria do not bound the field, or the index cannot be used.
+     */
+    public List<CacheKey> getCacheKeys(Expression selectionCriteria, AbstractRecord translationRow, ClassDescriptor descriptor, AbstractSession session) {
+        if (this.isMixed || (this.valueClass == null)) {
+            return null;
+        }
+        Range range = new Range();
+        if (!extractRange(selectionCriteria, selectionCriteria.getBuilder(), translationRow, descriptor, session, range) || !range.isBounded()) {
+            return null;
+        }
+        List<CacheKey> cacheKeys = new ArrayList<>();
+        if (range.isEmpty()) {
+            return cacheKeys;
+        }
+        ConcurrentNavigableMap<Object, Map<Object, CacheKey>> subMap = this.cacheKeysByValue;
+        if (range.lower != null) {
+            subMap = subMap.tailMap(range.lower, true);
+        }
+        if (range.upper != null) {
+            subMap = subMap.headMap(range.upper, range.isUpperInclusive);
+        }
+        for (Map<Object, CacheKey> values : subMap.values()) {
+            cacheKeys.addAll(values.values());
+        }
+        return cacheKeys;
+    }
+
+    /**
+     * Intersect the range with the bounds of the first indexed field in the conjunctions of the selection criteria.
+     * Return false if a bound has a different type than the indexed values.
+     */
+    protected boolean extractRange(Expression criteria, Expression builder, AbstractRecord translationRow, ClassDescriptor descriptor, AbstractSession session, Range range) {
+        if (criteria.isLogicalExpression()) {
+            CompoundExpression compound = (CompoundExpression) criteria;
+            if (compound.getOperator().getSelector() == ExpressionOperator.And) {
+                return extractRange(compound.getFirstChild(), builder, translationRow, descriptor, session, range)
+                        && extractRange(compound.getSecondChild(), builder, translationRow, descriptor, session, range);
+            }
+            return true;
+        }
+        if (criteria.isRelationExpression()) {
+            CompoundExpression relation = (CompoundExpression) criteria;
+            int selector = relation.getOperator().getSelector();
+            Expression attribute = relation.getFirstChild();
+            Expression value = relation.getSecondChild();
+            if (!isIndexedAttribute(attribute, builder, descriptor)) {
+                attribute = relation.getSecondChild();
+                value = relation.getFirstChild();
+                selector = reverse(selector);
+                if (!isIndexedAttribute(attribute, builder, descriptor)) {
+                    return true;
+                }
+            }
+            Object bound = getValue(value, translationRow, session);
+            if (bound == null) {
+                return true;
+            }
+            switch (selector) {
+                case ExpressionOperator.Equal:
+                    return range.intersect(this, bound, bound, true);
+                case ExpressionOperator.LessThan:
+                case ExpressionOperator.LessThanEqual:
+                    return range.intersect(this, null, bound, true);
+                case ExpressionOperator.GreaterThan:
+                case ExpressionOperator.GreaterThanEqual:
+                    return range.intersect(this, bound, null, true);
+                default:
+                    return true;
+            }
+        }
+        if (criteria.isFunctionExpression()) {
+            int selector = ((FunctionExpression) criteria).getOperator().getSelector();
+            List<Expression> children = ((FunctionExpression) criteria).getChildren();
+            if ((selector == ExpressionOperator.Between) && (children.size() == 3) && isIndexedAttribute(children.get(0), builder, descriptor)) {
+                Object lower = getValue(children.get(1), translationRow, session);
+                Object upper = getValue(children.get(2), translationRow, session);
+                if ((lower != null) && (upper != null)) {
+                    return range.intersect(this, lower, upper, true);
+                }
+            } else if ((selector == ExpressionOperator.Like) && (children.size() == 2) && isIndexedAttribute(children.get(0), builder, descriptor)) {
+                Object pattern = getValue(children.get(1), translationRow, session);
+                if ((pattern instanceof String) && (this.valueClass == String.class)) {
+                    return intersectPrefix((String) pattern, range);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Intersect the range with the strings starting with the prefix of the like pattern.
+     */
+    protected boolean intersectPrefix(String pattern, Range range) {
+        int end = 0;
+        while ((end < pattern.length()) && (pattern.charAt(end) != '%') && (pattern.charAt(end) != '_')) {
+            end++;
+        }
+        if (end == 0) {
+            return true;
+        }
+        String prefix = pattern.substring(0, end);
+        // The strings starting with the prefix are before the prefix with its last incrementable character incremented.
+        String next = null;
+        for (int index = prefix.length() - 1; index >= 0; index--) {
+            if (prefix.charAt(index) != Character.MAX_VALUE) {
+                next = prefix.substring(0, index) + (char) (prefix.charAt(index) + 1);
+                break;
+            }
+        }
+        return range.intersect(this, prefix, next, false);
+    }
+
+    /**
+     * Return if the expression is the direct attribute of the first indexed field, without conversion.
+     */
+    protected boolean isIndexedAttribute(Expression expression, Expression builder, ClassDescriptor descriptor) {
+        if (!expression.isQueryKeyExpression() || (((QueryKeyExpression) expression).getBaseExpression() != builder)) {
+            return false;
+        }
+        DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(((QueryKeyExpression) expression).getName());
+        return (mapping != null) && mapping.isAbstractDirectMapping()
+                && (((AbstractDirectMapping) mapping).getConverter() == null) && this.field.equals(mapping.getField());
+    }
+
+    /**
+     * Return the value of a constant or parameter, or null.
+     */
+    protected Object getValue(Expression expression, AbstractRecord translationRow, AbstractSession session) {
+        if (expression.isConstantExpression()) {
+            return ((ConstantExpression) expression).getValue();
+        } else if (expression.isParameterExpression() && !((ParameterExpression) expression).isProperty() && (translationRow != null)) {
+            return ((ParameterExpression) expression).getValue(translationRow, session);
+        }
+        return null;
+    }
+
+    /**
+     * Return the selector of the relation with its operands swapped.
+     */
+    protected static int reverse(int selector) {
+        switch (selector) {
+            case ExpressionOperator.LessThan:
+                return ExpressionOperator.GreaterThan;
+            case ExpressionOperator.LessThanEqual:
+                return ExpressionOperator.GreaterThanEqual;
+            case ExpressionOperator.GreaterThan:
+                return ExpressionOperator.LessThan;
+            case ExpressionOperator.GreaterThanEqual:
+                return ExpressionOperator.LessThanEqual;
+            case ExpressionOperator.Equal:
+                return ExpressionOperator.Equal;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Return the value ordered as the in-memory comparisons: numbers by their double value,
+     * dates by their time, other comparable values as is, or NO_VALUE.
+     */
+    protected static Object getOrderedValue(Object value) {
+        if (value instanceof Number number) {
+            double doubleValue = number.doubleValue();
+            return Double.isNaN(doubleValue) ? NO_VALUE : (Object) doubleValue;
+        } else if (value instanceof java.util.Date date) {
+            return new java.util.Date(date.getTime());
+        } else if (value instanceof Comparable) {
+            return value;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * The inclusive lower bound and upper bound of the first indexed field, null if unbounded.
+     */
+    protected static class Range {
+        protected Object lower;
+        protected Object upper;
+        protected boolean isUpperInclusive = true;
+        protected boolean isEmpty;
+
+        protected boolean isBounded() {
+            return this.isEmpty || (this.lower != null) || (this.upper != null);
+        }
+
+        protected boolean isEmpty() {
+            return this.isEmpty;
+        }
+
+        /**
+         * Intersect the range with the bounds, return false if a bound has a different type than the indexed values.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected boolean intersect(OrderedCacheIndex index, Object newLower, Object newUpper, boolean isNewUpperInclusive) {
+            if (newLower != null) {
+                newLower = getOrderedValue(newLower);
+                if ((newLower == NO_VALUE) || (newLower.getClass() != index.valueClass)) {
+                    return false;
+                }
+                if ((this.lower == null) || (((Comparable) newLower).compareTo(this.lower) > 0)) {
+                    this.lower = newLower;
+                }
+            }
+            if (newUpper != null) {
+                newUpper = getOrderedValue(newUpper);
+                if ((newUpper == NO_VALUE) || (newUpper.getClass() != index.valueClass)) {
+                    return false;
+                }
+                int compare = (this.upper == null) ? -1 : ((Comparable) newUpper).compareTo(this.upper);
+                if ((compare < 0) || ((compare == 0) && !isNewUpperInclusive)) {
+                    this.upper = newUpper;
+                    this.isUpperInclusive = isNewUpperInclusive;
+                }
+            }
+            if ((this.lower != null) && (this.upper != null)) {
+                int compare = ((Comparable) this.lower).compareTo(this.upper);
+                if ((compare > 0) || ((compare == 0) && !this.isUpperInclusive)) {
+                    this.isEmpty = true;
+                }
+            }
+            return true;
+        }
+    }
+}
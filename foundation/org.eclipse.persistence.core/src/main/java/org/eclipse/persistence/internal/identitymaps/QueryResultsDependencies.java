@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.expressions.CompoundExpression;
+import org.eclipse.persistence.internal.expressions.ExpressionIterator;
+import org.eclipse.persistence.internal.expressions.FieldExpression;
+import org.eclipse.persistence.internal.expressions.ParameterExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.queries.ContainerPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.querykeys.DirectQueryKey;
+import org.eclipse.persistence.mappings.querykeys.ForeignReferenceQueryKey;
+import org.eclipse.persistence.mappings.querykeys.QueryKey;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+
+/**
+ * <p><b>Purpose</b>: Record the rows the cached results of a query depend on,
+ * so a change to an object of the query class only invalidates the affected results.
+ * <p>
+ * Each cached result records the primary keys of its objects, and the values of the parameters
+ * its selection criteria compare to the query class attributes.
+ * A changed or deleted object invalidates the results containing it.
+ * A new object, or an object whose attributes used by the selection criteria changed,
+ * invalidates the results of the parameters matching its values,
+ * or all the results if the selection criteria are not a conjunction of attributes equal to parameters.
+ * <p>
+ * Queries using a subselect, a parallel expression, or a relationship to their own class hierarchy
+ * are not supported, as a change to another object of the class can change their results.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Analyze the selection criteria of the query.
+ *    <li> Put the results of the query, and record their dependencies.
+ *    <li> Invalidate the results affected by the changes to the query class.
+ * </ul>
+ * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setInvalidateOnRowChange(boolean)
+ * @see IdentityMapManager#invalidateQueryCache(Class, org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet)
+ */
+public class QueryResultsDependencies {
+
+    /** Marks the value of a parameter missing from the arguments, matching any value. */
+    protected static final Object UNKNOWN = new Object();
+
+    /** The dependencies of a cached result. */
+    protected static final class Result {
+        protected final List<Object> primaryKeys;
+        protected final Object[] arguments;
+
+        protected Result(List<Object> primaryKeys, Object[] arguments) {
+            this.primaryKeys = primaryKeys;
+            this.arguments = arguments;
+        }
+    }
+
+    /** The query of the cached results. */
+    protected final ObjectLevelReadQuery query;
+
+    /** The descriptor of the query class. */
+    protected final ClassDescriptor descriptor;
+
+    /** The session owning the cached results. */
+    protected final AbstractSession session;
+
+    /** The cached results of the query, keyed by the parameters. */
+    protected final IdentityMap results;
+
+    /** The builder of the selection criteria. */
+    protected ExpressionBuilder builder;
+
+    /** If the query results can be invalidated by row. */
+    protected boolean isSupported;
+
+    /** The attributes of the query class used by the selection criteria, null if unknown. */
+    protected Set<String> criteriaAttributes;
+
+    /** The mappings or fields compared to the parameters, null if the selection criteria are not analyzable. */
+    protected List<Object> keys;
+
+    /** The parameters compared to the keys. */
+    protected List<ParameterExpression> parameters;
+
+    /** If a deleted object can change the results not containing it, i.e. the query skips its first results. */
+    protected boolean isShiftedByDeletes;
+
+    /** The dependencies of the cached results, keyed by the parameters. */
+    protected final Map<Object, Result> resultsByArguments;
+
+    /** The parameters of the cached results containing an object, keyed by its primary key. */
+    protected final Map<Object, Set<Object>> argumentsByPrimaryKey;
+
+    public QueryResultsDependencies(ObjectLevelReadQuery query, IdentityMap results, AbstractSession session) {
+        this.query = query;
+        this.descriptor = query.getDescriptor();
+        this.session = session;
+        this.results = results;
+        this.resultsByArguments = new HashMap<>();
+        this.argumentsByPrimaryKey = new HashMap<>();
+        // The results of a report query are not objects of the query class, their primary keys are unknown.
+        this.isSupported = (this.descriptor != null) && !query.isReportQuery();
+        if (this.isSupported) {
+            analyze();
+        }
+    }
+
+    /**
+     * Return if the query results can be invalidated by row.
+     */
+    public boolean isSupported() {
+        return isSupported;
+    }
+
+    /**
+     * Return the query of the cached results.
+     */
+    public ObjectLevelReadQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Return if the changes to objects of the class can be processed by row.
+     */
+    public boolean appliesTo(Class<?> classThatChanged) {
+        return this.descriptor.getJavaClass().isAssignableFrom(classThatChanged);
+    }
+
+    /**
+     * Analyze the attributes used by the selection criteria and ordering of the query,
+     * and the parameters compared to its attributes.
+     */
+    protected void analyze() {
+        Expression criteria = this.query.getSelectionCriteria();
+        this.builder = (criteria == null) ? null : criteria.getBuilder();
+        this.criteriaAttributes = new HashSet<>();
+        this.isShiftedByDeletes = this.query.getFirstResult() > 0;
+        ExpressionIterator<Void> iterator = new ExpressionIterator<>() {
+            @Override
+            public void iterate(Expression expression) {
+                collectAttributes(expression);
+            }
+        };
+        if (criteria != null) {
+            iterator.iterateOn(criteria);
+        }
+        // The order of the objects changes the results if only some of them are selected.
+        if (this.query.hasOrderByExpressions()
+                && ((this.query.getMaxRows() > 0) || (this.query.getFirstResult() > 0) || this.query.isReadObjectQuery())) {
+            for (Expression orderBy : this.query.getOrderByExpressions()) {
+                if ((this.builder == null) || (orderBy.getBuilder() != this.builder)) {
+                    this.criteriaAttributes = null;
+                } else {
+                    iterator.iterateOn(orderBy);
+                }
+            }
+        }
+        this.keys = new ArrayList<>();
+        this.parameters = new ArrayList<>();
+        if (!analyzeParameters(criteria)) {
+            this.keys = null;
+            this.parameters = null;
+        }
+    }
+
+    /**
+     * Collect the attribute of the query class used by the expression,
+     * or mark the query as not supported if the expression may depend on another object of the class.
+     */
+    protected void collectAttributes(Expression expression) {
+        if (expression.isSubSelectExpression()) {
+            this.isSupported = false;
+        } else if (expression.isExpressionBuilder()) {
+            if (expression != this.builder) {
+                this.isSupported = false;
+            }
+        } else if (expression.isQueryKeyExpression()) {
+            QueryKeyExpression queryKeyExpression = (QueryKeyExpression) expression;
+            ClassDescriptor baseDescriptor = getReferenceDescriptor(queryKeyExpression.getBaseExpression());
+            DatabaseMapping mapping = (baseDescriptor == null) ? null : getMapping(baseDescriptor, queryKeyExpression.getName());
+            if (mapping == null) {
+                this.isSupported = false;
+                return;
+            }
+            ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+            if ((referenceDescriptor != null) && isRelated(referenceDescriptor.getJavaClass())) {
+                this.isSupported = false;
+            } else if ((queryKeyExpression.getBaseExpression() == this.builder) && (this.criteriaAttributes != null)) {
+                this.criteriaAttributes.add(mapping.getAttributeName());
+            }
+        } else if (expression.isFieldExpression()) {
+            FieldExpression fieldExpression = (FieldExpression) expression;
+            if (fieldExpression.getBaseExpression() == this.builder) {
+                DatabaseMapping mapping = this.descriptor.getObjectBuilder().getMappingForField(fieldExpression.getField());
+                if (mapping == null) {
+                    this.criteriaAttributes = null;
+                } else if (this.criteriaAttributes != null) {
+                    this.criteriaAttributes.add(mapping.getAttributeName());
+                }
+            } else if (getReferenceDescriptor(fieldExpression.getBaseExpression()) == null) {
+                this.isSupported = false;
+            }
+        } else if (expression.isDataExpression() && !expression.isParameterExpression()) {
+            this.isSupported = false;
+        }
+    }
+
+    /**
+     * Return the mapping of the attribute or direct query key of the descriptor.
+     */
+    protected DatabaseMapping getMapping(ClassDescriptor descriptor, String name) {
+        DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(name);
+        if (mapping == null) {
+            QueryKey queryKey = descriptor.getQueryKeyNamed(name);
+            if ((queryKey != null) && queryKey.isDirectQueryKey()) {
+                mapping = descriptor.getObjectBuilder().getMappingForField(((DirectQueryKey) queryKey).getField());
+            }
+        }
+        return mapping;
+    }
+
+    /**
+     * Return the descriptor of the objects of the expression, or null if not known.
+     * A reference to a class related to the query class marks the query as not supported.
+     */
+    protected ClassDescriptor getReferenceDescriptor(Expression expression) {
+        if (expression == this.builder) {
+            return this.descriptor;
+        }
+        if (!expression.isQueryKeyExpression()) {
+            return null;
+        }
+        QueryKeyExpression queryKeyExpression = (QueryKeyExpression) expression;
+        ClassDescriptor baseDescriptor = getReferenceDescriptor(queryKeyExpression.getBaseExpression());
+        if (baseDescriptor == null) {
+            return null;
+        }
+        ClassDescriptor referenceDescriptor = null;
+        DatabaseMapping mapping = baseDescriptor.getObjectBuilder().getMappingForAttributeName(queryKeyExpression.getName());
+        if (mapping != null) {
+            referenceDescriptor = mapping.getReferenceDescriptor();
+        } else {
+            QueryKey queryKey = baseDescriptor.getQueryKeyNamed(queryKeyExpression.getName());
+            if ((queryKey != null) && queryKey.isForeignReferenceQueryKey()) {
+                referenceDescriptor = this.session.getDescriptor(((ForeignReferenceQueryKey) queryKey).getReferenceClass());
+            }
+        }
+        if ((referenceDescriptor != null) && isRelated(referenceDescriptor.getJavaClass())) {
+            this.isSupported = false;
+        }
+        return referenceDescriptor;
+    }
+
+    /**
+     * Return if the class is in the hierarchy of the query class.
+     */
+    protected boolean isRelated(Class<?> javaClass) {
+        Class<?> queryClass = this.descriptor.getJavaClass();
+        return queryClass.isAssignableFrom(javaClass) || javaClass.isAssignableFrom(queryClass);
+    }
+
+    /**
+     * Collect the mappings or fields of the query class compared to the parameters,
+     * return false if the selection criteria are not a conjunction of such comparisons.
+     */
+    protected boolean analyzeParameters(Expression criteria) {
+        if (criteria == null) {
+            return true;
+        }
+        if (!criteria.isCompoundExpression()) {
+            return false;
+        }
+        CompoundExpression compound = (CompoundExpression) criteria;
+        int selector = compound.getOperator().getSelector();
+        if (criteria.isLogicalExpression() && (selector == ExpressionOperator.And)) {
+            return analyzeParameters(compound.getFirstChild()) && analyzeParameters(compound.getSecondChild());
+        }
+        if (!criteria.isRelationExpression() || (selector != ExpressionOperator.Equal)) {
+            return false;
+        }
+        Expression key = compound.getFirstChild();
+        Expression parameter = compound.getSecondChild();
+        if (key.isParameterExpression()) {
+            key = compound.getSecondChild();
+            parameter = compound.getFirstChild();
+        }
+        if (!parameter.isParameterExpression() || ((ParameterExpression) parameter).isProperty()) {
+            return false;
+        }
+        if (key.isQueryKeyExpression() && (((QueryKeyExpression) key).getBaseExpression() == this.builder)) {
+            DatabaseMapping mapping = getMapping(this.descriptor, ((QueryKeyExpression) key).getName());
+            if ((mapping == null) || !mapping.isAbstractDirectMapping()) {
+                return false;
+            }
+            this.keys.add(mapping);
+        } else if (key.isFieldExpression() && (((FieldExpression) key).getBaseExpression() == this.builder)) {
+            this.keys.add(((FieldExpression) key).getField());
+        } else {
+            return false;
+        }
+        this.parameters.add((ParameterExpression) parameter);
+        return true;
+    }
+
+    /**
+     * Put the results of the query for the parameters, and record their dependencies.
+     */
+    public synchronized void put(Object lookupParameters, AbstractRecord arguments, Object results, long queryTime) {
+        this.results.put(lookupParameters, results, null, queryTime);
+        List<Object> primaryKeys = new ArrayList<>();
+        if (results != InvalidObject.instance()) {
+            if (this.query.isReadAllQuery()) {
+                ContainerPolicy policy = ((ReadAllQuery) this.query).getContainerPolicy();
+                for (Object iterator = policy.iteratorFor(results); policy.hasNext(iterator);) {
+                    primaryKeys.add(this.descriptor.getObjectBuilder().extractPrimaryKeyFromObject(policy.next(iterator, this.session), this.session));
+                }
+            } else {
+                primaryKeys.add(this.descriptor.getObjectBuilder().extractPrimaryKeyFromObject(results, this.session));
+            }
+        }
+        Object[] values = null;
+        if (this.parameters != null) {
+            values = new Object[this.parameters.size()];
+            for (int index = 0; index < values.length; index++) {
+                DatabaseField field = this.parameters.get(index).getField();
+                values[index] = ((arguments != null) && arguments.containsKey(field)) ? arguments.get(field) : UNKNOWN;
+            }
+        }
+        unlink(lookupParameters, this.resultsByArguments.put(lookupParameters, new Result(primaryKeys, values)));
+        for (Object primaryKey : primaryKeys) {
+            this.argumentsByPrimaryKey.computeIfAbsent(primaryKey, key -> new HashSet<>()).add(lookupParameters);
+        }
+        // The cache of the results evicts the results without notice, prune their dependencies.
+        if (this.resultsByArguments.size() > (2 * Math.max(this.query.getQueryResultsCachePolicy().getMaximumCachedResults(), 1))) {
+            for (Iterator<Map.Entry<Object, Result>> iterator = this.resultsByArguments.entrySet().iterator(); iterator.hasNext();) {
+                Map.Entry<Object, Result> entry = iterator.next();
+                if (this.results.getCacheKey(entry.getKey(), false) == null) {
+                    iterator.remove();
+                    unlink(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the primary keys of the result from the primary key index.
+     */
+    protected void unlink(Object lookupParameters, Result result) {
+        if (result == null) {
+            return;
+        }
+        for (Object primaryKey : result.primaryKeys) {
+            Set<Object> arguments = this.argumentsByPrimaryKey.get(primaryKey);
+            if (arguments != null) {
+                arguments.remove(lookupParameters);
+                if (arguments.isEmpty()) {
+                    this.argumentsByPrimaryKey.remove(primaryKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate the cached results affected by the changed, new or deleted objects of the query class.
+     * Return true if all the results must be invalidated.
+     */
+    public synchronized boolean invalidate(List<ObjectChangeSet> changes, boolean isDeleted) {
+        for (ObjectChangeSet changeSet : changes) {
+            Set<Object> arguments = this.argumentsByPrimaryKey.get(changeSet.getId());
+            if (arguments != null) {
+                for (Object lookupParameters : new ArrayList<>(arguments)) {
+                    remove(lookupParameters);
+                }
+            }
+            boolean isSelectable = isDeleted ? this.isShiftedByDeletes : (changeSet.isNew() || changesCriteria(changeSet));
+            if (isSelectable) {
+                if (this.keys == null) {
+                    return true;
+                }
+                Object object = changeSet.getUnitOfWorkClone();
+                if (object == null) {
+                    object = this.session.getIdentityMapAccessorInstance().getFromIdentityMap(changeSet.getId(), changeSet.getClassType(this.session));
+                    if (object == null) {
+                        return true;
+                    }
+                }
+                Object[] values = new Object[this.keys.size()];
+                for (int index = 0; index < values.length; index++) {
+                    Object key = this.keys.get(index);
+                    if (key instanceof DatabaseMapping) {
+                        values[index] = ((DatabaseMapping) key).getAttributeValueFromObject(object);
+                    } else {
+                        values[index] = this.descriptor.getObjectBuilder().extractValueFromObjectForField(object, (DatabaseField) key, this.session);
+                    }
+                }
+                for (Map.Entry<Object, Result> entry : new ArrayList<>(this.resultsByArguments.entrySet())) {
+                    if (matches(values, entry.getValue().arguments)) {
+                        remove(entry.getKey());
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return if the change set changes an attribute used by the selection criteria of the query.
+     */
+    protected boolean changesCriteria(ObjectChangeSet changeSet) {
+        if (this.criteriaAttributes == null) {
+            return true;
+        }
+        for (ChangeRecord record : changeSet.getChanges()) {
+            if (this.criteriaAttributes.contains(record.getAttribute())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invalidate the cached results of the parameters.
+     */
+    protected void remove(Object lookupParameters) {
+        unlink(lookupParameters, this.resultsByArguments.remove(lookupParameters));
+        if (this.results.remove(lookupParameters, null) != null) {
+            this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations, this.query);
+        }
+    }
+
+    /**
+     * Return if the values of the object can match the parameters of a cached result.
+     * Values of different types are conservatively considered as matching.
+     */
+    protected static boolean matches(Object[] values, Object[] arguments) {
+        if (arguments == null) {
+            return true;
+        }
+        for (int index = 0; index < values.length; index++) {
+            if (!matches(values[index], arguments[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static boolean matches(Object value, Object argument) {
+        if ((argument == UNKNOWN) || (value == argument)) {
+            return true;
+        }
+        if ((value == null) || (argument == null)) {
+            return false;
+        }
+        if (value.getClass() == argument.getClass()) {
+            return value.equals(argument);
+        }
+        if ((value instanceof Number) && (argument instanceof Number)) {
+            try {
+                return new BigDecimal(value.toString()).compareTo(new BigDecimal(argument.toString())) == 0;
+            } catch (NumberFormatException exception) {
+                return true;
+            }
+        }
+        return true;
+    }
+}
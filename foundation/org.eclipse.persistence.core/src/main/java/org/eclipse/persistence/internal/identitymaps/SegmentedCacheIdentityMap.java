@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size segmented LRU cache that does not lock on cache hits.
+ * <p>
+ * Like the {@link CacheIdentityMap} objects are removed from the cache on a least-recently-used basis,
+ * but the LRU order is not updated inline by every reader.
+ * Cache hits are recorded into striped, lossy read buffers, and adds and removes into a write buffer.
+ * The buffers are drained in batches by whichever thread manages to acquire the eviction lock,
+ * threads that fail to acquire it simply continue, so no reader ever waits on a shared monitor.
+ * <p>
+ * The LRU order is segmented: new keys enter a probation segment and are promoted to a protected segment
+ * when accessed again. Keys are evicted from the probation segment first, so a scan of once-read objects
+ * cannot flush the frequently used objects out of the cache.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the segmented LRU lists updated from the read and write buffers.
+ * </ul>
+ * @see CacheIdentityMap
+ * @see SegmentedCacheKey
+ */
+public class SegmentedCacheIdentityMap extends FullIdentityMap {
+
+    /** Number of access records held by each read buffer stripe, must be a power of two. */
+    protected static final int READ_BUFFER_SIZE = 16;
+
+    /** Number of read buffer stripes, a power of two based on the available processors. */
+    protected static final int READ_BUFFER_STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+
+    /** Percentage of the max size that is reserved for the protected segment. */
+    protected static final int PROTECTED_PERCENTAGE = 80;
+
+    /** Guards the segment lists, only ever acquired with tryLock. */
+    protected ReentrantLock evictionLock;
+
+    /** Striped lossy buffers of recently accessed cache keys. */
+    protected AtomicReferenceArray<SegmentedCacheKey> readBuffers;
+
+    /** Number of access records offered to each read buffer stripe. */
+    protected AtomicIntegerArray readBufferCounts;
+
+    /** Cache keys added to or removed from the map, that must be linked or unlinked. */
+    protected Queue<SegmentedCacheKey> writeBuffer;
+
+    /** Sentinel of the probation segment, next is the most and previous the least recently used. */
+    protected SegmentedCacheKey probation;
+
+    /** Sentinel of the protected segment, next is the most and previous the least recently used. */
+    protected SegmentedCacheKey protectedSegment;
+
+    /** Number of keys in the protected segment. */
+    protected int protectedSize;
+
+    public SegmentedCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializeSegments();
+    }
+
+    /**
+     * Build the buffers and empty segment lists.
+     */
+    protected void initializeSegments() {
+        this.evictionLock = new ReentrantLock();
+        this.readBuffers = new AtomicReferenceArray<>(READ_BUFFER_STRIPES * READ_BUFFER_SIZE);
+        this.readBufferCounts = new AtomicIntegerArray(READ_BUFFER_STRIPES);
+        this.writeBuffer = new ConcurrentLinkedQueue<>();
+        this.probation = buildSentinel();
+        this.protectedSegment = buildSentinel();
+        this.protectedSize = 0;
+    }
+
+    protected SegmentedCacheKey buildSentinel() {
+        SegmentedCacheKey sentinel = new SegmentedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        sentinel.setNext(sentinel);
+        sentinel.setPrevious(sentinel);
+        return sentinel;
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the clone has its own buffers and segments.
+     */
+    @Override
+    public IdentityMap clone() {
+        SegmentedCacheIdentityMap clone = (SegmentedCacheIdentityMap)super.clone();
+        clone.initializeSegments();
+        for (Iterator<CacheKey> iterator = clone.getCacheKeys().values().iterator(); iterator.hasNext();) {
+            SegmentedCacheKey key = (SegmentedCacheKey)iterator.next();
+            key.setNext(null);
+            key.setPrevious(null);
+            key.setIsProtected(false);
+            clone.linkFirst(clone.probation, key);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new SegmentedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * The access is recorded in the read buffer, the LRU order is updated when the buffer is drained.
+     * @param primaryKey is the primary key for the object to search for.
+     * @return the SegmentedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CacheKey cacheKey = super.getCacheKey(primaryKey, forMerge);
+        if (cacheKey != null) {
+            recordAccess((SegmentedCacheKey)cacheKey);
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Record the access of the key in the read buffer stripe of the current thread.
+     * The buffer is lossy, if it is full older records are overwritten.
+     * A drain is attempted every time the stripe wraps.
+     */
+    protected void recordAccess(SegmentedCacheKey key) {
+        int stripe = stripeIndex();
+        int count = this.readBufferCounts.getAndIncrement(stripe);
+        int slot = count & (READ_BUFFER_SIZE - 1);
+        this.readBuffers.lazySet((stripe * READ_BUFFER_SIZE) + slot, key);
+        if (slot == (READ_BUFFER_SIZE - 1)) {
+            drainBuffers();
+        }
+    }
+
+    /**
+     * Return the read buffer stripe for the current thread.
+     */
+    protected int stripeIndex() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        hash ^= (hash >>> 16);
+        return hash & (READ_BUFFER_STRIPES - 1);
+    }
+
+    /**
+     * Also record the add of the cacheKey if the cacheKey is put.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if (cacheKey == null) {
+            this.writeBuffer.offer((SegmentedCacheKey)searchKey);
+            drainBuffers();
+        } else {
+            recordAccess((SegmentedCacheKey)cacheKey);
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the SegmentedCacheKey from the cache, it is unlinked from its segment on the next drain.
+     * @return the object held within the CacheKey or null if no object cached for given cacheKey.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        Object object = super.remove(key);
+        if (key != null) {
+            this.writeBuffer.offer((SegmentedCacheKey)key);
+            drainBuffers();
+        }
+        return object;
+    }
+
+    /**
+     * Apply the buffered adds, removes and accesses to the segments and evict any overflow.
+     * This never waits for the eviction lock, if another thread holds it that thread will drain the buffers.
+     * The write buffer is checked again after releasing the lock, so a write offered while the lock
+     * was held by another thread is never left undrained.
+     */
+    protected void drainBuffers() {
+        while (this.evictionLock.tryLock()) {
+            try {
+                drainWriteBuffer();
+                drainReadBuffers();
+                evict();
+            } finally {
+                this.evictionLock.unlock();
+            }
+            if (this.writeBuffer.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Link added keys into the probation segment, and unlink removed keys.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void drainWriteBuffer() {
+        SegmentedCacheKey key = this.writeBuffer.poll();
+        while (key != null) {
+            boolean isLive = this.cacheKeys.get(key.getKey()) == key;
+            if (isLive && !key.isLinked()) {
+                linkFirst(this.probation, key);
+            } else if (!isLive && key.isLinked()) {
+                unlink(key);
+            }
+            key = this.writeBuffer.poll();
+        }
+    }
+
+    /**
+     * Apply the recorded accesses to the segments.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void drainReadBuffers() {
+        int length = this.readBuffers.length();
+        for (int index = 0; index < length; index++) {
+            SegmentedCacheKey key = this.readBuffers.getAndSet(index, null);
+            // Keys not linked yet, or already removed, are handled by the write buffer.
+            if ((key != null) && key.isLinked()) {
+                onAccess(key);
+            }
+        }
+    }
+
+    /**
+     * Move an accessed key to the head of the protected segment.
+     * If the protected segment overflows its least recently used key is demoted back to probation.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void onAccess(SegmentedCacheKey key) {
+        unlink(key);
+        key.setIsProtected(true);
+        linkFirst(this.protectedSegment, key);
+        int maxProtectedSize = (getMaxSize() * PROTECTED_PERCENTAGE) / 100;
+        while (this.protectedSize > maxProtectedSize) {
+            SegmentedCacheKey demoted = (SegmentedCacheKey)this.protectedSegment.getPrevious();
+            unlink(demoted);
+            demoted.setIsProtected(false);
+            linkFirst(this.probation, demoted);
+        }
+    }
+
+    /**
+     * Reduces the size of the receiver down to the maxSize, removing the least recently used
+     * keys of the probation segment first, then of the protected segment.
+     * Keys that are currently locked are skipped and moved to the head of the probation segment.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void evict() {
+        // protect the case where someone attempts to break the cache by
+        // setting max size to 0.
+        int maxSize = getMaxSize();
+        int skipped = 0;
+        while ((maxSize > 0) && (getSize() > maxSize)) {
+            SegmentedCacheKey victim = (SegmentedCacheKey)this.probation.getPrevious();
+            if (victim == this.probation) {
+                victim = (SegmentedCacheKey)this.protectedSegment.getPrevious();
+                if (victim == this.protectedSegment) {
+                    // The overflow is only in the write buffer, it will be evicted on the next drain.
+                    return;
+                }
+            }
+            unlink(victim);
+            if (victim.isAcquired()) {
+                victim.setIsProtected(false);
+                linkFirst(this.probation, victim);
+                skipped++;
+                if (skipped > getSize()) {
+                    return;
+                }
+            } else {
+                super.remove(victim);
+            }
+        }
+    }
+
+    /**
+     * Insert the key as the most recently used of the segment.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void linkFirst(SegmentedCacheKey sentinel, SegmentedCacheKey key) {
+        LinkedCacheKey first = sentinel.getNext();
+        key.setPrevious(sentinel);
+        key.setNext(first);
+        first.setPrevious(key);
+        sentinel.setNext(key);
+        if (key.isProtected()) {
+            this.protectedSize++;
+        }
+    }
+
+    /**
+     * Remove the key from its segment.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void unlink(SegmentedCacheKey key) {
+        key.getPrevious().setNext(key.getNext());
+        key.getNext().setPrevious(key.getPrevious());
+        key.setNext(null);
+        key.setPrevious(null);
+        if (key.isProtected()) {
+            this.protectedSize--;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be remove from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        this.evictionLock.lock();
+        try {
+            drainWriteBuffer();
+            drainReadBuffers();
+            evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+/**
+ * <p><b>Purpose</b>: Linked cache key used by the {@link SegmentedCacheIdentityMap}.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Provide same capabilities as superclass.
+ * <li> Remember which LRU segment (probation or protected) the key is linked into.
+ * </ul>
+ * The link and segment state is only read or written while holding the eviction lock of the owning map.
+ * @see SegmentedCacheIdentityMap
+ */
+public class SegmentedCacheKey extends LinkedCacheKey {
+
+    /** Is the key linked into the protected segment, otherwise the probation segment. */
+    protected boolean isProtected;
+
+    /**
+     * Initialize the newly allocated instance of this class.
+     * @param object is the domain object.
+     * @param writeLockValue is the write lock value number.
+     */
+    public SegmentedCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+        super(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Return if the key is linked into the LRU list of its map.
+     */
+    public boolean isLinked() {
+        return this.next != null;
+    }
+
+    public boolean isProtected() {
+        return isProtected;
+    }
+
+    public void setIsProtected(boolean isProtected) {
+        this.isProtected = isProtected;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2014, 2024 IBM Corporation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -150,6 +150,7 @@ Current thread (id: {3} name: {4}) stack trace:
         { "received_corrupt_announcement", "Warning: Discovery manager could not process service announcement due to {0} - ignoring announcement" },
         { "missing_converter", "Warning: Cannot convert command {0} due to missing CommandConverter - ignoring command" },
         { "failed_command_propagation", "Error: Failed trying to propagate command to {0} due to {1}" },
+        { "failed_command_batch_propagation", "Error: Failed trying to propagate a batch of {0} commands due to {1}" },
         { "exception_thrown_when_attempting_to_close_connection", "Warning: exception thrown when attempting to close connection" },
         { "error_executing_remote_command", "{0} command failed due to: {1}" },
         { "problem_adding_connection", "Could not add remote connection from {0} due to error: {1}" },
@@ -493,6 +494,7 @@ Current thread (id: {3} name: {4}) stack trace:
         { "stack_of_visited_objects_that_refer_to_the_corrupt_object", "stack of visited objects that refer to the corrupt object: {0}" },
         { "corrupt_object_referenced_through_mapping", "The following corrupt object is referenced through mapping: {0}" },
         { "corrupt_object", "corrupt object: {0}" },
+        { "project_cache_stale", "The project cached in [{0}] is stale ({1}), the metadata will be processed and cached again." },
 
         { "encryptor_script_usage", "Usage is `passwordUpdate.sh|.cmd -ip <old encrypted password>`"},
         { "encryptor_script_description", "This application has an old encrypted password that was used by a previous version of EclipseLink. Reencrypt it with the latest algorithm."},
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2017, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -370,6 +370,7 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "sequencing_afterTransactionCommitted", "local sequencing preallocation is copied to preallocation after transaction commit" },
         { "sequencing_afterTransactionRolledBack", "local sequencing preallocation is discarded after transaction roll back" },
         { "sequencing_preallocation", "sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_refill", "background sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
         { "starting_rcm", "Starting Remote Command Manager {0}" },
         { "stopping_rcm", "Stopping Remote Command Manager {0}" },
         { "initializing_discovery_resources", "Initializing discovery resources - group={0} port={1}" },
@@ -390,6 +391,7 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "sync_propagation", "Propagating command synchronously" },
         { "async_propagation", "Propagating command asynchronously" },
         { "propagate_command_to", "Propagating command {0} to {1}" },
+        { "propagate_command_batch", "Propagating a batch of {0} commands, {1} bytes compressed" },
         { "discovery_manager_active", "RCM Discovery Manager active" },
         { "discovery_manager_stopped", "RCM Discovery Manager stopped" },
         { "announcement_sent", "RCM service announcement sent out to cluster" },
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,11 +14,16 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.sequencing;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**
  * Handles the storage and allocation of sequence values.
@@ -28,6 +33,9 @@
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
 
+    /** The names of the sequences which preallocated values are being refilled in the background. */
+    protected Set<String> refillingSequences = ConcurrentHashMap.newKeySet();
+
     public PreallocationHandler() {
         super();
     }
@@ -36,6 +44,7 @@ public PreallocationHandler() {
      * Returns the Queue of sequences from the global sequences for the seqName.
      * If there is not one, a new empty Queue is registered.
      * This queue is thread-safe, and threads can concurrent poll the queue to remove the first element.
+     * Its size is counted, so does not traverse the queue.
      */
     public Queue<Object> getPreallocated(String sequenceName) {
         Queue<Object> sequences = preallocatedSequences.get(sequenceName);
@@ -43,7 +52,7 @@ public Queue<Object> getPreallocated(String sequenceName) {
             synchronized (preallocatedSequences) {
                 sequences = preallocatedSequences.get(sequenceName);
                 if (sequences == null) {
-                    sequences = new ConcurrentLinkedQueue<>();
+                    sequences = new PreallocatedQueue();
                     preallocatedSequences.put(sequenceName, sequences);
                 }
             }
@@ -93,4 +102,134 @@ public void initializePreallocated(String seqName) {
     public void setPreallocated(String seqName, Vector<?> sequences) {
         getPreallocated(seqName).addAll(sequences);
     }
+
+    /**
+     * Return true if the background refill of the sequence was started,
+     * false if it is already being refilled.
+     * {@link #endRefill(String)} must be called once the refill is done.
+     */
+    public boolean startRefill(String seqName) {
+        return refillingSequences.add(seqName);
+    }
+
+    /**
+     * Mark the background refill of the sequence as done.
+     */
+    public void endRefill(String seqName) {
+        refillingSequences.remove(seqName);
+    }
+
+    /**
+     * Queue of preallocated sequence values counting its size,
+     * as the size of a ConcurrentLinkedQueue is calculated by traversing it.
+     */
+    static class PreallocatedQueue extends ConcurrentLinkedQueue<Object> {
+        private final AtomicInteger size = new AtomicInteger();
+
+        PreallocatedQueue() {
+            super();
+        }
+
+        @Override
+        public boolean offer(Object value) {
+            super.offer(value);
+            size.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean addAll(Collection<?> values) {
+            boolean added = super.addAll(values);
+            if (added) {
+                size.addAndGet(values.size());
+            }
+            return added;
+        }
+
+        @Override
+        public Object poll() {
+            Object value = super.poll();
+            if (value != null) {
+                size.decrementAndGet();
+            }
+            return value;
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            boolean removed = super.remove(value);
+            if (removed) {
+                size.decrementAndGet();
+            }
+            return removed;
+        }
+
+        /**
+         * Remove the values one by one, so that only the values actually removed are counted.
+         */
+        @Override
+        public boolean removeIf(Predicate<? super Object> filter) {
+            boolean removed = false;
+            for (Iterator<Object> iterator = super.iterator(); iterator.hasNext(); ) {
+                Object value = iterator.next();
+                if (filter.test(value) && remove(value)) {
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> values) {
+            return removeIf(values::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> values) {
+            return removeIf(value -> !values.contains(value));
+        }
+
+        /**
+         * Return an iterator removing the values through {@link #remove(Object)}, so that they are counted.
+         */
+        @Override
+        public Iterator<Object> iterator() {
+            Iterator<Object> iterator = super.iterator();
+            return new Iterator<>() {
+                private Object lastValue;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    lastValue = iterator.next();
+                    return lastValue;
+                }
+
+                @Override
+                public void remove() {
+                    if (lastValue == null) {
+                        throw new IllegalStateException();
+                    }
+                    PreallocatedQueue.this.remove(lastValue);
+                    lastValue = null;
+                }
+            };
+        }
+
+        @Override
+        public void clear() {
+            while (poll() != null) {
+                // Each polled value is counted.
+            }
+        }
+
+        @Override
+        public int size() {
+            return Math.max(size.get(), 0);
+        }
+    }
 }
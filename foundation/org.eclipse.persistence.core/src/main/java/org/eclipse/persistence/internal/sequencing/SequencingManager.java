@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,7 +20,6 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
-import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.logging.SessionLog;
@@ -28,6 +27,7 @@
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
@@ -39,6 +39,7 @@
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * SequencingManager is private to EclipseLink.
@@ -117,7 +118,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private static final int PREALLOCATION_TRANSACTION_ACCESSOR = 3;
     private static final int NUMBER_OF_STATES = 4;
     private State[] states;
-    private Map<String, ConcurrencyManager> locks;
+    private Map<String, ReentrantLock> locks;
     private SequencingCallbackFactory callbackFactory;
     private SequencingServer server;
     private Sequencing seq;
@@ -314,11 +315,11 @@ public void initializePreallocated(String seqName) {
         }
     }
 
-    protected void setLocks(Map<String, ConcurrencyManager> locks) {
+    protected void setLocks(Map<String, ReentrantLock> locks) {
         this.locks = locks;
     }
 
-    protected Map<String, ConcurrencyManager> getLocks() {
+    protected Map<String, ReentrantLock> getLocks() {
         return locks;
     }
 
@@ -326,19 +327,14 @@ protected Map<String, ConcurrencyManager> getLocks() {
      * Acquire a lock for the sequence name.
      * A lock should be, and only be, acquired when allocating new sequences from the database.
      */
-    protected ConcurrencyManager acquireLock(String sequenceName) {
-        ConcurrencyManager manager = getLocks().get(sequenceName);
-        if (manager == null) {
-            synchronized (getLocks()) {
-                manager = getLocks().get(sequenceName);
-                if (manager == null) {
-                    manager = new ConcurrencyManager();
-                    getLocks().put(sequenceName, manager);
-                }
-            }
+    protected ReentrantLock acquireLock(String sequenceName) {
+        ReentrantLock lock = getLocks().get(sequenceName);
+        if (lock == null) {
+            // The threads waiting for the allocation park, rather than polling the lock as a ConcurrencyManager does.
+            lock = getLocks().computeIfAbsent(sequenceName, name -> new ReentrantLock());
         }
-        manager.acquire();
-        return manager;
+        lock.lock();
+        return lock;
     }
 
     protected Sequence getSequence(Class<?> cls) {
@@ -355,6 +351,13 @@ protected void logDebugPreallocation(String seqName, Object firstSequenceValue,
         }
     }
 
+    protected void logDebugRefill(String seqName, Vector<?> sequences) {
+        if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+            Object[] args = { seqName, sequences.size(), sequences.get(0), sequences.lastElement() };
+            getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_refill", args);
+        }
+    }
+
     protected void logDebugLocalPreallocation(AbstractSession writeSession, String seqName, Vector<?> sequences, Accessor accessor) {
         if (writeSession.shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
             Object[] args = { seqName, sequences.size(), sequences.get(0), sequences.lastElement() };
@@ -362,6 +365,75 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Refill the preallocated values of the sequence in the background if its refill threshold is reached,
+     * and it is not already being refilled.
+     * Only the values of the default context are refilled, the values of a tenant are allocated by its threads.
+     */
+    protected void refillIfRequired(RefillableState state, Sequence sequence, PreallocationHandler handler, Queue<Object> sequencesForName) {
+        int threshold = sequence.getPreallocationRefillThreshold();
+        if ((threshold > 0) && (sequencesForName.size() <= threshold) && state.canRefillInBackground()
+                && (handler == getPreallocationHandler(null)) && handler.startRefill(sequence.getName())) {
+            try {
+                getOwnerSession().getServerPlatform().launchContainerRunnable(new PreallocationRefill(state, sequence, handler, sequencesForName));
+            } catch (RuntimeException exception) {
+                handler.endRefill(sequence.getName());
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Allocates the next values of a sequence in the background, while the threads use its remaining preallocated values.
+     * The sequence lock is held during the allocation, so threads running out of values wait for the allocated values
+     * instead of allocating more.
+     */
+    class PreallocationRefill implements Runnable {
+        private final RefillableState state;
+        private final Sequence sequence;
+        private final PreallocationHandler handler;
+        private final Queue<Object> sequencesForName;
+
+        PreallocationRefill(RefillableState state, Sequence sequence, PreallocationHandler handler, Queue<Object> sequencesForName) {
+            this.state = state;
+            this.sequence = sequence;
+            this.handler = handler;
+            this.sequencesForName = sequencesForName;
+        }
+
+        @Override
+        public void run() {
+            String seqName = sequence.getName();
+            DatabaseSessionImpl session = getOwnerSession();
+            try {
+                ReentrantLock lock = acquireLock(seqName);
+                try {
+                    // The values may have been allocated by a thread that ran out of values, or sequencing disconnected.
+                    if (!handler.isConnected() || (handler.getPreallocated(seqName) != sequencesForName)
+                            || (sequencesForName.size() > sequence.getPreallocationRefillThreshold())) {
+                        return;
+                    }
+                    session.startOperationProfile(SessionProfiler.SequencePreallocationRefill);
+                    try {
+                        Vector<?> sequences = state.allocate(sequence, session);
+                        handler.setPreallocated(seqName, sequences);
+                        logDebugRefill(seqName, sequences);
+                    } finally {
+                        session.endOperationProfile(SessionProfiler.SequencePreallocationRefill);
+                    }
+                    session.incrementProfile(SessionProfiler.SequencePreallocationRefills);
+                } finally {
+                    lock.unlock();
+                }
+            } catch (RuntimeException exception) {
+                // The values are allocated by the threads requiring them when no value is left.
+                session.logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+            } finally {
+                handler.endRefill(seqName);
+            }
+        }
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -376,6 +448,23 @@ public String toString() {
         }
     }
 
+    /**
+     * A preallocating state allocating the values of a sequence by itself,
+     * which can refill the preallocated values in the background.
+     */
+    static abstract class RefillableState extends State {
+        /**
+         * Allocate the next values of the sequence.
+         */
+        abstract Vector<?> allocate(Sequence sequence, AbstractSession writeSession);
+
+        /**
+         * Return true if the state can allocate the next values of a sequence in a background thread,
+         * using the owner session.
+         */
+        abstract boolean canRefillInBackground();
+    }
+
     /**
      * Uses preallocation, uses transaction, no separate connection.
      * This is used for a DatabaseSession, or a ServerSession not using native sequencing,
@@ -471,12 +560,13 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 if (sequenceValue != null) {
                     return sequenceValue;
                 }
+                getOwnerSession().incrementProfile(SessionProfiler.SequencePreallocationStalls);
                 // KeepLocked indicates whether the sequence lock should be kept for the whole duration of this method.
                 // Of course the lock should be released in any case when the method returns or throws an exception.
                 // This is only used if a sequence transaction was begun by the unit of work,
                 // and will be committed before the unit of work commit.
                 boolean keepLocked = false;
-                ConcurrencyManager lock = null;
+                ReentrantLock lock = null;
                 if (!getOwnerSession().getDatasourceLogin().shouldUseExternalTransactionController() && !writeSession.isInTransaction()) {
                     // To prevent several threads from simultaneously allocating a separate bunch of
                     // sequencing numbers each. With keepLocked==true the first thread locks out others
@@ -492,7 +582,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                         keepLocked = true;
                     } finally {
                         if (!keepLocked) {
-                            lock.release();
+                            lock.unlock();
                         }
                     }
                 }
@@ -514,7 +604,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     }
                 } catch (RuntimeException ex) {
                     if (keepLocked) {
-                        lock.release();
+                        lock.unlock();
                     }
                     try {
                         // make sure to rollback the transaction we've begun
@@ -565,7 +655,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     }
                 } finally {
                     if(keepLocked) {
-                        lock.release();
+                        lock.unlock();
                     }
                 }
             } else {
@@ -595,7 +685,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used in a ServerSession with a sequence connection pool.
      * This is typically the default behavior.
      */
-    class Preallocation_Transaction_Accessor_State extends State {
+    class Preallocation_Transaction_Accessor_State extends RefillableState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
@@ -605,71 +695,69 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    refillIfRequired(this, sequence, handler, sequencesForName);
                     return sequenceValue;
                 }
+                getOwnerSession().incrementProfile(SessionProfiler.SequencePreallocationStalls);
                 // Sequences are empty, so must lock and allocate next batch of sequences.
-                ConcurrencyManager lock = acquireLock(seqName);
+                ReentrantLock lock = acquireLock(seqName);
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocate(sequence, writeSession);
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
-                    lock.release();
+                    lock.unlock();
                 }
                 return sequenceValue;
             } else {
-                // note that accessor.getLogin().shouldUseExternalTransactionController()
-                // should be set to false
-                Accessor accessor = getConnectionHandler().acquireAccessor();
+                // preallocation size is 1 - just return the first (and only) element of the allocated vector.
+                return allocate(sequence, writeSession).get(0);
+            }
+        }
+
+        /**
+         * Allocate the next values of the sequence in a transaction of a sequence connection.
+         */
+        @Override
+        Vector<?> allocate(Sequence sequence, AbstractSession writeSession) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
                 try {
-                    accessor.beginTransaction(writeSession);
+                    Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
+                    accessor.commitTransaction(writeSession);
+                    return sequences;
+                } catch (RuntimeException ex) {
                     try {
-                        // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                        Object sequenceValue = sequence.getGeneratedVector(accessor, writeSession).get(0);
-                        accessor.commitTransaction(writeSession);
-                        return sequenceValue;
-                    } catch (RuntimeException ex) {
-                        try {
-                            // make sure to rollback the transaction we've begun
-                            accessor.rollbackTransaction(writeSession);
-                        } catch (Exception rollbackException) {
-                            // ignore rollback exception
-                        }
-                        // don't eat the original exception
-                        throw ex;
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
                     }
-                } finally {
-                    getConnectionHandler().releaseAccessor(accessor);
+                    // don't eat the original exception
+                    throw ex;
                 }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
             }
         }
+
+        /**
+         * The sequence connection is independent of the thread requiring the values.
+         */
+        @Override
+        boolean canRefillInBackground() {
+            return true;
+        }
     }
 
     /**
@@ -677,7 +765,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used by native sequence objects.
      * No transaction is required as sequence objects are non-transactional.
      */
-    class Preallocation_NoTransaction_State extends State {
+    class Preallocation_NoTransaction_State extends RefillableState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
@@ -687,30 +775,49 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    refillIfRequired(this, sequence, handler, sequencesForName);
                     return sequenceValue;
                 }
+                getOwnerSession().incrementProfile(SessionProfiler.SequencePreallocationStalls);
                 // Sequences are empty, so must lock and allocate next batch of sequences.
-                ConcurrencyManager lock = acquireLock(seqName);
+                ReentrantLock lock = acquireLock(seqName);
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
+                    Vector<?> sequences = allocate(sequence, writeSession);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
                     // copy remaining values to global cache.
                     handler.setPreallocated(seqName, sequences);
                     logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
-                    lock.release();
+                    lock.unlock();
                 }
                 return sequenceValue;
             } else {
                 // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                return sequence.getGeneratedVector(null, writeSession).get(0);
+                return allocate(sequence, writeSession).get(0);
             }
         }
+
+        /**
+         * Select the next values of the sequence object, no transaction is required.
+         */
+        @Override
+        Vector<?> allocate(Sequence sequence, AbstractSession writeSession) {
+            return sequence.getGeneratedVector(null, writeSession);
+        }
+
+        /**
+         * A server session selects the values through its read connection pool,
+         * a database session only has the connection of the thread requiring the values.
+         */
+        @Override
+        boolean canRefillInBackground() {
+            return getOwnerSession().isServerSession();
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2014, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -343,6 +343,12 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
      */
     protected boolean shouldOptimizeResultSetAccess;
 
+    /**
+     * Number of registered objects from which a unit of work compares the changes of its objects in parallel,
+     * 0 if the changes are always compared on the committing thread.
+     */
+    protected int parallelChangeCalculationThreshold;
+
     /**
      * Indicates whether Session creation should tolerate an invalid NamedQuery. If true, an exception
      * will be thrown on .createNamedQuery(..) rather than at init time.
@@ -5274,6 +5280,27 @@ public boolean shouldOptimizeResultSetAccess() {
        return this.shouldOptimizeResultSetAccess;
    }
 
+   /**
+    * ADVANCED:
+    * Set the number of registered objects from which the units of work of the session
+    * compare the changes of their objects in parallel, on the fork-join common pool.
+    * Only the objects of descriptors with direct mappings, deferred change detection and no event listeners are compared in parallel,
+    * their changes are then added to the change set in the order of the registered objects.
+    * By default, 0, the changes are always compared on the committing thread.
+    */
+   public void setParallelChangeCalculationThreshold(int parallelChangeCalculationThreshold) {
+       this.parallelChangeCalculationThreshold = parallelChangeCalculationThreshold;
+   }
+
+   /**
+    * ADVANCED:
+    * Return the number of registered objects from which the units of work of the session
+    * compare the changes of their objects in parallel, 0 if the changes are always compared on the committing thread.
+    */
+   public int getParallelChangeCalculationThreshold() {
+       return this.parallelChangeCalculationThreshold;
+   }
+
    /**
     * ADVANCED: Indicates whether an invalid NamedQuery will be tolerated at init time.
     * <p>
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -51,6 +51,9 @@ public class CommitManager {
     /** Order based on mapping foreign key constraints on how to insert objects by class. */
     protected List<Class<?>> commitOrder;
 
+    /** The index of each class in the commit order, built when required. */
+    protected Map<Class<?>, Integer> commitOrderIndexes;
+
     /**
      * This tracks the commit state for the objects, PENDING, PRE, POST, COMPLETE.
      * The key is the object and the value is the state.
@@ -396,6 +399,24 @@ public List<Class<?>> getCommitOrder() {
         return this.commitOrder;
     }
 
+    /**
+     * Return the index of the class in the commit order, or -1 if the class is not in the commit order.
+     * The objects of a class only depend on the objects of the classes before it in the commit order.
+     */
+    public int getCommitOrderIndex(Class<?> theClass) {
+        Map<Class<?>, Integer> indexes = this.commitOrderIndexes;
+        if (indexes == null) {
+            List<Class<?>> commitOrder = getCommitOrder();
+            indexes = new IdentityHashMap<>(commitOrder.size());
+            for (int index = 0; index < commitOrder.size(); index++) {
+                indexes.putIfAbsent(commitOrder.get(index), index);
+            }
+            this.commitOrderIndexes = indexes;
+        }
+        Integer index = indexes.get(theClass);
+        return (index == null) ? -1 : index;
+    }
+
     /**
      * Return the map of states of the objects being committed.
      * The states are defined as static Integers (PENDING, PRE, POST, COMPLETE).
@@ -634,6 +655,7 @@ public void reinitialize() {
      */
     public void setCommitOrder(List<Class<?>> commitOrder) {
         this.commitOrder = commitOrder;
+        this.commitOrderIndexes = null;
     }
 
     /**
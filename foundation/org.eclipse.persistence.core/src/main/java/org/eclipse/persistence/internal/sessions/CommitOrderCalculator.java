@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,8 +18,10 @@
 import org.eclipse.persistence.internal.helper.DescriptorCompare;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -41,15 +43,29 @@ public class CommitOrderCalculator {
     protected Vector orderedDescriptors;
     protected AbstractSession session;
 
+    /** PERF: The nodes by descriptor, to avoid scanning the nodes for each dependency. */
+    private final Map<ClassDescriptor, CommitOrderDependencyNode> nodesByDescriptor;
+
+    /** PERF: The first node of each class. */
+    private final Map<Class<?>, CommitOrderDependencyNode> nodesByClass;
+
     public CommitOrderCalculator(AbstractSession session) {
         super();
         this.currentTime = 0;
         this.nodes = new Vector<>(1);
         this.session = session;
+        this.nodesByDescriptor = new IdentityHashMap<>();
+        this.nodesByClass = new IdentityHashMap<>();
     }
 
     protected void addNode(ClassDescriptor d) {
-        nodes.add(new CommitOrderDependencyNode(this, d, session));
+        CommitOrderDependencyNode node = new CommitOrderDependencyNode(this, d, session);
+        nodes.add(node);
+        nodesByDescriptor.putIfAbsent(d, node);
+        Class<?> javaClass = d.getJavaClass();
+        if (javaClass != null) {
+            nodesByClass.putIfAbsent(javaClass, node);
+        }
     }
 
     public void addNodes(Vector descriptors) {
@@ -163,23 +179,11 @@ public Vector getOrderedDescriptors() {
     }
 
     public CommitOrderDependencyNode nodeFor(Class<?> c) {
-        for (Iterator<CommitOrderDependencyNode> iterator = nodes.iterator(); iterator.hasNext();) {
-            CommitOrderDependencyNode n = iterator.next();
-            if (n.getDescriptor().getJavaClass() == c) {
-                return n;
-            }
-        }
-        return null;
+        return nodesByClass.get(c);
     }
 
     public CommitOrderDependencyNode nodeFor(ClassDescriptor d) {
-        for (Iterator<CommitOrderDependencyNode> iterator = nodes.iterator(); iterator.hasNext();) {
-            CommitOrderDependencyNode n = iterator.next();
-            if (n.getDescriptor() == d) {
-                return n;
-            }
-        }
-        return null;
+        return nodesByDescriptor.get(d);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2015, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -43,11 +43,14 @@
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
+import org.eclipse.persistence.internal.descriptors.PersistenceObject;
 import org.eclipse.persistence.internal.helper.DBPlatformHelper;
 import org.eclipse.persistence.internal.sequencing.Sequencing;
 import org.eclipse.persistence.internal.sequencing.SequencingFactory;
 import org.eclipse.persistence.internal.sequencing.SequencingHome;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.platform.database.DatabasePlatform;
 import org.eclipse.persistence.platform.database.OraclePlatform;
 import org.eclipse.persistence.platform.database.events.DatabaseEventListener;
@@ -77,6 +80,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Implementation of org.eclipse.persistence.sessions.DatabaseSession
@@ -103,6 +108,9 @@
  */
 public class DatabaseSessionImpl extends AbstractSession implements org.eclipse.persistence.sessions.DatabaseSession {
 
+    /** Number of descriptors from which the accessors of their attributes are generated in parallel on login. */
+    public static final int PARALLEL_ACCESSOR_GENERATION_THRESHOLD = 64;
+
     /**
      * Database event listener, this allows database events to invalidate the cache.
      */
@@ -703,6 +711,9 @@ public void initializeDescriptors(Collection descriptors, boolean shouldInitiali
             addDescriptorsToSequencing(descriptors);
         }
 
+        // PERF: Generate the attribute accessors in parallel, the initialization finds them generated.
+        generateAttributeAccessors(descriptors);
+
         try {
             // First initialize basic properties (things that do not depend on anything else)
             Iterator iterator = descriptors.iterator();
@@ -767,6 +778,34 @@ public void initializeDescriptors(Collection descriptors, boolean shouldInitiali
         getCommitManager().initializeCommitOrder();
     }
 
+    /**
+     * INTERNAL:
+     * PERF: Generate in parallel the accessors of the attributes of the descriptors, before their initialization.
+     * Unlike the initialization, which stays sequential since it resolves the inheritance and relationships
+     * between the descriptors, the generation of the accessors of a descriptor depends only on its class.
+     * Woven classes are skipped, their descriptors use PersistenceObjectAttributeAccessor instead.
+     */
+    protected void generateAttributeAccessors(Collection<ClassDescriptor> descriptors) {
+        if ((descriptors.size() < PARALLEL_ACCESSOR_GENERATION_THRESHOLD) || (ForkJoinPool.getCommonPoolParallelism() <= 1)
+                || !AttributeAccessorGenerator.shouldGenerateAccessors()) {
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(descriptors.size());
+        for (ClassDescriptor descriptor : descriptors) {
+            Class<?> javaClass = descriptor.getJavaClass();
+            if ((javaClass != null) && !descriptor.isDescriptorForInterface() && !descriptor.isFullyInitialized()
+                    && !PersistenceObject.class.isAssignableFrom(javaClass)) {
+                List<DatabaseMapping> mappings = new ArrayList<>(descriptor.getMappings());
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (DatabaseMapping mapping : mappings) {
+                        AttributeAccessorGenerator.generateAccessors(javaClass, mapping.getAttributeAccessor());
+                    }
+                }));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
     /**
      * INTERNAL:
      * Return if this session is a database session.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -24,11 +24,13 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ReadQuery;
@@ -309,7 +311,16 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
      */
     @Override
     public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects) throws QueryException {
-        return getIdentityMapManager().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects);
+        return getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Query the cache in-memory, conforming the objects with the compiled selection criteria if not null.
+     * Only return objects that are invalid in the cache if specified.
+     */
+    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects, InMemoryEvaluator evaluator) throws QueryException {
+        return getIdentityMapManager().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects, evaluator);
     }
 
     /**
@@ -743,6 +754,7 @@ public void invalidateObject(Object primaryKey, Class<?> theClass, boolean inval
         if (key != null) {
             key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
         }
+        getIdentityMapManager().removeFromOffHeapCache(primaryKey, descriptor);
         if (invalidateCluster) {
             CommandManager rcm = getSession().getCommandManager();
             if (rcm != null) {
@@ -864,6 +876,10 @@ public void invalidateClass(Class<?> myClass, boolean recurseAndInvalidateToPare
                 key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
             }
         }
+        OffHeapCache offHeapCache = getIdentityMapManager().getOffHeapCache();
+        if (offHeapCache != null) {
+            offHeapCache.clear(getSession().getDescriptor(myClass).getRootDescriptor().getJavaClass());
+        }
         invalidateQueryCache(myClass);
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_class_invalidation", new Object[] {myClass, Thread.currentThread().getId(), Thread.currentThread().getName()});
@@ -879,6 +895,15 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class affected by the changes from the query cache.
+     * This is used to invalidate the query cache on commit and on merge.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSet);
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
@@ -1027,6 +1052,16 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         getIdentityMapManager().putQueryResult(query, parameters, results);
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, for the arguments of the query.
+     * Query results are cached based on the parameter values provided to the query
+     * different parameter values access different caches.
+     */
+    public void putQueryResult(ReadQuery query, AbstractRecord arguments, Object results) {
+        getIdentityMapManager().putQueryResult(query, arguments, results);
+    }
+
     /**
      * Index the cache key by the index values.
      */
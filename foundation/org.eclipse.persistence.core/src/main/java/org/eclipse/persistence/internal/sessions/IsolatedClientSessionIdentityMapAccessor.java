@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,6 +20,7 @@
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
@@ -184,17 +185,16 @@ public List<String> getClassesRegistered() {
     }
 
     /**
-     * ADVANCED:
-     * Query the cache in-memory.
-     * If the expression is too complex an exception will be thrown.
+     * INTERNAL:
+     * Query the cache in-memory, conforming the objects with the compiled selection criteria if not null.
      * Only return objects that are invalid in the cache if specified.
      */
     @Override
-    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects) throws QueryException {
+    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects, InMemoryEvaluator evaluator) throws QueryException {
         if (!session.getDescriptor(theClass).getCachePolicy().isSharedIsolation()) {
-            return getIdentityMapManager().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects);
+            return getIdentityMapManager().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects, evaluator);
         } else {
-            return ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects);
+            return ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, shouldReturnInvalidatedObjects, evaluator);
         }
     }
 
@@ -545,6 +545,20 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class affected by the changes from the query cache.
+     * This is used to invalidate the query cache on commit and on merge.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        if (!session.getDescriptor(classThatChanged).getCachePolicy().isSharedIsolation()) {
+            getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSet);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changeSet);
+        }
+    }
+
     /**
      * PUBLIC:
      * Reset the entire local object cache.
@@ -575,6 +589,21 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, for the arguments of the query.
+     * Query results are cached based on the parameter values provided to the query
+     * different parameter values access different caches.
+     */
+    @Override
+    public void putQueryResult(ReadQuery query, AbstractRecord arguments, Object results) {
+        if (((IsolatedClientSession)session).isIsolatedQuery(query)) {
+            getIdentityMapManager().putQueryResult(query, arguments, results);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().putQueryResult(query, arguments, results);
+        }
+    }
+
     /**
      * Index the cache key by the index values.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -22,6 +22,7 @@
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.exceptions.ValidationException;
@@ -463,7 +464,7 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             }
             // Clear the query cache as well.
             for (Class<?> changedClass : classesChanged) {
-                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, uowChangeSet);
             }
         } catch (RuntimeException exception) {
             this.session.handleException(exception);
@@ -610,6 +611,10 @@ protected Object mergeChangesOfCloneIntoWorkingCopy(Object rmiClone) {
             // Merge into the clone from the original and use the clone as
             // backup as anything different should be merged.
             builder.mergeIntoObject(registeredObject, null, false, rmiClone, this, this.session, cascadeOnly, false, false);
+            if (!isForRefresh && !cascadeOnly && (descriptor.getObjectChangePolicy() instanceof DirtyAttributeTrackingPolicy)) {
+                // The attributes were merged without the setters, so must all be compared.
+                ((DirtyAttributeTrackingPolicy)descriptor.getObjectChangePolicy()).setAllAttributesDirty(registeredObject);
+            }
             if (isForRefresh){
                 Object primaryKey = builder.extractPrimaryKeyFromObject(registeredObject, session);
                 descriptor.getObjectChangePolicy().revertChanges(registeredObject, descriptor, (UnitOfWorkImpl)this.session, ((UnitOfWorkImpl)this.session).getCloneMapping(), true);
@@ -905,6 +910,10 @@ protected CacheKey mergeChangesOfWorkingCopyIntoOriginal(Object clone, ObjectCha
                     // saves trying to lock related objects after the fact producing deadlocks
                 }
             }
+            if ((original != null) && unitOfWork.isNestedUnitOfWork() && (descriptor.getObjectChangePolicy() instanceof DirtyAttributeTrackingPolicy)) {
+                // #3 - The changes were merged into the parent's clone without its setters, so must all be compared.
+                ((DirtyAttributeTrackingPolicy)descriptor.getObjectChangePolicy()).setAllAttributesDirty(original);
+            }
         } catch (QueryException exception) {
             // Ignore validation errors if unit of work validation is suppressed.
             // Also there is a very specific case under EJB wrappering where
@@ -946,6 +955,9 @@ public Object mergeChangesOfWorkingCopyIntoRemote(Object clone) throws Validatio
         } finally {
             descriptor.getObjectChangePolicy().enableEventProcessing(original);
         }
+        if (descriptor.getObjectChangePolicy() instanceof DirtyAttributeTrackingPolicy) {
+            ((DirtyAttributeTrackingPolicy)descriptor.getObjectChangePolicy()).setAllAttributesDirty(original);
+        }
 
         if (((RemoteUnitOfWork)unitOfWork.getParent()).getUnregisteredNewObjectsCache().contains(original)) {
             // Can use a new instance as backup and original.
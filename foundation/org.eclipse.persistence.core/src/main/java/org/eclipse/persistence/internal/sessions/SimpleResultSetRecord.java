@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2013, 2023 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -26,6 +26,7 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Vector;
 
 /**
@@ -57,6 +58,23 @@ public class SimpleResultSetRecord extends ResultSetRecord {
      */
     transient protected boolean isPopulatingObject;
 
+    /** PERF: Types of the primitive values obtained from resultSet for the current row, indexed as the fields. */
+    protected static final byte LONG_VALUE = 1;
+    protected static final byte INT_VALUE = 2;
+    protected static final byte DOUBLE_VALUE = 3;
+    protected static final byte NULL_VALUE = 4;
+    /**
+     * PERF: The primitive values obtained from resultSet (getLong, getInt, getDouble) while populating the object, as long bits.
+     * These are only boxed if requested again through get, as each column of resultSet is only read once.
+     */
+    transient protected long[] primitiveValues;
+    /** PERF: The type of each primitive value obtained from resultSet, 0 if the value has not been obtained. */
+    transient protected byte[] primitiveTypes;
+    /** Indicates whether any primitive value has been obtained from resultSet for the current row. */
+    transient protected boolean hasPrimitiveValues;
+    /** Indicates whether the last primitive value obtained from resultSet was null. */
+    transient protected boolean wasNull;
+
     protected SimpleResultSetRecord() {
         super();
     }
@@ -77,7 +95,11 @@ public void loadAllValuesFromResultSet() {
                 DatabaseField field = this.fieldsArray[index];
                 // Field can be null for fetch groups.
                 if (field != null) {
-                    this.valuesArray[index] = getValueFromResultSet(index, field);
+                    if (hasPrimitiveValue(index)) {
+                        this.valuesArray[index] = getPrimitiveValue(index);
+                    } else {
+                        this.valuesArray[index] = getValueFromResultSet(index, field);
+                    }
                 }
             }
         }
@@ -127,6 +149,9 @@ public Object get(DatabaseField key) {
                     if (!this.shouldKeepValues) {
                         this.valuesArray[index] = null;
                     }
+                } else if (hasPrimitiveValue(index)) {
+                    // The column was already read as a primitive value.
+                    value = getPrimitiveValue(index);
                 } else {
                     if (this.shouldUseOptimization) {
                         try {
@@ -207,6 +232,9 @@ public Object getIndicatingNoEntry(DatabaseField key) {
                     if (!this.shouldKeepValues) {
                         this.valuesArray[index] = null;
                     }
+                } else if (hasPrimitiveValue(index)) {
+                    // The column was already read as a primitive value.
+                    value = getPrimitiveValue(index);
                 } else {
                     if (this.shouldUseOptimization) {
                         try {
@@ -272,7 +300,139 @@ protected Object getValueFromResultSet(int index, DatabaseField field) {
         return this.accessor.getObject(this.resultSet, field, this.metaData, index + 1, this.platform, this.optimizeData, this.session);
     }
 
+    /**
+     * PERF: Return the index of the field in the row, -1 if the field is not in the row.
+     */
+    public int getFieldIndex(DatabaseField key) {
+        int index = key.index;
+        if ((index >= 0) && (index < this.size)) {
+            DatabaseField field = this.fieldsArray[index];
+            if ((field == key) || field.equals(key)) {
+                return index;
+            }
+        }
+        for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
+            DatabaseField field = this.fieldsArray[fieldIndex];
+            if ((field == key) || field.equals(key)) {
+                return fieldIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * PERF: Return if the value at the index can be read directly from resultSet as a primitive, without being boxed.
+     * That's the case while the object is being populated, unless the value has already been obtained
+     * (the primary key) or the values must be kept.
+     */
+    public boolean canGetPrimitiveValue(int index) {
+        return (this.resultSet != null) && this.isPopulatingObject && !this.shouldKeepValues
+                && (this.valuesArray[index] == null) && !hasPrimitiveValue(index);
+    }
+
+    /**
+     * PERF: Return the value at the index from resultSet as a long.
+     * If the value is null 0 is returned and {@link #wasNull()} returns true.
+     * The value is kept until the row is reset, and returned boxed by get.
+     */
+    public long getLong(int index) {
+        try {
+            long value = this.resultSet.getLong(index + 1);
+            setPrimitiveValue(index, value, LONG_VALUE);
+            return value;
+        } catch (SQLException exception) {
+            throw processSQLException(exception);
+        }
+    }
+
+    /**
+     * PERF: Return the value at the index from resultSet as an int.
+     * If the value is null 0 is returned and {@link #wasNull()} returns true.
+     * The value is kept until the row is reset, and returned boxed by get.
+     */
+    public int getInt(int index) {
+        try {
+            int value = this.resultSet.getInt(index + 1);
+            setPrimitiveValue(index, value, INT_VALUE);
+            return value;
+        } catch (SQLException exception) {
+            throw processSQLException(exception);
+        }
+    }
+
+    /**
+     * PERF: Return the value at the index from resultSet as a double.
+     * If the value is null 0 is returned and {@link #wasNull()} returns true.
+     * The value is kept until the row is reset, and returned boxed by get.
+     */
+    public double getDouble(int index) {
+        try {
+            double value = this.resultSet.getDouble(index + 1);
+            setPrimitiveValue(index, Double.doubleToRawLongBits(value), DOUBLE_VALUE);
+            return value;
+        } catch (SQLException exception) {
+            throw processSQLException(exception);
+        }
+    }
+
+    /**
+     * PERF: Return if the last primitive value obtained from resultSet was null.
+     */
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+
+    /**
+     * Keep the primitive value just obtained from resultSet, so that the column is not read again.
+     */
+    protected void setPrimitiveValue(int index, long value, byte type) throws SQLException {
+        this.wasNull = this.resultSet.wasNull();
+        if (this.primitiveTypes == null) {
+            this.primitiveTypes = new byte[this.valuesArray.length];
+            this.primitiveValues = new long[this.valuesArray.length];
+        }
+        this.primitiveTypes[index] = this.wasNull ? NULL_VALUE : type;
+        this.primitiveValues[index] = value;
+        this.hasPrimitiveValues = true;
+    }
+
+    /**
+     * Return if the value at the index has been obtained from resultSet as a primitive for the current row.
+     */
+    protected boolean hasPrimitiveValue(int index) {
+        return this.hasPrimitiveValues && (this.primitiveTypes[index] != 0);
+    }
+
+    /**
+     * Return the primitive value at the index obtained from resultSet, boxed.
+     */
+    protected Object getPrimitiveValue(int index) {
+        long value = this.primitiveValues[index];
+        switch (this.primitiveTypes[index]) {
+            case LONG_VALUE:
+                return value;
+            case INT_VALUE:
+                return (int) value;
+            case DOUBLE_VALUE:
+                return Double.longBitsToDouble(value);
+            default:
+                return null;
+        }
+    }
+
+    protected DatabaseException processSQLException(SQLException exception) {
+        DatabaseException commException = this.accessor.processExceptionForCommError(this.session, exception, null);
+        if (commException != null) {
+            return commException;
+        }
+        return DatabaseException.sqlException(exception, this.accessor, this.session, false);
+    }
+
     public void reset() {
+        if (this.hasPrimitiveValues) {
+            Arrays.fill(this.primitiveTypes, (byte)0);
+            this.hasPrimitiveValues = false;
+        }
         if (this.isPopulatingObject) {
             this.isPopulatingObject = false;
             if (this.shouldKeepValues) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,6 +18,7 @@
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.queries.ReadQuery;
@@ -59,6 +60,16 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         this.session.getParent().getIdentityMapAccessor().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class affected by the changes from the query cache.
+     * This is used to invalidate the query cache on commit and on merge.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        this.session.getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changeSet);
+    }
+
     /**
      * ADVANCED:
      * Clear the query class associated with the passed-in read query
@@ -104,8 +115,8 @@ public boolean containsObjectInIdentityMap(Object primaryKey, Class<?> theClass,
      * will always be returned from a UnitOfWork.
      */
     @Override
-    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects) throws QueryException {
-        return super.getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, true);
+    public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, int valueHolderPolicy, boolean shouldReturnInvalidatedObjects, InMemoryEvaluator evaluator) throws QueryException {
+        return super.getAllFromIdentityMap(selectionCriteria, theClass, translationRow, valueHolderPolicy, true, evaluator);
     }
 
     /**
@@ -239,6 +250,17 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         this.session.getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results);
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, for the arguments of the query.
+     * <p>
+     * Results are only cached in the parent session for UnitOfWorks
+     */
+    @Override
+    public void putQueryResult(ReadQuery query, AbstractRecord arguments, Object results) {
+        this.session.getParent().getIdentityMapAccessorInstance().putQueryResult(query, arguments, results);
+    }
+
     /**
      * INTERNAL:
      * Reset the entire object cache,
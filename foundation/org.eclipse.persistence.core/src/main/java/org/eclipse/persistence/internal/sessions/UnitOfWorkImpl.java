@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -44,6 +44,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -106,6 +107,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 /**
@@ -244,6 +247,9 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
     public static final int Death = 5;
     public static final int AfterExternalTransactionRolledBack = 6;
 
+    /** Number of objects compared by each task when the changes of a unit of work are calculated in parallel. */
+    public static final int PARALLEL_CHANGE_CALCULATION_CHUNK_SIZE = 512;
+
     /** Used for Conforming Queries */
     public static final int DO_NOT_THROW_CONFORM_EXCEPTIONS = 0;
     public static final int THROW_ALL_CONFORM_EXCEPTIONS = 1;
@@ -379,6 +385,7 @@ public UnitOfWorkImpl(AbstractSession parent, ReferenceMode referenceMode) {
         this.queryTimeoutDefault = parent.queryTimeoutDefault;
         this.queryTimeoutUnitDefault = parent.queryTimeoutUnitDefault;
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess;
+        this.parallelChangeCalculationThreshold = parent.parallelChangeCalculationThreshold;
         this.serializer = parent.serializer;
         this.isConcurrent = parent.isConcurrent;
         // Initialize the readOnlyClasses variable.
@@ -710,6 +717,13 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         // Second calculate changes for all registered objects.
         Iterator objects = allObjects.keySet().iterator();
         int allObjectsSize = allObjects.size();
+        // Compare the objects that do not depend on the change set in parallel,
+        // their changes are added to the change set in the registration order below.
+        Map<Object, ObjectChangeSet> concurrentChanges = null;
+        if ((this.parallelChangeCalculationThreshold > 0) && (allObjectsSize >= this.parallelChangeCalculationThreshold)
+                && (ForkJoinPool.getCommonPoolParallelism() > 1)) {
+            concurrentChanges = calculateChangesInParallel(allObjects, changeSet);
+        }
         Map changedObjects = new IdentityHashMap(allObjectsSize);
         Map visitedNodes = new IdentityHashMap(allObjectsSize);
         while (objects.hasNext()) {
@@ -730,6 +744,8 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
                 ObjectChangeSet changes = null;
                 if (isNew) {
                     changes = descriptor.getObjectChangePolicy().calculateChangesForNewObject(object, changeSet, this, descriptor, true);
+                } else if ((concurrentChanges != null) && concurrentChanges.containsKey(object) && (changeSet.getObjectChangeSetForClone(object) == null)) {
+                    changes = ((DeferredChangeDetectionPolicy)descriptor.getObjectChangePolicy()).mergeConcurrentChanges(concurrentChanges.get(object), changeSet, this, descriptor);
                 } else {
                     changes = descriptor.getObjectChangePolicy().calculateChangesForExistingObject(object, changeSet, this, descriptor, true);
                 }
@@ -823,6 +839,86 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         return changeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Compare the existing objects of the descriptors whose changes can be calculated concurrently to their backup clones,
+     * in chunks of objects of the same descriptor, on the fork-join common pool.
+     * The changes are not added to the change set, they are merged in the registration order by calculateChanges.
+     * Return the changes by object, or null if fewer objects than the threshold can be compared concurrently.
+     * @see DeferredChangeDetectionPolicy#canCalculateChangesConcurrently(ClassDescriptor)
+     * @see AbstractSession#setParallelChangeCalculationThreshold(int)
+     */
+    protected Map<Object, ObjectChangeSet> calculateChangesInParallel(Map allObjects, final UnitOfWorkChangeSet changeSet) {
+        // Partition the objects by descriptor, null if the descriptor's changes cannot be calculated concurrently.
+        Map<ClassDescriptor, List<Object>> partitions = new IdentityHashMap<>();
+        int size = 0;
+        for (Object object : allObjects.keySet()) {
+            ClassDescriptor descriptor = getDescriptor(object);
+            List<Object> partition = partitions.get(descriptor);
+            if ((partition == null) && !partitions.containsKey(descriptor)) {
+                ObjectChangePolicy policy = descriptor.getObjectChangePolicy();
+                if (policy.isDeferredChangeDetectionPolicy() && ((DeferredChangeDetectionPolicy)policy).canCalculateChangesConcurrently(descriptor)) {
+                    partition = new ArrayList<>();
+                }
+                partitions.put(descriptor, partition);
+            }
+            if ((partition != null) && !isCloneNewObject(object)) {
+                partition.add(object);
+                size++;
+            }
+        }
+        if (size < this.parallelChangeCalculationThreshold) {
+            return null;
+        }
+        final Object[] clones = new Object[size];
+        final Object[] backups = new Object[size];
+        final ObjectChangeSet[] changes = new ObjectChangeSet[size];
+        final RuntimeException[] exception = new RuntimeException[1];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>((size / PARALLEL_CHANGE_CALCULATION_CHUNK_SIZE) + partitions.size());
+        int end = 0;
+        for (Map.Entry<ClassDescriptor, List<Object>> partition : partitions.entrySet()) {
+            if (partition.getValue() == null) {
+                continue;
+            }
+            final ClassDescriptor descriptor = partition.getKey();
+            final DeferredChangeDetectionPolicy policy = (DeferredChangeDetectionPolicy)descriptor.getObjectChangePolicy();
+            int start = end;
+            // The backup clones are looked up in the unit of work's maps, which are not thread safe.
+            for (Object clone : partition.getValue()) {
+                clones[end] = clone;
+                backups[end] = getBackupClone(clone, descriptor);
+                end++;
+            }
+            for (int chunkStart = start; chunkStart < end; chunkStart += PARALLEL_CHANGE_CALCULATION_CHUNK_SIZE) {
+                final int from = chunkStart;
+                final int to = Math.min(chunkStart + PARALLEL_CHANGE_CALCULATION_CHUNK_SIZE, end);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    try {
+                        for (int index = from; index < to; index++) {
+                            changes[index] = policy.calculateChangesConcurrently(clones[index], backups[index], changeSet, this, descriptor);
+                        }
+                    } catch (RuntimeException error) {
+                        synchronized (exception) {
+                            if (exception[0] == null) {
+                                exception[0] = error;
+                            }
+                        }
+                    }
+                }));
+            }
+        }
+        incrementProfile(SessionProfiler.ParallelChangeCalculations);
+        ForkJoinTask.invokeAll(tasks);
+        if (exception[0] != null) {
+            throw exception[0];
+        }
+        Map<Object, ObjectChangeSet> concurrentChanges = new IdentityHashMap<>(size);
+        for (int index = 0; index < size; index++) {
+            concurrentChanges.put(clones[index], changes[index]);
+        }
+        return concurrentChanges;
+    }
+
     /**
      * INTERNAL:
      * Checks whether the receiver has been used. i.e. objects have been registered.
@@ -3461,7 +3557,7 @@ protected void mergeChangesIntoParent() {
                 postMergeChanges(classesChanged);
 
                 for (Class<?> changedClass : classesChanged) {
-                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, uowChangeSet);
                 }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
@@ -4910,7 +5006,9 @@ public Map<Object, Object> scanForConformingInstances(Expression selectionCriter
                 // assume objects that have the compared relationship
                 // untriggered do not conform as they have not been changed.
                 // bug 2637555
-                fromCache = getIdentityMapAccessor().getAllFromIdentityMap(selectionCriteria, referenceClass, arguments, policy);
+                // PERF: Conform the registered objects with the compiled selection criteria.
+                fromCache = getIdentityMapAccessorInstance().getAllFromIdentityMap(selectionCriteria, referenceClass, arguments, policy, true,
+                        query.getInMemoryEvaluator(selectionCriteria, this));
                 for (Object object : fromCache) {
                     if (!isObjectDeleted(object)) {
                         indexedInterimResult.put(object, object);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: This class provides an implementation of an internal RCM Command
+ * that sends several commands as a single message.
+ * </p>
+ * <p>
+ * <b>Description</b>: The commands buffered by the {@link CommandBatcher} are serialized
+ * with the serializer of the RCM, and the serialized commands are compressed together.
+ * When received, the commands are uncompressed and processed in order by the RCM,
+ * as if they had been received one by one.
+ * </p>
+ * @see CommandBatcher
+ */
+public class CommandBatch extends RCMCommand {
+
+    /** The compressed serialized commands */
+    protected byte[] commands;
+
+    /** The number of commands */
+    protected int size;
+
+    /**
+     * INTERNAL:
+     * Create a batch of the serialized commands.
+     */
+    public CommandBatch(List<byte[]> commandBytes) {
+        super();
+        this.size = commandBytes.size();
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        try (DataOutputStream stream = new DataOutputStream(new DeflaterOutputStream(byteStream))) {
+            stream.writeInt(this.size);
+            for (byte[] command : commandBytes) {
+                stream.writeInt(command.length);
+                stream.write(command);
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+        this.commands = byteStream.toByteArray();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the serialized commands.
+     */
+    public List<byte[]> getCommandBytes() {
+        try (DataInputStream stream = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(this.commands)))) {
+            int size = stream.readInt();
+            List<byte[]> commandBytes = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                byte[] command = new byte[stream.readInt()];
+                stream.readFully(command);
+                commandBytes.add(command);
+            }
+            return commandBytes;
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands in the batch.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size in bytes of the compressed commands.
+     */
+    public int getCompressedSize() {
+        return this.commands.length;
+    }
+
+    /**
+     * INTERNAL:
+     * Executed on the RCM when received. Process each command of the batch, in order.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        for (byte[] command : getCommandBytes()) {
+            rcm.processCommandFromRemoteConnection(command);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
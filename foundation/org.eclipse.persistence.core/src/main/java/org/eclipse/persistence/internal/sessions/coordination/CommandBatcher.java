@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Buffer the commands propagated asynchronously by a RemoteCommandManager
+ * and send them in batches.
+ * </p>
+ * <p>
+ * <b>Description</b>: The first command added to an empty buffer starts a thread that waits for the batch window,
+ * then sends all the buffered commands as a single {@link CommandBatch}.
+ * Before the batch is sent, the changes of an object that are replaced by the changes of a later command
+ * are removed (coalesced), and the commands left without changes are dropped.
+ * Batches are sent one at a time, in order. When the buffer is full the propagating thread sends the batch itself,
+ * so it waits for the batch in progress, that is the propagating threads are slowed down to the rate of the transport.
+ * </p>
+ * <p>
+ * The commands are serialized when they are added, so the changes may be modified once propagated,
+ * and coalescing removes changes from a deserialized copy of the command, never from the propagated command.
+ * The changes of objects that use optimistic locking are never coalesced,
+ * as the version of each change is checked when it is merged.
+ * </p>
+ * @see RemoteCommandManager#setBatchWindow(long)
+ */
+public class CommandBatcher implements Runnable {
+
+    /** Reference to manager to get connections, etc. */
+    protected RemoteCommandManager rcm;
+
+    /** Commands waiting to be sent */
+    protected List<BufferedCommand> commands;
+
+    /** Indicates a thread waits for the batch window to send the commands */
+    protected boolean isFlushScheduled;
+
+    /** Serializes the sending of batches, to keep them in order */
+    protected final Object sendLock = new Object();
+
+    protected final AtomicLong commandCount = new AtomicLong();
+    protected final AtomicLong coalescedCount = new AtomicLong();
+    protected final AtomicLong batchCount = new AtomicLong();
+    protected final AtomicLong serializedSize = new AtomicLong();
+    protected final AtomicLong compressedSize = new AtomicLong();
+
+    public CommandBatcher(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.commands = new ArrayList<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Serialize the command and buffer it to be sent with the next batch.
+     * If the buffer is full, send the batch in the calling thread.
+     */
+    public void addCommand(Command command) {
+        BufferedCommand bufferedCommand = buildBufferedCommand(command);
+        boolean isFull = false;
+        boolean shouldSchedule = false;
+        synchronized (this) {
+            this.commands.add(bufferedCommand);
+            if (this.commands.size() >= this.rcm.getMaxBatchSize()) {
+                isFull = true;
+            } else if (!this.isFlushScheduled) {
+                this.isFlushScheduled = true;
+                shouldSchedule = true;
+            }
+        }
+        this.commandCount.incrementAndGet();
+        if (isFull) {
+            flush();
+        } else if (shouldSchedule) {
+            this.rcm.getServerPlatform().launchContainerRunnable(this);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch window and send the buffered commands.
+     */
+    @Override
+    public void run() {
+        try {
+            Thread.sleep(this.rcm.getBatchWindow());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            this.isFlushScheduled = false;
+        }
+        flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Send all the buffered commands as a single batch.
+     */
+    public void flush() {
+        synchronized (this.sendLock) {
+            List<BufferedCommand> batch;
+            synchronized (this) {
+                if (this.commands.isEmpty()) {
+                    return;
+                }
+                batch = this.commands;
+                this.commands = new ArrayList<>();
+            }
+            this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+            try {
+                send(coalesce(batch));
+            } catch (RuntimeException exception) {
+                // The batch is sent from a separate thread, or for another propagating thread, no one could catch it.
+                try {
+                    this.rcm.handleException(exception);
+                } catch (RuntimeException reThrownException) {
+                    Object[] args = { batch.size(), reThrownException };
+                    this.rcm.logWarning("failed_command_batch_propagation", args);
+                }
+            } finally {
+                this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Compress the serialized commands, and send them to all the connections.
+     */
+    protected void send(List<byte[]> commandBytes) {
+        if (commandBytes.isEmpty()) {
+            return;
+        }
+        long size = 0;
+        for (byte[] bytes : commandBytes) {
+            size += bytes.length;
+        }
+        CommandBatch command = new CommandBatch(commandBytes);
+        command.setServiceId(this.rcm.getServiceId());
+        this.batchCount.incrementAndGet();
+        this.serializedSize.addAndGet(size);
+        this.compressedSize.addAndGet(command.getCompressedSize());
+        this.rcm.getCommandProcessor().incrementProfile(SessionProfiler.RcmBatchSent);
+        Object[] args = { commandBytes.size(), command.getCompressedSize() };
+        this.rcm.logDebug("propagate_command_batch", args);
+        new CommandPropagator(this.rcm, command, null).synchronousPropagateCommand();
+    }
+
+    /**
+     * Return the session the commands are serialized for, if the command processor is a session.
+     */
+    protected AbstractSession getSession() {
+        return this.rcm.isCommandProcessorASession() ? (AbstractSession)this.rcm.getCommandProcessor() : null;
+    }
+
+    /**
+     * Return the serializer of the commands.
+     */
+    protected Serializer getSerializer() {
+        Serializer serializer = this.rcm.getSerializer();
+        if (serializer == null) {
+            serializer = JavaSerializer.instance;
+        }
+        return serializer;
+    }
+
+    /**
+     * Serialize the command, and record the changes of objects that could be coalesced.
+     */
+    protected BufferedCommand buildBufferedCommand(Command command) {
+        BufferedCommand bufferedCommand = new BufferedCommand();
+        bufferedCommand.bytes = serialize(command);
+        if (command instanceof MergeChangeSetCommand) {
+            UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)command).getChangeSet(null);
+            if (changeSet != null) {
+                bufferedCommand.changedObjects = new ArrayList<>(changeSet.getAllChangeSets().size());
+                for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+                    if (objectChanges.isAggregate() || (objectChanges.getId() == null)) {
+                        bufferedCommand.hasOtherChanges = true;
+                    } else {
+                        bufferedCommand.changedObjects.add(new ChangedObject(buildKey(objectChanges), objectChanges));
+                    }
+                }
+                if (changeSet.hasDeletedObjects()) {
+                    bufferedCommand.deletedObjects = new HashSet<>();
+                    for (ObjectChangeSet objectChanges : changeSet.getDeletedObjects().keySet()) {
+                        if (!objectChanges.isAggregate() && (objectChanges.getId() != null)) {
+                            bufferedCommand.deletedObjects.add(buildKey(objectChanges));
+                        }
+                    }
+                }
+            }
+        }
+        return bufferedCommand;
+    }
+
+    /**
+     * Serialize the command.
+     */
+    protected byte[] serialize(Command command) {
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        try {
+            return (byte[])getSerializer().serialize(command, getSession());
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the changes of an object that are replaced by the changes of the same object in a later command,
+     * and the merge commands that are left without changes, and return the serialized commands to send.
+     * The changes of an object are replaced if the object is deleted later, or if it is changed later,
+     * the same way, for all of its attributes that were changed.
+     * Only changes that set an attribute are replaced, not changes that add to, or remove from a collection.
+     */
+    protected List<byte[]> coalesce(List<BufferedCommand> batch) {
+        Map<CacheId, ChangedObject> laterChanges = new HashMap<>();
+        Set<CacheId> laterDeletes = new HashSet<>();
+        byte[][] commandBytes = new byte[batch.size()][];
+        for (int index = batch.size() - 1; index >= 0; index--) {
+            BufferedCommand command = batch.get(index);
+            commandBytes[index] = command.bytes;
+            if (command.changedObjects == null) {
+                continue;
+            }
+            Set<CacheId> coalesced = null;
+            for (ChangedObject changedObject : command.changedObjects) {
+                ChangedObject laterChangedObject = laterChanges.get(changedObject.key);
+                if (laterDeletes.contains(changedObject.key) || ((laterChangedObject != null) && changedObject.isReplacedBy(laterChangedObject))) {
+                    if (coalesced == null) {
+                        coalesced = new HashSet<>();
+                    }
+                    coalesced.add(changedObject.key);
+                } else if (laterChangedObject == null) {
+                    laterChanges.put(changedObject.key, changedObject);
+                }
+            }
+            if (command.deletedObjects != null) {
+                laterDeletes.addAll(command.deletedObjects);
+            }
+            if (coalesced != null) {
+                this.coalescedCount.addAndGet(coalesced.size());
+                if ((coalesced.size() == command.changedObjects.size()) && !command.hasOtherChanges
+                        && ((command.deletedObjects == null) || command.deletedObjects.isEmpty())) {
+                    commandBytes[index] = null;
+                } else {
+                    commandBytes[index] = removeChanges(command.bytes, coalesced);
+                }
+            }
+        }
+        List<byte[]> coalescedBatch = new ArrayList<>(batch.size());
+        for (byte[] bytes : commandBytes) {
+            if (bytes != null) {
+                coalescedBatch.add(bytes);
+            }
+        }
+        return coalescedBatch;
+    }
+
+    /**
+     * Return the serialized merge command without the changes of the objects.
+     */
+    protected byte[] removeChanges(byte[] bytes, Set<CacheId> keys) {
+        AbstractSession session = getSession();
+        MergeChangeSetCommand command;
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        try {
+            command = (MergeChangeSetCommand)getSerializer().deserialize(bytes, session);
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        }
+        Iterator<ObjectChangeSet> changes = command.getChangeSet(session).getAllChangeSets().keySet().iterator();
+        while (changes.hasNext()) {
+            ObjectChangeSet objectChanges = changes.next();
+            if (!objectChanges.isAggregate() && (objectChanges.getId() != null) && keys.contains(buildKey(objectChanges))) {
+                changes.remove();
+            }
+        }
+        return serialize(command);
+    }
+
+    /**
+     * Return the key of the changed object: its class and id.
+     */
+    protected CacheId buildKey(ObjectChangeSet objectChanges) {
+        return new CacheId(new Object[] { objectChanges.getClassName(), objectChanges.getId() });
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands propagated through the batcher.
+     */
+    public long getCommandCount() {
+        return this.commandCount.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of object changes removed as they were replaced by later changes.
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of batches sent.
+     */
+    public long getBatchCount() {
+        return this.batchCount.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size in bytes of the serialized commands sent.
+     */
+    public long getSerializedSize() {
+        return this.serializedSize.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size in bytes of the compressed commands sent.
+     */
+    public long getCompressedSize() {
+        return this.compressedSize.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands waiting to be sent.
+     */
+    public synchronized int getPendingCount() {
+        return this.commands.size();
+    }
+
+    /**
+     * A buffered command: its serialized bytes, and the changes of objects that could be coalesced.
+     */
+    protected static class BufferedCommand {
+        protected byte[] bytes;
+        /** The changes of the objects changed by a merge command, null for other commands */
+        protected List<ChangedObject> changedObjects;
+        protected Set<CacheId> deletedObjects;
+        /** Indicates the merge command has changes that are never coalesced, of aggregates or objects without id */
+        protected boolean hasOtherChanges;
+    }
+
+    /**
+     * The changes of an object recorded when the command is added,
+     * to decide if they are replaced by the later changes of the object.
+     */
+    protected static class ChangedObject {
+        protected CacheId key;
+        /** Indicates the changes can be replaced by later changes */
+        protected boolean isReplaceable;
+        protected boolean isInvalid;
+        protected int synchronizationType;
+        /** The class of the change record of each changed attribute */
+        protected Map<String, Class<?>> changeRecordTypes;
+
+        protected ChangedObject(CacheId key, ObjectChangeSet objectChanges) {
+            this.key = key;
+            this.isInvalid = objectChanges.isInvalid();
+            this.synchronizationType = objectChanges.getSynchronizationType();
+            ClassDescriptor descriptor = objectChanges.getDescriptor();
+            this.isReplaceable = !objectChanges.isNew() && !this.isInvalid && !objectChanges.hasProtectedForeignKeys()
+                    && (objectChanges.getInitialWriteLockValue() == null) && (objectChanges.getWriteLockValue() == null)
+                    && ((descriptor == null) || !descriptor.usesOptimisticLocking());
+            this.changeRecordTypes = new HashMap<>();
+            for (ChangeRecord record : objectChanges.getChanges()) {
+                if (!(record instanceof DirectToFieldChangeRecord) && !(record instanceof ObjectReferenceChangeRecord)) {
+                    this.isReplaceable = false;
+                }
+                this.changeRecordTypes.put(record.getAttribute(), record.getClass());
+            }
+        }
+
+        /**
+         * Return if the changes of the object are replaced by the later changes of the object:
+         * the later changes are of the same type, and set all the attributes that were changed.
+         */
+        protected boolean isReplacedBy(ChangedObject laterChangedObject) {
+            if (!this.isReplaceable || laterChangedObject.isInvalid
+                    || (this.synchronizationType != laterChangedObject.synchronizationType)) {
+                return false;
+            }
+            for (Map.Entry<String, Class<?>> entry : this.changeRecordTypes.entrySet()) {
+                if (laterChangedObject.changeRecordTypes.get(entry.getKey()) != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2020 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -566,7 +566,9 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                 List<AbstractRecord> parentRows = originalPolicy.getDataResults(this);
                 // Execute queries by batch if too many rows.
                 int rowsSize = parentRows.size();
-                int size = Math.min(rowsSize, originalPolicy.getSize());
+                List<AbstractRecord> allRows = originalPolicy.getAllDataResults();
+                int batchSize = originalPolicy.getSize((allRows == null) ? 0 : allRows.size() - rowsSize);
+                int size = Math.min(rowsSize, batchSize);
                 if (size == 0) {
                     return null;
                 }
@@ -636,6 +638,14 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                     remainingParentRows = new ArrayList<>(parentRows.subList(offset + index, startIndex));
                 }
                 originalPolicy.setDataResults(this, remainingParentRows);
+                int paddedSize = originalPolicy.getPaddedSize(foreignKeyValues.size(), batchSize);
+                if (paddedSize > foreignKeyValues.size()) {
+                    // Repeat the last key, so partial batches share the SQL of the next power of two.
+                    Object lastForeignKeyValue = foreignKeyValues.get(foreignKeyValues.size() - 1);
+                    while (foreignKeyValues.size() < paddedSize) {
+                        foreignKeyValues.add(lastForeignKeyValue);
+                    }
+                }
                 translationRow = translationRow.clone();
                 translationRow.put(QUERY_BATCH_PARAMETER, foreignKeyValues);
                 // Register each id as null, in case it has no relationship.
@@ -970,6 +980,8 @@ public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
 
         batchQuery.setBatchFetchType(batchType);
         batchQuery.setBatchFetchSize(query.getBatchFetchPolicy().getSize());
+        batchQuery.getBatchFetchPolicy().setMaxSize(query.getBatchFetchPolicy().getMaxSize());
+        batchQuery.getBatchFetchPolicy().setShouldPadSize(query.getBatchFetchPolicy().shouldPadSize());
         // Allow subclasses to further prepare.
         postPrepareNestedBatchQuery(batchQuery, query);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,6 +28,7 @@
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -45,6 +46,7 @@
 import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
 import org.eclipse.persistence.internal.sessions.MergeManager;
 import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.SimpleResultSetRecord;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.mappings.converters.ClassInstanceConverter;
 import org.eclipse.persistence.mappings.converters.Converter;
@@ -64,6 +66,8 @@
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.sql.ResultSet;
@@ -119,6 +123,12 @@ public abstract class AbstractDirectMapping extends AbstractColumnMapping implem
      */
     protected Boolean isMutable;
 
+    /**
+     * PERF: Field of the primitive long, int or double attribute, set directly from the result set without boxing the value.
+     * Null if the attribute is not eligible (converter, non field access, or protected isolation).
+     */
+    protected transient Field primitiveAttributeField;
+
     /**
      * Default constructor.
      */
@@ -1022,6 +1032,29 @@ public void initialize(AbstractSession session) throws DescriptorException {
         if (getField().getSqlType() == java.sql.Types.STRUCT) {
             getDescriptor().setIsNativeConnectionRequired(true);
         }
+        this.primitiveAttributeField = buildPrimitiveAttributeField();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the field of the attribute if it can be set directly from the result set as a primitive, otherwise null.
+     * The value must not be converted, and must be set through the (non final) instance variable.
+     */
+    protected Field buildPrimitiveAttributeField() {
+        if (hasConverter() || PrivilegedAccessHelper.shouldUsePrivilegedAccess()
+                || this.descriptor.getCachePolicy().isProtectedIsolation()
+                || (getAttributeAccessor().getClass() != InstanceVariableAttributeAccessor.class)) {
+            return null;
+        }
+        Class<?> type = this.attributeClassification;
+        if ((type != ClassConstants.PLONG) && (type != ClassConstants.PINT) && (type != ClassConstants.PDOUBLE)) {
+            return null;
+        }
+        Field attributeField = ((InstanceVariableAttributeAccessor) getAttributeAccessor()).getAttributeField();
+        if ((attributeField == null) || (attributeField.getType() != type) || Modifier.isFinal(attributeField.getModifiers())) {
+            return null;
+        }
+        return attributeField;
     }
 
     /**
@@ -1273,6 +1306,55 @@ public Object valueFromRow(AbstractRecord row, JoinedAttributeManager joinManage
         return attributeValue;
     }
 
+    /**
+     * INTERNAL:
+     * Set the primitive long, int or double attribute of the object directly from the result set of the row, without boxing the value.
+     * A null value is converted as by {@link #readFromRowIntoObject}, without reading the column again,
+     * as each column of a forward only result set can only be read once.
+     * The row keeps the value, so that the lock value, events or foreign key caching get it from the row.
+     * Return false if the value must be read through {@link #readFromRowIntoObject}:
+     * the attribute is not primitive, or the value was already fetched into the row.
+     * PERF: Used for building objects from a reused row (ResultSet access optimization).
+     */
+    public boolean readPrimitiveFromRowIntoObject(SimpleResultSetRecord row, Object targetObject, AbstractSession executionSession) {
+        Field attributeField = this.primitiveAttributeField;
+        if ((attributeField == null) || row.hasSopObject()) {
+            return false;
+        }
+        int index = row.getFieldIndex(getField());
+        if ((index < 0) || !row.canGetPrimitiveValue(index)) {
+            return false;
+        }
+        try {
+            Class<?> type = this.attributeClassification;
+            if (type == ClassConstants.PLONG) {
+                long value = row.getLong(index);
+                if (row.wasNull()) {
+                    setAttributeValueInObject(targetObject, getObjectValue(null, executionSession));
+                } else {
+                    attributeField.setLong(targetObject, value);
+                }
+            } else if (type == ClassConstants.PINT) {
+                int value = row.getInt(index);
+                if (row.wasNull()) {
+                    setAttributeValueInObject(targetObject, getObjectValue(null, executionSession));
+                } else {
+                    attributeField.setInt(targetObject, value);
+                }
+            } else {
+                double value = row.getDouble(index);
+                if (row.wasNull()) {
+                    setAttributeValueInObject(targetObject, getObjectValue(null, executionSession));
+                } else {
+                    attributeField.setDouble(targetObject, value);
+                }
+            }
+        } catch (IllegalAccessException exception) {
+            throw DescriptorException.illegalAccessWhileSettingValueThruInstanceVariableAccessor(getAttributeName(), targetObject.getClass().getName(), null, exception);
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Returns the value for the mapping directly from the result-set.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -686,6 +686,24 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the platform supports multi-row inserts.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * The prepared statements are limited to 65535 placeholders.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 65535;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
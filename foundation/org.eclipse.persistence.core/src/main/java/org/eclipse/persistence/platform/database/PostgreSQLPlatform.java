@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -354,6 +354,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * The PostgreSQL JDBC driver caches the server prepared statements of a connection
+     * (see its {@code preparedStatementCacheQueries} property).
+     */
+    @Override
+    public boolean supportsDriverStatementCache() {
+        return true;
+    }
+
     /**
      * INTERNAL: Returns query used to read back the value generated by
      * Identity. This method is called when identity NativeSequence is
@@ -376,6 +385,22 @@ public boolean supportsSequenceObjects() {
         return true;
     }
 
+    /**
+     * INTERNAL: Indicates whether the platform supports multi-row inserts.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL: The protocol limits the bound parameters of a statement to 32767.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 32767;
+    }
+
     /**
      * INTERNAL: Returns query used to read value generated by sequence object
      * (like Oracle sequence). This method is called when sequence object
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -954,6 +954,33 @@ public boolean supportsSequenceObjects() {
         return isVersion11OrHigher;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the platform supports multi-row inserts.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * The requests are limited to 2100 parameters, one of which may be used by the driver.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 2099;
+    }
+
+    /**
+     * INTERNAL:
+     * A VALUES list is limited to 1000 rows.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows() {
+        return 1000;
+    }
+
     /**
      * INTERNAL:
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2022 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,6 +39,10 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
     protected BatchFetchType type;
     /** Define the batch size for IN style batch fetching. */
     protected int size = 500;
+    /** Define the max size the IN batch size can grow to when the parent rows do not fit in a batch, 0 if the size is fixed. */
+    protected int maxSize;
+    /** Define if the IN batch keys are padded to a power of two, to limit the number of SQL shapes. */
+    protected boolean shouldPadSize;
     /** Define the attributes to be batch fetched. */
     protected List<Expression> attributeExpressions;
     /** Define the mapping to be batch fetched (from mapping settings). */
@@ -132,6 +136,70 @@ public void setSize(int size) {
         this.size = size;
     }
 
+    /**
+     * Return the max size the IN batch size can grow to.
+     * 0 if the batch size is fixed.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set the max size the IN batch size can grow to.
+     * When the parent rows do not fit in a batch, the size of each subsequent batch
+     * grows to the number of parent rows already batched, doubling up to the max size,
+     * so iterating over many parent rows takes fewer, larger round trips.
+     * 0 (the default) keeps the batch size fixed.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return if the IN batch keys are padded to a power of two.
+     */
+    public boolean shouldPadSize() {
+        return shouldPadSize;
+    }
+
+    /**
+     * Set if the IN batch keys are padded to a power of two (capped by the batch size),
+     * by repeating the last key.
+     * This bounds the number of distinct IN clauses to the log of the batch size,
+     * so the statements of partial batches are reused from the statement cache and the database plan cache.
+     * By default the IN clause has one parameter per key.
+     */
+    public void setShouldPadSize(boolean shouldPadSize) {
+        this.shouldPadSize = shouldPadSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size of the next IN batch, given the number of parent rows already batched for the mapping.
+     * The size grows from the batch size to the number of rows already batched, by powers of two, up to the max size.
+     */
+    public int getSize(int batchedRows) {
+        int batchSize = this.size;
+        if (this.maxSize > batchSize) {
+            while ((batchSize < batchedRows) && (batchSize < this.maxSize)) {
+                batchSize = Math.min(batchSize * 2, this.maxSize);
+            }
+        }
+        return batchSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of keys to bind in an IN batch of the keys, of at most the batch size.
+     * This is the next power of two of the keys, capped by the batch size, if padding, otherwise the keys.
+     */
+    public int getPaddedSize(int keys, int batchSize) {
+        if (!this.shouldPadSize || (keys <= 1)) {
+            return keys;
+        }
+        return Math.min(Integer.highestOneBit(keys - 1) << 1, Math.max(keys, batchSize));
+    }
+
     /**
      * INTERNAL:
      * PERF: Return the internally stored prepared mapping queries.
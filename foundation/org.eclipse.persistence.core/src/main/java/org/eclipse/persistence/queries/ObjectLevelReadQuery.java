@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,7 @@
 import org.eclipse.persistence.internal.expressions.FieldExpression;
 import org.eclipse.persistence.internal.expressions.ForUpdateClause;
 import org.eclipse.persistence.internal.expressions.ForUpdateOfClause;
+import org.eclipse.persistence.internal.expressions.InMemoryEvaluator;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -246,6 +247,9 @@ If ResultSet optimization is used (isResultSetOptimizedQuery is set to true) the
     /** Indicates whether the query should use SerializedObjectPolicy if descriptor has it.*/
     protected boolean shouldUseSerializedObjectPolicy;
 
+    /** PERF: The selection criteria compiled for in-memory querying and conforming. */
+    protected transient InMemoryEvaluator inMemoryEvaluator;
+
     /**
      * INTERNAL:
      * Initialize the state of the query
@@ -1471,6 +1475,32 @@ public void setExpressionBuilder(ExpressionBuilder builder) {
         this.defaultBuilder = builder;
     }
 
+    /**
+     * INTERNAL:
+     * Return the selection criteria compiled for in-memory querying and conforming,
+     * or null if nothing in the selection criteria can be compiled.
+     * The selection criteria are compiled once for the query, and recompiled if they change.
+     */
+    public InMemoryEvaluator getInMemoryEvaluator(Expression selectionCriteria, AbstractSession session) {
+        if ((selectionCriteria == null) || (this.descriptor == null)) {
+            return null;
+        }
+        InMemoryEvaluator evaluator = this.inMemoryEvaluator;
+        if ((evaluator == null) || !evaluator.isFor(selectionCriteria)) {
+            ExpressionBuilder builder = selectionCriteria.getBuilder();
+            if ((builder == null) || ((builder.getQueryClass() != null) && (builder.getQueryClass() != this.descriptor.getJavaClass()))) {
+                return null;
+            }
+            if (builder.getSession() == null) {
+                builder.setSession(session.getRootSession(null));
+                builder.setQueryClass(this.descriptor.getJavaClass());
+            }
+            evaluator = InMemoryEvaluator.compile(selectionCriteria, this.descriptor);
+            this.inMemoryEvaluator = evaluator;
+        }
+        return evaluator.isCompiled() ? evaluator : null;
+    }
+
     /**
      * PUBLIC:
      * Returns the InMemoryQueryIndirectionPolicy for this query
@@ -3521,6 +3551,32 @@ public void setBatchFetchSize(int size) {
         setIsPrepared(false);
     }
 
+    /**
+     * PUBLIC:
+     * Set the max size the batch fetch size can grow to for the query.
+     * This is only relevant for the IN batch fetch type.
+     * When the parent rows do not fit in a batch, each subsequent batch grows to the number of rows
+     * already batched, doubling up to the max size.
+     *
+     * @see #setBatchFetchSize(int)
+     */
+    public void setBatchFetchMaxSize(int maxSize) {
+        getBatchFetchPolicy().setMaxSize(maxSize);
+        setIsPrepared(false);
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the keys of the IN batch fetch type are padded to a power of two, capped by the batch size.
+     * This bounds the number of distinct SQL statements of partial batches.
+     *
+     * @see #setBatchFetchSize(int)
+     */
+    public void setShouldPadBatchFetchSize(boolean shouldPadSize) {
+        getBatchFetchPolicy().setShouldPadSize(shouldPadSize);
+        setIsPrepared(false);
+    }
+
     /**
      * INTERNAL:
      * Return temporary map of batched objects.
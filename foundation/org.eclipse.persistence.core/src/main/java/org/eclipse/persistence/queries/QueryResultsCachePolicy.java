@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -46,6 +46,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean isNullIgnored;
     /** Allows the query cache to be invalidated when any object of any of the query classes is modified. */
     protected boolean invalidateOnChange;
+    /** Allows the query cache to only invalidate the results affected by the changed objects of the query class. */
+    protected boolean invalidateOnRowChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
 
@@ -141,6 +143,31 @@ public void setInvalidateOnChange(boolean invalidateOnChange) {
         this.invalidateOnChange = invalidateOnChange;
     }
 
+    /**
+     * PUBLIC:
+     * Return if a change to an object of the query class should only invalidate the results affected by the change.
+     */
+    public boolean getInvalidateOnRowChange() {
+        return invalidateOnRowChange;
+    }
+
+    /**
+     * PUBLIC:
+     * Configure if a change to an object of the query class should only invalidate the results affected by the change,
+     * instead of all the query results.
+     * Each cached result records the primary keys of its objects, and is invalidated if one of them is changed or deleted.
+     * A new object, or a change to an object not in a result, only invalidates the results it may now be selected by:
+     * the change must be to a field used by the selection criteria, and if the selection criteria only compare
+     * fields to parameters, only the results of the parameters matching the values of the object are invalidated.
+     * Changes to the other classes used by the query still invalidate all its results.
+     * This only applies to ReadAllQuery and ReadObjectQuery, and requires invalidateOnChange.
+     * By default it is false.
+     * @see #setInvalidateOnChange(boolean)
+     */
+    public void setInvalidateOnRowChange(boolean invalidateOnRowChange) {
+        this.invalidateOnRowChange = invalidateOnRowChange;
+    }
+
     /**
      * PUBLIC:
      * Return the type of the cache used for the query results.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -80,6 +80,9 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** Allow the objects of large results to be built on concurrent threads. */
+    protected boolean shouldBuildObjectsInParallel;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -241,7 +244,9 @@ protected Object checkEarlyReturnLocal(AbstractSession session, AbstractRecord t
             while (rootSession.isUnitOfWork()) {
                 rootSession = rootSession.getParent();
             }
-            Vector allCachedVector = rootSession.getIdentityMapAccessor().getAllFromIdentityMap(getSelectionCriteria(), getReferenceClass(), translationRow, getInMemoryQueryIndirectionPolicyState(), false);
+            // PERF: Conform the cached objects with the compiled selection criteria.
+            Vector allCachedVector = rootSession.getIdentityMapAccessorInstance().getAllFromIdentityMap(getSelectionCriteria(), getReferenceClass(), translationRow,
+                    getInMemoryQueryIndirectionPolicyState(), false, getInMemoryEvaluator(getSelectionCriteria(), session));
 
             // Must ensure that all of the objects returned are correctly registered in the unit of work.
             if (session.isUnitOfWork()) {
@@ -1304,6 +1309,45 @@ public void useScrollableCursor(ScrollableCursorPolicy policy) {
         setContainerPolicy(policy);
     }
 
+    /**
+     * PUBLIC:
+     * Return if the objects of a large result are built on concurrent threads.
+     * @see #setShouldBuildObjectsInParallel(boolean)
+     */
+    public boolean shouldBuildObjectsInParallel() {
+        return this.shouldBuildObjectsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the objects of a large result should be built on concurrent threads.
+     * The rows are fetched on the calling thread, then the objects are built in chunks by the calling thread
+     * and the threads of the server session's object build executor, and returned in the order of the rows.
+     * Objects are built and cached as by concurrent queries, each thread locking the cache keys of the objects it builds.
+     * <p>
+     * This only applies to queries executed on a server session, or on a client session that reads through the
+     * connection pool of its server session, i.e. read-only queries of a unit of work, or queries outside of a transaction,
+     * of a client session that is not exclusive isolated. A database session or a client session in transaction
+     * has a single connection.
+     * It also only applies to queries that do not use joining or batch reading, and to results larger than the chunk size,
+     * otherwise the objects are built on the calling thread.
+     * Any event listeners or attribute accessors of the built objects must be thread safe.
+     * @see org.eclipse.persistence.config.QueryHints#PARALLEL_BUILD
+     * @see org.eclipse.persistence.sessions.server.ServerSession#setObjectBuildExecutor(java.util.concurrent.ExecutorService)
+     */
+    public void setShouldBuildObjectsInParallel(boolean shouldBuildObjectsInParallel) {
+        this.shouldBuildObjectsInParallel = shouldBuildObjectsInParallel;
+        if (usesResultSetAccessOptimization() && shouldBuildObjectsInParallel) {
+            // The rows must all be fetched before the objects are built, ResultSetAccessOptimization builds each object from the ResultSet.
+            if (this.isResultSetAccessOptimizedQuery != null) {
+                this.usesResultSetAccessOptimization = null;
+                throw QueryException.resultSetAccessOptimizationIsNotPossible(this);
+            } else {
+                this.usesResultSetAccessOptimization = Boolean.FALSE;
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the query can use ResultSet optimization.
@@ -1333,6 +1377,7 @@ public boolean supportsResultSetAccessOptimizationOnExecute() {
         if (!super.supportsResultSetAccessOptimizationOnExecute()) {
             return false;
         }
-        return !shouldConformResultsInUnitOfWork(); // could be supported if conformResult method is adapted to use ResultSetAccessOptimization
+        return !shouldConformResultsInUnitOfWork() // could be supported if conformResult method is adapted to use ResultSetAccessOptimization
+                && !this.shouldBuildObjectsInParallel; // requires all rows up front
     }
 }
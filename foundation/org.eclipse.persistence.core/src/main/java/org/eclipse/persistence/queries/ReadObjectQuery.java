@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -32,6 +32,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.internal.indirection.ProxyIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.DatasourceCallQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -448,6 +449,28 @@ public Object execute(AbstractSession session, AbstractRecord row) throws Databa
         return super.execute(session, row);
     }
 
+    /**
+     * INTERNAL:
+     * Return the row of the object from the off-heap tier of the shared cache, or null.
+     * Only a read by primary key that would build the object as a plain read from the database is answered from the tier,
+     * queries with joins, fetch groups, locking, refresh or cache bypass always access the database.
+     */
+    protected AbstractRecord getRowFromOffHeapCache(AbstractSession session) {
+        if ((this.selectionId == null) || hasJoining() || hasPartialAttributeExpressions() || this.shouldRefreshIdentityMapResult
+                || this.shouldIncludeData || isLockQuery() || shouldRetrieveBypassCache() || (getExecutionFetchGroup() != null)) {
+            return null;
+        }
+        // In a transaction the database may hold changes not yet in the shared cache.
+        if (session.isUnitOfWork() && ((UnitOfWorkImpl)session).wasTransactionBegunPrematurely()) {
+            return null;
+        }
+        IdentityMapManager identityMapManager = session.getParentIdentityMapSession(this.descriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager();
+        if (!identityMapManager.shouldUseOffHeapCache(this.descriptor)) {
+            return null;
+        }
+        return identityMapManager.getFromOffHeapCache(this.selectionId, this.descriptor);
+    }
+
     /**
      * INTERNAL:
      * Execute the query.
@@ -476,7 +499,10 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
         Object sopObject = getTranslationRow().getSopObject();
         boolean useOptimization = false;
         if (sopObject == null) {
-            useOptimization = usesResultSetAccessOptimization();
+            row = getRowFromOffHeapCache(session);
+            if (row == null) {
+                useOptimization = usesResultSetAccessOptimization();
+            }
         }
 
         if (useOptimization) {
@@ -551,7 +577,7 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
             if (sopObject != null) {
                 row = new DatabaseRecord(0);
                 row.setSopObject(sopObject);
-            } else {
+            } else if (row == null) {
                 // If using 1-m joins, must select all rows.
                 if (shouldSetRowsForJoins) {
                     List rows = getQueryMechanism().selectAllRows();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -21,8 +21,8 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -245,7 +245,13 @@ protected Object getQueryResults(AbstractSession session, AbstractRecord row, bo
         if (row != null) {
             arguments =  row.getValues();
         }
-        return session.getIdentityMapAccessorInstance().getQueryResult(this, arguments, checkExpiry);
+        Object queryResults = session.getIdentityMapAccessorInstance().getQueryResult(this, arguments, checkExpiry);
+        if (queryResults == null) {
+            session.incrementProfile(SessionProfiler.QueryCacheMisses, this);
+        } else {
+            session.incrementProfile(SessionProfiler.QueryCacheHits, this);
+        }
+        return queryResults;
     }
 
     /**
@@ -457,11 +463,9 @@ public void setFetchSize(int fetchSize) {
      * This will only be set if the query caches results.
      */
     protected void setQueryResults(Object resultFromQuery, AbstractRecord row, AbstractSession session) {
-        List<Object> arguments = null;
-        if (row == null) {
-            arguments =  new ArrayList<>(1);
-        } else {
-            arguments =  row.getValues();
+        AbstractRecord arguments = row;
+        if (arguments == null) {
+            arguments = new DatabaseRecord(1);
         }
         session.getIdentityMapAccessorInstance().putQueryResult(this, arguments, resultFromQuery);
     }
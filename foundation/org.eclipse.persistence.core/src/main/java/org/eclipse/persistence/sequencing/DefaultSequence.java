@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -71,6 +71,15 @@ public int getPreallocationSize() {
         }
     }
 
+    @Override
+    public int getPreallocationRefillThreshold() {
+        if ((preallocationRefillThreshold != 0) || (getDefaultSequence() == null)) {
+            return preallocationRefillThreshold;
+        } else {
+            return getDefaultSequence().getPreallocationRefillThreshold();
+        }
+    }
+
     @Override
     public int getInitialValue() {
         if ((initialValue != 0) || (getDefaultSequence() == null)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -47,6 +47,9 @@ public abstract class Sequence implements Serializable, Cloneable {
 
     protected int initialValue = 1;
 
+    // number of preallocated values left at which the next values are preallocated in the background, 0 disables it
+    protected int preallocationRefillThreshold;
+
     // number of times onConnect was called - number of times onDisconnect was called
     protected int depth;
 
@@ -116,6 +119,27 @@ public void setPreallocationSize(int size) {
         this.size = size;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of preallocated values left at which the next values are preallocated in the background.
+     * 0, the default, preallocates the next values when no preallocated value is left,
+     * in the thread requiring a value.
+     */
+    public int getPreallocationRefillThreshold() {
+        return preallocationRefillThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of preallocated values left at which the next values are preallocated in the background,
+     * so the threads requiring values do not wait for them to be selected from the database.
+     * This is only used by sequences using preallocation and a separate sequence connection, or native sequences,
+     * in a server session.
+     */
+    public void setPreallocationRefillThreshold(int preallocationRefillThreshold) {
+        this.preallocationRefillThreshold = preallocationRefillThreshold;
+    }
+
     public int getInitialValue() {
         return initialValue;
     }
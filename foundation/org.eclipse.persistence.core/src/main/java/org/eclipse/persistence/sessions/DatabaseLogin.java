@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -906,6 +906,15 @@ public void setShouldCacheAllStatements(boolean shouldCacheAllStatements) {
         getPlatform().setShouldCacheAllStatements(shouldCacheAllStatements);
     }
 
+    /**
+     * PUBLIC:
+     * Set whether prepared statement caching should be left to the JDBC driver,
+     * if the platform supports the driver statement cache.
+     */
+    public void setShouldUseDriverStatementCache(boolean shouldUseDriverStatementCache) {
+        getPlatform().setShouldUseDriverStatementCache(shouldUseDriverStatementCache);
+    }
+
     /**
      * ADVANCED:
      * This setting can be used if the application expects upper case
@@ -1087,6 +1096,14 @@ public boolean shouldCacheAllStatements() {
         return getPlatform().shouldCacheAllStatements();
     }
 
+    /**
+     * PUBLIC:
+     * Return whether prepared statement caching should be left to the JDBC driver.
+     */
+    public boolean shouldUseDriverStatementCache() {
+        return getPlatform().shouldUseDriverStatementCache();
+    }
+
     /**
      * ADVANCED:
      * Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases.
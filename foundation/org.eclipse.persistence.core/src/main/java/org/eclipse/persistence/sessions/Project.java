@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -172,6 +172,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows query result cache validation or not.*/
     protected boolean allowQueryResultsCacheValidation = false;
 
+    /** Byte budget of the off-heap tier of the shared cache, the tier is not used if 0 (the default). */
+    protected long offHeapCacheSize = 0;
+
     /**
      * Mapped Superclasses (JPA 2) collection of parent non-relational descriptors keyed on MetadataClass
      * without creating a compile time dependency on JPA.
@@ -1427,6 +1430,27 @@ public void setNamingIntoIndexed(boolean namingIntoIndexed) {
         this.namingIntoIndexed = namingIntoIndexed;
     }
 
+    /**
+     * PUBLIC:
+     * Return the byte budget of the off-heap tier of the shared cache.
+     * @see #setOffHeapCacheSize(long)
+     */
+    public long getOffHeapCacheSize() {
+        return this.offHeapCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the byte budget of the off-heap tier of the shared cache.
+     * When set, the rows of objects read into the shared cache are also stored serialized
+     * outside the Java heap, so a find by id of an object no longer in the identity map
+     * can be built without accessing the database.
+     * By default this is 0, and the off-heap tier is not used.
+     */
+    public void setOffHeapCacheSize(long offHeapCacheSize) {
+        this.offHeapCacheSize = offHeapCacheSize;
+    }
+
     /**
      * INTERNAL:
      * Set whether extended logging of JPA L2 cache usage is allowed on this project.
@@ -1632,6 +1656,7 @@ public PartitioningPolicy getPartitioningPolicy(String name) {
 
     /**
      * Set new {@link JPAQueryBuilder} instance factory.
+     * The factory is serialized with the project, so it must be serializable for the project to be cached.
      *
      * @param queryBuilderSupplier the new {@link JPAQueryBuilder} instance factory
      */
@@ -1652,7 +1677,9 @@ public <T extends JPAQueryBuilder> T getQueryBuilder() {
 
     // Default JPAQueryBuilder factory.
     // Returns new instance of HermesParser. Based on buildDefaultQueryBuilder() method of AbstractSession.
-    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T> {
+    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T>, Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private static final String DEFAULT_BUILDER_CLASS_NAME = "org.eclipse.persistence.internal.jpa.jpql.HermesParser";
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -35,6 +35,7 @@ public interface SessionProfiler {
     String LoginTime = "Info:LoginTime";
     String RcmStatus = "Info:CacheCoordinationStatus";
     String CacheSize = "Info:CacheSize";//TODO
+    String OffHeapCacheSize = "Info:OffHeapCacheBytes";
 
     String ClientSessionCreated = "Counter:ClientSessionCreates";
     String ClientSessionReleased = "Counter:ClientSessionReleases";
@@ -46,10 +47,26 @@ public interface SessionProfiler {
     String RcmReceived = "Counter:MessagesReceived";
     String RcmSent = "Counter:MessagesSent";
     String RemoteChangeSet = "Counter:RemoteChangeSets";
+    String RcmBatchSent = "Counter:MessageBatchesSent";
     String Connects = "Counter:ConnectCalls";
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
     String CacheMisses = "Counter:CacheMisses";
+    String OffHeapCacheHits = "Counter:OffHeapCacheHits";
+    String OffHeapCacheMisses = "Counter:OffHeapCacheMisses";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String QueryCacheHits = "Counter:QueryCacheHits";
+    String QueryCacheMisses = "Counter:QueryCacheMisses";
+    String QueryCacheInvalidations = "Counter:QueryCacheInvalidations";
+    String CacheIndexRangeLookups = "Counter:CacheIndexRangeLookups";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String BatchedStatements = "Counter:BatchedStatements";
+    String StatementBatches = "Counter:StatementBatches";
+    String ParallelObjectBuilds = "Counter:ParallelObjectBuilds";
+    String ParallelChangeCalculations = "Counter:ParallelChangeCalculations";
+    String SequencePreallocationStalls = "Counter:SequencePreallocationStalls";
+    String SequencePreallocationRefills = "Counter:SequencePreallocationRefills";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
 
@@ -65,6 +82,7 @@ public interface SessionProfiler {
     String Merge = "Timer:Merge";
     String DistributedMerge = "Timer:DistributedMerge";
     String AssignSequence = "Timer:Sequencing";
+    String SequencePreallocationRefill = "Timer:SequencePreallocationRefill";
     String Caching = "Timer:Caching";
     String CacheCoordinationSerialize = "Timer:CacheCoordinationSerialize";
     String CacheCoordination = "Timer:CacheCoordination";
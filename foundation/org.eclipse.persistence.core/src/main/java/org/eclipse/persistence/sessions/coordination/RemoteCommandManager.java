@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -78,6 +79,7 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +108,15 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** Time in milliseconds asynchronously propagated commands are buffered to be sent in a batch, 0 if not batched. */
+    protected long batchWindow;
+
+    /** Maximum number of commands buffered, when reached the batch is sent. */
+    protected int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /** Buffers the commands sent in batches, null if not batched. */
+    protected CommandBatcher batcher;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -156,6 +167,9 @@ public void initialize() {
             }
         }
         this.isStopped = false;
+        if (this.batchWindow > 0) {
+            this.batcher = new CommandBatcher(this);
+        }
         if (this.discoveryManager != null) {
             this.discoveryManager.startDiscovery();
         } else {
@@ -198,6 +212,11 @@ public void shutdown() {
             discoveryManager = newDmgr;
         }
         isStopped = true;
+        if (batcher != null) {
+            // Send the buffered commands before the connections are discarded.
+            batcher.flush();
+            batcher = null;
+        }
         transportManager.discardConnections();
     }
 
@@ -234,6 +253,13 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
+            // PERF: Serialize the command and buffer it to be sent in a batch.
+            CommandBatcher batcher = this.batcher;
+            if ((batcher != null) && shouldPropagateAsynchronously()) {
+                batcher.addCommand(newCommand);
+                return;
+            }
+
             // PERF: Support plugable serialization.
             Serializer serializer = getSerializer();
             byte[] commandBytes = null;
@@ -591,6 +617,57 @@ public void setServerPlatform(ServerPlatform theServerPlatform) {
         this.serverPlatform = theServerPlatform;
     }
 
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds the commands propagated asynchronously are buffered,
+     * to be sent to the cluster as a single message.
+     * 0 (the default) if each command is sent when propagated.
+     */
+    public long getBatchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds the commands propagated asynchronously are buffered,
+     * to be sent to the cluster as a single message.
+     * The commands of the batch are compressed, and the changes of an object replaced by later changes in the batch are not sent.
+     * When a batch reaches the max batch size it is sent by the propagating thread, which waits for the previous batch to be sent.
+     * The commands are serialized when they are propagated, so the application may modify the merged objects before the batch is sent.
+     * By default, 0, each command is sent when propagated.
+     * Must be set before the command manager is initialized.
+     * @see #setMaxBatchSize(int)
+     */
+    public void setBatchWindow(long batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands buffered in a batch, by default 100.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands buffered in a batch, by default 100.
+     * When reached, the batch is sent without waiting for the batch window.
+     * @see #setBatchWindow(long)
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the batcher buffering the commands, null if commands are not sent in batches.
+     */
+    public CommandBatcher getBatcher() {
+        return batcher;
+    }
+
     /**
      * PUBLIC:
      * Return the Serializer to use for serialization of commands.
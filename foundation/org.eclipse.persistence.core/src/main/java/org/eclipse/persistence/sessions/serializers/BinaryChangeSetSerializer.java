@@ -0,0 +1,709 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.AggregateChangeRecord;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * Serializes the commands of cache coordination in a compact binary format.
+ * <p>
+ * The changes of a {@link MergeChangeSetCommand} are written using the descriptors of the session:
+ * the class of a changed object is written as the index of its descriptor, and a changed attribute
+ * as the index of its mapping, instead of their names. Integral values, such as ids and versions,
+ * are written as variable length integers.
+ * The descriptors are sorted by class name and the mappings by attribute name, so the indexes are the same
+ * for all the sessions of the same project. A fingerprint of the descriptors and mappings is written
+ * with the changes, and checked when they are read.
+ * <p>
+ * Only the changes that set the value of a direct, object reference or aggregate mapping are written in the
+ * compact format. Other commands, and merge commands with other changes (such as changes to collections),
+ * are written with Java serialization, as are the values of other types than the basic types.
+ *
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ */
+public class BinaryChangeSetSerializer extends AbstractSerializer {
+
+    @Serial
+    private static final long serialVersionUID = -3381578409563256153L;
+
+    /** The command is written with Java serialization. */
+    protected static final int JAVA_FORMAT = 0;
+    /** The command is a merge command written in the compact format. */
+    protected static final int BINARY_FORMAT = 1;
+
+    /** Object change set references, followed by the change set when first written, or its handle. */
+    protected static final int NULL_REFERENCE = 0;
+    protected static final int NEW_REFERENCE = 1;
+
+    /** Change record types. */
+    protected static final int DIRECT_CHANGE = 0;
+    protected static final int REFERENCE_CHANGE = 1;
+    protected static final int AGGREGATE_CHANGE = 2;
+
+    /** Object change set flags. */
+    protected static final int SHOULD_BE_DELETED = 1;
+    protected static final int IS_INVALID = 2;
+    protected static final int IS_NEW = 4;
+    protected static final int IS_AGGREGATE = 8;
+    protected static final int HAS_VERSION_CHANGE = 16;
+    protected static final int HAS_MODIFY_VERSION_FIELD = 32;
+    protected static final int SHOULD_MODIFY_VERSION_FIELD = 64;
+
+    /** Value types. */
+    protected static final int NULL = 0;
+    protected static final int LONG = 1;
+    protected static final int INTEGER = 2;
+    protected static final int STRING = 3;
+    protected static final int TRUE = 4;
+    protected static final int FALSE = 5;
+    protected static final int DOUBLE = 6;
+    protected static final int FLOAT = 7;
+    protected static final int SHORT = 8;
+    protected static final int BYTE = 9;
+    protected static final int CHARACTER = 10;
+    protected static final int BIG_DECIMAL = 11;
+    protected static final int BIG_INTEGER = 12;
+    protected static final int TIMESTAMP = 13;
+    protected static final int SQL_DATE = 14;
+    protected static final int TIME = 15;
+    protected static final int DATE = 16;
+    protected static final int BYTES = 17;
+    protected static final int CACHE_ID = 18;
+    protected static final int SERIALIZED = 19;
+
+    /** The descriptors and mappings of the last project used, built on first use. */
+    protected transient volatile Schema schema;
+
+    public BinaryChangeSetSerializer() {
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        if ((object instanceof MergeChangeSetCommand command) && (session != null)) {
+            UnitOfWorkChangeSet changeSet = command.getChangeSet((AbstractSession)session);
+            if (changeSet != null) {
+                try {
+                    Output output = new Output(getSchema(session));
+                    output.write(BINARY_FORMAT);
+                    output.writeInt(output.schema.fingerprint);
+                    writeServiceId(output, command.getServiceId());
+                    writeChangeSets(output, changeSet.getAllChangeSets().keySet());
+                    writeChangeSets(output, changeSet.hasDeletedObjects() ? changeSet.getDeletedObjects().keySet() : List.of());
+                    return output.toByteArray();
+                } catch (UnsupportedChangeException exception) {
+                    // The changes can only be written with Java serialization.
+                }
+            }
+        }
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        byteOut.write(JAVA_FORMAT);
+        try {
+            ObjectOutputStream objectOut = new ObjectOutputStream(byteOut);
+            objectOut.writeObject(object);
+            objectOut.flush();
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+        return byteOut.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(Object object, Session session) {
+        byte[] bytes = (byte[])object;
+        if (bytes[0] == JAVA_FORMAT) {
+            return JavaSerializer.instance.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length), session);
+        }
+        Input input = new Input(bytes, getSchema(session), session);
+        input.position = 1;
+        if (input.readInt() != input.schema.fingerprint) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(
+                    new StreamCorruptedException("The changes were written for other descriptors: " + input.schema.project.getName()));
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setServiceId(readServiceId(input));
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        int size = input.readVarInt();
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> changeSets = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChanges = readChangeSet(input);
+                changeSets.put(objectChanges, objectChanges);
+            }
+            changeSet.setAllChangeSets(changeSets);
+        }
+        size = input.readVarInt();
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChanges = readChangeSet(input);
+                deletedObjects.put(objectChanges, objectChanges);
+            }
+            changeSet.setDeletedObjects(deletedObjects);
+        }
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    /**
+     * Return the descriptors and mappings of the session's project.
+     */
+    protected Schema getSchema(Session session) {
+        Schema schema = this.schema;
+        if ((schema == null) || (schema.project != session.getProject())) {
+            schema = new Schema(session.getProject());
+            this.schema = schema;
+        }
+        return schema;
+    }
+
+    protected void writeServiceId(Output output, ServiceId serviceId) {
+        if (serviceId == null) {
+            output.write(0);
+        } else {
+            output.write(1);
+            output.writeString(serviceId.getChannel());
+            output.writeString(serviceId.getId());
+            output.writeString(serviceId.getURL());
+        }
+    }
+
+    protected ServiceId readServiceId(Input input) {
+        if (input.read() == 0) {
+            return null;
+        }
+        return new ServiceId(input.readString(), input.readString(), input.readString());
+    }
+
+    protected void writeChangeSets(Output output, Collection<ObjectChangeSet> changeSets) {
+        output.writeVarInt(changeSets.size());
+        for (ObjectChangeSet changeSet : changeSets) {
+            writeChangeSet(output, changeSet);
+        }
+    }
+
+    /**
+     * Write the object change set the first time it is referenced, its handle after.
+     * Like Java serialization, only the identity of the object is written if the changes are not sent.
+     */
+    protected void writeChangeSet(Output output, ObjectChangeSet changeSet) {
+        if (changeSet == null) {
+            output.writeVarInt(NULL_REFERENCE);
+            return;
+        }
+        Integer handle = output.handles.get(changeSet);
+        if (handle != null) {
+            output.writeVarInt(handle + 2);
+            return;
+        }
+        output.handles.put(changeSet, output.handles.size());
+        DescriptorSchema descriptor = output.schema.descriptorsByClassName.get(changeSet.getClassName());
+        if (descriptor == null) {
+            throw UnsupportedChangeException.INSTANCE;
+        }
+        output.writeVarInt(NEW_REFERENCE);
+        output.writeVarInt(descriptor.index);
+        int flags = 0;
+        if (changeSet.shouldBeDeleted()) {
+            flags |= SHOULD_BE_DELETED;
+        }
+        if (changeSet.isInvalid()) {
+            flags |= IS_INVALID;
+        }
+        if (changeSet.isNew()) {
+            flags |= IS_NEW;
+        }
+        if (changeSet.isAggregate()) {
+            flags |= IS_AGGREGATE;
+        }
+        if (changeSet.hasVersionChange()) {
+            flags |= HAS_VERSION_CHANGE;
+        }
+        Boolean shouldModifyVersionField = changeSet.shouldModifyVersionField();
+        if (shouldModifyVersionField != null) {
+            flags |= HAS_MODIFY_VERSION_FIELD;
+            if (shouldModifyVersionField) {
+                flags |= SHOULD_MODIFY_VERSION_FIELD;
+            }
+        }
+        output.write(flags);
+        int synchronizationType = changeSet.getSynchronizationType();
+        output.writeVarInt(synchronizationType);
+        writeValue(output, changeSet.getId());
+        writeValue(output, changeSet.getWriteLockValue());
+        writeValue(output, changeSet.getInitialWriteLockValue());
+        if (!isIdentityOnly(changeSet.shouldBeDeleted(), synchronizationType)) {
+            List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = changeSet.getChanges();
+            output.writeVarInt(changes.size());
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : changes) {
+                writeChangeRecord(output, descriptor, (ChangeRecord)record);
+            }
+            writeValue(output, changeSet.getOldKey());
+            writeValue(output, changeSet.getNewKey());
+            writeValue(output, changeSet.getProtectedForeignKeys());
+        }
+    }
+
+    protected ObjectChangeSet readChangeSet(Input input) {
+        int reference = input.readVarInt();
+        if (reference == NULL_REFERENCE) {
+            return null;
+        } else if (reference != NEW_REFERENCE) {
+            return input.handles.get(reference - 2);
+        }
+        ObjectChangeSet changeSet = new ObjectChangeSet();
+        input.handles.add(changeSet);
+        DescriptorSchema descriptor = input.schema.descriptors[input.readVarInt()];
+        int flags = input.read();
+        int synchronizationType = input.readVarInt();
+        boolean shouldBeDeleted = (flags & SHOULD_BE_DELETED) != 0;
+        changeSet.setSynchronizationType(synchronizationType);
+        changeSet.setShouldBeDeleted(shouldBeDeleted);
+        changeSet.setIsInvalid((flags & IS_INVALID) != 0);
+        changeSet.setIsNew((flags & IS_NEW) != 0);
+        changeSet.setIsAggregate((flags & IS_AGGREGATE) != 0);
+        if ((flags & HAS_MODIFY_VERSION_FIELD) != 0) {
+            changeSet.setShouldModifyVersionField((flags & SHOULD_MODIFY_VERSION_FIELD) != 0);
+        }
+        changeSet.setClassName(descriptor.className);
+        changeSet.setClassType(descriptor.descriptor.getJavaClass());
+        changeSet.setId(readValue(input));
+        Object writeLockValue = readValue(input);
+        if (writeLockValue != null) {
+            changeSet.setWriteLockValue(writeLockValue);
+        }
+        changeSet.setHasVersionChange((flags & HAS_VERSION_CHANGE) != 0);
+        changeSet.setInitialWriteLockValue(readValue(input));
+        if (!isIdentityOnly(shouldBeDeleted, synchronizationType)) {
+            int size = input.readVarInt();
+            List<ChangeRecord> changes = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                ChangeRecord record = readChangeRecord(input, descriptor);
+                record.setOwner(changeSet);
+                changes.add(record);
+            }
+            changeSet.setChanges(changes);
+            changeSet.setOldKey(readValue(input));
+            changeSet.setNewKey(readValue(input));
+            changeSet.setProtectedForeignKeys((AbstractRecord)readValue(input));
+        }
+        return changeSet;
+    }
+
+    /**
+     * Return if only the identity of the object is sent, as for Java serialization.
+     */
+    protected boolean isIdentityOnly(boolean shouldBeDeleted, int synchronizationType) {
+        return shouldBeDeleted || (synchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES)
+                || (synchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    protected void writeChangeRecord(Output output, DescriptorSchema descriptor, ChangeRecord record) {
+        Integer mappingIndex = descriptor.mappingIndexes.get(record.getAttribute());
+        if (mappingIndex == null) {
+            throw UnsupportedChangeException.INSTANCE;
+        }
+        Class<?> recordClass = record.getClass();
+        if (recordClass == DirectToFieldChangeRecord.class) {
+            output.writeVarInt(mappingIndex);
+            output.write(DIRECT_CHANGE);
+            writeValue(output, ((DirectToFieldChangeRecord)record).getNewValue());
+        } else if (recordClass == ObjectReferenceChangeRecord.class) {
+            output.writeVarInt(mappingIndex);
+            output.write(REFERENCE_CHANGE);
+            writeChangeSet(output, (ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue());
+        } else if (recordClass == AggregateChangeRecord.class) {
+            output.writeVarInt(mappingIndex);
+            output.write(AGGREGATE_CHANGE);
+            writeChangeSet(output, (ObjectChangeSet)((AggregateChangeRecord)record).getChangedObject());
+        } else {
+            throw UnsupportedChangeException.INSTANCE;
+        }
+    }
+
+    protected ChangeRecord readChangeRecord(Input input, DescriptorSchema descriptor) {
+        DatabaseMapping mapping = descriptor.mappings[input.readVarInt()];
+        ChangeRecord record;
+        switch (input.read()) {
+            case DIRECT_CHANGE -> {
+                DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord();
+                directRecord.setNewValue(readValue(input));
+                record = directRecord;
+            }
+            case REFERENCE_CHANGE -> {
+                ObjectReferenceChangeRecord referenceRecord = new ObjectReferenceChangeRecord();
+                referenceRecord.setNewValue(readChangeSet(input));
+                record = referenceRecord;
+            }
+            case AGGREGATE_CHANGE -> {
+                AggregateChangeRecord aggregateRecord = new AggregateChangeRecord();
+                aggregateRecord.setChangedObject(readChangeSet(input));
+                record = aggregateRecord;
+            }
+            default -> throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(
+                    new StreamCorruptedException("Invalid change record type"));
+        }
+        record.setAttribute(mapping.getAttributeName());
+        record.setMapping(mapping);
+        return record;
+    }
+
+    protected void writeValue(Output output, Object value) {
+        if (value == null) {
+            output.write(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == Long.class) {
+            output.write(LONG);
+            output.writeVarLong((Long)value);
+        } else if (type == Integer.class) {
+            output.write(INTEGER);
+            output.writeVarLong((Integer)value);
+        } else if (type == String.class) {
+            output.write(STRING);
+            output.writeString((String)value);
+        } else if (type == Boolean.class) {
+            output.write((Boolean)value ? TRUE : FALSE);
+        } else if (type == Double.class) {
+            output.write(DOUBLE);
+            output.writeLong(Double.doubleToLongBits((Double)value));
+        } else if (type == Float.class) {
+            output.write(FLOAT);
+            output.writeInt(Float.floatToIntBits((Float)value));
+        } else if (type == Short.class) {
+            output.write(SHORT);
+            output.writeVarLong((Short)value);
+        } else if (type == Byte.class) {
+            output.write(BYTE);
+            output.write((Byte)value);
+        } else if (type == Character.class) {
+            output.write(CHARACTER);
+            output.writeVarLong((Character)value);
+        } else if (type == BigDecimal.class) {
+            output.write(BIG_DECIMAL);
+            output.writeVarLong(((BigDecimal)value).scale());
+            output.writeByteArray(((BigDecimal)value).unscaledValue().toByteArray());
+        } else if (type == BigInteger.class) {
+            output.write(BIG_INTEGER);
+            output.writeByteArray(((BigInteger)value).toByteArray());
+        } else if (type == Timestamp.class) {
+            output.write(TIMESTAMP);
+            output.writeVarLong(((Timestamp)value).getTime());
+            output.writeVarLong(((Timestamp)value).getNanos());
+        } else if (type == java.sql.Date.class) {
+            output.write(SQL_DATE);
+            output.writeVarLong(((java.sql.Date)value).getTime());
+        } else if (type == Time.class) {
+            output.write(TIME);
+            output.writeVarLong(((Time)value).getTime());
+        } else if (type == java.util.Date.class) {
+            output.write(DATE);
+            output.writeVarLong(((java.util.Date)value).getTime());
+        } else if (type == byte[].class) {
+            output.write(BYTES);
+            output.writeByteArray((byte[])value);
+        } else if (type == CacheId.class) {
+            Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+            output.write(CACHE_ID);
+            output.writeVarInt(primaryKey.length);
+            for (Object keyValue : primaryKey) {
+                writeValue(output, keyValue);
+            }
+        } else {
+            output.write(SERIALIZED);
+            output.writeByteArray((byte[])JavaSerializer.instance.serialize(value, null));
+        }
+    }
+
+    protected Object readValue(Input input) {
+        int type = input.read();
+        switch (type) {
+            case NULL: return null;
+            case LONG: return input.readVarLong();
+            case INTEGER: return (int)input.readVarLong();
+            case STRING: return input.readString();
+            case TRUE: return Boolean.TRUE;
+            case FALSE: return Boolean.FALSE;
+            case DOUBLE: return Double.longBitsToDouble(input.readLong());
+            case FLOAT: return Float.intBitsToFloat(input.readInt());
+            case SHORT: return (short)input.readVarLong();
+            case BYTE: return (byte)input.read();
+            case CHARACTER: return (char)input.readVarLong();
+            case BIG_DECIMAL: {
+                int scale = (int)input.readVarLong();
+                return new BigDecimal(new BigInteger(input.readByteArray()), scale);
+            }
+            case BIG_INTEGER: return new BigInteger(input.readByteArray());
+            case TIMESTAMP: {
+                Timestamp timestamp = new Timestamp(input.readVarLong());
+                timestamp.setNanos((int)input.readVarLong());
+                return timestamp;
+            }
+            case SQL_DATE: return new java.sql.Date(input.readVarLong());
+            case TIME: return new Time(input.readVarLong());
+            case DATE: return new java.util.Date(input.readVarLong());
+            case BYTES: return input.readByteArray();
+            case CACHE_ID: {
+                Object[] primaryKey = new Object[input.readVarInt()];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue(input);
+                }
+                return new CacheId(primaryKey);
+            }
+            case SERIALIZED: return JavaSerializer.instance.deserialize(input.readByteArray(), input.session);
+            default: throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(
+                    new StreamCorruptedException("Invalid value type: " + type));
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The descriptors of a project, sorted by class name, and their mappings, sorted by attribute name.
+     */
+    protected static class Schema {
+        protected final Project project;
+        protected final DescriptorSchema[] descriptors;
+        protected final Map<String, DescriptorSchema> descriptorsByClassName;
+        protected final int fingerprint;
+
+        protected Schema(Project project) {
+            this.project = project;
+            List<ClassDescriptor> sortedDescriptors = new ArrayList<>(project.getOrderedDescriptors());
+            sortedDescriptors.sort(Comparator.comparing(ClassDescriptor::getJavaClassName));
+            this.descriptors = new DescriptorSchema[sortedDescriptors.size()];
+            this.descriptorsByClassName = new HashMap<>(sortedDescriptors.size());
+            int fingerprint = 0;
+            for (int index = 0; index < this.descriptors.length; index++) {
+                DescriptorSchema descriptor = new DescriptorSchema(index, sortedDescriptors.get(index));
+                this.descriptors[index] = descriptor;
+                this.descriptorsByClassName.put(descriptor.className, descriptor);
+                fingerprint = 31 * fingerprint + descriptor.className.hashCode();
+                for (DatabaseMapping mapping : descriptor.mappings) {
+                    fingerprint = 31 * fingerprint + mapping.getAttributeName().hashCode();
+                }
+            }
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * A descriptor, and its mappings sorted by attribute name.
+     */
+    protected static class DescriptorSchema {
+        protected final int index;
+        protected final ClassDescriptor descriptor;
+        protected final String className;
+        protected final DatabaseMapping[] mappings;
+        protected final Map<String, Integer> mappingIndexes;
+
+        protected DescriptorSchema(int index, ClassDescriptor descriptor) {
+            this.index = index;
+            this.descriptor = descriptor;
+            this.className = descriptor.getJavaClassName();
+            List<DatabaseMapping> sortedMappings = new ArrayList<>(descriptor.getMappings());
+            sortedMappings.sort(Comparator.comparing(DatabaseMapping::getAttributeName));
+            this.mappings = sortedMappings.toArray(new DatabaseMapping[0]);
+            this.mappingIndexes = new HashMap<>(this.mappings.length);
+            for (int mappingIndex = 0; mappingIndex < this.mappings.length; mappingIndex++) {
+                this.mappingIndexes.put(this.mappings[mappingIndex].getAttributeName(), mappingIndex);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Buffer the changes are written to, with the handles of the object change sets written.
+     */
+    protected static class Output extends ByteArrayOutputStream {
+        protected final Schema schema;
+        protected final Map<ObjectChangeSet, Integer> handles = new IdentityHashMap<>();
+
+        protected Output(Schema schema) {
+            super(256);
+            this.schema = schema;
+        }
+
+        protected void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        protected void writeLong(long value) {
+            writeInt((int)(value >>> 32));
+            writeInt((int)value);
+        }
+
+        /**
+         * Write an unsigned value, 7 bits per byte.
+         */
+        protected void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        /**
+         * Write a signed value, zigzag encoded so small negative values are also short.
+         */
+        protected void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                write((int)((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            write((int)zigzag);
+        }
+
+        protected void writeByteArray(byte[] value) {
+            writeVarInt(value.length);
+            write(value, 0, value.length);
+        }
+
+        protected void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The changes being read, with the object change sets read so far.
+     */
+    protected static class Input {
+        protected final byte[] bytes;
+        protected int position;
+        protected final Schema schema;
+        protected final Session session;
+        protected final List<ObjectChangeSet> handles = new ArrayList<>();
+
+        protected Input(byte[] bytes, Schema schema, Session session) {
+            this.bytes = bytes;
+            this.schema = schema;
+            this.session = session;
+        }
+
+        protected int read() {
+            return this.bytes[this.position++] & 0xFF;
+        }
+
+        protected int readInt() {
+            return (read() << 24) | (read() << 16) | (read() << 8) | read();
+        }
+
+        protected long readLong() {
+            return ((long)readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        protected int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            int next;
+            do {
+                next = read();
+                value |= (next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            return value;
+        }
+
+        protected long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            int next;
+            do {
+                next = read();
+                zigzag |= (long)(next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        protected byte[] readByteArray() {
+            int length = readVarInt();
+            byte[] value = Arrays.copyOfRange(this.bytes, this.position, this.position + length);
+            this.position += length;
+            return value;
+        }
+
+        protected String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            String value = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            return value;
+        }
+    }
+
+    /**
+     * Raised when a change can not be written in the compact format, the command is then written with Java serialization.
+     */
+    protected static class UnsupportedChangeException extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        protected static final UnsupportedChangeException INSTANCE = new UnsupportedChangeException();
+
+        protected UnsupportedChangeException() {
+            super(null, null, false, false);
+        }
+    }
+}
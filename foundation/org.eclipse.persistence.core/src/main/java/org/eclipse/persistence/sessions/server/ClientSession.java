@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -129,6 +129,7 @@ public ClientSession(ServerSession parent, ConnectionPolicy connectionPolicy, Ma
         this.queryTimeoutUnitDefault = parent.getQueryTimeoutUnitDefault();
         this.isConcurrent = parent.isConcurrent();
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess();
+        this.parallelChangeCalculationThreshold = parent.getParallelChangeCalculationThreshold();
         this.properties = properties;
         this.multitenantContextProperties = parent.getMultitenantContextProperties();
 
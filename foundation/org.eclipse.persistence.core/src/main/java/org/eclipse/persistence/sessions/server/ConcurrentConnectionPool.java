@@ -0,0 +1,582 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A connection pool that does not synchronize on the pool to acquire or release a connection.
+ * <p>
+ * Connections are claimed by an atomic state change, first the connection last used by the thread is tried,
+ * then any idle connection. Only a thread that finds no idle connection and cannot build a new one (the pool is at
+ * its max) takes the pool lock, and waits in FIFO order on its own {@link Condition}.
+ * A released connection is handed directly to the longest waiting thread, so waiters are served in order.
+ * No monitor is held while waiting, so a waiting virtual thread does not pin its carrier thread.
+ * <p>
+ * The time threads waited for a connection is recorded in a histogram, and reported as profiler counters
+ * ({@code Counter:ConnectionPoolWait:<pool name>:<bucket>}).
+ * <p>
+ * This pool can be used anywhere a {@link ConnectionPool} is used, such as the default, read or a named pool
+ * of a {@link ServerSession}.
+ * @see ConnectionPool
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+    protected static final String WAIT_MONITOR_HEADER = "Counter:ConnectionPoolWait:";
+
+    /** Upper bounds in milliseconds of the acquire wait histogram buckets, the last bucket is unbounded. */
+    protected static final long[] WAIT_BUCKETS = {0, 1, 10, 100, 1000};
+    protected static final String[] WAIT_BUCKET_NAMES = {"0ms", "<1ms", "<10ms", "<100ms", "<1s", ">=1s"};
+
+    protected static final int IDLE = 0;
+    protected static final int IN_USE = 1;
+    protected static final int REMOVED = 2;
+
+    /** A connection and its claim state. */
+    protected static class PooledConnection {
+        protected final Accessor accessor;
+        protected final AtomicInteger state;
+
+        protected PooledConnection(Accessor accessor, int state) {
+            this.accessor = accessor;
+            this.state = new AtomicInteger(state);
+        }
+
+        protected boolean claim() {
+            return this.state.compareAndSet(IDLE, IN_USE);
+        }
+    }
+
+    /** A thread waiting for a connection. */
+    protected static class Waiter {
+        protected final Condition condition;
+        /** Connection handed to the waiter, or signalled without a connection when capacity to build one was freed. */
+        protected PooledConnection connection;
+        protected boolean isSignaled;
+
+        protected Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+
+    /** All connections of the pool. */
+    protected List<PooledConnection> pooledConnections;
+
+    /** Lookup of the pooled connection of an accessor on release. */
+    protected Map<Accessor, PooledConnection> pooledConnectionsByAccessor;
+
+    /** Number of connections built or being built. */
+    protected AtomicInteger totalConnections;
+
+    /** Number of connections in use. */
+    protected AtomicInteger connectionsInUse;
+
+    /** The connection last used by each thread, it is tried first. */
+    protected ThreadLocal<PooledConnection> lastUsed;
+
+    /** Guards the waiters, is only acquired when the pool has no idle connection. */
+    protected ReentrantLock waitLock;
+
+    /** Threads waiting for a connection in FIFO order, guarded by the wait lock. */
+    protected Deque<Waiter> waiters;
+
+    /** Number of waiting threads, read without the lock by releasing threads. */
+    protected AtomicInteger waiterCount;
+
+    /** Count of acquires by wait time bucket. */
+    protected AtomicLongArray waitHistogram;
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Return an idle connection, build a new one if none is idle and the pool is not at its max,
+     * or wait for a connection to be released.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        PooledConnection connection = claimIdleConnection();
+        if (connection == null) {
+            connection = buildIfBelowMax();
+            if ((connection == null) && this.isDead) {
+                // The build failed and the pool is now dead, fail-over instead of waiting.
+                return failover();
+            }
+        }
+        if (connection == null) {
+            long start = System.nanoTime();
+            connection = waitForConnection();
+            recordWait(System.nanoTime() - start);
+        } else {
+            recordWait(-1);
+        }
+        if (connection == null) {
+            // The database failed and the pool is now dead.
+            return failover();
+        }
+        this.lastUsed.set(connection);
+        int inUse = this.connectionsInUse.incrementAndGet();
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, inUse);
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection.accessor);
+        }
+        return connection.accessor;
+    }
+
+    /**
+     * Claim the connection last used by the thread, or any idle connection.
+     * If the pool has encountered a connection failure, the claimed connections are tested.
+     */
+    protected PooledConnection claimIdleConnection() {
+        PooledConnection connection = this.lastUsed.get();
+        if ((connection == null) || !connection.claim()) {
+            connection = null;
+            for (PooledConnection candidate : this.pooledConnections) {
+                if (candidate.claim()) {
+                    connection = candidate;
+                    break;
+                }
+            }
+        }
+        if ((connection != null) && this.checkConnections) {
+            // EclipseLink has encountered a problem with a connection where the database no longer responded,
+            // test the connection and remove it if it failed.
+            if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection.accessor, this.owner)) {
+                try {
+                    connection.accessor.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.accessor.releaseCustomizer();
+                }
+                removeConnection(connection);
+                return claimIdleConnection();
+            }
+            this.checkConnections = false;
+        }
+        return connection;
+    }
+
+    /**
+     * Build a new connection if the pool is below its max, or return null.
+     * Return null, after marking the pool dead, if the build failed and the pool has fail-over pools.
+     */
+    protected PooledConnection buildIfBelowMax() {
+        int total = this.totalConnections.get();
+        while (total < this.maxNumberOfConnections) {
+            if (this.totalConnections.compareAndSet(total, total + 1)) {
+                Accessor accessor = null;
+                try {
+                    accessor = buildConnection();
+                } catch (RuntimeException failed) {
+                    this.totalConnections.decrementAndGet();
+                    if (!this.failoverConnectionPools.isEmpty()) {
+                        this.isDead = true;
+                        this.timeOfDeath = System.currentTimeMillis();
+                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                        // Waiting threads fail-over as well.
+                        signalAllWaiters();
+                        return null;
+                    } else {
+                        signalWaiter();
+                        throw failed;
+                    }
+                }
+                PooledConnection connection = new PooledConnection(accessor, IN_USE);
+                this.pooledConnections.add(connection);
+                this.pooledConnectionsByAccessor.put(accessor, connection);
+                return connection;
+            }
+            total = this.totalConnections.get();
+        }
+        return null;
+    }
+
+    /**
+     * Wait, in FIFO order, until a connection is handed over by a releasing thread or can be built.
+     * Like {@link ConnectionPool} the wait timeout only bounds each wait, the thread then checks again for a connection.
+     */
+    protected PooledConnection waitForConnection() {
+        this.waiterCount.incrementAndGet();
+        try {
+            while (true) {
+                Waiter waiter;
+                this.waitLock.lock();
+                try {
+                    // Check again while holding the lock, a releasing thread checks the waiters under the same lock.
+                    PooledConnection connection = claimIdleConnection();
+                    if (connection != null) {
+                        return connection;
+                    }
+                    if (this.isDead) {
+                        // The pool is dead, fail-over instead of waiting.
+                        return null;
+                    }
+                    waiter = new Waiter(this.waitLock.newCondition());
+                    this.waiters.addLast(waiter);
+                    try {
+                        while (!waiter.isSignaled) {
+                            if (this.waitTimeout == 0) {
+                                waiter.condition.await();
+                            } else if (!waiter.condition.await(this.waitTimeout, TimeUnit.MILLISECONDS)) {
+                                break;
+                            }
+                        }
+                    } catch (InterruptedException exception) {
+                        this.waiters.remove(waiter);
+                        if (waiter.connection != null) {
+                            releaseIdle(waiter.connection);
+                        }
+                        throw ConcurrencyException.waitFailureOnClientSession(exception);
+                    }
+                    if (!waiter.isSignaled) {
+                        this.waiters.remove(waiter);
+                    }
+                    if (waiter.connection != null) {
+                        return waiter.connection;
+                    }
+                } finally {
+                    this.waitLock.unlock();
+                }
+                if (this.isDead) {
+                    return null;
+                }
+                PooledConnection connection = buildIfBelowMax();
+                if (connection != null) {
+                    return connection;
+                }
+                if (this.isDead) {
+                    return null;
+                }
+            }
+        } finally {
+            this.waiterCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool, handing it to the longest waiting thread if any.
+     */
+    @Override
+    public void releaseConnection(Accessor accessor) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, accessor);
+        }
+        accessor.reset();
+        int inUse = this.connectionsInUse.decrementAndGet();
+        PooledConnection connection = this.pooledConnectionsByAccessor.get(accessor);
+        if (connection == null) {
+            // Not a connection of this pool, or the pool was shut down.
+            try {
+                accessor.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                // Ignore.
+            }
+        } else if (!accessor.isValid()) {
+            this.checkConnections = true;
+            removeConnection(connection);
+            try {
+                accessor.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                //this is an invalid connection so expect an exception.
+            }
+        } else if ((this.totalConnections.get() > this.minNumberOfConnections) && (this.waiterCount.get() == 0)) {
+            removeConnection(connection);
+            accessor.disconnect(getOwner());
+        } else {
+            releaseIdle(connection);
+        }
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, inUse);
+        }
+    }
+
+    /**
+     * Hand the in use connection to the first waiter, or make it idle.
+     */
+    protected void releaseIdle(PooledConnection connection) {
+        if (this.waiterCount.get() > 0) {
+            this.waitLock.lock();
+            try {
+                Waiter waiter = this.waiters.pollFirst();
+                if (waiter != null) {
+                    waiter.connection = connection;
+                    waiter.isSignaled = true;
+                    waiter.condition.signal();
+                    return;
+                }
+                connection.state.set(IDLE);
+            } finally {
+                this.waitLock.unlock();
+            }
+        } else {
+            connection.state.set(IDLE);
+            // A thread may have started waiting after the check.
+            if (this.waiterCount.get() > 0) {
+                signalWaiter();
+            }
+        }
+    }
+
+    /**
+     * Wake the first waiter without a connection, it will claim an idle connection or build one.
+     */
+    protected void signalWaiter() {
+        this.waitLock.lock();
+        try {
+            Waiter waiter = this.waiters.pollFirst();
+            if (waiter != null) {
+                waiter.isSignaled = true;
+                waiter.condition.signal();
+            }
+        } finally {
+            this.waitLock.unlock();
+        }
+    }
+
+    /**
+     * Wake all waiters without a connection, as the pool is dead.
+     */
+    protected void signalAllWaiters() {
+        this.waitLock.lock();
+        try {
+            Waiter waiter = this.waiters.pollFirst();
+            while (waiter != null) {
+                waiter.isSignaled = true;
+                waiter.condition.signal();
+                waiter = this.waiters.pollFirst();
+            }
+        } finally {
+            this.waitLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the connection from the pool, freeing capacity for a new connection.
+     */
+    protected void removeConnection(PooledConnection connection) {
+        connection.state.set(REMOVED);
+        this.pooledConnections.remove(connection);
+        this.pooledConnectionsByAccessor.remove(connection.accessor);
+        this.totalConnections.decrementAndGet();
+        if (this.waiterCount.get() > 0) {
+            signalWaiter();
+        }
+    }
+
+    /**
+     * Record the time waited for a connection, -1 if the connection was acquired without waiting.
+     */
+    protected void recordWait(long nanos) {
+        int bucket = 0;
+        if (nanos >= 0) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            bucket = WAIT_BUCKETS.length;
+            for (int index = 1; index < WAIT_BUCKETS.length; index++) {
+                if (millis < WAIT_BUCKETS[index]) {
+                    bucket = index;
+                    break;
+                }
+            }
+        }
+        this.waitHistogram.incrementAndGet(bucket);
+        if (this.owner.isInProfile()) {
+            this.owner.incrementProfile(WAIT_MONITOR_HEADER + this.name + ":" + WAIT_BUCKET_NAMES[bucket]);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of acquires in each wait time bucket,
+     * acquires that did not wait, waited less than 1ms, 10ms, 100ms, 1s, and 1s or more.
+     */
+    public long[] getAcquireWaitHistogram() {
+        long[] histogram = new long[this.waitHistogram.length()];
+        for (int index = 0; index < histogram.length; index++) {
+            histogram[index] = this.waitHistogram.get(index);
+        }
+        return histogram;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the idle connections.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        List<Accessor> available = new ArrayList<>();
+        for (PooledConnection connection : this.pooledConnections) {
+            if (connection.state.get() == IDLE) {
+                available.add(connection.accessor);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connections in use.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        List<Accessor> used = new ArrayList<>();
+        for (PooledConnection connection : this.pooledConnections) {
+            if (connection.state.get() == IN_USE) {
+                used.add(connection.accessor);
+            }
+        }
+        return used;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in the pool.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.totalConnections.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a connection is idle, or can be built.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        if (this.totalConnections.get() < this.maxNumberOfConnections) {
+            return true;
+        }
+        for (PooledConnection connection : this.pooledConnections) {
+            if (connection.state.get() == IDLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        this.pooledConnections = new CopyOnWriteArrayList<>();
+        this.pooledConnectionsByAccessor = new ConcurrentHashMap<>();
+        this.totalConnections = new AtomicInteger();
+        this.connectionsInUse = new AtomicInteger();
+        this.lastUsed = new ThreadLocal<>();
+        if (this.waitLock == null) {
+            this.waitLock = new ReentrantLock();
+            this.waiters = new ArrayDeque<>();
+            this.waiterCount = new AtomicInteger();
+            this.waitHistogram = new AtomicLongArray(WAIT_BUCKET_NAMES.length);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public void shutDown() {
+        setIsConnected(false);
+        for (PooledConnection connection : this.pooledConnections) {
+            try {
+                connection.accessor.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        resetConnections();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+            Accessor accessor = buildConnection();
+            PooledConnection connection = new PooledConnection(accessor, IDLE);
+            this.totalConnections.incrementAndGet();
+            this.pooledConnections.add(connection);
+            this.pooledConnectionsByAccessor.put(accessor, connection);
+        }
+        setIsConnected(true);
+    }
+}
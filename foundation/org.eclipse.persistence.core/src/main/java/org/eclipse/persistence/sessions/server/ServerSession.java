@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2023 IBM Corporation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -47,6 +47,8 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Implementation of Server
@@ -80,6 +82,12 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
     protected ConnectionPolicy defaultConnectionPolicy;
     protected int numberOfNonPooledConnectionsUsed;
     protected int maxNumberOfNonPooledConnections;
+    /** Executor of the threads building the objects of read queries in parallel, created on first use. */
+    protected volatile ExecutorService objectBuildExecutor;
+    /** If the object build executor was created by the session, so is shut down on logout. */
+    protected boolean isObjectBuildExecutorOwned;
+    /** Number of threads of the object build executor created by the session. */
+    protected int objectBuildThreadPoolSize = Runtime.getRuntime().availableProcessors();
 
     public static final int NO_MAX = -1;
     public static final String DEFAULT_POOL = "default";
@@ -763,6 +771,67 @@ public int getMaxNumberOfNonPooledConnections() {
         return maxNumberOfNonPooledConnections;
     }
 
+    /**
+     * INTERNAL:
+     * Return the executor of the threads building the objects of read queries in parallel.
+     * Unless set, a pool of {@link #getObjectBuildThreadPoolSize()} daemon threads is created on first use,
+     * and shut down on logout.
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    public ExecutorService getObjectBuildExecutor() {
+        ExecutorService executor = this.objectBuildExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.objectBuildExecutor;
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(this.objectBuildThreadPoolSize, runnable -> {
+                        Thread thread = new Thread(runnable, "EclipseLink object build " + getName());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.objectBuildExecutor = executor;
+                    this.isObjectBuildExecutorOwned = true;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the executor of the threads building the objects of read queries in parallel,
+     * such as a managed executor of the application server.
+     * The executor is not shut down by the session.
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    public synchronized void setObjectBuildExecutor(ExecutorService objectBuildExecutor) {
+        if (this.isObjectBuildExecutorOwned) {
+            this.objectBuildExecutor.shutdown();
+            this.isObjectBuildExecutorOwned = false;
+        }
+        this.objectBuildExecutor = objectBuildExecutor;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads building the objects of read queries in parallel,
+     * if the session creates its object build executor.
+     * By default this is the number of available processors.
+     */
+    public int getObjectBuildThreadPoolSize() {
+        return objectBuildThreadPoolSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of threads building the objects of read queries in parallel,
+     * if the session creates its object build executor.
+     * This must be set before the executor is first used.
+     */
+    public void setObjectBuildThreadPoolSize(int objectBuildThreadPoolSize) {
+        this.objectBuildThreadPoolSize = objectBuildThreadPoolSize;
+    }
+
     /**
      * INTERNAL:
      * Return the current number of non-pooled connections in use.
@@ -827,6 +896,13 @@ public void logout() {
             for (Iterator<ConnectionPool> poolsEnum = getConnectionPools().values().iterator(); poolsEnum.hasNext();) {
                 poolsEnum.next().shutDown();
             }
+            synchronized (this) {
+                if (this.isObjectBuildExecutorOwned) {
+                    this.objectBuildExecutor.shutdown();
+                    this.objectBuildExecutor = null;
+                    this.isObjectBuildExecutorOwned = false;
+                }
+            }
         }
     }
 
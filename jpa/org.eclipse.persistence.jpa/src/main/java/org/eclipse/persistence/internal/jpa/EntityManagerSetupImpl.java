@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -252,6 +252,7 @@
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.PropertiesHandler;
 import org.eclipse.persistence.internal.sessions.remote.RemoteConnection;
+import org.eclipse.persistence.jpa.metadata.BinaryProjectCache;
 import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
 import org.eclipse.persistence.jpa.metadata.MetadataSource;
 import org.eclipse.persistence.jpa.metadata.ProjectCache;
@@ -291,6 +292,7 @@
 import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManagerDispatcher;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
@@ -691,7 +693,7 @@ public AbstractSession deploy(ClassLoader realClassLoader, Map additionalPropert
 
                             if (this.projectCacheAccessor != null) {
                                 //cache the project:
-                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, this.session.getSessionLog());
+                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, classLoaderToUse, this.session.getSessionLog());
                             }
 
                             // The project is initially created using class names rather than classes.  This call will make the conversion.
@@ -1688,6 +1690,27 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                         readPool.setLogin(pool.getLogin());
                         serverSession.setReadConnectionPool(readPool);
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                    boolean concurrent = Boolean.parseBoolean((String)entry.getValue());
+                    if (concurrent && !(pool instanceof ConcurrentConnectionPool) && !(pool instanceof ExternalConnectionPool) && !(pool instanceof ReadConnectionPool)) {
+                        ConcurrentConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), serverSession);
+                        concurrentPool.setInitialNumberOfConnections(pool.getInitialNumberOfConnections());
+                        concurrentPool.setMinNumberOfConnections(pool.getMinNumberOfConnections());
+                        concurrentPool.setMaxNumberOfConnections(pool.getMaxNumberOfConnections());
+                        concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+                        concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+                        if (poolName.equals("read")) {
+                            serverSession.setReadConnectionPool(concurrentPool);
+                        } else if (poolName.equals("sequence")) {
+                            getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+                        } else {
+                            // By default the read pool is the default pool.
+                            if (serverSession.getReadConnectionPool() == pool) {
+                                serverSession.setReadConnectionPool(concurrentPool);
+                            }
+                            serverSession.addConnectionPool(concurrentPool);
+                        }
+                    }
                 }
             } catch (RuntimeException exception) {
                 this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), entry.getKey(), exception));
@@ -2349,6 +2372,18 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchWindow = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_WINDOW, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_WINDOW;
+                value = batchWindow;
+                if (batchWindow != null) {
+                    rcm.setBatchWindow(Long.parseLong(batchWindow));
+                }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                value = batchSize;
+                if (batchSize != null) {
+                    rcm.setMaxBatchSize(Integer.parseInt(batchSize));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2390,6 +2425,34 @@ protected void updateShouldOptimizeResultSetAccess(Map m) {
        }
     }
 
+    /**
+     * Update the number of registered objects from which the session's units of work calculate their changes in parallel.
+     */
+    protected void updateParallelChangeCalculationThreshold(Map m) {
+        String threshold = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD, m, this.session);
+        if (threshold != null) {
+            try {
+                this.session.setParallelChangeCalculationThreshold(Integer.parseInt(threshold.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(threshold, PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD, exception));
+            }
+        }
+    }
+
+    /**
+     * Update the number of threads of the server session building the objects of read queries in parallel.
+     */
+    protected void updateParallelBuildThreadPoolSize(ServerSession serverSession, Map m) {
+        String size = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PARALLEL_BUILD_THREAD_POOL_SIZE, m, serverSession);
+        if (size != null) {
+            try {
+                serverSession.setObjectBuildThreadPoolSize(Integer.parseInt(size.trim()));
+            } catch (NumberFormatException exception) {
+                serverSession.handleException(ValidationException.invalidValueForProperty(size, PersistenceUnitProperties.PARALLEL_BUILD_THREAD_POOL_SIZE, exception));
+            }
+        }
+    }
+
     /**
      * Update whether session should use externally defined multi tenancy.
      */
@@ -2860,6 +2923,7 @@ protected void updateSession(Map m, ClassLoader loader) {
         if(session.isServerSession()) {
             updatePools((ServerSession)session, m);
             updateConnectionSettings((ServerSession)session, m);
+            updateParallelBuildThreadPoolSize((ServerSession)session, m);
             if (!isSessionLoadedFromSessionsXML) {
                 updateDescriptorCacheSettings(m, loader);
             }
@@ -2895,11 +2959,13 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingRefill(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
             updateCacheStatementSettings(m);
             updateAllowExtendedCacheLogging(m);
+            updateOffHeapCacheSize(m);
             updateAllowExtendedThreadLogging(m);
             updateAllowExtendedThreadLoggingThreadDump(m);
             updateAllowQueryResultsCacheValidation(m);
@@ -2924,6 +2990,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateDatabaseEventListener(m, loader);
             updateSerializer(m, loader);
             updateShouldOptimizeResultSetAccess(m);
+            updateParallelChangeCalculationThreshold(m);
             updateTolerateInvalidJPQL(m);
             updateTenancy(m, loader);
             // ConcurrencyManager properties
@@ -3249,6 +3316,11 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                     this.session.getPlatform().setUsesNativeBatchWriting(true);
                     this.session.getPlatform().setUsesJDBCBatchWriting(true);
                 }
+                case BatchWriting.MultiRowInsert -> {
+                    this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                    this.session.getPlatform().setUsesNativeBatchWriting(false);
+                    this.session.getPlatform().setUsesMultiRowInsertBatchWriting(true);
+                }
                 case BatchWriting.None -> {
                     // Nothing required.
                 }
@@ -3281,6 +3353,11 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        // Set statement grouping.
+        String groupingString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_GROUPING, persistenceProperties, this.session);
+        if (groupingString != null) {
+            this.session.getPlatform().setShouldGroupBatchedStatements("true".equalsIgnoreCase(groupingString));
+        }
     }
 
     /**
@@ -3415,6 +3492,26 @@ protected void updateSequencingStart(Map m) {
         }
     }
 
+    protected void updateSequencingRefill(Map m) {
+        String threshold = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREALLOCATION_REFILL_THRESHOLD, m, session);
+        try {
+            if (threshold != null) {
+                int value = Integer.parseInt(threshold.trim());
+                Sequence defaultSequence = this.session.getPlatform().getDefaultSequence();
+                if (defaultSequence != null) {
+                    defaultSequence.setPreallocationRefillThreshold(value);
+                }
+                if (this.session.getPlatform().getSequences() != null) {
+                    for (Sequence sequence : this.session.getPlatform().getSequences().values()) {
+                        sequence.setPreallocationRefillThreshold(value);
+                    }
+                }
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(threshold, PersistenceUnitProperties.SEQUENCING_PREALLOCATION_REFILL_THRESHOLD, exception));
+        }
+    }
+
     /**
      * Load the projectCacheAccessor for JPA project caching
      */
@@ -3427,6 +3524,8 @@ protected void updateProjectCache(Map m, ClassLoader loader){
                 String accessorType = (String)accessor;
                 if (accessorType.equalsIgnoreCase("java-serialization")) {
                     projectCacheAccessor = new FileBasedProjectCache();
+                } else if (accessorType.equalsIgnoreCase("binary")) {
+                    projectCacheAccessor = new BinaryProjectCache();
                 } else {
                     try {
                         Class<? extends ProjectCache> transportClass = findClassForProperty(accessorType, PersistenceUnitProperties.PROJECT_CACHE, loader);
@@ -3598,6 +3697,12 @@ protected void updateCacheStatementSettings(Map m){
                 session.handleException(ValidationException.invalidCacheStatementsSize(cacheStatementsSize,e.getMessage()));
             }
         }
+
+        // Leave statement caching to the driver if specified.
+        String driverCacheStatements = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_DRIVER, m, session);
+        if (driverCacheStatements != null) {
+            session.getProject().getLogin().setShouldUseDriverStatementCache(Boolean.parseBoolean(driverCacheStatements));
+        }
     }
 
     /**
@@ -3941,6 +4046,21 @@ protected void updateAllowExtendedCacheLogging(Map m){
         }
     }
 
+    /**
+     * Set the byte budget of the off-heap tier of the shared cache.
+     * The method needs to be called in deploy stage.
+     */
+    protected void updateOffHeapCacheSize(Map m) {
+        String offHeapCacheSize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, m, session);
+        try {
+            if (offHeapCacheSize != null) {
+                session.getProject().setOffHeapCacheSize(Long.parseLong(offHeapCacheSize.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            session.handleException(ValidationException.invalidValueForProperty(offHeapCacheSize, PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, exception));
+        }
+    }
+
     /**
      * Enable or disable extended thread logging.
      * The method needs to be called in deploy stage.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2022 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -36,6 +36,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -50,6 +54,7 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.TransactionRequiredException;
 
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.BasicTypeHelperImpl;
@@ -59,12 +64,15 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.querydef.ParameterExpressionImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
+import org.eclipse.persistence.internal.queries.ContainerPolicy;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.jpa.JpaEntityManager;
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLStoredProcedureCall;
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLargument;
 import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursorPolicy;
 import org.eclipse.persistence.queries.DataModifyQuery;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
@@ -73,6 +81,8 @@
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
 import org.eclipse.persistence.queries.StoredProcedureCall;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Session;
@@ -489,6 +499,73 @@ public List getResultList() {
         }
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * <p>
+     * The results of a read all query are read through a forward only {@link ScrollableCursor},
+     * each result is built as the stream is consumed, so the results are not all held in memory.
+     * The cursor, and its connection, are released when the last result is read, or when the stream is closed,
+     * so a stream that is not fully consumed must be closed.
+     * The JDBC fetch size can be set with the {@link QueryHints#JDBC_FETCH_SIZE} hint,
+     * the objects can be built without being registered with the {@link QueryHints#READ_ONLY} hint,
+     * or without being put in the shared cache with the {@link QueryHints#MAINTAIN_CACHE} hint.
+     * Registered objects can be released from the persistence context as the stream is consumed
+     * with the {@link QueryHints#CURSOR_RELEASE_SIZE} hint.
+     * <p>
+     * The results of other queries are read as a list.
+     *
+     * @return a stream of the results
+     */
+    public Stream getResultStream() {
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        try {
+            setAsSQLReadQuery();
+            propagateResultProperties();
+            DatabaseQuery query = getDatabaseQueryInternal();
+            if (!query.isReadAllQuery()) {
+                return getResultList().stream();
+            }
+            ReadAllQuery readAllQuery = (ReadAllQuery) query;
+            ContainerPolicy policy = readAllQuery.getContainerPolicy();
+            if (!policy.isScrollableCursorPolicy()) {
+                if (!policy.isCursorPolicy() && !Helper.classImplementsInterface(policy.getContainerClass(), ClassConstants.List_Class)) {
+                    return getResultList().stream();
+                }
+                // Read the results through a forward only cursor, without changing the query.
+                ScrollableCursorPolicy cursorPolicy = new ScrollableCursorPolicy();
+                if (policy.isCursorPolicy()) {
+                    cursorPolicy.setPageSize(((CursorPolicy) policy).getPageSize());
+                }
+                cursorPolicy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+                cursorPolicy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+                readAllQuery = (ReadAllQuery) readAllQuery.clone();
+                readAllQuery.useScrollableCursor(cursorPolicy);
+            }
+            Cursor cursor;
+            DatabaseQuery originalQuery = this.databaseQuery;
+            boolean wasShared = this.isShared;
+            try {
+                this.databaseQuery = readAllQuery;
+                this.isShared = wasShared && (readAllQuery == query);
+                cursor = (Cursor) executeReadQuery();
+            } finally {
+                this.databaseQuery = originalQuery;
+                this.isShared = wasShared;
+            }
+            Integer releaseSize = (Integer) readAllQuery.getProperty(QueryHints.CURSOR_RELEASE_SIZE);
+            ResultStreamIterator iterator = new ResultStreamIterator(cursor, (releaseSize == null) ? 0 : releaseSize);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(iterator::close);
+        } catch (LockTimeoutException exception) {
+            throw exception;
+        } catch (PersistenceException | IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        }
+    }
+
     /**
      * Execute a SELECT query that returns a single untyped result.
      *
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.Cursor;
+
+/**
+ * INTERNAL:
+ * Iterator over the results of a cursor, backing the stream returned by {@link QueryImpl#getResultStream()}.
+ * The cursor is closed when its last result is read, or when the stream is closed.
+ * If a release size is set, the objects returned are detached from the unit of work
+ * each time the release size is reached, so the unit of work does not hold every object read.
+ */
+public class ResultStreamIterator implements Iterator<Object>, AutoCloseable {
+
+    /** The cursor being iterated. */
+    protected final Cursor cursor;
+
+    /** The unit of work to release the objects from, null if the objects are not released. */
+    protected final UnitOfWorkImpl unitOfWork;
+
+    /** The objects returned since the last release. */
+    protected final Object[] returned;
+
+    /** The number of objects returned since the last release. */
+    protected int returnedCount;
+
+    public ResultStreamIterator(Cursor cursor, int releaseSize) {
+        this.cursor = cursor;
+        AbstractSession session = cursor.getSession();
+        if ((releaseSize > 0) && (session != null) && session.isUnitOfWork()) {
+            this.unitOfWork = (UnitOfWorkImpl) session;
+            this.returned = new Object[releaseSize];
+        } else {
+            this.unitOfWork = null;
+            this.returned = null;
+        }
+    }
+
+    public Cursor getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.cursor.isClosed()) {
+            return false;
+        }
+        if (this.cursor.hasNext()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object object = this.cursor.next();
+        if ((this.unitOfWork != null) && (object != null)) {
+            if (this.returnedCount == this.returned.length) {
+                release();
+            }
+            this.returned[this.returnedCount++] = object;
+        }
+        return object;
+    }
+
+    /**
+     * Detach the entities returned since the last release from the unit of work.
+     * Other results, such as the values of report queries, are only dereferenced.
+     */
+    protected void release() {
+        for (int index = 0; index < this.returnedCount; index++) {
+            Object object = this.returned[index];
+            ClassDescriptor descriptor = this.unitOfWork.getDescriptors().get(object.getClass());
+            if ((descriptor != null) && !descriptor.isDescriptorTypeAggregate()) {
+                this.unitOfWork.unregisterObject(object, 0, true);
+            }
+            this.returned[index] = null;
+        }
+        this.returnedCount = 0;
+    }
+
+    /**
+     * Close the cursor, releasing its result set and connection.
+     * The objects returned since the last release remain in the unit of work.
+     */
+    @Override
+    public void close() {
+        if (!this.cursor.isClosed()) {
+            this.cursor.close();
+        }
+    }
+}
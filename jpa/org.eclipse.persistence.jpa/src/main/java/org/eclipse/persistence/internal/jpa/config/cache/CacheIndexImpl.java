@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -45,4 +45,10 @@ public CacheIndex setUpdateable(Boolean updateable) {
         return this;
     }
 
+    @Override
+    public CacheIndex setOrdered(Boolean ordered) {
+        getMetadata().setOrdered(ordered);
+        return this;
+    }
+
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.deployment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+
+/**
+ * INTERNAL:
+ * A persistent index of the jar files scanned for the classes of a persistence unit.
+ * <p>
+ * Each jar file is indexed by its path, with its size, its last modified time, and the names
+ * of its classes having class annotations, the only classes that can be persistence unit classes.
+ * The other classes of a jar file unchanged since it was indexed are not read again.
+ * A jar file that changed is scanned and indexed again. Directories are not indexed,
+ * since their classes change without changing them.
+ * <p>
+ * The index is kept in the file defined by the {@link PersistenceUnitProperties#ARCHIVE_SCAN_INDEX_FILE}
+ * property, an index written by another version of EclipseLink is ignored.
+ */
+public class ArchiveScanIndex {
+
+    /** Identifies the index files. */
+    protected static final int MAGIC = 0x454C5349;
+
+    /** Version of the format of the files, the files of other versions are ignored. */
+    protected static final int FORMAT_VERSION = 1;
+
+    /** The index file. */
+    protected Path file;
+
+    /** The jar files indexed, by path. */
+    protected Map<String, IndexedArchive> archives;
+
+    /** If jar files were indexed since the index was read. */
+    protected boolean isChanged;
+
+    /**
+     * INTERNAL:
+     * Create the index kept in the file, empty until read.
+     */
+    public ArchiveScanIndex(Path file) {
+        this.file = file.toAbsolutePath();
+        this.archives = new HashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Read the jar files indexed in the file, if any.
+     */
+    public void read() throws IOException {
+        this.archives = readArchives();
+        this.isChanged = false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the names of the classes having class annotations of the jar file of the URL,
+     * or null if the URL is not a jar file, is not indexed, or changed since it was indexed.
+     */
+    public Set<String> getClassNames(URL url) {
+        Path jarFile = getJarFile(url);
+        if (jarFile == null) {
+            return null;
+        }
+        IndexedArchive archive = this.archives.get(jarFile.toString());
+        if (archive == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+            if ((attributes.size() != archive.size) || (attributes.lastModifiedTime().toMillis() != archive.lastModified)) {
+                return null;
+            }
+        } catch (IOException exception) {
+            return null;
+        }
+        return new HashSet<>(archive.classNames);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the URL is a jar file, that can be indexed.
+     */
+    public boolean isIndexable(URL url) {
+        return getJarFile(url) != null;
+    }
+
+    /**
+     * INTERNAL:
+     * Index the names of the classes having class annotations of the jar file of the URL.
+     */
+    public void putClassNames(URL url, Set<String> classNames) {
+        Path jarFile = getJarFile(url);
+        if (jarFile == null) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+            this.archives.put(jarFile.toString(), new IndexedArchive(attributes.size(), attributes.lastModifiedTime().toMillis(), new HashSet<>(classNames)));
+            this.isChanged = true;
+        } catch (IOException exception) {
+            // Not indexed, scanned again.
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the index to the file, if jar files were indexed.
+     * The jar files indexed in the file since it was read, as by another persistence unit, are kept.
+     */
+    public void write() throws IOException {
+        if (!this.isChanged) {
+            return;
+        }
+        Map<String, IndexedArchive> allArchives;
+        try {
+            allArchives = readArchives();
+        } catch (IOException exception) {
+            allArchives = new HashMap<>();
+        }
+        allArchives.putAll(this.archives);
+        Path directory = this.file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        // The file is replaced at once, so never read partially written.
+        Path temporaryFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(Version.getVersionString());
+                out.writeInt(allArchives.size());
+                for (Map.Entry<String, IndexedArchive> entry : allArchives.entrySet()) {
+                    IndexedArchive archive = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(archive.size);
+                    out.writeLong(archive.lastModified);
+                    out.writeInt(archive.classNames.size());
+                    for (String className : archive.classNames) {
+                        out.writeUTF(className);
+                    }
+                }
+            }
+            try {
+                Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException notSupported) {
+                Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporaryFile = null;
+        } finally {
+            if (temporaryFile != null) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+        this.archives = allArchives;
+        this.isChanged = false;
+    }
+
+    /**
+     * Read the jar files indexed in the file, none if there is no file, or if it is of another version.
+     */
+    protected Map<String, IndexedArchive> readArchives() throws IOException {
+        Map<String, IndexedArchive> indexedArchives = new HashMap<>();
+        if (!Files.isRegularFile(this.file)) {
+            return indexedArchives;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION) || !in.readUTF().equals(Version.getVersionString())) {
+                return indexedArchives;
+            }
+            int size = in.readInt();
+            for (int index = 0; index < size; index++) {
+                String path = in.readUTF();
+                long archiveSize = in.readLong();
+                long lastModified = in.readLong();
+                int classCount = in.readInt();
+                Set<String> classNames = new HashSet<>(classCount);
+                for (int classIndex = 0; classIndex < classCount; classIndex++) {
+                    classNames.add(in.readUTF());
+                }
+                indexedArchives.put(path, new IndexedArchive(archiveSize, lastModified, classNames));
+            }
+        }
+        return indexedArchives;
+    }
+
+    /**
+     * Return the jar file of the URL, null if the URL is not a jar file,
+     * or an entry of a jar file.
+     */
+    protected static Path getJarFile(URL url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            URL fileUrl = url;
+            if ("jar".equals(url.getProtocol())) {
+                String spec = url.getFile();
+                int separator = spec.indexOf("!/");
+                // Only the root of a jar file.
+                if ((separator < 0) || (separator + 2 != spec.length())) {
+                    return null;
+                }
+                fileUrl = new URL(spec.substring(0, separator));
+            }
+            if (!"file".equals(fileUrl.getProtocol())) {
+                return null;
+            }
+            Path path = Paths.get(fileUrl.toURI()).toAbsolutePath();
+            return Files.isRegularFile(path) ? path : null;
+        } catch (Exception exception) {
+            return null;
+        }
+    }
+
+    /**
+     * A jar file indexed.
+     */
+    protected static final class IndexedArchive {
+        final long size;
+        final long lastModified;
+        final Set<String> classNames;
+
+        IndexedArchive(long size, long lastModified, Set<String> classNames) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.classNames = classNames;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,6 +44,7 @@
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,7 +62,9 @@
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryProvider;
 import org.eclipse.persistence.internal.jpa.EntityManagerSetupImpl;
+import org.eclipse.persistence.internal.jpa.deployment.ArchiveScanIndex;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor.Mode;
 import org.eclipse.persistence.internal.jpa.metadata.accessors.classes.ClassAccessor;
@@ -332,17 +335,25 @@ protected void initPersistenceUnitClasses() {
         // Add all the <class> specifications.
         List<String> classNames = new ArrayList<>(persistenceUnitInfo.getManagedClassNames());
 
+        // PERF: Only the classes having class annotations are read from the jar files indexed.
+        ArchiveScanIndex index = getArchiveScanIndex();
+        Map<URL, Set<String>> scannedArchives = new HashMap<>();
+
         // Add all the classes from the <jar> specifications.
         for (URL url : persistenceUnitInfo.getJarFileUrls()) {
-            classNames.addAll(PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, null));
+            classNames.addAll(getClassNamesFromURL(url, null, index, scannedArchives));
         }
 
         // Add all the classes off the classpath at the persistence unit root url.
         Set<String> unlistedClasses = Collections.emptySet();
         if (! persistenceUnitInfo.excludeUnlistedClasses()) {
-            unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
+            unlistedClasses = getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_predeployProperties, index, scannedArchives);
         }
 
+        // PERF: Read the classes ahead, in parallel, they are still added in order.
+        m_factory.loadMetadataClasses(classNames, false);
+        m_factory.loadMetadataClasses(unlistedClasses, true);
+
         // 5 - Go through all the class names we found and add those classes
         // that have not yet been added. Be sure to check that the accessor
         // does not already exist since adding an accessor will merge its
@@ -381,6 +392,72 @@ protected void initPersistenceUnitClasses() {
                 }
             }
         }
+
+        // 6 - Index the classes having class annotations of the jar files scanned.
+        if ((index != null) && !scannedArchives.isEmpty()) {
+            for (Map.Entry<URL, Set<String>> archive : scannedArchives.entrySet()) {
+                Set<String> annotatedClassNames = new HashSet<>();
+                for (String className : archive.getValue()) {
+                    MetadataClass metadataClass = m_factory.getMetadataClass(className, true);
+                    if ((metadataClass != null) && metadataClass.hasAnnotations()) {
+                        annotatedClassNames.add(className);
+                    }
+                }
+                index.putClassNames(archive.getKey(), annotatedClassNames);
+            }
+            try {
+                index.write();
+            } catch (IOException exception) {
+                // The classes are scanned again on the next deployment.
+                logArchiveScanIndexError(exception);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the jar files scanned for the persistence unit classes,
+     * null if no index file is defined.
+     * @see PersistenceUnitProperties#ARCHIVE_SCAN_INDEX_FILE
+     */
+    protected ArchiveScanIndex getArchiveScanIndex() {
+        if (m_predeployProperties == null) {
+            return null;
+        }
+        String fileName = EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.ARCHIVE_SCAN_INDEX_FILE, m_predeployProperties);
+        if ((fileName == null) || fileName.isEmpty()) {
+            return null;
+        }
+        ArchiveScanIndex index = new ArchiveScanIndex(Paths.get(fileName));
+        try {
+            index.read();
+        } catch (IOException exception) {
+            // The jar files are scanned and indexed again.
+            logArchiveScanIndexError(exception);
+        }
+        return index;
+    }
+
+    private void logArchiveScanIndexError(IOException exception) {
+        SessionLog log = (m_session == null) ? AbstractSessionLog.getLog() : m_session.getSessionLog();
+        log.logThrowable(SessionLog.WARNING, SessionLog.JPA, exception);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the names of the classes of the archive of the URL. If the archive is an indexed jar file
+     * unchanged since, only the names of its classes having class annotations are returned; otherwise
+     * the archive is scanned, and kept in the archives scanned to be indexed if it is a jar file.
+     */
+    protected Set<String> getClassNamesFromURL(URL url, Map<String, Object> properties, ArchiveScanIndex index, Map<URL, Set<String>> scannedArchives) {
+        Set<String> classNames = (index == null) ? null : index.getClassNames(url);
+        if (classNames == null) {
+            classNames = PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, properties);
+            if ((index != null) && index.isIndexable(url)) {
+                scannedArchives.put(url, classNames);
+            }
+        }
+        return classNames;
     }
 
     /**
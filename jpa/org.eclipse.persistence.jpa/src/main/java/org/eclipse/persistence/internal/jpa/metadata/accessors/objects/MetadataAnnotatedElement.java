@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -266,6 +266,14 @@ public Map<String, MetadataAnnotation> getAnnotations() {
         return m_annotations;
     }
 
+    /**
+     * INTERNAL:
+     * Return if this element has annotations, or meta-annotations.
+     */
+    public boolean hasAnnotations() {
+        return !m_annotations.isEmpty() || !m_metaAnnotations.isEmpty();
+    }
+
     /**
      * INTERNAL:
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 Hans Harz, Andrew Rustleund, IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -32,7 +32,12 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.persistence.asm.ASMFactory;
 import org.eclipse.persistence.asm.AnnotationVisitor;
@@ -67,6 +72,8 @@ public class MetadataAsmFactory extends MetadataFactory {
     public static final String PRIMITIVES = "VJIBZCSFD";
     /** Set of desc token characters. */
     public static final String TOKENS = "()<>;";
+    /** Number of class names from which the class metadata is read in parallel. */
+    public static final int PARALLEL_LOAD_THRESHOLD = 64;
 
     /**
      * INTERNAL:
@@ -160,6 +167,60 @@ protected void buildClassMetadata(MetadataClass metadataClass, String className,
         }
     }
 
+    /**
+     * INTERNAL:
+     * PERF: Read in parallel the class metadata for the class names not read yet.
+     * The class metadata is added by the calling thread, the classes that cannot
+     * be read are left to the lookup.
+     */
+    @Override
+    public void loadMetadataClasses(Collection<String> classNames, boolean isLazy) {
+        if ((classNames.size() < PARALLEL_LOAD_THRESHOLD) || (getParallelism() <= 1)) {
+            return;
+        }
+        Set<String> names = new HashSet<>(classNames.size());
+        List<ForkJoinTask<MetadataClass>> tasks = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            if ((className != null) && !metadataClassExists(className) && names.add(className)) {
+                tasks.add(ForkJoinTask.adapt(() -> readClassMetadata(className, isLazy)));
+            }
+        }
+        ForkJoinTask.invokeAll(tasks);
+        for (ForkJoinTask<MetadataClass> task : tasks) {
+            MetadataClass metadataClass = task.join();
+            if ((metadataClass != null) && !metadataClassExists(metadataClass.getName())) {
+                addMetadataClass(metadataClass);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of threads reading the class metadata, the parallelism of the common fork-join pool.
+     */
+    protected int getParallelism() {
+        return ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * Read the class metadata for the class name using ASM, without adding it,
+     * return null if the class cannot be read.
+     */
+    private MetadataClass readClassMetadata(String className, boolean isLazy) {
+        ClassMetadataVisitor visitor = new ClassMetadataVisitor(null, isLazy, false);
+        try (InputStream stream = readResource(className.replace('.', '/') + ".class")) {
+            if (stream == null) {
+                return null;
+            }
+            ClassReader reader = ASMFactory.createClassReader(stream);
+            reader.accept(visitor, new Attribute[0], ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (Exception exception) {
+            return null;
+        }
+        MetadataClass metadataClass = visitor.classMetadata;
+        return ((metadataClass != null) && metadataClass.getName().equals(className)) ? metadataClass : null;
+    }
+
     /**
      * Return the class metadata for the class name.
      */
@@ -270,12 +331,18 @@ public class ClassMetadataVisitor extends EclipseLinkClassVisitor {
         private boolean isLazy;
         private boolean processedMemeber;
         private MetadataClass classMetadata;
+        private boolean shouldAddClass;
 
         ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy) {
+            this(metadataClass, isLazy, true);
+        }
+
+        ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy, boolean shouldAddClass) {
             super();
             super.setCustomClassVisitor(this);
             this.isLazy = isLazy;
             this.classMetadata = metadataClass;
+            this.shouldAddClass = shouldAddClass;
         }
 
         @Override
@@ -283,7 +350,9 @@ public void visit(int version, int access, String name, String signature, String
             String className = toClassName(name);
             if ((this.classMetadata == null) || !this.classMetadata.getName().equals(className)) {
                 this.classMetadata = new MetadataClass(MetadataAsmFactory.this, className, isLazy);
-                addMetadataClass(this.classMetadata);
+                if (this.shouldAddClass) {
+                    addMetadataClass(this.classMetadata);
+                }
             }
             this.classMetadata.setName(className);
             this.classMetadata.setSuperclassName(toClassName(superName));
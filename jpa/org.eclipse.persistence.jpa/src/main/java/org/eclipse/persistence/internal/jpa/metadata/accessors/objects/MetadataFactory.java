@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //     James Sutherland - initial impl
 package org.eclipse.persistence.internal.jpa.metadata.accessors.objects;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -107,6 +108,15 @@ protected Map<String, MetadataClass> getMetadataClasses() {
         return m_metadataClasses;
     }
 
+    /**
+     * INTERNAL:
+     * Load ahead the class metadata for the class names, before they are looked up.
+     * Nothing is loaded by default, the class metadata is loaded on lookup.
+     */
+    public void loadMetadataClasses(Collection<String> classNames, boolean isLazy) {
+        // Loaded on lookup.
+    }
+
     /**
      * INTERNAL:
      */
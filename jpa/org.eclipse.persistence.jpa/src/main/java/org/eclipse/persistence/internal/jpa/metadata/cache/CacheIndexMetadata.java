@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -45,6 +45,7 @@ public class CacheIndexMetadata extends ORMetadata {
 
     private List<String> m_columnNames = new ArrayList<>();
     private Boolean updateable;
+    private Boolean ordered;
 
     /**
      * INTERNAL:
@@ -66,6 +67,7 @@ public CacheIndexMetadata(MetadataAnnotation index, MetadataAccessor accessor) {
             }
 
             this.updateable = index.getAttributeBooleanDefaultTrue("updateable");
+            this.ordered = index.getAttributeBooleanDefaultFalse("ordered");
         }
     }
 
@@ -79,6 +81,10 @@ public boolean equals(Object objectToCompare) {
                 return false;
             }
 
+            if (! valuesMatch(this.ordered, index.getOrdered())) {
+                return false;
+            }
+
             return this.m_columnNames.equals(index.getColumnNames());
         }
 
@@ -90,6 +96,7 @@ public int hashCode() {
         int result = super.hashCode();
         result = 31 * result + (m_columnNames != null ? m_columnNames.hashCode() : 0);
         result = 31 * result + (updateable != null ? updateable.hashCode() : 0);
+        result = 31 * result + (ordered != null ? ordered.hashCode() : 0);
         return result;
     }
 
@@ -101,6 +108,14 @@ public List<String> getColumnNames() {
         return m_columnNames;
     }
 
+    /**
+     * INTERNAL:
+     * Used for OX mapping.
+     */
+    public Boolean getOrdered() {
+        return ordered;
+    }
+
     /**
      * INTERNAL:
      * Used for OX mapping.
@@ -125,6 +140,9 @@ public void process(MetadataDescriptor descriptor, String defaultColumnName) {
         if (this.updateable != null) {
             index.setIsUpdateable(this.updateable);
         }
+        if (this.ordered != null) {
+            index.setIsOrdered(this.ordered);
+        }
         descriptor.getClassDescriptor().getCachePolicy().addCacheIndex(index);
     }
 
@@ -136,6 +154,14 @@ public void setColumnNames(List<String> columnNames) {
         this.m_columnNames = columnNames;
     }
 
+    /**
+     * INTERNAL:
+     * Used for OX mapping.
+     */
+    public void setOrdered(Boolean ordered) {
+        this.ordered = ordered;
+    }
+
     /**
      * INTERNAL:
      * Used for OX mapping.
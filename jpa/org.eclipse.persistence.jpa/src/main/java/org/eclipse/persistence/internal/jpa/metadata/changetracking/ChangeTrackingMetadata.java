@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,6 +28,7 @@
 
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangeTrackingPolicy;
 
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
@@ -116,6 +117,8 @@ public void process(MetadataDescriptor descriptor) {
             classDescriptor.setObjectChangePolicy(new ObjectChangeTrackingPolicy());
         } else if (m_type.equals(ChangeTrackingType.DEFERRED.name())) {
             classDescriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+        } else if (m_type.equals(ChangeTrackingType.DIRTY.name())) {
+            classDescriptor.setObjectChangePolicy(new DirtyAttributeTrackingPolicy());
         }
     }
 
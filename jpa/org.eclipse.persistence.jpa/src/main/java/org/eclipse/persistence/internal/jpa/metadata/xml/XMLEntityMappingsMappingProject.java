@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -1992,6 +1992,13 @@ protected ClassDescriptor buildCacheIndexDescriptor() {
         updateableMapping.setXPath("@updateable");
         descriptor.addMapping(updateableMapping);
 
+        XMLDirectMapping orderedMapping = new XMLDirectMapping();
+        orderedMapping.setAttributeName("ordered");
+        orderedMapping.setGetMethodName("getOrdered");
+        orderedMapping.setSetMethodName("setOrdered");
+        orderedMapping.setXPath("@ordered");
+        descriptor.addMapping(orderedMapping);
+
         return descriptor;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,6 +15,7 @@
 package org.eclipse.persistence.internal.jpa.weaving;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,10 @@ public class ClassDetails {
     protected boolean shouldWeaveValueHolders = false;
     /** Define if change tracking should be weaved in this class. */
     protected boolean shouldWeaveChangeTracking = false;
+    /** Define if change tracking should flag the changed attributes in a bitmask, instead of raising events. */
+    protected boolean shouldWeaveDirtyAttributes = false;
+    /** The names of the attributes flagged in the bitmask by this class and its superclasses, by bit index, lazily initialized. */
+    protected List<String> dirtyAttributeNames;
     /** Define if fetch groups should be weaved in this class. */
     protected boolean shouldWeaveFetchGroups = false;
     /** Define if internal optimizations should be weaved in this class. */
@@ -122,6 +127,14 @@ public void setShouldWeaveChangeTracking(boolean shouldWeaveChangeTracking) {
         this.shouldWeaveChangeTracking = shouldWeaveChangeTracking;
     }
 
+    public boolean shouldWeaveDirtyAttributes() {
+        return shouldWeaveDirtyAttributes;
+    }
+
+    public void setShouldWeaveDirtyAttributes(boolean shouldWeaveDirtyAttributes) {
+        this.shouldWeaveDirtyAttributes = shouldWeaveDirtyAttributes;
+    }
+
     public void setShouldWeaveConstructorOptimization(boolean shouldWeaveConstructorOptimization) {
         this.shouldWeaveConstructorOptimization = shouldWeaveConstructorOptimization;
     }
@@ -294,6 +307,50 @@ public boolean canWeaveChangeTracking(){
         return getSuperClassDetails().canWeaveChangeTracking();
     }
 
+    /**
+     * Return if the changed attributes are flagged in a bitmask,
+     * the subclasses must flag their attributes as the superclass weaving change tracking does.
+     */
+    public boolean canWeaveDirtyAttributes() {
+        if (doesSuperclassWeaveChangeTracking()) {
+            return getSuperClassDetails().canWeaveDirtyAttributes();
+        }
+        return shouldWeaveDirtyAttributes();
+    }
+
+    /**
+     * Return the names of the attributes flagged in the bitmask by this class and its superclasses, by bit index.
+     * The attributes of the superclasses come first, so the bit of an attribute is the same in all the subclasses.
+     */
+    public List<String> getDirtyAttributeNames() {
+        if (dirtyAttributeNames == null) {
+            List<String> names = new ArrayList<>();
+            if (doesSuperclassWeaveChangeTracking()) {
+                names.addAll(getSuperClassDetails().getDirtyAttributeNames());
+            }
+            // Sort the attributes, so each weaving assigns the same bits.
+            List<String> attributeNames = new ArrayList<>();
+            for (AttributeDetails attributeDetails : attributesMap.values()) {
+                // Only the direct attributes are flagged, the relationships are always compared.
+                if (!attributeDetails.isAttributeOnSuperClass() && !attributeDetails.isVirtualProperty()
+                        && attributeDetails.getMapping().isDirectToFieldMapping()) {
+                    attributeNames.add(attributeDetails.getAttributeName());
+                }
+            }
+            Collections.sort(attributeNames);
+            names.addAll(attributeNames);
+            dirtyAttributeNames = names;
+        }
+        return dirtyAttributeNames;
+    }
+
+    /**
+     * Return the bit index of the attribute of this class in the bitmask.
+     */
+    public int getDirtyAttributeIndex(String attributeName) {
+        return getDirtyAttributeNames().lastIndexOf(attributeName);
+    }
+
     /**
      * Returns true if
      * Used with field access, and is set to false if transient variables are discovered
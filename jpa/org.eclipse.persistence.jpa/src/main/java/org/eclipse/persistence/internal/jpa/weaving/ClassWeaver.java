@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -22,6 +22,8 @@
 package org.eclipse.persistence.internal.jpa.weaving;
 
 import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.persistence.asm.ASMFactory;
 import org.eclipse.persistence.asm.AnnotationVisitor;
@@ -62,6 +64,8 @@ public class ClassWeaver extends ClassVisitor {
     public static final String CT_SHORT_SIGNATURE = "org/eclipse/persistence/descriptors/changetracking/ChangeTracker";
     public static final String PCE_SHORT_SIGNATURE = "java/beans/PropertyChangeEvent";
     public static final String PCE_SIGNATURE = "L" + PCE_SHORT_SIGNATURE + ";";
+    public static final String DAT_SHORT_SIGNATURE = "org/eclipse/persistence/descriptors/changetracking/DirtyAttributeTracker";
+    public static final String LONG_ARRAY_SIGNATURE = "[J";
 
     // PersistenceEntity
     public static final String PERSISTENCE_ENTITY_SHORT_SIGNATURE = "org/eclipse/persistence/internal/descriptors/PersistenceEntity";
@@ -128,6 +132,9 @@ public class ClassWeaver extends ClassVisitor {
     public boolean weavedFetchGroups = false;
     public boolean weavedRest = false;
 
+    /** The attributes flagged in the bitmask by the setters of this class. */
+    protected Set<String> dirtyAttributes = new TreeSet<>();
+
     private ClassVisitor cw;
 
     /**
@@ -336,6 +343,94 @@ public void addPropertyChange(ClassDetails classDetails) {
         cv_addPC.visitMaxs(0, 0);
     }
 
+    /**
+     * Add a variable of type long[] to the class, the bitmask of the changed attributes.
+     *
+     * protected transient long[] _persistence_dirtyAttributes;
+     */
+    public void addDirtyAttributes() {
+        cv.visitField(Opcodes.ACC_PROTECTED + Opcodes.ACC_TRANSIENT, "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE, null, null);
+    }
+
+    /**
+     * Add the implementation of the get and set methods of the bitmask of the changed attributes.
+     *
+     * public long[] _persistence_getDirtyAttributes() { return _persistence_dirtyAttributes; }
+     * public void _persistence_setDirtyAttributes(long[] dirtyAttributes) { _persistence_dirtyAttributes = dirtyAttributes; }
+     */
+    public void addGetSetDirtyAttributes(ClassDetails classDetails) {
+        MethodVisitor cv_get = cv.visitMethod(Opcodes.ACC_PUBLIC, "_persistence_getDirtyAttributes", "()" + LONG_ARRAY_SIGNATURE, null, null);
+        cv_get.visitVarInsn(Opcodes.ALOAD, 0);
+        cv_get.visitFieldInsn(Opcodes.GETFIELD, classDetails.getClassName(), "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE);
+        cv_get.visitInsn(Opcodes.ARETURN);
+        cv_get.visitMaxs(0, 0);
+
+        MethodVisitor cv_set = cv.visitMethod(Opcodes.ACC_PUBLIC, "_persistence_setDirtyAttributes", "(" + LONG_ARRAY_SIGNATURE + ")V", null, null);
+        cv_set.visitVarInsn(Opcodes.ALOAD, 0);
+        cv_set.visitVarInsn(Opcodes.ALOAD, 1);
+        cv_set.visitFieldInsn(Opcodes.PUTFIELD, classDetails.getClassName(), "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE);
+        cv_set.visitInsn(Opcodes.RETURN);
+        cv_set.visitMaxs(0, 0);
+    }
+
+    /**
+     * Add the method returning the names of the flagged attributes by bit index.
+     * The names of the superclass are copied, and the attributes flagged by this class are added.
+     *
+     * public String[] _persistence_getDirtyAttributeNames() {
+     * String[] names = new String[2]; // or (String[])Arrays.copyOf(super._persistence_getDirtyAttributeNames(), 2);
+     * names[0] = "attributeName"; ... return names; }
+     */
+    public void addGetDirtyAttributeNames(ClassDetails classDetails) {
+        MethodVisitor cv_names = cv.visitMethod(Opcodes.ACC_PUBLIC, "_persistence_getDirtyAttributeNames", "()[" + STRING_SIGNATURE, null, null);
+        int size = classDetails.getDirtyAttributeNames().size();
+        if (classDetails.doesSuperclassWeaveChangeTracking()) {
+            cv_names.visitVarInsn(Opcodes.ALOAD, 0);
+            cv_names.visitMethodInsn(Opcodes.INVOKESPECIAL, classDetails.getSuperClassName(), "_persistence_getDirtyAttributeNames", "()[" + STRING_SIGNATURE, false);
+            cv_names.visitLdcInsn(size);
+            cv_names.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays", "copyOf", "([" + OBJECT_SIGNATURE + "I)[" + OBJECT_SIGNATURE, false);
+            cv_names.visitTypeInsn(Opcodes.CHECKCAST, "[" + STRING_SIGNATURE);
+        } else {
+            cv_names.visitLdcInsn(size);
+            cv_names.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/String");
+        }
+        for (String attribute : this.dirtyAttributes) {
+            // names[index] = "attributeName";
+            cv_names.visitInsn(Opcodes.DUP);
+            cv_names.visitLdcInsn(classDetails.getDirtyAttributeIndex(attribute));
+            cv_names.visitLdcInsn(attribute);
+            cv_names.visitInsn(Opcodes.AASTORE);
+        }
+        cv_names.visitInsn(Opcodes.ARETURN);
+        cv_names.visitMaxs(0, 0);
+    }
+
+    /**
+     * Flag the attribute in the bitmask of the changed attributes, if the attribute's changes are flagged.
+     *
+     * if (_persistence_dirtyAttributes != null) { _persistence_dirtyAttributes[index / 64] |= 1L {@literal <<} (index % 64); }
+     */
+    public void addDirtyAttributeFlag(MethodVisitor mv, ClassDetails classDetails, String attribute) {
+        int index = classDetails.getDirtyAttributeIndex(attribute);
+        if (index < 0) {
+            return;
+        }
+        this.dirtyAttributes.add(attribute);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, classDetails.getClassName(), "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE);
+        Label l0 = ASMFactory.createLabel();
+        mv.visitJumpInsn(Opcodes.IFNULL, l0);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, classDetails.getClassName(), "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE);
+        mv.visitLdcInsn(index >> 6);
+        mv.visitInsn(Opcodes.DUP2);
+        mv.visitInsn(Opcodes.LALOAD);
+        mv.visitLdcInsn(1L << (index & 63));
+        mv.visitInsn(Opcodes.LOR);
+        mv.visitInsn(Opcodes.LASTORE);
+        mv.visitLabel(l0);
+    }
+
     /**
      * Add a method that allows us to lazily initialize a valueholder we have
      * woven in This allows us to avoid initializing valueholders in the
@@ -591,32 +686,37 @@ public void addSetterMethodForFieldAccess(ClassDetails classDetails, AttributeDe
                 cv_set.visitFieldInsn(Opcodes.PUTFIELD, classDetails.getClassName(), attribute, attributeDetails.getReferenceClassType().getDescriptor());
             }
 
-            // load the string attribute name as the first argument of the
-            // property change call
-            cv_set.visitVarInsn(Opcodes.ALOAD, 0);
-            cv_set.visitLdcInsn(attribute);
-
-            // if the attribute is a primitive, wrap it
-            // e.g. if it is an integer: Integer.valueOf(attribute)
-            // This is the first part of the wrapping
-            String wrapper = ClassWeaver.wrapperFor(attributeDetails.getReferenceClassType().getSort());
-            // load the method argument
-            cv_set.visitVarInsn(Opcodes.ALOAD, 0);
-            cv_set.visitFieldInsn(Opcodes.GETFIELD, classDetails.getClassName(), attribute, attributeDetails.getReferenceClassType().getDescriptor());
-
-            if (wrapper != null) {
-                //convert from global field e.g. Integer.valueOf(this.intField)
-                cv_set.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + attributeDetails.getReferenceClassType().getDescriptor() + ")L" + wrapper + ";", false);
-                //convert from method argument e.g. Integer.valueOf(var1)
-                cv_set.visitVarInsn(opcode, 1);
-                cv_set.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + attributeDetails.getReferenceClassType().getDescriptor() + ")L" + wrapper + ";", false);
+            if (classDetails.shouldWeaveDirtyAttributes()) {
+                // flag the attribute in the bitmask of the changed attributes
+                addDirtyAttributeFlag(cv_set, classDetails, attribute);
             } else {
-                // if we are not wrapping the argument, just load it
-                cv_set.visitVarInsn(Opcodes.ALOAD, 1);
+                // load the string attribute name as the first argument of the
+                // property change call
+                cv_set.visitVarInsn(Opcodes.ALOAD, 0);
+                cv_set.visitLdcInsn(attribute);
+
+                // if the attribute is a primitive, wrap it
+                // e.g. if it is an integer: Integer.valueOf(attribute)
+                // This is the first part of the wrapping
+                String wrapper = ClassWeaver.wrapperFor(attributeDetails.getReferenceClassType().getSort());
+                // load the method argument
+                cv_set.visitVarInsn(Opcodes.ALOAD, 0);
+                cv_set.visitFieldInsn(Opcodes.GETFIELD, classDetails.getClassName(), attribute, attributeDetails.getReferenceClassType().getDescriptor());
+
+                if (wrapper != null) {
+                    //convert from global field e.g. Integer.valueOf(this.intField)
+                    cv_set.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + attributeDetails.getReferenceClassType().getDescriptor() + ")L" + wrapper + ";", false);
+                    //convert from method argument e.g. Integer.valueOf(var1)
+                    cv_set.visitVarInsn(opcode, 1);
+                    cv_set.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf", "(" + attributeDetails.getReferenceClassType().getDescriptor() + ")L" + wrapper + ";", false);
+                } else {
+                    // if we are not wrapping the argument, just load it
+                    cv_set.visitVarInsn(Opcodes.ALOAD, 1);
+                }
+                // _persistence_propertyChange("variableName", variableName, argument);
+                //e.g.  this._persistence_propertyChange("intField", Integer.valueOf(this.intField), Integer.valueOf(var1));
+                cv_set.visitMethodInsn(Opcodes.INVOKEVIRTUAL, classDetails.getClassName(), "_persistence_propertyChange", "(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;)V", false);
             }
-            // _persistence_propertyChange("variableName", variableName, argument);
-            //e.g.  this._persistence_propertyChange("intField", Integer.valueOf(this.intField), Integer.valueOf(var1));
-            cv_set.visitMethodInsn(Opcodes.INVOKEVIRTUAL, classDetails.getClassName(), "_persistence_propertyChange", "(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;)V", false);
         } else {
             if (attributeDetails.weaveValueHolders()) {
                 // _persistence_initialize_variableName_vh();
@@ -764,7 +864,12 @@ public void addPersistencePostClone(ClassDetails classDetails) {
                 }
             }
         }
-        if (classDetails.shouldWeaveChangeTracking()) {
+        if (classDetails.shouldWeaveDirtyAttributes()) {
+            // clone._persistence_dirtyAttributes = null;
+            cv_clone.visitVarInsn(Opcodes.ALOAD, 0);
+            cv_clone.visitInsn(Opcodes.ACONST_NULL);
+            cv_clone.visitFieldInsn(Opcodes.PUTFIELD, classDetails.getClassName(), "_persistence_dirtyAttributes", LONG_ARRAY_SIGNATURE);
+        } else if (classDetails.shouldWeaveChangeTracking()) {
             // clone._persistence_listener = null;
             cv_clone.visitVarInsn(Opcodes.ALOAD, 0);
             cv_clone.visitInsn(Opcodes.ACONST_NULL);
@@ -1296,7 +1401,7 @@ public void visit(int version, int access, String name, String signature, String
                     this.alreadyWeaved = true;
                     super.visitSuper(version, access, name, signature, superName, interfaces);
                     return;
-                } else if (CT_SHORT_SIGNATURE.equals(existingInterface)) {
+                } else if (CT_SHORT_SIGNATURE.equals(existingInterface) || DAT_SHORT_SIGNATURE.equals(existingInterface)) {
                     // Disable weaving of change tracking if already implemented
                     // (such as by user).
                     classDetails.setShouldWeaveChangeTracking(false);
@@ -1402,7 +1507,7 @@ public void visit(int version, int access, String name, String signature, String
             // Add marker interface and change tracker interface for change
             // tracking.
             if (changeTracker) {
-                newInterfaces[changeTrackerIndex] = CT_SHORT_SIGNATURE;
+                newInterfaces[changeTrackerIndex] = classDetails.shouldWeaveDirtyAttributes() ? DAT_SHORT_SIGNATURE : CT_SHORT_SIGNATURE;
             }
             if (classDetails.shouldWeaveChangeTracking()) {
                 newInterfaces[persistenceWeavedChangeTrackingIndex] = TW_CT_SHORT_SIGNATURE;
@@ -1518,10 +1623,19 @@ public void visitEnd() {
                 weaved = true;
                 weavedChangeTracker = true;
                 if ((classDetails.getSuperClassDetails() == null) || (!classDetails.doesSuperclassWeaveChangeTracking())) {
-                    addPropertyChangeListener(attributeAccess);
-                    addGetPropertyChangeListener(classDetails);
-                    addSetPropertyChangeListener(classDetails);
-                    addPropertyChange(classDetails);
+                    if (classDetails.shouldWeaveDirtyAttributes()) {
+                        addDirtyAttributes();
+                        addGetSetDirtyAttributes(classDetails);
+                    } else {
+                        addPropertyChangeListener(attributeAccess);
+                        addGetPropertyChangeListener(classDetails);
+                        addSetPropertyChangeListener(classDetails);
+                        addPropertyChange(classDetails);
+                    }
+                }
+                if (classDetails.shouldWeaveDirtyAttributes()) {
+                    // After the setters, which record the attributes they flag.
+                    addGetDirtyAttributeNames(classDetails);
                 }
             }
             if (classDetails.shouldWeaveFetchGroups()) {
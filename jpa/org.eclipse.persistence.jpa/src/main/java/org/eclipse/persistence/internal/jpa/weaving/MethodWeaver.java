@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -354,7 +354,7 @@ public void weaveBeginningOfMethodIfRequired() {
                 methodVisitor.visitJumpInsn(Opcodes.IFNE, l0);
 
                 // Need to disable change tracking when the set method is called to avoid thinking the attribute changed.
-                if (tcw.classDetails.shouldWeaveChangeTracking()) {
+                if (tcw.classDetails.shouldWeaveChangeTracking() && !tcw.classDetails.shouldWeaveDirtyAttributes()) {
                     // PropertyChangeListener temp_persistence_listener = _persistence_listener;
                     methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
                     methodVisitor.visitFieldInsn(Opcodes.GETFIELD, tcw.classDetails.getClassName(), "_persistence_listener", ClassWeaver.PCL_SIGNATURE);
@@ -372,7 +372,7 @@ public void weaveBeginningOfMethodIfRequired() {
                 methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, referenceClassName.replace('.','/'));
                 methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, tcw.classDetails.getClassName(), setterMethodName, "(" + referenceClassType.getDescriptor() + ")V", false);
 
-                if (tcw.classDetails.shouldWeaveChangeTracking()) {
+                if (tcw.classDetails.shouldWeaveChangeTracking() && !tcw.classDetails.shouldWeaveDirtyAttributes()) {
                     // _persistence_listener = temp_persistence_listener;
                     methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
                     methodVisitor.visitVarInsn(Opcodes.ALOAD, 4);
@@ -407,7 +407,22 @@ public void weaveBeginningOfMethodIfRequired() {
                 valueStorageLocation = 3;
             }
             if (isVirtual || (isSetMethod  && !attributeDetails.hasField())) {
-                if(tcw.classDetails.shouldWeaveChangeTracking()) {
+                if (tcw.classDetails.shouldWeaveDirtyAttributes()) {
+                    if (tcw.classDetails.shouldWeaveFetchGroups()) {
+                        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                        if (isVirtual){
+                            methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                        } else {
+                            methodVisitor.visitLdcInsn(attributeName);
+                        }
+                        // _persistence_checkFetchedForSet("variableName");
+                        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, tcw.classDetails.getClassName(), "_persistence_checkFetchedForSet", "(Ljava/lang/String;)V", false);
+                    }
+                    if (!isVirtual) {
+                        // flag the attribute in the bitmask of the changed attributes, the virtual attributes are always compared
+                        tcw.addDirtyAttributeFlag(methodVisitor, tcw.classDetails, attributeName);
+                    }
+                } else if(tcw.classDetails.shouldWeaveChangeTracking()) {
                     if(tcw.classDetails.shouldWeaveFetchGroups()) {
                         // if this is a primitive, get the wrapper class
                         String wrapper = ClassWeaver.wrapperFor(referenceClassType.getSort());
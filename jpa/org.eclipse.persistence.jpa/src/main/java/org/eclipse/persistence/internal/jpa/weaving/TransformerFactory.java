@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2021 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,6 +28,7 @@
 
 import org.eclipse.persistence.asm.Type;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.descriptors.VirtualAttributeMethodInfo;
 import org.eclipse.persistence.internal.helper.Helper;
@@ -151,6 +152,7 @@ public void addClassDetailsForMappedSuperClasses(MetadataClass clz, ClassDescrip
         List<DatabaseMapping> stillUnMappedMappings = null;
         ClassDetails superClassDetails = createClassDetails(superClz, weaveValueHolders, weaveChangeTracking, weaveFetchGroups, weaveInternal, weaveRest);
         superClassDetails.setIsMappedSuperClass(true);
+        superClassDetails.setShouldWeaveDirtyAttributes(initialDescriptor.getObjectChangePolicyInternal() instanceof DirtyAttributeTrackingPolicy);
 
         if (mappedSuperclassDescriptor != null && ! mappedSuperclassDescriptor.usesPropertyAccessForWeaving()) {
             superClassDetails.useAttributeAccess();
@@ -203,6 +205,7 @@ public void buildClassDetailsAndModifyProject() {
 
                 ClassDetails classDetails = createClassDetails(metaClass, weaveValueHoldersForClass, weaveChangeTrackingForClass, weaveFetchGroups, weaveInternal, weaveRest);
                 classDetails.setIsMappedSuperClass(isMappedSuperclass);
+                classDetails.setShouldWeaveDirtyAttributes(descriptor.getObjectChangePolicyInternal() instanceof DirtyAttributeTrackingPolicy);
                 if (descriptor.isDescriptorTypeAggregate()) {
                     classDetails.setIsEmbedable(true);
 //                    classDetails.setShouldWeaveFetchGroups(false);
@@ -245,6 +248,11 @@ public void buildClassDetailsAndModifyProject() {
                 ClassDetails classDetails = i.next();
                 classDetails.setShouldWeaveChangeTracking(classDetails.canWeaveChangeTracking());
             }
+            // Flag the dirty attributes only if the whole hierarchy does.
+            for (Iterator<ClassDetails> i = classDetailsMap.values().iterator(); i.hasNext();) {
+                ClassDetails classDetails = i.next();
+                classDetails.setShouldWeaveDirtyAttributes(classDetails.shouldWeaveChangeTracking() && classDetails.canWeaveDirtyAttributes());
+            }
         }
     }
 
@@ -259,7 +267,10 @@ protected boolean canChangeTrackingBeEnabled(ClassDescriptor descriptor, Metadat
         }
         // If the descriptor was configured to not use change tracking then disable it, also enable if configure explictly.
         if (descriptor.getObjectChangePolicyInternal() != null) {
-            if (descriptor.getObjectChangePolicyInternal().isDeferredChangeDetectionPolicy()) {
+            if (descriptor.getObjectChangePolicyInternal() instanceof DirtyAttributeTrackingPolicy) {
+                // The dirty attributes are flagged by the woven setters.
+                return true;
+            } else if (descriptor.getObjectChangePolicyInternal().isDeferredChangeDetectionPolicy()) {
                 return false;
             } else if (descriptor.getObjectChangePolicyInternal().isObjectChangeTrackingPolicy()) {
                 // Include object and attribute.
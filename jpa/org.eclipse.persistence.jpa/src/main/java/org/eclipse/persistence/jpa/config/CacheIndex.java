@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -24,5 +24,6 @@ public interface CacheIndex {
 
     CacheIndex addColumnName(String columnName);
     CacheIndex setUpdateable(Boolean updateable);
+    CacheIndex setOrdered(Boolean ordered);
 
 }
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32C;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * <p><b>Purpose</b>: Support storing/retrieving a project representing application metadata
+ * to/from a versioned binary file, faster to read than {@link FileBasedProjectCache} for large projects.
+ * <p>
+ * The file starts with a header holding the versions of the format and of EclipseLink, and the checksums
+ * of the class files of the project. A file of another version, or written for classes that changed since,
+ * is stale: it is ignored before any descriptor is read, and replaced once the metadata is processed again.
+ * <p>
+ * The descriptors are serialized in independent segments, a segment holds the descriptors sharing objects
+ * (so their identity is preserved), most segments hold a single descriptor. The file is memory-mapped
+ * and its segments are deserialized in parallel on the fork-join common pool.
+ * <p>
+ * The file is defined by the {@link PersistenceUnitProperties#PROJECT_CACHE_FILE} property,
+ * this cache is used when the {@link PersistenceUnitProperties#PROJECT_CACHE} property is {@code binary}.
+ *
+ * @see FileBasedProjectCache
+ */
+public class BinaryProjectCache implements ProjectCache {
+
+    /** Identifies the files of the cache. */
+    protected static final int MAGIC = 0x454C5043;
+
+    /** Version of the format of the files, the files of other versions are stale. */
+    protected static final int FORMAT_VERSION = 1;
+
+    /** Checksum of the classes without class file, as the dynamic classes. */
+    protected static final long NO_CLASS_FILE = -1L;
+
+    /**
+     * Default constructor.
+     */
+    public BinaryProjectCache() {
+    }
+
+    @Override
+    public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        String fileName = (String)getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_FILE,
+                properties, log);
+        if (fileName == null || fileName.isEmpty() || !Files.isRegularFile(Paths.get(fileName))) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return readProject(buffer, fileName, loader, log);
+        } catch (Exception e) {
+            //the project is built from the metadata, as not cached
+            log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the project, finding its class files through the context class loader.
+     */
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, SessionLog log) {
+        storeProject(project, properties, Thread.currentThread().getContextClassLoader(), log);
+    }
+
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        String fileName = (String)getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_FILE,
+                properties, log);
+        if (fileName != null && !fileName.isEmpty()) {
+            Path file = Paths.get(fileName).toAbsolutePath();
+            Path temporaryFile = null;
+            try {
+                // The file is replaced at once, so never read partially written.
+                temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+                    writeProject(project, out, loader);
+                }
+                try {
+                    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException notSupported) {
+                    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                temporaryFile = null;
+            } catch (Exception e) {
+                //the session is still usable, just not cachable so log a warning
+                log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            } finally {
+                if (temporaryFile != null) {
+                    try {
+                        Files.deleteIfExists(temporaryFile);
+                    } catch (IOException ignore) {}
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the project to the stream: the header, then the index of the segments and of the descriptors,
+     * then the segments. The first segment holds the project, without its descriptors.
+     */
+    protected void writeProject(Project project, OutputStream out, ClassLoader loader) throws Exception {
+        List<ClassDescriptor> descriptors = project.getOrderedDescriptors();
+        int size = descriptors.size();
+        Map<ClassDescriptor, Integer> indexes = new IdentityHashMap<>(size);
+        for (int index = 0; index < size; index++) {
+            indexes.put(descriptors.get(index), index);
+        }
+        // The aliases of the descriptors are restored from the index, so the project does not reference them.
+        Map<String, ClassDescriptor> otherAliases = new HashMap<>();
+        List<String> aliases = new ArrayList<>();
+        List<Integer> aliasIndexes = new ArrayList<>();
+        if (project.getAliasDescriptors() != null) {
+            for (Map.Entry<String, ClassDescriptor> entry : project.getAliasDescriptors().entrySet()) {
+                Integer index = indexes.get(entry.getValue());
+                if (index == null) {
+                    otherAliases.put(entry.getKey(), entry.getValue());
+                } else {
+                    aliases.add(entry.getKey());
+                    aliasIndexes.add(index);
+                }
+            }
+        }
+        Project header = project.clone();
+        header.setOrderedDescriptors(new ArrayList<>());
+        header.setDescriptors(new HashMap<>());
+        header.setAliasDescriptors(otherAliases.isEmpty() ? null : otherAliases);
+
+        // The project (node 0) and the descriptors (nodes 1 to size) sharing objects are written in the same segment.
+        SharedObjectsTracker tracker = new SharedObjectsTracker(size + 1);
+        byte[][] nodeBytes = new byte[size + 1][];
+        tracker.track(0, header);
+        for (int index = 0; index < size; index++) {
+            nodeBytes[index + 1] = tracker.track(index + 1, new ClassDescriptor[] {descriptors.get(index)});
+        }
+        Map<Integer, List<Integer>> components = new HashMap<>();
+        List<Integer> roots = new ArrayList<>();
+        for (int node = 0; node <= size; node++) {
+            int root = tracker.find(node);
+            List<Integer> component = components.get(root);
+            if (component == null) {
+                component = new ArrayList<>();
+                components.put(root, component);
+                roots.add(root);
+            }
+            component.add(node);
+        }
+        // The segment of the project first.
+        roots.remove(Integer.valueOf(tracker.find(0)));
+        roots.add(0, tracker.find(0));
+        List<byte[]> segments = new ArrayList<>(roots.size());
+        int[] descriptorSegments = new int[size];
+        int[] descriptorPositions = new int[size];
+        for (Integer root : roots) {
+            List<Integer> component = components.get(root);
+            boolean hasProject = (segments.isEmpty());
+            List<ClassDescriptor> segmentDescriptors = new ArrayList<>(component.size());
+            for (Integer node : component) {
+                if (node > 0) {
+                    descriptorSegments[node - 1] = segments.size();
+                    descriptorPositions[node - 1] = segmentDescriptors.size();
+                    segmentDescriptors.add(descriptors.get(node - 1));
+                }
+            }
+            if (!hasProject && (component.size() == 1)) {
+                segments.add(nodeBytes[component.get(0)]);
+            } else {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream segment = new ObjectOutputStream(bytes)) {
+                    if (hasProject) {
+                        segment.writeObject(header);
+                    }
+                    segment.writeObject(segmentDescriptors.toArray(new ClassDescriptor[0]));
+                }
+                segments.add(bytes.toByteArray());
+            }
+        }
+
+        Set<String> classNames = getClassNames(project);
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeUTF(Version.getVersionString());
+        data.writeInt(classNames.size());
+        for (String className : classNames) {
+            data.writeUTF(className);
+            data.writeLong(computeChecksum(className, loader));
+        }
+        data.writeInt(segments.size());
+        for (byte[] segment : segments) {
+            data.writeInt(segment.length);
+        }
+        data.writeInt(size);
+        for (int index = 0; index < size; index++) {
+            data.writeInt(descriptorSegments[index]);
+            data.writeInt(descriptorPositions[index]);
+        }
+        data.writeInt(aliases.size());
+        for (int index = 0; index < aliases.size(); index++) {
+            data.writeUTF(aliases.get(index));
+            data.writeInt(aliasIndexes.get(index));
+        }
+        for (byte[] segment : segments) {
+            data.write(segment);
+        }
+        data.flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Read the project from the buffer, return null if the file is stale.
+     */
+    protected Project readProject(ByteBuffer buffer, String fileName, ClassLoader loader, SessionLog log) throws Exception {
+        DataInputStream data = new DataInputStream(new ByteBufferInputStream(buffer));
+        if ((buffer.remaining() < 8) || (data.readInt() != MAGIC) || (data.readInt() != FORMAT_VERSION)) {
+            log.log(SessionLog.INFO, SessionLog.JPA, "project_cache_stale", fileName, "format");
+            return null;
+        }
+        String version = data.readUTF();
+        if (!version.equals(Version.getVersionString())) {
+            log.log(SessionLog.INFO, SessionLog.JPA, "project_cache_stale", fileName, version);
+            return null;
+        }
+        int classCount = data.readInt();
+        List<Callable<String>> checks = new ArrayList<>(classCount);
+        for (int index = 0; index < classCount; index++) {
+            final String className = data.readUTF();
+            final long checksum = data.readLong();
+            checks.add(() -> (computeChecksum(className, loader) == checksum) ? null : className);
+        }
+        for (String changedClass : invokeAll(checks)) {
+            if (changedClass != null) {
+                log.log(SessionLog.INFO, SessionLog.JPA, "project_cache_stale", fileName, changedClass);
+                return null;
+            }
+        }
+        int segmentCount = data.readInt();
+        int[] segmentLengths = new int[segmentCount];
+        for (int index = 0; index < segmentCount; index++) {
+            segmentLengths[index] = data.readInt();
+        }
+        int size = data.readInt();
+        int[] descriptorSegments = new int[size];
+        int[] descriptorPositions = new int[size];
+        for (int index = 0; index < size; index++) {
+            descriptorSegments[index] = data.readInt();
+            descriptorPositions[index] = data.readInt();
+        }
+        int aliasCount = data.readInt();
+        String[] aliases = new String[aliasCount];
+        int[] aliasIndexes = new int[aliasCount];
+        for (int index = 0; index < aliasCount; index++) {
+            aliases[index] = data.readUTF();
+            aliasIndexes[index] = data.readInt();
+        }
+
+        // The segments are deserialized independently, reading from their own view of the mapped file.
+        final Project[] project = new Project[1];
+        List<Callable<ClassDescriptor[]>> reads = new ArrayList<>(segmentCount);
+        int offset = buffer.position();
+        for (int index = 0; index < segmentCount; index++) {
+            final ByteBuffer segment = buffer.duplicate();
+            segment.position(offset);
+            segment.limit(offset + segmentLengths[index]);
+            offset += segmentLengths[index];
+            final boolean hasProject = (index == 0);
+            reads.add(() -> {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteBufferInputStream(segment))) {
+                    in.setObjectInputFilter(new FileBasedProjectCacheFilter(Project.class, ClassDescriptor[].class));
+                    if (hasProject) {
+                        project[0] = (Project)in.readObject();
+                    }
+                    return (ClassDescriptor[])in.readObject();
+                }
+            });
+        }
+        List<ClassDescriptor[]> segments = invokeAll(reads);
+        List<ClassDescriptor> descriptors = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            descriptors.add(segments.get(descriptorSegments[index])[descriptorPositions[index]]);
+        }
+        Map<String, ClassDescriptor> aliasDescriptors = project[0].getAliasDescriptors();
+        if (aliasDescriptors == null) {
+            aliasDescriptors = new HashMap<>(aliasCount);
+        }
+        for (int index = 0; index < aliasCount; index++) {
+            aliasDescriptors.put(aliases[index], descriptors.get(aliasIndexes[index]));
+        }
+        project[0].setOrderedDescriptors(descriptors);
+        project[0].setAliasDescriptors(aliasDescriptors);
+        return project[0];
+    }
+
+    /**
+     * INTERNAL:
+     * Return the names of the classes of the project, checked to detect a stale file.
+     */
+    protected Set<String> getClassNames(Project project) {
+        Set<String> classNames = new TreeSet<>();
+        for (ClassDescriptor descriptor : project.getOrderedDescriptors()) {
+            if (descriptor.getJavaClassName() != null) {
+                classNames.add(descriptor.getJavaClassName());
+            }
+        }
+        if (project.getClassNamesForWeaving() != null) {
+            classNames.addAll(project.getClassNamesForWeaving());
+        }
+        classNames.addAll(project.getMappedSuperclassDescriptors().keySet());
+        return classNames;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the checksum of the class file of the class, found by the class loader without loading the class.
+     */
+    protected long computeChecksum(String className, ClassLoader loader) throws IOException {
+        ClassLoader classLoader = (loader == null) ? ClassLoader.getSystemClassLoader() : loader;
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return NO_CLASS_FILE;
+            }
+            CRC32C checksum = new CRC32C();
+            byte[] bytes = new byte[8192];
+            for (int count = in.read(bytes); count >= 0; count = in.read(bytes)) {
+                checksum.update(bytes, 0, count);
+            }
+            return checksum.getValue();
+        }
+    }
+
+    /**
+     * Run the tasks, on the fork-join common pool if there are several of them and it is parallel.
+     * Return their results in order.
+     */
+    protected static <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList<>(tasks.size());
+        if ((tasks.size() > 1) && (ForkJoinPool.getCommonPoolParallelism() > 1)) {
+            List<ForkJoinTask<T>> forkJoinTasks = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                forkJoinTasks.add(ForkJoinTask.adapt(task));
+            }
+            ForkJoinTask.invokeAll(forkJoinTasks);
+            for (ForkJoinTask<T> task : forkJoinTasks) {
+                results.add(task.join());
+            }
+        } else {
+            for (Callable<T> task : tasks) {
+                results.add(task.call());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Check the provided map for an object with the given name.  If that object is not available, check the
+     * System properties.  Log the value returned if logging is enabled at the FINEST level
+     * @param propertyName property name
+     * @param properties properties
+     * @param log logger
+     * @return object for the given name, null if not found
+     */
+    public Object getConfigPropertyLogDebug(final String propertyName, Map<String, ?> properties, SessionLog log) {
+        return PropertyHelper.getConfigPropertyLogDebug(propertyName, properties, log);
+    }
+
+    /**
+     * Serialize the nodes of the project (the project and its descriptors) one at a time, and union the nodes
+     * serializing the same objects. The immutable objects, whose identity does not matter, are not tracked.
+     */
+    private static final class SharedObjectsTracker {
+        private final int[] parents;
+        private final Map<Object, Integer> owners = new IdentityHashMap<>();
+        private int node;
+
+        SharedObjectsTracker(int size) {
+            this.parents = new int[size];
+            for (int index = 0; index < size; index++) {
+                this.parents[index] = index;
+            }
+        }
+
+        /**
+         * Serialize the object of the node, return its bytes.
+         */
+        byte[] track(int node, Object object) throws IOException {
+            this.node = node;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes) {
+                {
+                    enableReplaceObject(true);
+                }
+
+                @Override
+                protected Object replaceObject(Object written) {
+                    if (!(written instanceof String || written instanceof Number || written instanceof Boolean
+                            || written instanceof Character || written instanceof Class || written instanceof Enum)) {
+                        Integer owner = owners.putIfAbsent(written, SharedObjectsTracker.this.node);
+                        if (owner != null) {
+                            union(owner, SharedObjectsTracker.this.node);
+                        }
+                    }
+                    return written;
+                }
+            }) {
+                out.writeObject(object);
+            }
+            return bytes.toByteArray();
+        }
+
+        int find(int node) {
+            while (this.parents[node] != node) {
+                this.parents[node] = this.parents[this.parents[node]];
+                node = this.parents[node];
+            }
+            return node;
+        }
+
+        void union(int first, int second) {
+            this.parents[find(first)] = find(second);
+        }
+    }
+
+    /**
+     * Read a view of the mapped file.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -23,10 +23,22 @@
  */
 class FileBasedProjectCacheFilter implements ObjectInputFilter {
 
+    /** The classes allowed on top of the structure. */
+    private final Class<?>[] rootClasses;
+
     /**
      * Creates an instance of ObjectInputStream data of FileBasedProjectCache verifier.
      */
     FileBasedProjectCacheFilter() {
+        this(Project.class);
+    }
+
+    /**
+     * Creates an instance of ObjectInputStream data verifier allowing the given classes
+     * on top of the structure (used by BinaryProjectCache).
+     */
+    FileBasedProjectCacheFilter(Class<?>... rootClasses) {
+        this.rootClasses = rootClasses;
     }
 
     // ObjectInputStream data verification entry point.
@@ -42,11 +54,14 @@ public Status checkInput(FilterInfo info) {
                 return status;
             }
         }
-        // The only allowed instance on top of the structure is Project class
+        // The only allowed instances on top of the structure are of the root classes (Project class)
         if (info.serialClass() != null && info.depth() == 1L) {
-            if (info.serialClass() != Project.class) {
-                return Status.REJECTED;
+            for (Class<?> rootClass : this.rootClasses) {
+                if (info.serialClass() == rootClass) {
+                    return Status.UNDECIDED;
+                }
             }
+            return Status.REJECTED;
         }
         return Status.UNDECIDED;
     }
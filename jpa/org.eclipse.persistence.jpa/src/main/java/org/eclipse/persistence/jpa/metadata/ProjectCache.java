@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -50,5 +50,18 @@ public interface ProjectCache {
      */
     void storeProject(Project project, Map<String, ?> properties, SessionLog log);
 
+    /**
+     * PUBLIC: This method is responsible for caching a project instance representing the
+     * application metadata.
+     * <p>
+     * The classloader provided is the application loader, it can be used to find the class files
+     * of the project (to detect a stale cache), without loading the classes.
+     * By default the project is stored as by {@link #storeProject(Project, Map, SessionLog)}.
+     *
+     * @since 5.0
+     */
+    default void storeProject(Project project, Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        storeProject(project, properties, log);
+    }
 
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.deployment;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test that the jar files indexed are found in the index until they change.
+ */
+class ArchiveScanIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private Path jar(String name, String... entries) throws Exception {
+        Path jarFile = directory.resolve(name);
+        try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+            for (String entry : entries) {
+                jar.putNextEntry(new ZipEntry(entry));
+                jar.write(new byte[] {1, 2, 3});
+                jar.closeEntry();
+            }
+        }
+        return jarFile;
+    }
+
+    @Test
+    void testIndex() throws Exception {
+        Path indexFile = directory.resolve("index").resolve("scan.idx");
+        URL model = jar("model.jar", "org/example/Employee.class", "org/example/Helper.class").toUri().toURL();
+        URL other = jar("other.jar", "org/example/Address.class").toUri().toURL();
+
+        ArchiveScanIndex index = new ArchiveScanIndex(indexFile);
+        index.read();
+        Assertions.assertTrue(index.isIndexable(model));
+        Assertions.assertNull(index.getClassNames(model));
+        index.putClassNames(model, Set.of("org.example.Employee"));
+        index.write();
+
+        // Another persistence unit indexes another jar file, the first one is kept.
+        ArchiveScanIndex otherIndex = new ArchiveScanIndex(indexFile);
+        otherIndex.putClassNames(other, Set.of());
+        otherIndex.write();
+
+        index = new ArchiveScanIndex(indexFile);
+        index.read();
+        Assertions.assertEquals(Set.of("org.example.Employee"), index.getClassNames(model));
+        Assertions.assertEquals(Set.of(), index.getClassNames(other));
+        Assertions.assertEquals(Set.of("org.example.Employee"), index.getClassNames(new URL("jar:" + model + "!/")));
+
+        // A jar file that changed is not found.
+        Path modelFile = Path.of(model.toURI());
+        Files.setLastModifiedTime(modelFile, FileTime.fromMillis(Files.getLastModifiedTime(modelFile).toMillis() + 2000));
+        Assertions.assertNull(index.getClassNames(model));
+
+        // Directories and jar entries are not indexed.
+        Assertions.assertFalse(index.isIndexable(directory.toUri().toURL()));
+        Assertions.assertFalse(index.isIndexable(new URL("jar:" + other + "!/WEB-INF/classes/")));
+    }
+
+    @Test
+    void testOtherFile() throws Exception {
+        Path indexFile = directory.resolve("scan.idx");
+        URL model = jar("model.jar", "org/example/Employee.class").toUri().toURL();
+        Files.write(indexFile, new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8});
+        ArchiveScanIndex index = new ArchiveScanIndex(indexFile);
+        index.read();
+        Assertions.assertNull(index.getClassNames(model));
+    }
+}
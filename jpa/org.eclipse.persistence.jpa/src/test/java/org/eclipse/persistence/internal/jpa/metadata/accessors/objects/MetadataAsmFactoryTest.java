@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.metadata.accessors.objects;
+
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that the class metadata is read ahead from the threshold number of class names,
+ * and is the same as the class metadata read on lookup.
+ */
+class MetadataAsmFactoryTest {
+
+    private static final List<String> CLASS_NAMES = new ArrayList<>();
+
+    /**
+     * A factory reading with several threads, whatever the parallelism of the common pool.
+     */
+    static class ParallelMetadataAsmFactory extends MetadataAsmFactory {
+        private final int parallelism;
+
+        ParallelMetadataAsmFactory(int parallelism) {
+            super(new MetadataLogger(null), MetadataAsmFactoryTest.class.getClassLoader());
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        protected int getParallelism() {
+            return this.parallelism;
+        }
+    }
+
+    @BeforeAll
+    static void listClassNames() throws Exception {
+        Path util = FileSystems.getFileSystem(URI.create("jrt:/")).getPath("modules", "java.base", "java", "util");
+        try (Stream<Path> files = Files.list(util)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".class") && !name.contains("$"))
+                    .sorted()
+                    .limit(MetadataAsmFactory.PARALLEL_LOAD_THRESHOLD + 1)
+                    .forEach(name -> CLASS_NAMES.add("java.util." + name.substring(0, name.length() - ".class".length())));
+        }
+        Assertions.assertEquals(MetadataAsmFactory.PARALLEL_LOAD_THRESHOLD + 1, CLASS_NAMES.size());
+    }
+
+    private static long countLoaded(MetadataAsmFactory factory, List<String> classNames) {
+        return classNames.stream().filter(factory::metadataClassExists).count();
+    }
+
+    @Test
+    void testBelowThresholdIsLoadedOnLookup() {
+        MetadataAsmFactory factory = new ParallelMetadataAsmFactory(4);
+        List<String> classNames = CLASS_NAMES.subList(0, MetadataAsmFactory.PARALLEL_LOAD_THRESHOLD - 1);
+        factory.loadMetadataClasses(classNames, false);
+        Assertions.assertEquals(0, countLoaded(factory, classNames));
+    }
+
+    @Test
+    void testAtThresholdIsLoaded() {
+        MetadataAsmFactory factory = new ParallelMetadataAsmFactory(4);
+        List<String> classNames = CLASS_NAMES.subList(0, MetadataAsmFactory.PARALLEL_LOAD_THRESHOLD);
+        factory.loadMetadataClasses(classNames, false);
+        Assertions.assertEquals(classNames.size(), countLoaded(factory, classNames));
+    }
+
+    @Test
+    void testAboveThresholdIsLoaded() {
+        MetadataAsmFactory factory = new ParallelMetadataAsmFactory(4);
+        List<String> classNames = new ArrayList<>(CLASS_NAMES);
+        // Duplicate and unknown class names are left to the lookup.
+        classNames.add(CLASS_NAMES.get(0));
+        classNames.add("org.example.Unknown");
+        factory.loadMetadataClasses(classNames, false);
+        Assertions.assertEquals(CLASS_NAMES.size(), countLoaded(factory, CLASS_NAMES));
+        Assertions.assertFalse(factory.metadataClassExists("org.example.Unknown"));
+
+        MetadataAsmFactory lookupFactory = new ParallelMetadataAsmFactory(4);
+        for (String className : CLASS_NAMES) {
+            MetadataClass metadataClass = factory.getMetadataClass(className);
+            MetadataClass lookupClass = lookupFactory.getMetadataClass(className);
+            Assertions.assertEquals(className, metadataClass.getName());
+            Assertions.assertFalse(metadataClass.isLazy());
+            Assertions.assertEquals(lookupClass.getSuperclassName(), metadataClass.getSuperclassName());
+            Assertions.assertEquals(lookupClass.getInterfaces(), metadataClass.getInterfaces());
+            Assertions.assertEquals(lookupClass.getModifiers(), metadataClass.getModifiers());
+        }
+    }
+
+    @Test
+    void testSingleThreadIsLoadedOnLookup() {
+        MetadataAsmFactory factory = new ParallelMetadataAsmFactory(1);
+        factory.loadMetadataClasses(CLASS_NAMES, false);
+        Assertions.assertEquals(0, countLoaded(factory, CLASS_NAMES));
+    }
+}
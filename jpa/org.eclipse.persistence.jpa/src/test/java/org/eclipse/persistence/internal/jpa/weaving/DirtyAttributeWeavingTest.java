@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.weaving;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+import jakarta.persistence.ValidationMode;
+import jakarta.persistence.spi.ClassTransformer;
+import jakarta.persistence.spi.PersistenceUnitTransactionType;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTracker;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryImpl;
+import org.eclipse.persistence.internal.jpa.deployment.SEPersistenceUnitInfo;
+import org.eclipse.persistence.internal.jpa.weaving.model.Car;
+import org.eclipse.persistence.internal.jpa.weaving.model.Vehicle;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test that the woven setters of an entity hierarchy tracking its dirty attributes
+ * flag the changed attributes in the bitmask, with field access in the root entity,
+ * and property access in the subclass, and that the changes are computed from the flagged attributes.
+ */
+class DirtyAttributeWeavingTest {
+
+    private static final String MODEL_PACKAGE = Vehicle.class.getPackageName() + ".";
+
+    @TempDir
+    Path root;
+
+    private WeavingClassLoader loader;
+
+    private EntityManagerFactory emf;
+
+    /**
+     * Loads the classes of the model itself, woven by the transformer of the persistence unit once it is deployed.
+     */
+    static class WeavingClassLoader extends ClassLoader {
+        private ClassTransformer transformer;
+
+        WeavingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(MODEL_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    String className = name.replace('.', '/');
+                    try (InputStream in = getParent().getResourceAsStream(className + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        if (transformer != null) {
+                            byte[] wovenBytes = transformer.transform(this, className, null, null, bytes);
+                            if (wovenBytes != null) {
+                                bytes = wovenBytes;
+                            }
+                        }
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (Exception exception) {
+                        throw new ClassNotFoundException(name, exception);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(loadedClass);
+                }
+                return loadedClass;
+            }
+        }
+    }
+
+    @BeforeEach
+    void deploy() throws Exception {
+        loader = new WeavingClassLoader(DirtyAttributeWeavingTest.class.getClassLoader());
+        SEPersistenceUnitInfo info = new SEPersistenceUnitInfo() {
+            @Override
+            public void addTransformer(ClassTransformer transformer) {
+                loader.transformer = transformer;
+            }
+        };
+        info.setPersistenceUnitName("dirty-attributes");
+        info.setClassLoader(loader);
+        // The meta-data is processed with a class loader that does not weave.
+        info.setNewTempClassLoader(new WeavingClassLoader(DirtyAttributeWeavingTest.class.getClassLoader()));
+        info.setManagedClassNames(new ArrayList<>(List.of(Vehicle.class.getName(), Car.class.getName())));
+        info.setExcludeUnlistedClasses(true);
+        info.setPersistenceUnitRootUrl(root.toUri().toURL());
+        info.setTransactionType(PersistenceUnitTransactionType.RESOURCE_LOCAL);
+        info.setSharedCacheMode(SharedCacheMode.UNSPECIFIED.name());
+        info.setValidationMode(ValidationMode.NONE.name());
+        Properties properties = new Properties();
+        properties.put(PersistenceUnitProperties.TARGET_DATABASE, "Derby");
+        properties.put(PersistenceUnitProperties.WEAVING, "true");
+        // Deploy the persistence unit without connecting to a database.
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        info.setProperties(properties);
+        emf = new PersistenceProvider().createContainerEntityManagerFactory(info, new HashMap<>());
+    }
+
+    @AfterEach
+    void close() {
+        if (emf != null) {
+            emf.close();
+        }
+    }
+
+    /**
+     * Return a unit of work of the persistence unit, which is deployed without a connection.
+     */
+    private UnitOfWork acquireUnitOfWork() {
+        return new UnitOfWorkImpl(((EntityManagerFactoryImpl) emf).getServerSession(), null);
+    }
+
+    private Object newObject(String className, long id) throws Exception {
+        Object object = loader.loadClass(className).getConstructor().newInstance();
+        set(object, "setId", long.class, id);
+        return object;
+    }
+
+    private static void set(Object object, String setter, Class<?> type, Object value) throws Exception {
+        object.getClass().getMethod(setter, type).invoke(object, value);
+    }
+
+    /**
+     * Return the names of the attributes flagged in the bitmask of the object.
+     */
+    private static Set<String> getFlaggedAttributes(Object object) {
+        DirtyAttributeTracker tracker = (DirtyAttributeTracker) object;
+        long[] dirtyAttributes = tracker._persistence_getDirtyAttributes();
+        String[] names = tracker._persistence_getDirtyAttributeNames();
+        Set<String> flagged = new TreeSet<>();
+        for (int index = 0; index < names.length; index++) {
+            if ((dirtyAttributes[index >> 6] & (1L << (index & 63))) != 0) {
+                flagged.add(names[index]);
+            }
+        }
+        return flagged;
+    }
+
+    private static Set<String> getChangedAttributes(UnitOfWork unitOfWork, Object clone) {
+        ObjectChangeSet changeSet = ((UnitOfWorkChangeSet) unitOfWork.getCurrentChanges()).getObjectChangeSetForClone(clone);
+        return (changeSet == null) ? Set.of() : new TreeSet<>(changeSet.getChangedAttributeNames());
+    }
+
+    @Test
+    void testWovenHierarchy() throws Exception {
+        Class<?> vehicleClass = loader.loadClass(Vehicle.class.getName());
+        Class<?> carClass = loader.loadClass(Car.class.getName());
+        Assertions.assertNotSame(Vehicle.class, vehicleClass);
+        Assertions.assertTrue(DirtyAttributeTracker.class.isAssignableFrom(vehicleClass));
+        Assertions.assertTrue(DirtyAttributeTracker.class.isAssignableFrom(carClass));
+
+        // The attributes of the superclass come first, each class sorts its attributes.
+        Object vehicle = newObject(Vehicle.class.getName(), 1);
+        Object car = newObject(Car.class.getName(), 2);
+        Assertions.assertEquals(List.of("id", "name", "speed"), Arrays.asList(((DirtyAttributeTracker) vehicle)._persistence_getDirtyAttributeNames()));
+        Assertions.assertEquals(List.of("id", "name", "speed", "color", "doors"), Arrays.asList(((DirtyAttributeTracker) car)._persistence_getDirtyAttributeNames()));
+        // The changes of an object are not tracked until it is registered.
+        set(car, "setName", String.class, "Car");
+        Assertions.assertNull(((DirtyAttributeTracker) car)._persistence_getDirtyAttributes());
+    }
+
+    @Test
+    void testFieldAccessSetters() throws Exception {
+        UnitOfWork unitOfWork = acquireUnitOfWork();
+        Object vehicle = unitOfWork.registerExistingObject(newObject(Vehicle.class.getName(), 1));
+        Assertions.assertEquals(Set.of(), getFlaggedAttributes(vehicle));
+        Assertions.assertEquals(Set.of(), getChangedAttributes(unitOfWork, vehicle));
+
+        set(vehicle, "setSpeed", int.class, 120);
+        Assertions.assertEquals(Set.of("speed"), getFlaggedAttributes(vehicle));
+        Assertions.assertEquals(Set.of("speed"), getChangedAttributes(unitOfWork, vehicle));
+        unitOfWork.release();
+    }
+
+    @Test
+    void testPropertyAccessSetters() throws Exception {
+        UnitOfWork unitOfWork = acquireUnitOfWork();
+        Object car = unitOfWork.registerExistingObject(newObject(Car.class.getName(), 2));
+        Assertions.assertEquals(Set.of(), getFlaggedAttributes(car));
+
+        // An attribute of the superclass, and attributes of the subclass.
+        set(car, "setName", String.class, "Car");
+        set(car, "setDoors", int.class, 5);
+        set(car, "setColor", String.class, "Red");
+        Assertions.assertEquals(Set.of("color", "doors", "name"), getFlaggedAttributes(car));
+        Assertions.assertEquals(Set.of("color", "doors", "name"), getChangedAttributes(unitOfWork, car));
+        // The bits are in the same word, the bitmask of each object is its own.
+        Assertions.assertEquals(1, ((DirtyAttributeTracker) car)._persistence_getDirtyAttributes().length);
+        unitOfWork.release();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.jpa.jpql.HermesParser;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.AttributeGroup;
+import org.eclipse.persistence.queries.JPAQueryBuilder;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test that the projects retrieved from the binary project cache are the projects stored,
+ * and that the stale files are ignored.
+ */
+class BinaryProjectCacheTest {
+
+    public static class Employee {
+    }
+
+    public static class Address {
+    }
+
+    public static class Phone {
+    }
+
+    public static class CustomQueryBuilderSupplier implements Supplier<JPAQueryBuilder>, Serializable {
+        @Override
+        public JPAQueryBuilder get() {
+            return null;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private Map<String, ?> properties;
+
+    private SessionLog log;
+
+    @BeforeEach
+    void setUp() {
+        properties = Map.of(PersistenceUnitProperties.PROJECT_CACHE_FILE, directory.resolve("project.bin").toString());
+        log = new DefaultSessionLog();
+        log.setLevel(SessionLog.OFF);
+    }
+
+    private static RelationalDescriptor descriptor(Class<?> javaClass, String table) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClassName(javaClass.getName());
+        descriptor.setAlias(javaClass.getSimpleName());
+        descriptor.addTableName(table);
+        descriptor.addPrimaryKeyFieldName(table + ".ID");
+        descriptor.addDirectMapping("id", "ID");
+        return descriptor;
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        RelationalDescriptor employee = descriptor(Employee.class, "EMPLOYEE");
+        OneToOneMapping address = new OneToOneMapping();
+        address.setAttributeName("address");
+        address.setReferenceClassName(Address.class.getName());
+        address.addForeignKeyFieldName("EMPLOYEE.ADDRESS_ID", "ADDRESS.ID");
+        employee.addMapping(address);
+        AttributeGroup group = new AttributeGroup("summary", Employee.class.getName(), false);
+        group.addAttribute("id");
+        employee.addAttributeGroup(group);
+        project.getAttributeGroups().put("summary", group);
+        project.addDescriptor(employee);
+        // Address and phone share an object, not employee.
+        List<String> codes = new ArrayList<>(List.of("HOME", "WORK"));
+        RelationalDescriptor addressDescriptor = descriptor(Address.class, "ADDRESS");
+        addressDescriptor.setProperty("codes", codes);
+        project.addDescriptor(addressDescriptor);
+        RelationalDescriptor phone = descriptor(Phone.class, "PHONE");
+        phone.setProperty("codes", codes);
+        project.addDescriptor(phone);
+        return project;
+    }
+
+    @Test
+    void testRetrieveProject() {
+        BinaryProjectCache cache = new BinaryProjectCache();
+        Assertions.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log));
+        Project stored = project();
+        cache.storeProject(stored, properties, getClass().getClassLoader(), log);
+        Project project = cache.retrieveProject(properties, getClass().getClassLoader(), log);
+        Assertions.assertNotNull(project);
+        Assertions.assertEquals(stored.getOrderedDescriptors().size(), project.getOrderedDescriptors().size());
+        for (int index = 0; index < stored.getOrderedDescriptors().size(); index++) {
+            ClassDescriptor storedDescriptor = stored.getOrderedDescriptors().get(index);
+            ClassDescriptor descriptor = project.getOrderedDescriptors().get(index);
+            Assertions.assertEquals(storedDescriptor.getJavaClassName(), descriptor.getJavaClassName());
+            Assertions.assertEquals(storedDescriptor.getTableName(), descriptor.getTableName());
+            Assertions.assertEquals(storedDescriptor.getMappings().size(), descriptor.getMappings().size());
+            Assertions.assertSame(descriptor, project.getDescriptorForAlias(storedDescriptor.getAlias()));
+            for (int mappingIndex = 0; mappingIndex < descriptor.getMappings().size(); mappingIndex++) {
+                Assertions.assertSame(descriptor, descriptor.getMappings().get(mappingIndex).getDescriptor());
+            }
+        }
+        ClassDescriptor employee = project.getOrderedDescriptors().get(0);
+        Assertions.assertEquals(Address.class.getName(), ((OneToOneMapping) employee.getMappingForAttributeName("address")).getReferenceClassName());
+        // The objects shared are still shared.
+        Assertions.assertSame(project.getAttributeGroups().get("summary"), employee.getAttributeGroup("summary"));
+        Object codes = project.getOrderedDescriptors().get(1).getProperty("codes");
+        Assertions.assertEquals(List.of("HOME", "WORK"), codes);
+        Assertions.assertSame(codes, project.getOrderedDescriptors().get(2).getProperty("codes"));
+    }
+
+    @Test
+    void testStaleProject() throws Exception {
+        BinaryProjectCache cache = new BinaryProjectCache();
+        cache.storeProject(project(), properties, getClass().getClassLoader(), log);
+        String changedClass = Phone.class.getName().replace('.', '/') + ".class";
+        ClassLoader changedLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                return name.equals(changedClass) ? new ByteArrayInputStream(new byte[] {1, 2, 3}) : super.getResourceAsStream(name);
+            }
+        };
+        Assertions.assertNull(cache.retrieveProject(properties, changedLoader, log));
+        Assertions.assertNotNull(cache.retrieveProject(properties, getClass().getClassLoader(), log));
+
+        // Not a project cache file.
+        Files.write(Path.of((String) properties.get(PersistenceUnitProperties.PROJECT_CACHE_FILE)), new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8});
+        Assertions.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log));
+    }
+
+    @Test
+    void testQueryBuilderSupplier() throws Exception {
+        BinaryProjectCache cache = new BinaryProjectCache();
+        Project stored = project();
+        cache.storeProject(stored, properties, getClass().getClassLoader(), log);
+        Assertions.assertInstanceOf(HermesParser.class, cache.retrieveProject(properties, getClass().getClassLoader(), log).getQueryBuilder());
+
+        // A custom serializable factory is kept.
+        stored.setQueryBuilderSupplier(new CustomQueryBuilderSupplier());
+        cache.storeProject(stored, properties, getClass().getClassLoader(), log);
+        Assertions.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log).getQueryBuilder());
+
+        // A project with a factory that is not serializable is not cached, rather than losing its factory.
+        Files.deleteIfExists(Path.of((String) properties.get(PersistenceUnitProperties.PROJECT_CACHE_FILE)));
+        stored.setQueryBuilderSupplier(() -> null);
+        cache.storeProject(stored, properties, getClass().getClassLoader(), log);
+        Assertions.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log));
+    }
+}
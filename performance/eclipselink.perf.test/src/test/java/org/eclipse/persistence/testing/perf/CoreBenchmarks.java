@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,7 +14,23 @@
 //     Oracle - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.core.BatchedStatementGroupingBenchmark;
+import org.eclipse.persistence.testing.perf.core.ChangeCalculationBenchmark;
+import org.eclipse.persistence.testing.perf.core.ChangeSetSerializationBenchmark;
 import org.eclipse.persistence.testing.perf.core.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.core.ConcurrentFixedCacheBenchmark;
+import org.eclipse.persistence.testing.perf.core.ConnectionPoolBenchmark;
+import org.eclipse.persistence.testing.perf.core.DirtyAttributeTrackingBenchmark;
+import org.eclipse.persistence.testing.perf.core.INBatchFetchBenchmark;
+import org.eclipse.persistence.testing.perf.core.IdentityMapBenchmark;
+import org.eclipse.persistence.testing.perf.core.InMemoryConformBenchmark;
+import org.eclipse.persistence.testing.perf.core.MultiRowInsertBenchmark;
+import org.eclipse.persistence.testing.perf.core.ObjectMaterializerBenchmark;
+import org.eclipse.persistence.testing.perf.core.OrderedCacheIndexBenchmark;
+import org.eclipse.persistence.testing.perf.core.QueryCacheInvalidationBenchmark;
+import org.eclipse.persistence.testing.perf.core.RowReadingBenchmark;
+import org.eclipse.persistence.testing.perf.core.SequencePreallocationBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -51,6 +67,190 @@ public static void main(String[] args) throws RunnerException {
                 .build();
 
         new Runner(opt).run();
+
+        // Identity map reads are measured for increasing number of reader threads.
+        for (int threads : new int[] {1, 4, 16, 64}) {
+            Options identityMapOpt = new OptionsBuilder()
+                    .include(getInclude(IdentityMapBenchmark.class))
+                    .result(resultFile.replace(".txt", "-identitymap-" + threads + ".txt"))
+                    .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                    .warmupIterations(warmupIterations)
+                    .measurementIterations(measurementIterations)
+                    .forks(1)
+                    .threads(threads)
+                    .build();
+
+            new Runner(identityMapOpt).run();
+        }
+
+        Options fixedCacheOpt = new OptionsBuilder()
+                .include(getInclude(ConcurrentFixedCacheBenchmark.class))
+                .result(resultFile.replace(".txt", "-fixedcache.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .threads(4)
+                .build();
+
+        new Runner(fixedCacheOpt).run();
+
+        // Connection pool contention is measured for increasing number of threads, the pool has 8 connections.
+        for (int threads : new int[] {4, 16, 64}) {
+            Options connectionPoolOpt = new OptionsBuilder()
+                    .include(getInclude(ConnectionPoolBenchmark.class))
+                    .result(resultFile.replace(".txt", "-connectionpool-" + threads + ".txt"))
+                    .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                    .warmupIterations(warmupIterations)
+                    .measurementIterations(measurementIterations)
+                    .forks(1)
+                    .threads(threads)
+                    .build();
+
+            new Runner(connectionPoolOpt).run();
+        }
+
+        // Row reading is measured by the bytes allocated per read.
+        Options rowReadingOpt = new OptionsBuilder()
+                .include(getInclude(RowReadingBenchmark.class))
+                .result(resultFile.replace(".txt", "-rowreading.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(rowReadingOpt).run();
+
+        Options changeSetSerializationOpt = new OptionsBuilder()
+                .include(getInclude(ChangeSetSerializationBenchmark.class))
+                .result(resultFile.replace(".txt", "-changesetserialization.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .build();
+
+        new Runner(changeSetSerializationOpt).run();
+
+        Options changeCalculationOpt = new OptionsBuilder()
+                .include(getInclude(ChangeCalculationBenchmark.class))
+                .result(resultFile.replace(".txt", "-changecalculation.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .build();
+
+        new Runner(changeCalculationOpt).run();
+
+        Options dirtyAttributeTrackingOpt = new OptionsBuilder()
+                .include(getInclude(DirtyAttributeTrackingBenchmark.class))
+                .result(resultFile.replace(".txt", "-dirtyattributetracking.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(dirtyAttributeTrackingOpt).run();
+
+        // Sequence preallocation runs with the 64 threads of the benchmark.
+        Options sequencePreallocationOpt = new OptionsBuilder()
+                .include(getInclude(SequencePreallocationBenchmark.class))
+                .result(resultFile.replace(".txt", "-sequencepreallocation.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .build();
+
+        new Runner(sequencePreallocationOpt).run();
+
+        Options batchedStatementGroupingOpt = new OptionsBuilder()
+                .include(getInclude(BatchedStatementGroupingBenchmark.class))
+                .result(resultFile.replace(".txt", "-batchedstatementgrouping.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .build();
+
+        new Runner(batchedStatementGroupingOpt).run();
+
+        Options multiRowInsertOpt = new OptionsBuilder()
+                .include(getInclude(MultiRowInsertBenchmark.class))
+                .result(resultFile.replace(".txt", "-multirowinsert.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(multiRowInsertOpt).run();
+
+        Options inBatchFetchOpt = new OptionsBuilder()
+                .include(getInclude(INBatchFetchBenchmark.class))
+                .result(resultFile.replace(".txt", "-inbatchfetch.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(inBatchFetchOpt).run();
+
+        Options queryCacheInvalidationOpt = new OptionsBuilder()
+                .include(getInclude(QueryCacheInvalidationBenchmark.class))
+                .result(resultFile.replace(".txt", "-querycacheinvalidation.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(queryCacheInvalidationOpt).run();
+
+        Options orderedCacheIndexOpt = new OptionsBuilder()
+                .include(getInclude(OrderedCacheIndexBenchmark.class))
+                .result(resultFile.replace(".txt", "-orderedcacheindex.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(orderedCacheIndexOpt).run();
+
+        Options inMemoryConformOpt = new OptionsBuilder()
+                .include(getInclude(InMemoryConformBenchmark.class))
+                .result(resultFile.replace(".txt", "-inmemoryconform.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(inMemoryConformOpt).run();
+
+        Options objectMaterializerOpt = new OptionsBuilder()
+                .include(getInclude(ObjectMaterializerBenchmark.class))
+                .result(resultFile.replace(".txt", "-objectmaterializer.txt"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(objectMaterializerOpt).run();
     }
 
     private static String getInclude(Class<?> cls) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAHotPathTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAResultStreamTests;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class wraps the benchmarks of the core ORM paths run against the emulated database,
+ * and of streaming a large query result.
+ * The average time of each operation and its allocation rate (the GC profiler, {@code -prof gc}) are reported,
+ * by default as JSON so the results of different releases can be compared.
+ *
+ */
+public class JPAHotPathBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+
+        int warmupIterations = 20;
+        int measurementIterations = 20;
+        String resultFile = "jmh-jpa-hotpath-result.json";
+        String resultFormat = "json";
+
+        if (null != args && args.length == 4) {
+            warmupIterations = Integer.parseInt(args[0]);
+            measurementIterations = Integer.parseInt(args[1]);
+            resultFile = args[2];
+            resultFormat = args[3];
+        }
+
+        Options opt = new OptionsBuilder()
+                .include(getInclude(JPAHotPathTests.class))
+                .include(getInclude(JPAResultStreamTests.class))
+                .addProfiler(GCProfiler.class)
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .result(resultFile)
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                // The unit of work used to calculate changes is not thread safe.
+                .threads(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private static String getInclude(Class<?> cls) {
+        return ".*" + cls.getSimpleName() + ".*";
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedStatement;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures the commit of a unit of work updating {@link #objects} employees and their addresses,
+ * the employees alternately changing their name in the EMPLOYEE table and their salary in the SALARY table,
+ * and adding a phone number to each employee, with batch writing,
+ * with and without the batched statements grouped by SQL across tables.
+ * Each execution of a statement or batch is emulated by a {@link #latency} wait.
+ * The round trips and the batched statements are reported as secondary results, at the same rate as the commits.
+ *
+ */
+@State(Scope.Benchmark)
+public class BatchedStatementGroupingBenchmark {
+
+    /** Round trip of a statement or batch execution, in nanoseconds. */
+    static volatile long latencyNanos;
+
+    @Param({"false", "true"})
+    public boolean grouping;
+
+    @Param({"100"})
+    public int objects;
+
+    /** Round trip of a statement or batch execution, in microseconds. */
+    @Param({"100"})
+    public int latency;
+
+    private DatabaseSession session;
+
+    /** The statement counters of the benchmark thread. */
+    static final ThreadLocal<StatementCounters> statementCounters = new ThreadLocal<>();
+
+    /** Strong references to the cached employees, the identity map only holds weak references to most of them. */
+    private Employee[] employees;
+
+    private long nextPhoneId;
+
+    private long commits;
+
+    public static class Address {
+        public long id;
+        public String city;
+    }
+
+    public static class Employee {
+        public long id;
+        public String name;
+        public int salary;
+        public Address address;
+    }
+
+    public static class PhoneNumber {
+        public long id;
+        public String number;
+        public Employee owner;
+    }
+
+    /**
+     * Driver waiting for the emulated round trip on each execution of a statement or batch.
+     */
+    public static class RoundTripDriver extends EmulatedDriver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (this.connection == null) {
+                this.connection = new EmulatedConnection(url, info) {
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) {
+                        return new EmulatedStatement(sql, this) {
+                            @Override
+                            public int executeUpdate() throws SQLException {
+                                LockSupport.parkNanos(latencyNanos);
+                                return super.executeUpdate();
+                            }
+
+                            @Override
+                            public int[] executeBatch() throws SQLException {
+                                LockSupport.parkNanos(latencyNanos);
+                                return super.executeBatch();
+                            }
+                        };
+                    }
+                };
+            }
+            return this.connection;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        latencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(RoundTripDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        login.bindAllParameters();
+        login.getPlatform().setShouldGroupBatchedStatements(grouping);
+
+        RelationalDescriptor address = new RelationalDescriptor();
+        address.setJavaClass(Address.class);
+        address.addTableName("ADDRESS");
+        address.addPrimaryKeyFieldName("ADDRESS.ID");
+        address.addDirectMapping("id", "ID");
+        address.addDirectMapping("city", "CITY");
+
+        RelationalDescriptor employee = new RelationalDescriptor();
+        employee.setJavaClass(Employee.class);
+        employee.addTableName("EMPLOYEE");
+        employee.addTableName("SALARY");
+        employee.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        employee.addDirectMapping("id", "EMPLOYEE.ID");
+        employee.addDirectMapping("name", "EMPLOYEE.NAME");
+        employee.addDirectMapping("salary", "SALARY.SALARY");
+        OneToOneMapping addressMapping = new OneToOneMapping();
+        addressMapping.setAttributeName("address");
+        addressMapping.setReferenceClass(Address.class);
+        addressMapping.addForeignKeyFieldName("EMPLOYEE.ADDR_ID", "ADDRESS.ID");
+        addressMapping.dontUseIndirection();
+        employee.addMapping(addressMapping);
+
+        RelationalDescriptor phone = new RelationalDescriptor();
+        phone.setJavaClass(PhoneNumber.class);
+        phone.addTableName("PHONE");
+        phone.addPrimaryKeyFieldName("PHONE.ID");
+        phone.addDirectMapping("id", "ID");
+        phone.addDirectMapping("number", "PHONE_NUMBER");
+        OneToOneMapping ownerMapping = new OneToOneMapping();
+        ownerMapping.setAttributeName("owner");
+        ownerMapping.setReferenceClass(Employee.class);
+        ownerMapping.addForeignKeyFieldName("PHONE.EMP_ID", "EMPLOYEE.ID");
+        ownerMapping.dontUseIndirection();
+        phone.addMapping(ownerMapping);
+
+        Project project = new Project(login);
+        project.addDescriptor(address);
+        project.addDescriptor(employee);
+        project.addDescriptor(phone);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.setProfiler(new StatementMonitor());
+        session.login();
+
+        employees = new Employee[objects];
+        for (int index = 0; index < objects; index++) {
+            Employee cached = new Employee();
+            cached.id = index + 1;
+            cached.name = "Employee " + index;
+            cached.salary = index * 1000;
+            cached.address = new Address();
+            cached.address.id = index + 1;
+            cached.address.city = "City " + index;
+            session.getIdentityMapAccessor().putInIdentityMap(cached.address);
+            session.getIdentityMapAccessor().putInIdentityMap(cached);
+            employees[index] = cached;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    /**
+     * Round trips and batched statements of each thread, reported by JMH at the same rate as the commits.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+
+        public long roundTrips;
+
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+            statements = 0;
+            statementCounters.set(this);
+        }
+    }
+
+    /**
+     * Profiler counting the round trips and batched statements in the counters of the committing thread.
+     */
+    static class StatementMonitor extends PerformanceMonitor {
+
+        @Override
+        public void occurred(String operationName, AbstractSession session) {
+            super.occurred(operationName, session);
+            StatementCounters counters = statementCounters.get();
+            if (counters == null) {
+                return;
+            }
+            if (SessionProfiler.StatementBatches.equals(operationName)) {
+                counters.roundTrips++;
+            } else if (SessionProfiler.BatchedStatements.equals(operationName)) {
+                counters.statements++;
+            }
+        }
+    }
+
+    @Benchmark
+    public Object testCommit(StatementCounters counters) {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        for (int index = 0; index < objects; index++) {
+            Employee employee = (Employee) unitOfWork.registerObject(employees[index]);
+            if (index % 2 == 0) {
+                employee.name = "Employee " + index + " " + commits;
+            } else {
+                employee.salary++;
+            }
+            employee.address.city = "City " + index + " " + commits;
+            PhoneNumber phone = new PhoneNumber();
+            phone.id = ++nextPhoneId;
+            phone.number = String.valueOf(phone.id);
+            phone.owner = employee;
+            unitOfWork.registerNewObject(phone);
+        }
+        unitOfWork.commit();
+        commits++;
+        return unitOfWork;
+    }
+}
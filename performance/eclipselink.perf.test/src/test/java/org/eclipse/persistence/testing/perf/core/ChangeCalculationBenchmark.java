@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures the calculation of the changes of a unit of work
+ * in which {@link #objects} registered objects were changed, by a single thread and in parallel.
+ * Parallel calculation uses the fork-join common pool, so only applies when it has more than one thread:
+ * on a single processor, set {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism}.
+ *
+ */
+@State(Scope.Benchmark)
+public class ChangeCalculationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int objects;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private DatabaseSession session;
+
+    private UnitOfWorkImpl unitOfWork;
+
+    /** Strong references to the cached objects, the identity map only holds weak references to most of them. */
+    private Order[] orders;
+
+    public static class Order {
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+        public BigDecimal total;
+        public String customer;
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("total", "TOTAL");
+        descriptor.addDirectMapping("customer", "CUSTOMER");
+        descriptor.useVersionLocking("VERSION", false);
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        ((AbstractSession) session).setParallelChangeCalculationThreshold(parallel ? 1 : 0);
+
+        orders = new Order[objects];
+        unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (int index = 0; index < objects; index++) {
+            Order order = new Order();
+            order.id = index + 1;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = index;
+            order.total = BigDecimal.valueOf(index * 10L);
+            order.customer = "Customer " + index;
+            orders[index] = order;
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+            Order clone = (Order) unitOfWork.registerObject(order);
+            clone.status = "SHIPPED";
+            clone.quantity++;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        unitOfWork.release();
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testCalculateChanges() {
+        return unitOfWork.calculateChanges(unitOfWork.getCloneMapping(), new UnitOfWorkChangeSet(unitOfWork), false, false);
+    }
+}
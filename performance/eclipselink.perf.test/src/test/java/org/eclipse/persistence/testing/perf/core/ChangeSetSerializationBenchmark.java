@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures the serialization of the changes sent by cache coordination,
+ * with Java serialization and with the {@link BinaryChangeSetSerializer}.
+ * The changes are those of a transaction updating {@link #OBJECTS} objects, two attributes each.
+ * The serialized bytes are reported as a secondary result of {@link #testSerialize(SizeCounters)},
+ * the ratio to the operations is the size of the serialized changes.
+ * The XML and JSON serializers require the changes to be mapped with JAXB, so they are not compared.
+ *
+ */
+@State(Scope.Benchmark)
+public class ChangeSetSerializationBenchmark {
+
+    public static final int OBJECTS = 100;
+
+    @Param({"java", "binary"})
+    public String serializerType;
+
+    private DatabaseSession session;
+
+    private Serializer serializer;
+
+    private MergeChangeSetCommand command;
+
+    private byte[] bytes;
+
+    public static class Order {
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+        public BigDecimal total;
+        public String customer;
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("total", "TOTAL");
+        descriptor.addDirectMapping("customer", "CUSTOMER");
+        descriptor.useVersionLocking("VERSION", false);
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        for (long id = 1; id <= OBJECTS; id++) {
+            Order order = new Order();
+            order.id = id;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = (int) id;
+            order.total = BigDecimal.valueOf(id * 10);
+            order.customer = "Customer " + id;
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+            Order clone = (Order) unitOfWork.registerObject(order);
+            clone.status = "SHIPPED";
+            clone.quantity++;
+        }
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) unitOfWork.getCurrentChanges();
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession) session));
+        command.setServiceId(new ServiceId("EclipseLinkCommandChannel", "1", "local"));
+        unitOfWork.release();
+
+        serializer = "binary".equals(serializerType) ? new BinaryChangeSetSerializer() : JavaSerializer.instance;
+        bytes = (byte[]) serializer.serialize(command, session);
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testSerialize(SizeCounters counters) {
+        byte[] serialized = (byte[]) serializer.serialize(command, session);
+        counters.serializedBytes += serialized.length;
+        return serialized;
+    }
+
+    @Benchmark
+    public Object testDeserialize() {
+        return serializer.deserialize(bytes, session);
+    }
+
+    /**
+     * Serialized bytes of each thread, reported by JMH at the same rate as the operations.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class SizeCounters {
+
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.jpa.jpql.parser.DefaultEclipseLinkJPQLGrammar;
+import org.eclipse.persistence.jpa.jpql.parser.JPQLExpression;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures the JPQL parse cache with a Zipf distributed query mix.
+ * There are more distinct JPQL strings than the cache size (200, the default of the JPQL parse cache),
+ * and a cache miss parses the JPQL string with the Hermes parser.
+ * The {@code FIRST_ENCOUNTERED} cache is the former eviction of {@link ConcurrentFixedCache},
+ * which removed the first key returned by the map iterator. The cache hits and misses are reported as
+ * secondary results of the benchmark.
+ *
+ */
+@State(Scope.Benchmark)
+public class ConcurrentFixedCacheBenchmark {
+
+    private static final int CACHE_SIZE = 200;
+
+    private static final int QUERY_COUNT = 2000;
+
+    /** Exponent of the Zipf distribution, 1 is the classic web and query workload skew. */
+    private static final double SKEW = 1.0;
+
+    @Param({"FREQUENCY", "FIRST_ENCOUNTERED"})
+    public String cacheType;
+
+    private ConcurrentFixedCache<String, Object> cache;
+
+    private String[] queries;
+
+    /** Cumulative probability of each query. */
+    private double[] distribution;
+
+    @Setup
+    public void setup() {
+        if ("FREQUENCY".equals(cacheType)) {
+            cache = new ConcurrentFixedCache<>(CACHE_SIZE);
+        } else {
+            cache = new FirstEncounteredFixedCache<>(CACHE_SIZE);
+        }
+        queries = new String[QUERY_COUNT];
+        distribution = new double[QUERY_COUNT];
+        double total = 0;
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            queries[index] = "SELECT e FROM Employee e WHERE e.id = :id AND e.salary > " + index + " ORDER BY e.lastName";
+            total += 1 / Math.pow(index + 1, SKEW);
+            distribution[index] = total;
+        }
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            distribution[index] = distribution[index] / total;
+        }
+    }
+
+    /**
+     * Look up a JPQL string, parsing and caching it on a miss, as the JPQL parse cache is used by {@code EJBQueryImpl}.
+     */
+    @Benchmark
+    public void testParseCache(CacheCounters counters, Blackhole bh) {
+        String jpql = queries[nextQuery()];
+        Object query = cache.get(jpql);
+        if (query == null) {
+            counters.misses++;
+            query = new JPQLExpression(jpql, DefaultEclipseLinkJPQLGrammar.instance());
+            cache.put(jpql, query);
+        } else {
+            counters.hits++;
+        }
+        bh.consume(query);
+    }
+
+    private int nextQuery() {
+        int index = Arrays.binarySearch(distribution, ThreadLocalRandom.current().nextDouble());
+        return Math.min(QUERY_COUNT - 1, (index >= 0) ? index : -index - 1);
+    }
+
+    /**
+     * Cache hits and misses of each thread, summed over an iteration by JMH.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CacheCounters {
+
+        public long hits;
+
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * The former eviction, removes the first keys returned by the map iterator.
+     */
+    static class FirstEncounteredFixedCache<K, V> extends ConcurrentFixedCache<K, V> {
+
+        FirstEncounteredFixedCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        public void put(K key, V value) {
+            Map<K, V> map = getCache();
+            map.put(key, value);
+            if (map.size() > getMaxSize()) {
+                Iterator<K> iterator = map.keySet().iterator();
+                while ((map.size() > getMaxSize()) && iterator.hasNext()) {
+                    K next = iterator.next();
+                    if (next != key) {
+                        map.remove(next);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures connection pool contention, more threads than pooled connections
+ * acquire a connection, hold it for a short unit of work and release it.
+ * The database is emulated ({@link EmulatedDriver}) so only the pool is measured.
+ * Run with different thread counts (see {@code CoreBenchmarks}) to measure scaling.
+ *
+ */
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark {
+
+    private static final int POOL_SIZE = 8;
+
+    /** Work done while holding the connection, in {@link Blackhole#consumeCPU(long)} tokens. */
+    private static final long WORK = 100;
+
+    @Param({"CONNECTION_POOL", "CONCURRENT"})
+    public String poolType;
+
+    private ServerSession session;
+
+    private ConnectionPool pool;
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        session = (ServerSession) new Project(login).createServerSession();
+        if ("CONCURRENT".equals(poolType)) {
+            pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, login, POOL_SIZE, POOL_SIZE, POOL_SIZE, session);
+        } else {
+            pool = new ConnectionPool(ServerSession.DEFAULT_POOL, login, POOL_SIZE, POOL_SIZE, POOL_SIZE, session);
+        }
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public void testAcquireRelease() {
+        Accessor accessor = pool.acquireConnection();
+        try {
+            Blackhole.consumeCPU(WORK);
+        } finally {
+            pool.releaseConnection(accessor);
+        }
+    }
+}
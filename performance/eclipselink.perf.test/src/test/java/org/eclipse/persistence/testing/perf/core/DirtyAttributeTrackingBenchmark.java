@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DirtyAttributeTrackingPolicy;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures the calculation of the changes of a unit of work of {@link #objects} registered objects,
+ * one in ten of which had an attribute changed through its setter, and the cost of the setters,
+ * with deferred change detection, attribute change tracking and dirty attribute tracking.
+ * The objects implement the setters as woven classes do.
+ *
+ */
+@State(Scope.Benchmark)
+public class DirtyAttributeTrackingBenchmark {
+
+    @Param({"10000", "100000"})
+    public int objects;
+
+    @Param({"deferred", "attribute", "dirty"})
+    public String policy;
+
+    private DatabaseSession session;
+
+    private UnitOfWorkImpl unitOfWork;
+
+    /** Strong references to the cached objects, the identity map only holds weak references to most of them. */
+    private Order[] orders;
+
+    /** The registered objects changed by the setters. */
+    private Order[] changed;
+
+    private int quantity;
+
+    public static class Order implements ChangeTracker, DirtyAttributeTracker {
+        private static final String[] NAMES = {"customer", "id", "quantity", "status", "total", "version"};
+
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+        public BigDecimal total;
+        public String customer;
+        public transient PropertyChangeListener listener;
+        public transient long[] dirtyAttributes;
+
+        public void setQuantity(int quantity) {
+            if (this.listener != null && this.quantity != quantity) {
+                this.listener.propertyChange(new PropertyChangeEvent(this, "quantity", this.quantity, quantity));
+            }
+            if (this.dirtyAttributes != null) {
+                this.dirtyAttributes[0] |= 1L << 2;
+            }
+            this.quantity = quantity;
+        }
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return this.listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public long[] _persistence_getDirtyAttributes() {
+            return this.dirtyAttributes;
+        }
+
+        @Override
+        public void _persistence_setDirtyAttributes(long[] dirtyAttributes) {
+            this.dirtyAttributes = dirtyAttributes;
+        }
+
+        @Override
+        public String[] _persistence_getDirtyAttributeNames() {
+            return NAMES.clone();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("total", "TOTAL");
+        descriptor.addDirectMapping("customer", "CUSTOMER");
+        descriptor.useVersionLocking("VERSION", false);
+        if ("attribute".equals(policy)) {
+            descriptor.setObjectChangePolicy(new AttributeChangeTrackingPolicy());
+        } else if ("dirty".equals(policy)) {
+            descriptor.setObjectChangePolicy(new DirtyAttributeTrackingPolicy());
+        } else {
+            descriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+        }
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        orders = new Order[objects];
+        changed = new Order[objects / 10];
+        unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (int index = 0; index < objects; index++) {
+            Order order = new Order();
+            order.id = index + 1;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = index;
+            order.total = BigDecimal.valueOf(index * 10L);
+            order.customer = "Customer " + index;
+            orders[index] = order;
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+            Order clone = (Order) unitOfWork.registerObject(order);
+            if (index % 10 == 0) {
+                clone.setQuantity(-1);
+                changed[index / 10] = clone;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        unitOfWork.release();
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testCalculateChanges() {
+        return unitOfWork.calculateChanges(unitOfWork.getCloneMapping(), new UnitOfWorkChangeSet(unitOfWork), false, false);
+    }
+
+    @Benchmark
+    public int testSetAttributes() {
+        // Alternate the values, so the same objects stay changed.
+        quantity = (quantity == -1) ? -2 : -1;
+        for (Order order : changed) {
+            order.setQuantity(quantity);
+        }
+        return quantity;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedResultSet;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures reading a random number of orders (1 to {@link #size}),
+ * and IN batch fetching their customers in a single batch,
+ * with and without the IN keys padded to a power of two.
+ * The database is emulated with a plan cache of {@link #PLANS} statements,
+ * each statement missing the plan cache costing a {@link #parse} wait, and each execution a {@link #latency} wait.
+ * The statement cache of the session is the same size as the plan cache.
+ *
+ */
+@State(Scope.Benchmark)
+public class INBatchFetchBenchmark {
+
+    /** The size of the statement cache, and of the emulated plan cache. */
+    static final int PLANS = 16;
+
+    /** Parse time of a statement not in the plan cache, in nanoseconds. */
+    static volatile long parseNanos;
+
+    /** Round trip of a query, in nanoseconds. */
+    static volatile long latencyNanos;
+
+    /** The rows of the next orders query. */
+    static volatile List<DatabaseRecord> orderRows;
+
+    /** The SQL of the statements in the emulated plan cache. */
+    static final Map<String, String> plans = new LinkedHashMap<>(PLANS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > PLANS;
+        }
+    };
+
+    @Param({"false", "true"})
+    public boolean padding;
+
+    @Param({"100"})
+    public int size;
+
+    /** Parse time of a statement not in the plan cache, in microseconds. */
+    @Param({"200"})
+    public int parse;
+
+    /** Round trip of a query, in microseconds. */
+    @Param({"50"})
+    public int latency;
+
+    private DatabaseSession session;
+
+    private List<DatabaseRecord> allOrderRows;
+
+    private final Random random = new Random(42);
+
+    public static class Customer {
+        public BigDecimal id;
+        public String name;
+    }
+
+    public static class Order {
+        public BigDecimal id;
+        public ValueHolderInterface<Customer> customer = new ValueHolder<>();
+    }
+
+    /**
+     * Driver parsing the statements missing the emulated plan cache, and waiting for each query round trip.
+     * The orders query returns the {@link #orderRows}, the customers queries no rows.
+     */
+    public static class PlanCacheDriver extends EmulatedDriver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (this.connection == null) {
+                this.connection = new EmulatedConnection(url, info) {
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) {
+                        synchronized (plans) {
+                            if (plans.put(sql, sql) == null) {
+                                LockSupport.parkNanos(parseNanos);
+                            }
+                        }
+                        return new EmulatedStatement(sql, this) {
+                            @Override
+                            public ResultSet executeQuery() {
+                                LockSupport.parkNanos(latencyNanos);
+                                return new EmulatedResultSet(sql.contains("CUSTOMER") ? new ArrayList<>(0) : orderRows);
+                            }
+                        };
+                    }
+                };
+            }
+            return this.connection;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        parseNanos = TimeUnit.MICROSECONDS.toNanos(parse);
+        latencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+        plans.clear();
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(PlanCacheDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.bindAllParameters();
+        login.cacheAllStatements();
+        login.setStatementCacheSize(PLANS);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "ID");
+        customer.addDirectMapping("name", "NAME");
+
+        RelationalDescriptor order = new RelationalDescriptor();
+        order.setJavaClass(Order.class);
+        order.addTableName("ORDERS");
+        order.addPrimaryKeyFieldName("ORDERS.ID");
+        order.addDirectMapping("id", "ID");
+        OneToOneMapping customerMapping = new OneToOneMapping();
+        customerMapping.setAttributeName("customer");
+        customerMapping.setReferenceClass(Customer.class);
+        customerMapping.addForeignKeyFieldName("ORDERS.CUST_ID", "CUSTOMER.ID");
+        customerMapping.useBasicIndirection();
+        order.addMapping(customerMapping);
+
+        Project project = new Project(login);
+        project.addDescriptor(customer);
+        project.addDescriptor(order);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor descriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        allOrderRows = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int index = 0; index < values.length; index++) {
+                values[index] = BigDecimal.valueOf(fieldsArray[index].getName().equals("ID") ? id : id * 10);
+            }
+            allOrderRows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testBatchFetch() {
+        orderRows = allOrderRows.subList(0, 1 + random.nextInt(size));
+        ReadAllQuery query = new ReadAllQuery(Order.class);
+        query.addBatchReadAttribute("customer");
+        query.setBatchFetchType(BatchFetchType.IN);
+        query.setBatchFetchSize(size);
+        query.setShouldPadBatchFetchSize(padding);
+        query.dontMaintainCache();
+        List<Order> orders = (List<Order>) session.executeQuery(query, new Vector<>());
+        return orders.get(0).customer.getValue();
+    }
+}
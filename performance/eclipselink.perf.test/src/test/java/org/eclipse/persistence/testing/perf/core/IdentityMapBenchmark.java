@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares concurrent read performance of the fixed size and full identity maps.
+ * Readers look up keys from a skewed key set, a miss puts the object into the map as a read from
+ * the database would. Run with different thread counts (see {@code CoreBenchmarks}) to measure scaling.
+ *
+ */
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    private static final int CACHE_SIZE = 1000;
+
+    /** Number of distinct keys, larger than the cache size so the LRU maps must evict. */
+    private static final int KEY_COUNT = 4000;
+
+    @Param({"CACHE", "SEGMENTED_CACHE", "SOFT_WEAK", "FULL"})
+    public String mapType;
+
+    private IdentityMap identityMap;
+
+    private Object[] keys;
+
+    @Setup
+    public void setup() {
+        switch (mapType) {
+            case "CACHE":
+                identityMap = new CacheIdentityMap(CACHE_SIZE, null, null, false);
+                break;
+            case "SEGMENTED_CACHE":
+                identityMap = new SegmentedCacheIdentityMap(CACHE_SIZE, null, null, false);
+                break;
+            case "SOFT_WEAK":
+                identityMap = new SoftCacheWeakIdentityMap(CACHE_SIZE, null, null, false);
+                break;
+            default:
+                identityMap = new FullIdentityMap(CACHE_SIZE, null, null, false);
+        }
+        keys = new Object[KEY_COUNT];
+        for (int index = 0; index < KEY_COUNT; index++) {
+            keys[index] = new CacheId(new Object[] {(long) index});
+            identityMap.put(keys[index], "Object " + index, null, 0);
+        }
+    }
+
+    /**
+     * Read a key, 90% of reads go to the hottest 10% of the keys.
+     */
+    @Benchmark
+    public void testRead(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(10) == 0 ? random.nextInt(KEY_COUNT) : random.nextInt(KEY_COUNT / 10);
+        Object primaryKey = keys[index];
+        CacheKey cacheKey = identityMap.getCacheKey(primaryKey, false);
+        if (cacheKey == null) {
+            cacheKey = identityMap.put(primaryKey, "Object " + index, null, 0);
+        }
+        bh.consume(cacheKey.getObject());
+    }
+}
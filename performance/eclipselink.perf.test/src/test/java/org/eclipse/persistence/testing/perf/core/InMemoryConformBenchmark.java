@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedResultSet;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures an in-memory query on the status and amount of {@link #size} cached orders,
+ * with the selection criteria compiled for the query, or interpreted for each order.
+ *
+ */
+@State(Scope.Benchmark)
+public class InMemoryConformBenchmark {
+
+    /** The rows of the orders. */
+    static volatile List<DatabaseRecord> orderRows;
+
+    @Param({"100000"})
+    public int size;
+
+    private DatabaseSession session;
+
+    private ReadAllQuery query;
+
+    private final Random random = new Random(42);
+
+    public static class Order {
+        public BigDecimal id;
+        public BigDecimal amount;
+        public String status;
+    }
+
+    /**
+     * Driver returning all the orders.
+     */
+    public static class OrdersDriver extends EmulatedDriver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (this.connection == null) {
+                this.connection = new EmulatedConnection(url, info) {
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) {
+                        return new EmulatedStatement(sql, this) {
+                            @Override
+                            public ResultSet executeQuery() {
+                                return new EmulatedResultSet(orderRows);
+                            }
+                        };
+                    }
+                };
+            }
+            return this.connection;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(OrdersDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.bindAllParameters();
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("amount", "AMOUNT");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.useFullIdentityMap();
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor orderDescriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseField> fields = new Vector<>(orderDescriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        List<DatabaseRecord> rows = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int field = 0; field < values.length; field++) {
+                String name = fieldsArray[field].getName();
+                values[field] = name.equals("ID") ? BigDecimal.valueOf(id) : (name.equals("AMOUNT") ? BigDecimal.valueOf(id % 1000) : ((id % 4 == 0) ? "SHIPPED" : "NEW"));
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        orderRows = rows;
+        session.executeQuery(new ReadAllQuery(Order.class));
+
+        query = new ReadAllQuery(Order.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("status").equal(builder.getParameter("status")).and(builder.get("amount").greaterThan(builder.getParameter("amount"))));
+        query.addArgument("status");
+        query.addArgument("amount");
+        query.checkCacheOnly();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testCompiled() {
+        return session.executeQuery(query, List.of("SHIPPED", random.nextInt(1000)));
+    }
+
+    @Benchmark
+    public Object testInterpreted() {
+        AbstractSession session = (AbstractSession) this.session;
+        return session.getIdentityMapAccessorInstance().getAllFromIdentityMap(query.getSelectionCriteria(), Order.class,
+                query.rowFromArguments(List.of("SHIPPED", random.nextInt(1000)), session), InMemoryQueryIndirectionPolicy.SHOULD_THROW_INDIRECTION_EXCEPTION, false, null);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures the commit of a unit of work inserting {@link #objects} new objects with batch writing,
+ * executed as a JDBC batch, or as multi-row inserts.
+ * The driver is emulated as a driver sending each statement of a JDBC batch to the database,
+ * each statement costing a {@link #latency} wait, and binding the parameters as the emulated driver does.
+ *
+ */
+@State(Scope.Benchmark)
+public class MultiRowInsertBenchmark {
+
+    /** Database time of a statement, in nanoseconds. */
+    static volatile long latencyNanos;
+
+    @Param({"false", "true"})
+    public boolean multiRowInsert;
+
+    @Param({"1000"})
+    public int objects;
+
+    /** Database time of a statement, in microseconds. */
+    @Param({"20"})
+    public int latency;
+
+    private DatabaseSession session;
+
+    private long nextId;
+
+    public static class Order {
+        public long id;
+        public long version;
+        public String status;
+        public int quantity;
+        public BigDecimal total;
+        public String customer;
+    }
+
+    /**
+     * Platform supporting multi-row inserts, with the parameter limit of PostgreSQL.
+     */
+    public static class MultiRowInsertPlatform extends DatabasePlatform {
+        @Override
+        public boolean supportsMultiRowInsert() {
+            return true;
+        }
+
+        @Override
+        public int getMaxMultiRowInsertParameters() {
+            return 32767;
+        }
+    }
+
+    /**
+     * Driver waiting for the database time of each statement, including each statement of a JDBC batch.
+     */
+    public static class RoundTripDriver extends EmulatedDriver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (this.connection == null) {
+                this.connection = new EmulatedConnection(url, info) {
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) {
+                        return new EmulatedStatement(sql, this) {
+                            @Override
+                            public int executeUpdate() throws SQLException {
+                                LockSupport.parkNanos(latencyNanos);
+                                return super.executeUpdate();
+                            }
+
+                            @Override
+                            public int[] executeBatch() throws SQLException {
+                                LockSupport.parkNanos(latencyNanos * this.batch);
+                                return super.executeBatch();
+                            }
+                        };
+                    }
+                };
+            }
+            return this.connection;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        latencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+        DatabasePlatform platform = new MultiRowInsertPlatform();
+        platform.setUsesMultiRowInsertBatchWriting(multiRowInsert);
+        DatabaseLogin login = new DatabaseLogin(platform);
+        login.useDirectDriverConnect();
+        login.setDriverClass(RoundTripDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        login.bindAllParameters();
+        login.setMaxBatchWritingSize(objects);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("total", "TOTAL");
+        descriptor.addDirectMapping("customer", "CUSTOMER");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testInsert() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        for (int index = 0; index < objects; index++) {
+            Order order = new Order();
+            order.id = ++nextId;
+            order.version = 1;
+            order.status = "NEW";
+            order.quantity = index;
+            order.total = BigDecimal.valueOf(index * 10L);
+            order.customer = "Customer " + index;
+            unitOfWork.registerNewObject(order);
+        }
+        unitOfWork.commit();
+        // Do not keep the inserted objects in the cache.
+        session.getIdentityMapAccessor().initializeAllIdentityMaps();
+        return unitOfWork;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures building objects with private attributes from rows, by the mappings
+ * or by the materializers generated for the descriptor ({@link SystemProperties#GENERATE_OBJECT_MATERIALIZERS}).
+ * The objects are always built (the cache is not maintained) and the database is emulated ({@link EmulatedDriver}),
+ * one operation reads {@link #ROWS} rows. The attributes are also built from the rows already fetched,
+ * to measure the object building alone.
+ *
+ */
+@State(Scope.Benchmark)
+public class ObjectMaterializerBenchmark {
+
+    public static final int ROWS = 1000;
+
+    @Param({"false", "true"})
+    public boolean materializers;
+
+    private DatabaseSession session;
+
+    private ReadAllQuery query;
+
+    private ObjectBuilder objectBuilder;
+
+    private List<DatabaseRecord> rows;
+
+    /**
+     * Order line, all attributes are private and directly mapped.
+     */
+    public static class OrderLine {
+        private BigDecimal id;
+        private long orderId;
+        private int lineNumber;
+        private int quantity;
+        private double price;
+        private double discount;
+        private BigDecimal amount;
+        private String product;
+        private String description;
+        private String status;
+        private Integer priority;
+        private Long version;
+    }
+
+    private static ClassDescriptor descriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(OrderLine.class);
+        descriptor.addTableName("ORDER_LINE");
+        descriptor.addPrimaryKeyFieldName("ORDER_LINE.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("orderId", "ORDER_ID");
+        descriptor.addDirectMapping("lineNumber", "LINE_NUMBER");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("price", "PRICE");
+        descriptor.addDirectMapping("discount", "DISCOUNT");
+        descriptor.addDirectMapping("amount", "AMOUNT");
+        descriptor.addDirectMapping("product", "PRODUCT");
+        descriptor.addDirectMapping("description", "DESCRIPTION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("priority", "PRIORITY");
+        descriptor.addDirectMapping("version", "VERSION");
+        return descriptor;
+    }
+
+    @Setup
+    public void setup() {
+        System.setProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS, String.valueOf(materializers));
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor());
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor descriptor = session.getDescriptor(OrderLine.class);
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int index = 0; index < values.length; index++) {
+                switch (fieldsArray[index].getName()) {
+                    case "ID", "AMOUNT" -> values[index] = BigDecimal.valueOf(id * 100 + index);
+                    case "ORDER_ID", "VERSION" -> values[index] = id / 10;
+                    case "LINE_NUMBER", "QUANTITY", "PRIORITY" -> values[index] = (int) (id % 10);
+                    case "PRICE", "DISCOUNT" -> values[index] = id * 1.5 + index;
+                    case "STATUS" -> values[index] = (id % 3 == 0) ? "SHIPPED" : "NEW";
+                    default -> values[index] = "Product " + id;
+                }
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        query = new ReadAllQuery(OrderLine.class);
+        query.dontMaintainCache();
+        query.checkPrepare((DatabaseSessionImpl) session, new DatabaseRecord());
+        ((EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection()).putRows(query.getSQLString(), rows);
+        objectBuilder = descriptor.getObjectBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+        System.clearProperty(SystemProperties.GENERATE_OBJECT_MATERIALIZERS);
+    }
+
+    @Benchmark
+    public void testReadAll(Blackhole bh) {
+        bh.consume(session.executeQuery(query));
+    }
+
+    @Benchmark
+    public void testBuildAttributes(Blackhole bh) {
+        AbstractSession executionSession = (AbstractSession) session;
+        for (DatabaseRecord row : rows) {
+            Object object = objectBuilder.buildNewInstance();
+            objectBuilder.buildAttributesIntoObject(object, null, row, query, null, null, false, executionSession);
+            bh.consume(object);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedResultSet;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures a write heavy use of the query results cache:
+ * the update of the status of an order, and the read of the orders of each of {@link #customers} customers
+ * by a cached query, with the results invalidated on any change of an order, or by row.
+ * The database is emulated, each query costing a {@link #latency} wait.
+ *
+ */
+@State(Scope.Benchmark)
+public class QueryCacheInvalidationBenchmark {
+
+    /** The orders of a customer. */
+    static final int ORDERS = 10;
+
+    /** Round trip of a query, in nanoseconds. */
+    static volatile long latencyNanos;
+
+    /** The order rows of each customer. */
+    static final Map<Object, List<DatabaseRecord>> customerRows = new HashMap<>();
+
+    @Param({"false", "true"})
+    public boolean rowLevel;
+
+    @Param({"20"})
+    public int customers;
+
+    /** Round trip of a query, in microseconds. */
+    @Param({"50"})
+    public int latency;
+
+    private DatabaseSession session;
+
+    private ReadAllQuery query;
+
+    private final List<Order> orders = new ArrayList<>();
+
+    private final Random random = new Random(42);
+
+    public static class Order {
+        public BigDecimal id;
+        public String status;
+        public String customer;
+    }
+
+    /**
+     * Driver waiting for each query round trip, and returning the orders of the customer bound to the query.
+     */
+    public static class CustomerDriver extends EmulatedDriver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (this.connection == null) {
+                this.connection = new EmulatedConnection(url, info) {
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) {
+                        return new EmulatedStatement(sql, this) {
+                            @Override
+                            public ResultSet executeQuery() {
+                                LockSupport.parkNanos(latencyNanos);
+                                return new EmulatedResultSet(customerRows.get(this.parameters.get(0)));
+                            }
+                        };
+                    }
+                };
+            }
+            return this.connection;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        latencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(CustomerDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.bindAllParameters();
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("customer", "CUSTOMER");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor orderDescriptor = session.getDescriptor(Order.class);
+        Vector<DatabaseField> fields = new Vector<>(orderDescriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        customerRows.clear();
+        for (int customer = 0; customer < customers; customer++) {
+            List<DatabaseRecord> rows = new ArrayList<>(ORDERS);
+            for (int order = 0; order < ORDERS; order++) {
+                Object[] values = new Object[fieldsArray.length];
+                for (int index = 0; index < values.length; index++) {
+                    String name = fieldsArray[index].getName();
+                    values[index] = name.equals("ID") ? BigDecimal.valueOf(customer * ORDERS + order) : (name.equals("CUSTOMER") ? customer(customer) : "NEW");
+                }
+                rows.add(new ArrayRecord(fields, fieldsArray, values));
+            }
+            customerRows.put(customer(customer), rows);
+        }
+
+        query = new ReadAllQuery(Order.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("customer").equal(builder.getParameter("customer")));
+        query.addArgument("customer");
+        query.cacheQueryResults();
+        query.getQueryResultsCachePolicy().setInvalidateOnRowChange(rowLevel);
+        for (int customer = 0; customer < customers; customer++) {
+            orders.addAll((List<Order>) session.executeQuery(query, List.of(customer(customer))));
+        }
+    }
+
+    private static String customer(int customer) {
+        return "Customer " + customer;
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testUpdateAndRead() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        Order order = (Order) unitOfWork.registerObject(orders.get(random.nextInt(orders.size())));
+        order.status = "NEW".equals(order.status) ? "SHIPPED" : "NEW";
+        unitOfWork.commit();
+        Object result = null;
+        for (int customer = 0; customer < customers; customer++) {
+            result = session.executeQuery(query, List.of(customer(customer)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures reading the rows of a wide, mostly numeric table into objects.
+ * The objects are always built (the cache is not maintained) and the database is emulated ({@link EmulatedDriver}),
+ * so the row reading and object building is measured. Run with the GC profiler ({@code -prof gc})
+ * to compare the bytes allocated per operation, one operation reads {@link #ROWS} rows.
+ * The rows are either fetched into a record each (the default),
+ * or read directly from the result set into a record reused for all rows (ResultSet access optimization).
+ *
+ */
+@State(Scope.Benchmark)
+public class RowReadingBenchmark {
+
+    public static final int ROWS = 1000;
+
+    @Param({"false", "true"})
+    public boolean resultSetAccess;
+
+    private DatabaseSession session;
+
+    private ReadAllQuery query;
+
+    /**
+     * Row of a wide table, all attributes are directly mapped.
+     */
+    public static class WideRow {
+        public long id;
+        public long amount;
+        public long quantity;
+        public long version;
+        public int status;
+        public int category;
+        public double price;
+        public double discount;
+        public String name;
+    }
+
+    private static ClassDescriptor descriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(WideRow.class);
+        descriptor.addTableName("WIDE_ROW");
+        descriptor.addPrimaryKeyFieldName("WIDE_ROW.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("amount", "AMOUNT");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.addDirectMapping("status", "STATUS");
+        descriptor.addDirectMapping("category", "CATEGORY");
+        descriptor.addDirectMapping("price", "PRICE");
+        descriptor.addDirectMapping("discount", "DISCOUNT");
+        descriptor.addDirectMapping("name", "NAME");
+        return descriptor;
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor());
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor descriptor = session.getDescriptor(WideRow.class);
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        List<DatabaseRecord> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int index = 0; index < values.length; index++) {
+                String name = fieldsArray[index].getName();
+                switch (name) {
+                    case "STATUS", "CATEGORY" -> values[index] = (int) (id * 1000 + index);
+                    case "PRICE", "DISCOUNT" -> values[index] = id * 1.5 + index;
+                    case "NAME" -> values[index] = "Name " + id;
+                    default -> values[index] = id * 1000 + index;
+                }
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        query = new ReadAllQuery(WideRow.class);
+        query.dontMaintainCache();
+        query.setIsResultSetAccessOptimizedQuery(resultSetAccess);
+        query.checkPrepare((DatabaseSessionImpl) session, new DatabaseRecord());
+        ((EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection()).putRows(query.getSQLString(), rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public void testReadAll(Blackhole bh) {
+        bh.consume(session.executeQuery(query));
+    }
+}
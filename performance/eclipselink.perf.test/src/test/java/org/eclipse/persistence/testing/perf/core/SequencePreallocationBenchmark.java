@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures the objects inserted by 64 threads acquiring a sequence value for each object,
+ * with the values preallocated by the thread that runs out of values, and with the values refilled in the background
+ * once {@link #refillThreshold} values are left.
+ * The select of the sequence object is emulated by a {@link #latency} wait, and the insert by {@link #work},
+ * so only the stalls of the threads waiting for values are measured.
+ * The stalls of each thread are reported as a secondary result.
+ *
+ */
+@State(Scope.Benchmark)
+@Threads(64)
+public class SequencePreallocationBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"0", "25"})
+    public int refillThreshold;
+
+    /** Round trip of the sequence select, in microseconds. */
+    @Param({"200"})
+    public int latency;
+
+    /** Work done to insert an object, in {@link Blackhole#consumeCPU(long)} tokens. */
+    @Param({"0", "5000"})
+    public long work;
+
+    private ServerSession session;
+
+    /** The stall counters of the benchmark thread. */
+    static final ThreadLocal<StallCounters> stallCounters = new ThreadLocal<>();
+
+    public static class Order {
+        public long id;
+    }
+
+    /**
+     * Sequence object waiting for the emulated round trip before returning its values.
+     */
+    public static class RoundTripSequence extends Sequence {
+        private final long latencyNanos;
+        private long nextValue = 1;
+
+        public RoundTripSequence(String name, int size, long latencyNanos) {
+            super(name, size);
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return getGeneratedVector(accessor, writeSession, seqName, 1).get(0);
+        }
+
+        @Override
+        public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            LockSupport.parkNanos(latencyNanos);
+            Vector<Object> values = new Vector<>(size);
+            synchronized (this) {
+                for (int index = 0; index < size; index++) {
+                    values.add(nextValue++);
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+
+    /**
+     * Stalls of each thread, summed over an iteration by JMH.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StallCounters {
+
+        public long stalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            stalls = 0;
+            stallCounters.set(this);
+        }
+    }
+
+    /**
+     * Profiler counting the stalls in the counters of the stalled thread.
+     */
+    static class StallMonitor extends PerformanceMonitor {
+
+        @Override
+        public void occurred(String operationName, AbstractSession session) {
+            super.occurred(operationName, session);
+            if (SessionProfiler.SequencePreallocationStalls.equals(operationName)) {
+                StallCounters counters = stallCounters.get();
+                if (counters != null) {
+                    counters.stalls++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The client session of a thread.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        AbstractSession clientSession;
+
+        @Setup(Level.Trial)
+        public void setup(SequencePreallocationBenchmark benchmark) {
+            clientSession = (AbstractSession) benchmark.session.acquireClientSession();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            clientSession.release();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Sequence sequence = new RoundTripSequence("ORDER_SEQ", ALLOCATION_SIZE, TimeUnit.MICROSECONDS.toNanos(latency));
+        sequence.setPreallocationRefillThreshold(refillThreshold);
+        login.addSequence(sequence);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.setSequenceNumberFieldName("ORDERS.ID");
+        descriptor.setSequenceNumberName("ORDER_SEQ");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = (ServerSession) project.createServerSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.setProfiler(new StallMonitor());
+        session.login();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testInsert(Client client, StallCounters counters) {
+        Blackhole.consumeCPU(work);
+        return client.clientSession.getSequencing().getNextValue(Order.class);
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.jpa.model.synthetic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import jakarta.persistence.PersistenceUnitTransactionType;
+import jakarta.persistence.SharedCacheMode;
+import jakarta.persistence.ValidationMode;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.jpa.deployment.SEPersistenceUnitInfo;
+import org.eclipse.persistence.internal.libraries.asm.AnnotationVisitor;
+import org.eclipse.persistence.internal.libraries.asm.ClassWriter;
+import org.eclipse.persistence.internal.libraries.asm.FieldVisitor;
+import org.eclipse.persistence.internal.libraries.asm.MethodVisitor;
+import org.eclipse.persistence.internal.libraries.asm.Opcodes;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+
+/**
+ * Synthetic model of a large persistence unit, generated in memory: a mapped superclass,
+ * an embeddable, and entities extending the mapped superclass with basic attributes, an embedded
+ * attribute, a many to one relationship to the next entity and its inverse one to many.
+ * Every tenth entity is the root of a single table inheritance hierarchy with one subclass.
+ * The model may also have classes that are not persistent, as the other classes of an application.
+ * The database is emulated ({@link EmulatedDriver}).
+ */
+public class SyntheticModel {
+
+    public static final String PACKAGE = "org/eclipse/persistence/testing/perf/jpa/model/synthetic/generated/";
+
+    private static final String BASE = PACKAGE + "Base";
+    private static final String AMOUNT = PACKAGE + "Amount";
+
+    /** The bytes of the classes of the model, by resource name. */
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+
+    /** The names of the classes of the model. */
+    private final List<String> classNames = new ArrayList<>();
+
+    private final ClassLoader loader;
+
+    /**
+     * Generate the model with the given number of entities.
+     */
+    public SyntheticModel(int entities) {
+        this(entities, 0);
+    }
+
+    /**
+     * Generate the model with the given number of entities, and of classes that are not persistent.
+     */
+    public SyntheticModel(int entities, int otherClasses) {
+        addClass(BASE, generateBase());
+        addClass(AMOUNT, generateAmount());
+        for (int index = 0; index < entities; index++) {
+            addClass(entityName(index), generateEntity(index, entities));
+            if (index % 10 == 0) {
+                addClass(entityName(index) + "Child", generateChild(index));
+            }
+        }
+        for (int index = 0; index < otherClasses; index++) {
+            addClass(PACKAGE + "Helper" + index, generateHelper(index));
+        }
+        loader = new ModelClassLoader(SyntheticModel.class.getClassLoader());
+    }
+
+    private static String entityName(int index) {
+        return PACKAGE + "Entity" + index;
+    }
+
+    private void addClass(String internalName, byte[] bytes) {
+        classFiles.put(internalName + ".class", bytes);
+        classNames.add(internalName.replace('/', '.'));
+    }
+
+    /**
+     * Return the class loader of the classes of the model.
+     */
+    public ClassLoader getClassLoader() {
+        return loader;
+    }
+
+    /**
+     * Return the names of the classes of the model.
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * Write the classes of the model to the jar file.
+     */
+    public void writeJar(Path jarFile) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+            for (Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+                jar.putNextEntry(new ZipEntry(classFile.getKey()));
+                jar.write(classFile.getValue());
+                jar.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Return the persistence unit of the model, the emulated database is used and the classes are not woven.
+     */
+    public SEPersistenceUnitInfo getPersistenceUnitInfo(String name) {
+        SEPersistenceUnitInfo info = getPersistenceUnitInfo(name, loader);
+        info.setManagedClassNames(new ArrayList<>(classNames));
+        info.setExcludeUnlistedClasses(true);
+        try {
+            Path root = Files.createTempDirectory("synthetic");
+            root.toFile().deleteOnExit();
+            info.setPersistenceUnitRootUrl(root.toUri().toURL());
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+        return info;
+    }
+
+    /**
+     * Return the persistence unit of the model written to the jar file ({@link #writeJar(Path)}),
+     * its classes are found by scanning the jar file.
+     */
+    public SEPersistenceUnitInfo getPersistenceUnitInfo(String name, Path jarFile) throws IOException {
+        URL jarUrl = jarFile.toUri().toURL();
+        ClassLoader jarLoader = new URLClassLoader(new URL[] {jarUrl}, SyntheticModel.class.getClassLoader());
+        SEPersistenceUnitInfo info = getPersistenceUnitInfo(name, jarLoader);
+        info.setExcludeUnlistedClasses(false);
+        info.setPersistenceUnitRootUrl(jarUrl);
+        return info;
+    }
+
+    private static SEPersistenceUnitInfo getPersistenceUnitInfo(String name, ClassLoader loader) {
+        SEPersistenceUnitInfo info = new SEPersistenceUnitInfo();
+        info.setPersistenceUnitName(name);
+        info.setClassLoader(loader);
+        info.setNewTempClassLoader(loader);
+        info.setTransactionType(PersistenceUnitTransactionType.RESOURCE_LOCAL);
+        info.setSharedCacheMode(SharedCacheMode.UNSPECIFIED.name());
+        info.setValidationMode(ValidationMode.NONE.name());
+        Properties properties = new Properties();
+        properties.put(PersistenceUnitProperties.JDBC_DRIVER, EmulatedDriver.class.getName());
+        properties.put(PersistenceUnitProperties.JDBC_URL, "jdbc:emulateddriver");
+        properties.put(PersistenceUnitProperties.TARGET_DATABASE, "Derby");
+        properties.put(PersistenceUnitProperties.WEAVING, "false");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        info.setProperties(properties);
+        return info;
+    }
+
+    private static void annotate(AnnotationVisitor annotation) {
+        annotation.visitEnd();
+    }
+
+    private static void field(ClassWriter writer, String name, String desc, String signature, String... annotations) {
+        FieldVisitor field = writer.visitField(Opcodes.ACC_PRIVATE, name, desc, signature, null);
+        for (String annotation : annotations) {
+            annotate(field.visitAnnotation(annotation, true));
+        }
+        field.visitEnd();
+    }
+
+    private static void constructor(ClassWriter writer, String superName) {
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+    }
+
+    private static byte[] generateBase() {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, BASE, null, "java/lang/Object", null);
+        annotate(writer.visitAnnotation("Ljakarta/persistence/MappedSuperclass;", true));
+        field(writer, "id", "J", null, "Ljakarta/persistence/Id;");
+        field(writer, "version", "I", null, "Ljakarta/persistence/Version;");
+        field(writer, "createdBy", "Ljava/lang/String;", null);
+        field(writer, "created", "Ljava/time/LocalDateTime;", null);
+        constructor(writer, "java/lang/Object");
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] generateAmount() {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, AMOUNT, null, "java/lang/Object", null);
+        annotate(writer.visitAnnotation("Ljakarta/persistence/Embeddable;", true));
+        field(writer, "value", "Ljava/math/BigDecimal;", null);
+        field(writer, "currency", "Ljava/lang/String;", null);
+        constructor(writer, "java/lang/Object");
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] generateEntity(int index, int entities) {
+        String name = entityName(index);
+        String next = entityName((index + 1) % entities);
+        String previous = entityName((index + entities - 1) % entities);
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, name, null, BASE, null);
+        annotate(writer.visitAnnotation("Ljakarta/persistence/Entity;", true));
+        if (index % 10 == 0) {
+            annotate(writer.visitAnnotation("Ljakarta/persistence/Inheritance;", true));
+        }
+        field(writer, "name", "Ljava/lang/String;", null, "Ljakarta/persistence/Basic;");
+        field(writer, "description", "Ljava/lang/String;", null);
+        field(writer, "code", "Ljava/lang/String;", null);
+        field(writer, "quantity", "I", null);
+        field(writer, "total", "J", null);
+        field(writer, "price", "D", null);
+        field(writer, "active", "Z", null);
+        field(writer, "updated", "Ljava/util/Date;", null);
+        AnnotationVisitor temporal = writer.visitField(Opcodes.ACC_PRIVATE, "due", "Ljava/util/Date;", null, null)
+                .visitAnnotation("Ljakarta/persistence/Temporal;", true);
+        temporal.visitEnum("value", "Ljakarta/persistence/TemporalType;", "DATE");
+        temporal.visitEnd();
+        field(writer, "amount", "L" + AMOUNT + ";", null, "Ljakarta/persistence/Embedded;");
+        field(writer, "parent", "L" + next + ";", null, "Ljakarta/persistence/ManyToOne;");
+        FieldVisitor children = writer.visitField(Opcodes.ACC_PRIVATE, "children", "Ljava/util/List;",
+                "Ljava/util/List<L" + previous + ";>;", null);
+        AnnotationVisitor oneToMany = children.visitAnnotation("Ljakarta/persistence/OneToMany;", true);
+        oneToMany.visit("mappedBy", "parent");
+        oneToMany.visitEnd();
+        children.visitEnd();
+        constructor(writer, BASE);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] generateHelper(int index) {
+        String name = PACKAGE + "Helper" + index;
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+        field(writer, "name", "Ljava/lang/String;", null);
+        field(writer, "count", "I", null);
+        field(writer, "values", "Ljava/util/List;", "Ljava/util/List<Ljava/lang/String;>;");
+        constructor(writer, "java/lang/Object");
+        MethodVisitor getName = writer.visitMethod(Opcodes.ACC_PUBLIC, "getName", "()Ljava/lang/String;", null, null);
+        getName.visitCode();
+        getName.visitVarInsn(Opcodes.ALOAD, 0);
+        getName.visitFieldInsn(Opcodes.GETFIELD, name, "name", "Ljava/lang/String;");
+        getName.visitInsn(Opcodes.ARETURN);
+        getName.visitMaxs(1, 1);
+        getName.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] generateChild(int index) {
+        String parent = entityName(index);
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, parent + "Child", null, parent, null);
+        annotate(writer.visitAnnotation("Ljakarta/persistence/Entity;", true));
+        field(writer, "detail", "Ljava/lang/String;", null);
+        field(writer, "rank", "I", null);
+        constructor(writer, parent);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Define the classes of the model, and read their class files.
+     */
+    private final class ModelClassLoader extends ClassLoader {
+
+        ModelClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classFiles.get(name.replace('.', '/') + ".class");
+            if (bytes == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            byte[] bytes = classFiles.get(name);
+            return (bytes == null) ? super.getResourceAsStream(name) : new ByteArrayInputStream(bytes);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.jpa.deployment.SEPersistenceUnitInfo;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.testing.perf.jpa.model.synthetic.SyntheticModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for finding the classes of a persistence unit by scanning its jar file,
+ * with and without the archive scan index ({@code eclipselink.archive.scan-index.file}).
+ * The jar file has {@link #ENTITIES} entities and {@link #OTHER_CLASSES} classes that are not persistent.
+ */
+@State(Scope.Benchmark)
+public class ArchiveScanTests {
+
+    public static final int ENTITIES = 200;
+
+    public static final int OTHER_CLASSES = 5000;
+
+    @Param({"none", "index"})
+    public String index;
+
+    private Path jarFile;
+
+    private Path indexFile;
+
+    private SEPersistenceUnitInfo info;
+
+    private Map<String, Object> properties;
+
+    @Setup
+    public void setup() throws IOException {
+        SyntheticModel model = new SyntheticModel(ENTITIES, OTHER_CLASSES);
+        jarFile = Files.createTempFile("synthetic", ".jar");
+        indexFile = Files.createTempFile("archives", ".index");
+        model.writeJar(jarFile);
+        info = model.getPersistenceUnitInfo("synthetic-scan", jarFile);
+        properties = new HashMap<>();
+        if (index.equals("index")) {
+            properties.put(PersistenceUnitProperties.ARCHIVE_SCAN_INDEX_FILE, indexFile.toString());
+            // the first start writes the index
+            testPredeploy();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jarFile);
+        Files.deleteIfExists(indexFile);
+    }
+
+    /**
+     * Predeploy the persistence unit: find its classes and process their meta-data.
+     */
+    @Benchmark
+    public void testPredeploy() {
+        EntityManagerFactory emf = new PersistenceProvider().createContainerEntityManagerFactory(info, properties);
+        emf.close();
+    }
+}
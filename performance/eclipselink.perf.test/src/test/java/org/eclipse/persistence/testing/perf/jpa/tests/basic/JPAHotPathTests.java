@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jpa.jpql.HermesParser;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.jpql.parser.DefaultEclipseLinkJPQLGrammar;
+import org.eclipse.persistence.jpa.jpql.parser.JPQLExpression;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.DetailEntity;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.MasterEntity;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the core ORM paths, each measured in isolation from the database.
+ * The persistence unit uses the {@link EmulatedDriver}, the objects are put directly into the shared cache,
+ * and each benchmark calls the internal API of the path it measures:
+ * object building, change calculation, commit, merge into the shared cache, SQL printing and JPQL parsing.
+ *
+ * @see org.eclipse.persistence.testing.perf.JPAHotPathBenchmarks
+ */
+@State(Scope.Benchmark)
+public class JPAHotPathTests {
+
+    private static final int MASTER_SIZE = 10;
+
+    private static final int DETAIL_SIZE = 10;
+
+    private static final String JPQL = "SELECT d FROM DetailEntity d JOIN d.master m WHERE d.name LIKE :name AND m.id IN :ids ORDER BY d.id DESC";
+
+    private EntityManagerFactory emf;
+
+    private ServerSession session;
+
+    /** Cached details, changed by the unit of work benchmarks. */
+    private List<DetailEntity> details;
+
+    /** Row of a detail, used to build objects. */
+    private ArrayRecord detailRow;
+
+    private ReadObjectQuery buildQuery;
+
+    /** Registered clones of the details, and their unit of work, used to calculate changes. */
+    private UnitOfWorkImpl unitOfWork;
+    private List<DetailEntity> clones;
+
+    /** Changes of all details, merged into the shared cache. */
+    private UnitOfWorkChangeSet changeSet;
+
+    private int version;
+
+    @Setup
+    public void setup() {
+        emf = Persistence.createEntityManagerFactory("jpa-performance-core");
+        session = (ServerSession) JpaHelper.getServerSession(emf);
+        details = new ArrayList<>(MASTER_SIZE * DETAIL_SIZE);
+        for (long masterId = 1; masterId <= MASTER_SIZE; masterId++) {
+            MasterEntity master = new MasterEntity(masterId, "Master name " + masterId);
+            for (long detailId = 1; detailId <= DETAIL_SIZE; detailId++) {
+                long id = masterId * JPAReadAbstract.DETAIL_ID_STEP + detailId;
+                DetailEntity detail = new DetailEntity(id, "Detail name " + id, master);
+                master.getDetails().add(detail);
+                details.add(detail);
+                session.getIdentityMapAccessor().putInIdentityMap(detail);
+            }
+            session.getIdentityMapAccessor().putInIdentityMap(master);
+        }
+
+        ClassDescriptor descriptor = session.getDescriptor(DetailEntity.class);
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        Object[] values = new Object[fields.size()];
+        for (int index = 0; index < values.length; index++) {
+            String name = fields.get(index).getName();
+            values[index] = name.equals("ID") ? 1L : name.equals("NAME") ? "Detail name" : 1L;
+        }
+        detailRow = new ArrayRecord(fields, fields.toArray(new DatabaseField[0]), values);
+        buildQuery = new ReadObjectQuery(DetailEntity.class);
+        buildQuery.dontMaintainCache();
+        buildQuery.checkPrepare(session, new DatabaseRecord());
+        buildQuery.setSession(session);
+
+        unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        clones = new ArrayList<>(details.size());
+        for (DetailEntity detail : details) {
+            clones.add((DetailEntity) unitOfWork.registerObject(detail));
+        }
+
+        UnitOfWorkImpl mergeUnitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (DetailEntity detail : details) {
+            ((DetailEntity) mergeUnitOfWork.registerObject(detail)).setName("Merged " + detail.getId());
+        }
+        changeSet = mergeUnitOfWork.calculateChanges(mergeUnitOfWork.getCloneMapping(), new UnitOfWorkChangeSet(mergeUnitOfWork), false, true);
+        mergeUnitOfWork.release();
+    }
+
+    @TearDown
+    public void tearDown() {
+        unitOfWork.release();
+        emf.close();
+    }
+
+    /**
+     * Build an object from a row ({@code ObjectBuilder.buildObject}), not using the cache.
+     */
+    @Benchmark
+    public void testBuildObject(Blackhole bh) {
+        bh.consume(session.getDescriptor(DetailEntity.class).getObjectBuilder().buildObject(buildQuery, detailRow));
+    }
+
+    /**
+     * Calculate the changes of 100 registered objects, one attribute of each changed ({@code UnitOfWorkImpl.calculateChanges}).
+     */
+    @Benchmark
+    public void testCalculateChanges(Blackhole bh) {
+        String name = "Changed " + version++;
+        for (DetailEntity clone : clones) {
+            clone.setName(name);
+        }
+        bh.consume(unitOfWork.calculateChanges(unitOfWork.getCloneMapping(), new UnitOfWorkChangeSet(unitOfWork), false, true));
+    }
+
+    /**
+     * Commit changes of 100 objects, ordered and written by the {@code CommitManager} and merged into the shared cache.
+     */
+    @Benchmark
+    public void testCommit() {
+        UnitOfWorkImpl commitUnitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        String name = "Committed " + version++;
+        for (DetailEntity detail : details) {
+            ((DetailEntity) commitUnitOfWork.registerObject(detail)).setName(name);
+        }
+        commitUnitOfWork.commit();
+    }
+
+    /**
+     * Merge the changes of 100 objects into the shared cache, as cache coordination does ({@code MergeManager}).
+     */
+    @Benchmark
+    public void testMergeIntoSharedCache() {
+        MergeManager manager = new MergeManager(session);
+        manager.mergeIntoDistributedCache();
+        manager.setCascadePolicy(MergeManager.CASCADE_ALL_PARTS);
+        manager.mergeChangesFromChangeSet(changeSet);
+    }
+
+    /**
+     * Generate the SQL of a select with a join, a parameter and an ordering,
+     * the expression is normalized and printed by the {@code ExpressionSQLPrinter}.
+     */
+    @Benchmark
+    public void testGenerateSQL(Blackhole bh) {
+        ReadAllQuery query = new ReadAllQuery(DetailEntity.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("name").like("Detail%").and(builder.get("master").get("name").equal(builder.getParameter("masterName"))));
+        query.addArgument("masterName");
+        query.addOrdering(builder.get("id").descending());
+        query.checkPrepare(session, new DatabaseRecord());
+        bh.consume(query.getSQLString());
+    }
+
+    /**
+     * Parse a JPQL string.
+     */
+    @Benchmark
+    public void testParseJPQL(Blackhole bh) {
+        bh.consume(new JPQLExpression(JPQL, DefaultEclipseLinkJPQLGrammar.instance()));
+    }
+
+    /**
+     * Parse a JPQL string and build its query, as a JPQL parse cache miss does.
+     */
+    @Benchmark
+    public void testCompileJPQL(Blackhole bh) {
+        bh.consume(new HermesParser().buildQuery(JPQL, session));
+    }
+}
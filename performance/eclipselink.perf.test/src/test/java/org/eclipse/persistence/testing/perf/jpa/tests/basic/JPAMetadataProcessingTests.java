@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //              ljungmann - initial implementation
 package org.eclipse.persistence.testing.perf.jpa.tests.basic;
 
+import java.util.HashMap;
 import java.util.Set;
 
 import jakarta.persistence.Persistence;
@@ -23,10 +24,13 @@
 import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
 import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAsmFactory;
 import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataClass;
+import org.eclipse.persistence.jpa.PersistenceProvider;
 import org.eclipse.persistence.sessions.server.ServerSession;
 import org.eclipse.persistence.testing.perf.jpa.model.metaannotations.MetaEmployee;
 import org.eclipse.persistence.testing.perf.jpa.model.metaannotations.RegularEmployee;
+import org.eclipse.persistence.testing.perf.jpa.model.synthetic.SyntheticModel;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -40,8 +44,12 @@
 //@BenchmarkMode(Mode.AverageTime)
 public class JPAMetadataProcessingTests {
 
+    /** Number of entities of the synthetic model. */
+    public static final int SYNTHETIC_ENTITIES = 2000;
+
     private ServerSession session;
     private Set<Class<?>> entities;
+    private SyntheticModel syntheticModel;
 
     @Setup
     public void setup() {
@@ -50,6 +58,15 @@ public void setup() {
         entities = session.getDescriptors().keySet();
     }
 
+    /**
+     * Generate the synthetic model again for each invocation, so its classes are new
+     * and nothing generated for them by a previous deployment is reused.
+     */
+    @Setup(Level.Invocation)
+    public void setupSyntheticModel() {
+        syntheticModel = new SyntheticModel(SYNTHETIC_ENTITIES);
+    }
+
     /**
      * Create JPA meta-data based on an existing sample model. For each class check
      * if it is an &#64;Entity and whether it contains &#64;EntityListeners annotation.
@@ -64,6 +81,33 @@ public void testMetadataProcessing() {
         }
     }
 
+    /**
+     * Read the meta-data of the classes of the synthetic model, as the persistence unit classes are read on deployment,
+     * and check if they are an &#64;Entity.
+     */
+    @Benchmark
+    public void testSyntheticMetadataClasses() {
+        MetadataAsmFactory factory = new MetadataAsmFactory(new MetadataLogger(null), syntheticModel.getClassLoader());
+        factory.loadMetadataClasses(syntheticModel.getClassNames(), false);
+        for (String className : syntheticModel.getClassNames()) {
+            PersistenceUnitProcessor.isEntity(factory.getMetadataClass(className));
+        }
+    }
+
+    /**
+     * Deploy the persistence unit of the synthetic model: process its meta-data and initialize its descriptors.
+     */
+    @Benchmark
+    public int testSyntheticDeployment() {
+        EntityManagerFactoryImpl emf = (EntityManagerFactoryImpl) new PersistenceProvider().createContainerEntityManagerFactory(
+                syntheticModel.getPersistenceUnitInfo("synthetic"), new HashMap<>());
+        try {
+            return emf.getServerSession().getDescriptors().size();
+        } finally {
+            emf.close();
+        }
+    }
+
     /**
      * Parse simple class, check if it is an &#64;Entity and whether it contains &#64;EntityListeners annotation.
      * Required annotations are defined directly on a parsed class.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,10 +17,16 @@
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Persistence;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
 
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.testing.perf.jpa.model.basic.DetailEntity;
 import org.eclipse.persistence.testing.perf.jpa.model.basic.MasterEntity;
@@ -92,6 +98,51 @@ public void testReadEntity() {
         }
     }
 
+    /**
+     * Read DetailEntities of each MasterEntity with a read-only query, the objects are built on the calling thread.
+     */
+    @Benchmark
+    public void testReadDetails() {
+        readDetails(false);
+    }
+
+    /**
+     * Read DetailEntities of each MasterEntity with a read-only query, the objects are built in parallel.
+     * @see QueryHints#PARALLEL_BUILD
+     */
+    @Benchmark
+    public void testReadDetailsParallelBuild() {
+        readDetails(true);
+    }
+
+    private void readDetails(boolean parallelBuild) {
+        EntityManager em = null;
+        try {
+            em = emf.createEntityManager();
+            ReadAllQuery readAllQuery = new ReadAllQuery(DetailEntity.class);
+            ExpressionBuilder builder = readAllQuery.getExpressionBuilder();
+            readAllQuery.setSelectionCriteria(builder.get("master").get("id").equal(builder.getParameter("id")));
+            readAllQuery.addArgument("id", Long.class);
+            Query query = em.unwrap(JpaEntityManager.class).createQuery(readAllQuery);
+            query.setHint(QueryHints.READ_ONLY, HintValues.TRUE);
+            query.setHint(QueryHints.PARALLEL_BUILD, String.valueOf(parallelBuild));
+            for (long i = 1; i <= getMasterSize(); i++) {
+                List<?> details = query.setParameter("id", i).getResultList();
+                if (details.size() < getDetailSize()) {
+                    throw new RuntimeException("No of DetailEntities is |" + details.size() + "| less than expected |" + getDetailSize() + "|!");
+                }
+            }
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    private static String getDetailSQL(long masterId) {
+        return "SELECT ID, NAME, MASTER_ID_FK FROM P2_DETAIL WHERE (MASTER_ID_FK = " + masterId + ")";
+    }
+
     private synchronized void prepareData(EntityManager em) {
         AbstractSession session = em.unwrap(AbstractSession.class);
         EmulatedConnection conn = (EmulatedConnection)session.getAccessor().getConnection();
@@ -107,7 +158,7 @@ private synchronized void prepareData(EntityManager em) {
             for (int j = 1; j <= getDetailSize(); j++) {
                 detailRows.add(new ArrayRecord(detailFields, detailFieldsArray, new Object[] {i * DETAIL_ID_STEP + j, "Detail name " + i * DETAIL_ID_STEP + j, i}));
             }
-            conn.putRows("SELECT ID, NAME, MASTER_ID_FK FROM P2_DETAIL WHERE (MASTER_ID_FK = " + i + ")", detailRows);
+            conn.putRows(getDetailSQL(i), detailRows);
         }
     }
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Vector;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.TypedQuery;
+
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.DetailEntity;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.MasterEntity;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks reading {@link #SIZE} rows with {@code Query.getResultStream()}, compared to {@code getResultList()}.
+ * The rows are generated as the {@link EmulatedDriver} result set is read, so only the objects retained
+ * by the query, the persistence context and the shared cache use memory:
+ * the read only stream runs in a small heap ({@code -Xmx64m}), in which the list does not fit.
+ *
+ * @see org.eclipse.persistence.testing.perf.JPAHotPathBenchmarks
+ */
+@State(Scope.Benchmark)
+public class JPAResultStreamTests {
+
+    public static final int SIZE = 1000000;
+
+    private static final int MASTER_SIZE = 10;
+
+    private static final String JPQL = "SELECT d FROM DetailEntity d";
+
+    private static final String SQL = "SELECT ID, NAME, MASTER_ID_FK FROM P2_DETAIL";
+
+    private EntityManagerFactory emf;
+
+    @Setup
+    public void setup() {
+        emf = Persistence.createEntityManagerFactory("jpa-performance-core");
+        ServerSession session = (ServerSession) JpaHelper.getServerSession(emf);
+        for (long masterId = 1; masterId <= MASTER_SIZE; masterId++) {
+            session.getIdentityMapAccessor().putInIdentityMap(new MasterEntity(masterId, "Master name " + masterId));
+        }
+        EntityManager em = emf.createEntityManager();
+        try {
+            AbstractSession emSession = em.unwrap(AbstractSession.class);
+            Vector<DatabaseField> fields = new Vector<>(emSession.getDescriptor(DetailEntity.class).getAllFields());
+            DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+            List<DatabaseRecord> rows = new AbstractList<>() {
+                @Override
+                public DatabaseRecord get(int index) {
+                    long id = index + 1;
+                    return new ArrayRecord(fields, fieldsArray, new Object[] {id, "Detail name " + id, id % MASTER_SIZE + 1});
+                }
+
+                @Override
+                public int size() {
+                    return SIZE;
+                }
+            };
+            ((EmulatedConnection) emSession.getAccessor().getConnection()).putRows(SQL, rows);
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Stream the objects without registering them in the persistence context, or putting them in the shared cache.
+     */
+    @Benchmark
+    public long testResultStreamReadOnly() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<DetailEntity> query = em.createQuery(JPQL, DetailEntity.class);
+            query.setHint(QueryHints.READ_ONLY, HintValues.TRUE);
+            query.setHint(QueryHints.MAINTAIN_CACHE, HintValues.FALSE);
+            query.setHint(QueryHints.JDBC_FETCH_SIZE, 1000);
+            try (Stream<DetailEntity> stream = query.getResultStream()) {
+                return check(stream.mapToLong(DetailEntity::getId).count());
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Stream the objects registered in the persistence context, releasing them every thousand objects.
+     * The objects are put in the shared cache, which only holds weak references to most of them,
+     * but keeps a cache key for each of them until its next cleanup.
+     */
+    @Benchmark
+    public long testResultStreamRelease() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<DetailEntity> query = em.createQuery(JPQL, DetailEntity.class);
+            query.setHint(QueryHints.JDBC_FETCH_SIZE, 1000);
+            query.setHint(QueryHints.CURSOR_RELEASE_SIZE, 1000);
+            try (Stream<DetailEntity> stream = query.getResultStream()) {
+                return check(stream.mapToLong(DetailEntity::getId).count());
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Read the objects as a list, without registering them in the persistence context, or putting them in the shared cache.
+     */
+    @Benchmark
+    public long testResultListReadOnly() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<DetailEntity> query = em.createQuery(JPQL, DetailEntity.class);
+            query.setHint(QueryHints.READ_ONLY, HintValues.TRUE);
+            query.setHint(QueryHints.MAINTAIN_CACHE, HintValues.FALSE);
+            return check(query.getResultList().size());
+        } finally {
+            em.close();
+        }
+    }
+
+    private static long check(long count) {
+        if (count != SIZE) {
+            throw new RuntimeException("Read |" + count + "| objects instead of |" + SIZE + "|!");
+        }
+        return count;
+    }
+}
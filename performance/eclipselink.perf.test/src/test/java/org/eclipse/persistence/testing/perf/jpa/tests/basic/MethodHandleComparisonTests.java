@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //              Petros Splinakis - initial implementation
 package org.eclipse.persistence.testing.perf.jpa.tests.basic;
 
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -29,6 +30,8 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Benchmarks for assessing performance improvement with usage of MethodHandle over java.lang.Method/Field.
@@ -84,6 +87,12 @@ public void setObject(Object object) {
     private static final MethodHandle staticFinalGetterHandle;
     private static final MethodHandle staticFinalSetterHandle;
 
+    // Generated access
+    private Function<Object, Object> generatedFieldGetter;
+    private BiConsumer<Object, Object> generatedFieldSetter;
+    private Function<Object, Object> generatedGetter;
+    private BiConsumer<Object, Object> generatedSetter;
+
     // Static Setup
     static {
         staticTestClass = new TestClass();
@@ -130,6 +139,11 @@ public void setup() {
         setter = staticSetter;
         getterHandle = staticGetterHandle;
         setterHandle = staticSetterHandle;
+
+        generatedFieldGetter = AttributeAccessorGenerator.generateFieldAccessor(field);
+        generatedFieldSetter = (BiConsumer<Object, Object>) generatedFieldGetter;
+        generatedGetter = AttributeAccessorGenerator.generateGetMethodAccessor(getter);
+        generatedSetter = AttributeAccessorGenerator.generateSetMethodAccessor(setter);
     }
 
     /**************************************
@@ -300,6 +314,16 @@ public void testSetValueFieldMethodHandleExact() throws Throwable {
         unreflectSetter.invokeExact(testClass, object);
     }
 
+    @Benchmark
+    public void testGetValueFieldGenerated(Blackhole blackhole) throws Exception {
+        blackhole.consume(generatedFieldGetter.apply(testClass));
+    }
+
+    @Benchmark
+    public void testSetValueFieldGenerated() throws Exception {
+        generatedFieldSetter.accept(testClass, object);
+    }
+
     @Benchmark
     public void testGetValueMethod(Blackhole blackhole) throws Exception {
         blackhole.consume(testClass.getObject());
@@ -340,6 +364,16 @@ public void testSetValueMethodMethodHandleExact() throws Throwable {
         setterHandle.invokeExact(testClass, object);
     }
 
+    @Benchmark
+    public void testGetValueMethodGenerated(Blackhole blackhole) throws Exception {
+        blackhole.consume(generatedGetter.apply(testClass));
+    }
+
+    @Benchmark
+    public void testSetValueMethodGenerated() throws Exception {
+        generatedSetter.accept(testClass, object);
+    }
+
     /********************************
      * Test using static attributes *
      ********************************/
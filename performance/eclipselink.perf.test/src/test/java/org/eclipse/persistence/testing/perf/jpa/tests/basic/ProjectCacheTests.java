@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.jpa.metadata.BinaryProjectCache;
+import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
+import org.eclipse.persistence.jpa.metadata.ProjectCache;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for retrieving a large project from the project caches
+ * ({@code java-serialization} and {@code binary}), as when an EntityManagerFactory is created.
+ * The project has {@link #ENTITIES} descriptors, built from class names as by the metadata processing.
+ */
+@State(Scope.Benchmark)
+public class ProjectCacheTests {
+
+    public static final int ENTITIES = 1800;
+
+    @Param({"java-serialization", "binary"})
+    public String cache;
+
+    private ProjectCache projectCache;
+
+    private Map<String, ?> properties;
+
+    private SessionLog log;
+
+    private File file;
+
+    private static Project project() {
+        Project project = new Project();
+        for (int entity = 0; entity < ENTITIES; entity++) {
+            String table = "ENTITY_" + entity;
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClassName("org.example.model.Entity" + entity);
+            descriptor.setAlias("Entity" + entity);
+            descriptor.addTableName(table);
+            descriptor.addPrimaryKeyFieldName(table + ".ID");
+            descriptor.addDirectMapping("id", "ID");
+            for (int attribute = 0; attribute < 10; attribute++) {
+                descriptor.addDirectMapping("attribute" + attribute, "ATTRIBUTE_" + attribute);
+            }
+            OneToOneMapping parent = new OneToOneMapping();
+            parent.setAttributeName("parent");
+            parent.setReferenceClassName("org.example.model.Entity" + ((entity + 1) % ENTITIES));
+            parent.addForeignKeyFieldName(table + ".PARENT_ID", "ENTITY_" + ((entity + 1) % ENTITIES) + ".ID");
+            descriptor.addMapping(parent);
+            project.addDescriptor(descriptor);
+        }
+        return project;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("project", ".cache");
+        properties = Map.of(PersistenceUnitProperties.PROJECT_CACHE_FILE, file.getAbsolutePath());
+        log = new DefaultSessionLog();
+        log.setLevel(SessionLog.WARNING);
+        projectCache = cache.equals("binary") ? new BinaryProjectCache() : new FileBasedProjectCache();
+        projectCache.storeProject(project(), properties, ProjectCacheTests.class.getClassLoader(), log);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public Project testRetrieveProject() {
+        return projectCache.retrieveProject(properties, ProjectCacheTests.class.getClassLoader(), log);
+    }
+}
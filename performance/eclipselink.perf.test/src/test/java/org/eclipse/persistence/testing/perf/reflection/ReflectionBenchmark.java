@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,7 +14,11 @@
 //     Marcel Valovy - 2.6 - initial implementation
 package org.eclipse.persistence.testing.perf.reflection;
 
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
 import org.eclipse.persistence.internal.security.PrivilegedGetDeclaredFields;
+import org.eclipse.persistence.mappings.AttributeAccessor;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -43,8 +47,78 @@ public class ReflectionBenchmark {
     public static final int THREADS = 12;
     public static int random = 0;
 
+    /** The attribute accessors of the entity, reflective and generated. */
+    private AttributeAccessor reflectiveFieldAccessor;
+    private AttributeAccessor generatedFieldAccessor;
+    private AttributeAccessor reflectiveMethodAccessor;
+    private AttributeAccessor generatedMethodAccessor;
+
+    private final Entity entity = new Entity();
+
+    public static class Entity {
+        private String name = "name";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
     @Setup
     public void prepare() throws Exception {
+        System.setProperty(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS, "false");
+        reflectiveFieldAccessor = buildFieldAccessor();
+        reflectiveMethodAccessor = buildMethodAccessor();
+        System.clearProperty(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS);
+        generatedFieldAccessor = buildFieldAccessor();
+        generatedMethodAccessor = buildMethodAccessor();
+    }
+
+    private static AttributeAccessor buildFieldAccessor() {
+        AttributeAccessor accessor = new InstanceVariableAttributeAccessor();
+        accessor.setAttributeName("name");
+        accessor.initializeAttributes(Entity.class);
+        return accessor;
+    }
+
+    private static AttributeAccessor buildMethodAccessor() {
+        MethodAttributeAccessor accessor = new MethodAttributeAccessor();
+        accessor.setAttributeName("name");
+        accessor.setGetMethodName("getName");
+        accessor.setSetMethodName("setName");
+        accessor.initializeAttributes(Entity.class);
+        return accessor;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testSingleThreadedReflectiveFieldAccessor(Blackhole bh) throws Exception {
+        reflectiveFieldAccessor.setAttributeValueInObject(entity, reflectiveFieldAccessor.getAttributeValueFromObject(entity));
+        bh.consume(entity);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testSingleThreadedGeneratedFieldAccessor(Blackhole bh) throws Exception {
+        generatedFieldAccessor.setAttributeValueInObject(entity, generatedFieldAccessor.getAttributeValueFromObject(entity));
+        bh.consume(entity);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testSingleThreadedReflectiveMethodAccessor(Blackhole bh) throws Exception {
+        reflectiveMethodAccessor.setAttributeValueInObject(entity, reflectiveMethodAccessor.getAttributeValueFromObject(entity));
+        bh.consume(entity);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testSingleThreadedGeneratedMethodAccessor(Blackhole bh) throws Exception {
+        generatedMethodAccessor.setAttributeValueInObject(entity, generatedMethodAccessor.getAttributeValueFromObject(entity));
+        bh.consume(entity);
     }
 
     @Benchmark